@@ -11,6 +11,7 @@ export interface MessageDynamoDbProps {
 export class MessageDynamoDbStack extends Construct {
   public readonly messagesTable: ITable;
   public readonly summaryTable: ITable;
+  public readonly checkpointsTable: ITable;
 
   constructor(scope: Construct, id: string, props: MessageDynamoDbProps) {
     super(scope, id);
@@ -35,5 +36,16 @@ export class MessageDynamoDbStack extends Construct {
       billingMode: BillingMode.PAY_PER_REQUEST,
       removalPolicy: props.removalPolicy,
     });
+
+    // Per-account Gmail history checkpoints used for incremental sync
+    this.checkpointsTable = new Table(this, 'CheckpointsTable', {
+      tableName: 'ingestion_checkpoints', // hardcoded to match DAO and design
+      partitionKey: {
+        name: 'accountId',
+        type: AttributeType.STRING,
+      },
+      billingMode: BillingMode.PAY_PER_REQUEST,
+      removalPolicy: props.removalPolicy,
+    });
   }
 }
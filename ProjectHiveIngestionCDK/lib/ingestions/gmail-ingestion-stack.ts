@@ -14,6 +14,7 @@ interface GmailIngestionStackProps extends StackProps {
   readonly gmailOAuthSecret: secretsmanager.ISecret;
   readonly removalPolicy: RemovalPolicy;
   readonly messagesTable: ITable;
+  readonly checkpointsTable: ITable;
 }
 
 export class GmailIngestionStack extends Stack {
@@ -31,6 +32,7 @@ export class GmailIngestionStack extends Stack {
     props.gmailOAuthSecret.grantRead(gmailIngestionLambda);
     props.eventBus.grantPutEventsTo(gmailIngestionLambda);
     props.messagesTable.grantReadWriteData(gmailIngestionLambda);
+    props.checkpointsTable.grantReadWriteData(gmailIngestionLambda);
 
     const rule = new events.Rule(this, 'GmailIngestionScheduleRule', {
       schedule: events.Schedule.rate(FIFTEEN_MONTHS_DURATION),
@@ -30,6 +30,7 @@ export class ProjectHiveIngestionStack extends cdk.Stack {
       eventBus: eventBridgeSchedulerStack.eventBus,
       gmailOAuthSecret: oauthStack.gmailOAuthSecret,
       messagesTable: messagesDynamoDBStack.messagesTable,
+      checkpointsTable: messagesDynamoDBStack.checkpointsTable,
       removalPolicy: cdk.RemovalPolicy.DESTROY
     });
 
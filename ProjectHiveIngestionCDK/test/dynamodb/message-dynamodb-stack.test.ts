@@ -61,4 +61,32 @@ describe('MessageDynamoDbStack', () => {
       ]
     });
   });
+
+  it('creates a DynamoDB checkpoints table keyed by account', () => {
+    const app = new App();
+    const stack = new Stack(app, 'TestStack');
+
+    new MessageDynamoDbStack(stack, 'MessageDdb', {
+      removalPolicy: RemovalPolicy.DESTROY,
+    });
+
+    const template = Template.fromStack(stack);
+
+    template.hasResourceProperties('AWS::DynamoDB::Table', {
+      TableName: 'ingestion_checkpoints',
+      BillingMode: 'PAY_PER_REQUEST',
+      KeySchema: [
+        {
+          AttributeName: 'accountId',
+          KeyType: 'HASH',
+        }
+      ],
+      AttributeDefinitions: [
+        {
+          AttributeName: 'accountId',
+          AttributeType: 'S',
+        }
+      ]
+    });
+  });
 });
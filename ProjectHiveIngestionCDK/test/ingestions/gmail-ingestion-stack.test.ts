@@ -27,18 +27,25 @@ function createMocks(app: App) {
     'arn:aws:dynamodb:us-west-2:123456789012:table/messages'
   );
 
-  return { mockEventBus, mockGmailOAuthSecret, mockMessagesTable };
+  const mockCheckpointsTable = dynamodb.Table.fromTableArn(
+    contextStack,
+    'MockCheckpointsTable',
+    'arn:aws:dynamodb:us-west-2:123456789012:table/ingestion_checkpoints'
+  );
+
+  return { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable };
 }
 
 describe('GmailIngestionStack', () => {
   test('creates Gmail ingestion lambda with correct configuration', () => {
     const app = new App();
-    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable } = createMocks(app);
+    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable } = createMocks(app);
 
     const stack = new GmailIngestionStack(app, 'LambdaConfigTestStack', {
       eventBus: mockEventBus,
       gmailOAuthSecret: mockGmailOAuthSecret,
       messagesTable: mockMessagesTable,
+      checkpointsTable: mockCheckpointsTable,
       removalPolicy: RemovalPolicy.DESTROY
     });
 
@@ -56,12 +63,13 @@ describe('GmailIngestionStack', () => {
 
   test('creates EventBridge rule with 15-month schedule targeting the lambda', () => {
     const app = new App();
-    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable } = createMocks(app);
+    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable } = createMocks(app);
 
     const stack = new GmailIngestionStack(app, 'ScheduleRuleTestStack', {
       eventBus: mockEventBus,
       gmailOAuthSecret: mockGmailOAuthSecret,
       messagesTable: mockMessagesTable,
+      checkpointsTable: mockCheckpointsTable,
       removalPolicy: RemovalPolicy.RETAIN
     });
 
@@ -74,12 +82,13 @@ describe('GmailIngestionStack', () => {
 
   test('grants permission for secret read', () => {
     const app = new App();
-    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable } = createMocks(app);
+    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable } = createMocks(app);
 
     const stack = new GmailIngestionStack(app, 'SecretReadTestStack', {
       eventBus: mockEventBus,
       gmailOAuthSecret: mockGmailOAuthSecret,
       messagesTable: mockMessagesTable,
+      checkpointsTable: mockCheckpointsTable,
       removalPolicy: RemovalPolicy.DESTROY
     });
 
@@ -103,12 +112,13 @@ describe('GmailIngestionStack', () => {
 
   test('grants permission to put events to EventBridge bus', () => {
     const app = new App();
-    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable } = createMocks(app);
+    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable } = createMocks(app);
 
     const stack = new GmailIngestionStack(app, 'EventBusPutTestStack', {
       eventBus: mockEventBus,
       gmailOAuthSecret: mockGmailOAuthSecret,
       messagesTable: mockMessagesTable,
+      checkpointsTable: mockCheckpointsTable,
       removalPolicy: RemovalPolicy.DESTROY
     });
 
@@ -129,12 +139,13 @@ describe('GmailIngestionStack', () => {
 
   test('grants permission for DynamoDB access to messages table', () => {
     const app = new App();
-    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable } = createMocks(app);
+    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable } = createMocks(app);
 
     const stack = new GmailIngestionStack(app, 'DynamoDbAccessTestStack', {
       eventBus: mockEventBus,
       gmailOAuthSecret: mockGmailOAuthSecret,
       messagesTable: mockMessagesTable,
+      checkpointsTable: mockCheckpointsTable,
       removalPolicy: RemovalPolicy.DESTROY
     });
 
@@ -155,4 +166,36 @@ describe('GmailIngestionStack', () => {
       })
     }));
   });
+
+  test('grants permission for DynamoDB access to checkpoints table', () => {
+    const app = new App();
+    const { mockEventBus, mockGmailOAuthSecret, mockMessagesTable, mockCheckpointsTable } = createMocks(app);
+
+    const stack = new GmailIngestionStack(app, 'CheckpointsAccessTestStack', {
+      eventBus: mockEventBus,
+      gmailOAuthSecret: mockGmailOAuthSecret,
+      messagesTable: mockMessagesTable,
+      checkpointsTable: mockCheckpointsTable,
+      removalPolicy: RemovalPolicy.DESTROY
+    });
+
+    const template = Template.fromStack(stack);
+
+    template.hasResource('AWS::IAM::Policy', Match.objectLike({
+      Properties: Match.objectLike({
+        PolicyDocument: Match.objectLike({
+          Statement: Match.arrayWith([
+            Match.objectLike({
+              Action: Match.arrayWith([
+                Match.stringLikeRegexp('dynamodb:GetItem')
+              ]),
+              Resource: Match.arrayWith([
+                'arn:aws:dynamodb:us-west-2:123456789012:table/ingestion_checkpoints'
+              ])
+            })
+          ])
+        })
+      })
+    }));
+  });
 });
@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("jacoco")
     id("com.github.johnrengelman.shadow") version "8.1.1"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.projecthive.ingestion"
@@ -25,6 +26,13 @@ dependencies {
     implementation(platform("software.amazon.awssdk:bom:2.25.0"))
     implementation("software.amazon.awssdk:dynamodb")
     implementation("software.amazon.awssdk:dynamodb-enhanced")
+    implementation("software.amazon.awssdk:netty-nio-client") // Transport for the async DynamoDB client
+    implementation("software.amazon.awssdk:apache-client") // Shared pooled transport for the blocking clients
+    implementation("software.amazon.awssdk:aws-crt-client") // Alternative transport, selected by HTTP_CLIENT_TRANSPORT
+    implementation("software.amazon.awssdk.crt:aws-crt:0.29.9")
+
+    // === AWS S3 ===
+    implementation("software.amazon.awssdk:s3") // Blob store for message bodies too large for the item
 
     // === Guice (Dependency Injection) ===
     implementation("com.google.inject:guice:7.0.0")
@@ -82,6 +90,11 @@ val filteredClassDirs = files(layout.buildDirectory.dir("classes/java/main")).as
 }
 
 
+// Microbenchmarks live in src/jmh and only run on demand: gradle jmh
+jmh {
+    jmhVersion.set("1.37")
+}
+
 tasks.named<JacocoReport>("jacocoTestReport") {
     dependsOn(tasks.test)
     reports {
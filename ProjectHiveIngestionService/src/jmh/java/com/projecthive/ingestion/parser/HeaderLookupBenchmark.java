@@ -0,0 +1,92 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePartHeader;
+import com.projecthive.ingestion.parser.ParsedHeaders.Header;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one linear equalsIgnoreCase scan per header (the parser's original approach) with a single
+ * {@link ParsedHeaders} pass, over header lists shaped like real Gmail messages: trace and authentication
+ * headers first, the addressing headers the pipeline reads near the end.
+ *
+ * <p>Run with {@code gradle jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderLookupBenchmark {
+
+    private static final String[] READ_HEADERS = {
+            "From", "To", "Cc", "Subject", "Date", "Message-ID", "In-Reply-To", "References", "List-Id"
+    };
+
+    @Param({"40", "80"})
+    private int headerCount;
+
+    private List<MessagePartHeader> headers;
+
+    @Setup
+    public void setUp() {
+        headers = new ArrayList<>(headerCount);
+        final String[] noise = {
+                "Received", "X-Received", "ARC-Seal", "ARC-Message-Signature", "ARC-Authentication-Results",
+                "Return-Path", "Received-SPF", "Authentication-Results", "DKIM-Signature", "X-Google-DKIM-Signature",
+                "X-Gm-Message-State", "X-Google-Smtp-Source", "MIME-Version", "X-Mailer", "List-Unsubscribe-Post"
+        };
+        final int tail = READ_HEADERS.length;
+        for (int i = 0; i < headerCount - tail; i++) {
+            headers.add(new MessagePartHeader().setName(noise[i % noise.length]).setValue("value-" + i));
+        }
+        for (final String name : READ_HEADERS) {
+            headers.add(new MessagePartHeader().setName(name.toLowerCase()).setValue(name + "-value"));
+        }
+    }
+
+    @Benchmark
+    public void linearScanPerHeader(final Blackhole blackhole) {
+        for (final String name : READ_HEADERS) {
+            blackhole.consume(scan(headers, name));
+        }
+    }
+
+    @Benchmark
+    public void singlePassIndex(final Blackhole blackhole) {
+        final ParsedHeaders parsed = ParsedHeaders.of(headers);
+        blackhole.consume(parsed.get(Header.FROM));
+        blackhole.consume(parsed.get(Header.TO));
+        blackhole.consume(parsed.get(Header.CC));
+        blackhole.consume(parsed.get(Header.SUBJECT));
+        blackhole.consume(parsed.get(Header.DATE));
+        blackhole.consume(parsed.get(Header.MESSAGE_ID));
+        blackhole.consume(parsed.get(Header.IN_REPLY_TO));
+        blackhole.consume(parsed.get(Header.REFERENCES));
+        blackhole.consume(parsed.get(Header.LIST_ID));
+    }
+
+    private static String scan(final List<MessagePartHeader> headers, final String name) {
+        for (final MessagePartHeader header : headers) {
+            if (name.equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,47 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.model.Label;
+import com.google.api.services.gmail.model.ListHistoryResponse;
+import com.google.api.services.gmail.model.ListLabelsResponse;
+import com.google.api.services.gmail.model.ListMessagesResponse;
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Profile;
+import com.google.api.services.gmail.model.Thread;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking view of the Gmail REST calls used by ingestion. Every call is paced by the shared quota
+ * limiter; failures complete the future exceptionally with the underlying {@link java.io.IOException}
+ * wrapped in a {@link java.util.concurrent.CompletionException}.
+ */
+public interface AsyncGmailClient {
+
+    CompletableFuture<Profile> getProfile();
+
+    /**
+     * Lists one page of message ids matching the Gmail search {@code query}; {@code pageToken} is
+     * {@code null} for the first page.
+     */
+    CompletableFuture<ListMessagesResponse> listMessages(String query, String pageToken);
+
+    CompletableFuture<ListHistoryResponse> listHistory(BigInteger startHistoryId, String pageToken);
+
+    /**
+     * Gets a message shaped by the configured {@link com.projecthive.ingestion.config.FetchProfile}.
+     */
+    CompletableFuture<Message> getMessage(String messageId);
+
+    CompletableFuture<Thread> getThread(String threadId);
+
+    CompletableFuture<Void> batchModify(List<String> messageIds, List<String> addLabelIds, List<String> removeLabelIds);
+
+    CompletableFuture<ListLabelsResponse> listLabels();
+
+    /**
+     * Creates a user label shown in both the label list and the message list.
+     */
+    CompletableFuture<Label> createLabel(String name);
+}
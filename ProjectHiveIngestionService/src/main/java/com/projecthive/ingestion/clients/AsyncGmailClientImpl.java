@@ -0,0 +1,194 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.BatchModifyMessagesRequest;
+import com.google.api.services.gmail.model.Label;
+import com.google.api.services.gmail.model.ListHistoryResponse;
+import com.google.api.services.gmail.model.ListLabelsResponse;
+import com.google.api.services.gmail.model.ListMessagesResponse;
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Profile;
+import com.google.api.services.gmail.model.Thread;
+import com.projecthive.ingestion.config.FetchProfile;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the blocking Google API client on {@code executor} (virtual threads in production), so callers
+ * compose futures instead of parking a platform thread per request.
+ */
+public class AsyncGmailClientImpl implements AsyncGmailClient {
+
+    private static final List<String> HISTORY_TYPES = List.of("messageAdded");
+    // Partial responses: listings only need message and thread ids (and, for history, labels) to hand to the fetcher
+    private static final String LIST_FIELDS = "messages(id,threadId),nextPageToken";
+    private static final String HISTORY_FIELDS = "history/messagesAdded/message(id,threadId,labelIds),nextPageToken";
+    private static final String LABELS_FIELDS = "labels(id,name)";
+    private static final String LABEL_SHOW = "labelShow";
+    private static final String MESSAGE_SHOW = "show";
+
+    private final Gmail gmailService;
+    private final String userId;
+    private final long pageSize;
+    private final FetchProfile fetchProfile;
+    private final GmailRequestExecutor requestExecutor;
+    private final Executor executor;
+
+    public AsyncGmailClientImpl(
+            @NonNull final Gmail gmailService,
+            @NonNull final String userId,
+            final long pageSize,
+            @NonNull final FetchProfile fetchProfile,
+            @NonNull final GmailRequestExecutor requestExecutor,
+            @NonNull final Executor executor
+    ) {
+        this.gmailService = gmailService;
+        this.userId = userId;
+        this.pageSize = pageSize;
+        this.fetchProfile = fetchProfile;
+        this.requestExecutor = requestExecutor;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Profile> getProfile() {
+        return submit(GmailQuotaCost.GET_PROFILE, () -> gmailService.users().getProfile(userId));
+    }
+
+    @Override
+    public CompletableFuture<ListMessagesResponse> listMessages(@NonNull final String query, final String pageToken) {
+        return submit(GmailQuotaCost.MESSAGES_LIST, () -> {
+            final Gmail.Users.Messages.List request = gmailService.users()
+                    .messages()
+                    .list(userId)
+                    .setQ(query)
+                    .setMaxResults(pageSize)
+                    .setPageToken(pageToken);
+            request.setFields(LIST_FIELDS);
+            return request;
+        });
+    }
+
+    @Override
+    public CompletableFuture<ListHistoryResponse> listHistory(
+            @NonNull final BigInteger startHistoryId,
+            final String pageToken
+    ) {
+        return submit(GmailQuotaCost.HISTORY_LIST, () -> {
+            final Gmail.Users.History.List request = gmailService.users()
+                    .history()
+                    .list(userId)
+                    .setStartHistoryId(startHistoryId)
+                    .setHistoryTypes(HISTORY_TYPES)
+                    .setMaxResults(pageSize)
+                    .setPageToken(pageToken);
+            request.setFields(HISTORY_FIELDS);
+            return request;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Message> getMessage(@NonNull final String messageId) {
+        return submit(GmailQuotaCost.MESSAGES_GET,
+                () -> MessageRequests.get(gmailService, userId, messageId, fetchProfile));
+    }
+
+    @Override
+    public CompletableFuture<Thread> getThread(@NonNull final String threadId) {
+        return submit(GmailQuotaCost.THREADS_GET, () -> {
+            final Gmail.Users.Threads.Get request = gmailService.users()
+                    .threads()
+                    .get(userId, threadId);
+            // threads.get has no raw format, so a raw profile reads the thread's messages in full
+            final FetchProfile threadProfile = fetchProfile.getFormat() == FetchProfile.Format.RAW
+                    ? FetchProfile.full()
+                    : fetchProfile;
+            request.setFormat(threadProfile.getFormat().apiValue());
+            if (!threadProfile.getMetadataHeaders().isEmpty()) {
+                request.setMetadataHeaders(threadProfile.getMetadataHeaders());
+            }
+            if (threadProfile.getFields() != null) {
+                request.setFields("messages(" + threadProfile.getFields() + ")");
+            }
+            return request;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> batchModify(
+            @NonNull final List<String> messageIds,
+            @NonNull final List<String> addLabelIds,
+            @NonNull final List<String> removeLabelIds
+    ) {
+        return submit(GmailQuotaCost.BATCH_MODIFY, () -> gmailService.users()
+                .messages()
+                .batchModify(userId, new BatchModifyMessagesRequest()
+                        .setIds(messageIds)
+                        .setAddLabelIds(addLabelIds)
+                        .setRemoveLabelIds(removeLabelIds)));
+    }
+
+    @Override
+    public CompletableFuture<ListLabelsResponse> listLabels() {
+        return submit(GmailQuotaCost.LABELS_LIST, () -> {
+            final Gmail.Users.Labels.List request = gmailService.users()
+                    .labels()
+                    .list(userId);
+            request.setFields(LABELS_FIELDS);
+            return request;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Label> createLabel(@NonNull final String name) {
+        return submit(GmailQuotaCost.LABELS_CREATE, () -> gmailService.users()
+                .labels()
+                .create(userId, new Label()
+                        .setName(name)
+                        .setLabelListVisibility(LABEL_SHOW)
+                        .setMessageListVisibility(MESSAGE_SHOW)));
+    }
+
+    /**
+     * Blocks on {@code future}, rethrowing the I/O failure it completed with. This is the bridge used by the
+     * synchronous {@link GmailClient}.
+     */
+    public static <T> T await(@NonNull final CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(
+            @NonNull final GmailQuotaCost cost,
+            @NonNull final RequestFactory<T> requestFactory
+    ) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return requestExecutor.execute(cost, requestFactory.create());
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory<T> {
+        AbstractGoogleClientRequest<T> create() throws IOException;
+    }
+}
@@ -0,0 +1,57 @@
+package com.projecthive.ingestion.clients;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Copies the {@code data} field of a users.messages.attachments.get response into a sink.
+ *
+ * <p>The response is read with a streaming JSON parser, and the base64url value is decoded in small chunks
+ * straight into the sink, so neither the encoded string nor the decoded bytes are ever held in memory as a
+ * whole.</p>
+ */
+final class AttachmentData {
+
+    private static final String DATA_FIELD = "data";
+    // Gmail uses the URL-safe alphabet, with or without padding
+    private static final String BASE64_URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final Base64Variant BASE64_URL =
+            new Base64Variant("GMAIL-BASE64URL", BASE64_URL_ALPHABET, true, '=', Integer.MAX_VALUE)
+                    .withReadPadding(Base64Variant.PaddingReadBehaviour.PADDING_ALLOWED);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private AttachmentData() {
+    }
+
+    /**
+     * Returns the number of decoded bytes written to {@code sink}.
+     */
+    static long copy(@NonNull final InputStream response, @NonNull final OutputStream sink) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Attachment response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                    try {
+                        return parser.readBinaryValue(BASE64_URL, sink);
+                    } catch (final IllegalArgumentException e) {
+                        throw new IOException("Attachment data is not valid base64url", e);
+                    }
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IOException("Attachment response has no data");
+    }
+}
@@ -0,0 +1,184 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.util.Sleeper;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.config.FetchProfile;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fetches messages through the Gmail batch endpoint so that up to {@link #MAX_BATCH_SIZE}
+ * {@code messages.get} calls share a single HTTPS round-trip.
+ *
+ * <p>Each part of a batch succeeds or fails on its own. Parts that fail with a transient error
+ * (rate limiting or a 5xx) are retried individually with exponential backoff; parts whose message
+ * is gone (deleted between list and get) are skipped and logged. Any other failure, or a transient
+ * one that outlasts the retries, fails the whole call.</p>
+ */
+public class BatchMessageFetcher implements MessageFetcher {
+    private static final Logger logger = LogManager.getLogger(BatchMessageFetcher.class);
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final Gmail gmailService;
+    private final String userId;
+    private final FetchProfile fetchProfile;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final Sleeper sleeper;
+    private final QuotaRateLimiter rateLimiter;
+
+    public BatchMessageFetcher(
+            @NonNull final Gmail gmailService,
+            @NonNull final String userId,
+            @NonNull final FetchProfile fetchProfile,
+            final int batchSize,
+            final int maxRetries,
+            final long retryBackoffMillis,
+            @NonNull final Sleeper sleeper,
+            @NonNull final QuotaRateLimiter rateLimiter
+    ) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        this.gmailService = gmailService;
+        this.userId = userId;
+        this.fetchProfile = fetchProfile;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.sleeper = sleeper;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public List<Message> fetch(@NonNull final List<String> messageIds) throws IOException {
+        final Map<String, Message> fetched = new HashMap<>(messageIds.size() * 2);
+        final List<String> retryable = new ArrayList<>();
+        final List<GoogleJsonError> failed = new ArrayList<>();
+        final long startNanos = System.nanoTime();
+
+        for (int from = 0; from < messageIds.size(); from += batchSize) {
+            final List<String> chunk = messageIds.subList(from, Math.min(from + batchSize, messageIds.size()));
+            executeBatch(chunk, fetched, retryable, failed);
+        }
+        if (!failed.isEmpty()) {
+            throw new IOException("Failed to fetch " + failed.size() + " messages, first with "
+                    + failed.get(0).getCode() + " " + failed.get(0).getMessage());
+        }
+
+        for (final String messageId : retryable) {
+            final Message message = fetchIndividually(messageId);
+            if (message != null) {
+                fetched.put(messageId, message);
+            }
+        }
+
+        logger.info("Batch fetched {}/{} messages in {} ms ({} retried individually)",
+                fetched.size(), messageIds.size(), elapsedMillis(startNanos), retryable.size());
+
+        final List<Message> messages = new ArrayList<>(fetched.size());
+        for (final String messageId : messageIds) {
+            final Message message = fetched.get(messageId);
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    private void executeBatch(
+            @NonNull final List<String> chunk,
+            @NonNull final Map<String, Message> fetched,
+            @NonNull final List<String> retryable,
+            @NonNull final List<GoogleJsonError> failed
+    ) throws IOException {
+        // Every part of a batch is charged as an individual messages.get
+        acquireQuota(chunk.size() * GmailQuotaCost.MESSAGES_GET.getUnits());
+        final BatchRequest batch = gmailService.batch();
+        final long startNanos = System.nanoTime();
+        final int[] failures = {0};
+
+        for (final String messageId : chunk) {
+            MessageRequests.get(gmailService, userId, messageId, fetchProfile)
+                    .queue(batch, new JsonBatchCallback<>() {
+                        @Override
+                        public void onSuccess(final Message message, final HttpHeaders responseHeaders) {
+                            fetched.put(messageId, message);
+                        }
+
+                        @Override
+                        public void onFailure(final GoogleJsonError error, final HttpHeaders responseHeaders) {
+                            failures[0]++;
+                            if (GmailRequestExecutor.isRetryable(error)) {
+                                retryable.add(messageId);
+                            } else if (GmailRequestExecutor.isGone(error.getCode())) {
+                                logger.warn("Skipping message {}: {} {}", messageId, error.getCode(), error.getMessage());
+                            } else {
+                                failed.add(error);
+                            }
+                        }
+                    });
+        }
+
+        batch.execute();
+
+        logger.debug("Batch of {} gets completed in {} ms with {} failed parts",
+                chunk.size(), elapsedMillis(startNanos), failures[0]);
+    }
+
+    private Message fetchIndividually(@NonNull final String messageId) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            sleep(retryBackoffMillis << (attempt - 1));
+            acquireQuota(GmailQuotaCost.MESSAGES_GET.getUnits());
+            try {
+                return MessageRequests.get(gmailService, userId, messageId, fetchProfile).execute();
+            } catch (final GoogleJsonResponseException e) {
+                if (GmailRequestExecutor.isGone(e.getStatusCode())) {
+                    logger.warn("Skipping message {}: {} {}", messageId, e.getStatusCode(), e.getStatusMessage());
+                    return null;
+                }
+                if (attempt >= maxRetries || !GmailRequestExecutor.isRetryable(e.getDetails())) {
+                    logger.error("Giving up on message {} after {} attempts", messageId, attempt);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void sleep(final long millis) throws IOException {
+        try {
+            sleeper.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while backing off", e);
+        }
+    }
+
+    private void acquireQuota(final int units) throws IOException {
+        try {
+            rateLimiter.acquire(units);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for Gmail quota", e);
+        }
+    }
+
+    private static long elapsedMillis(final long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+}
@@ -0,0 +1,112 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.config.FetchProfile;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fetches messages with one virtual thread per {@code messages.get}, capped at a fixed number of
+ * requests in flight and paced by the shared {@link GmailRequestExecutor}.
+ *
+ * <p>Messages that no longer exist are skipped and logged; any other failure, including one that
+ * outlasts the executor's retries, aborts the page.</p>
+ */
+public class ConcurrentMessageFetcher implements MessageFetcher {
+    private static final Logger logger = LogManager.getLogger(ConcurrentMessageFetcher.class);
+
+    private final Gmail gmailService;
+    private final String userId;
+    private final FetchProfile fetchProfile;
+    private final GmailRequestExecutor requestExecutor;
+    private final Semaphore inFlight;
+
+    public ConcurrentMessageFetcher(
+            @NonNull final Gmail gmailService,
+            @NonNull final String userId,
+            @NonNull final FetchProfile fetchProfile,
+            @NonNull final GmailRequestExecutor requestExecutor,
+            final int maxInFlightRequests
+    ) {
+        if (maxInFlightRequests < 1) {
+            throw new IllegalArgumentException("Max in-flight requests must be positive");
+        }
+        this.gmailService = gmailService;
+        this.userId = userId;
+        this.fetchProfile = fetchProfile;
+        this.requestExecutor = requestExecutor;
+        this.inFlight = new Semaphore(maxInFlightRequests);
+    }
+
+    @Override
+    public List<Message> fetch(@NonNull final List<String> messageIds) throws IOException {
+        final long startNanos = System.nanoTime();
+        final List<Future<Message>> futures = new ArrayList<>(messageIds.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final String messageId : messageIds) {
+                futures.add(executor.submit(() -> fetchOne(messageId)));
+            }
+
+            final List<Message> messages = new ArrayList<>(messageIds.size());
+            try {
+                for (final Future<Message> future : futures) {
+                    final Message message = await(future);
+                    if (message != null) {
+                        messages.add(message);
+                    }
+                }
+            } catch (final IOException e) {
+                // Don't let the executor's close() wait for the rest of a page that is being abandoned
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+
+            logger.info("Concurrently fetched {}/{} messages in {} ms",
+                    messages.size(), messageIds.size(), (System.nanoTime() - startNanos) / 1_000_000L);
+            return messages;
+        }
+    }
+
+    private Message fetchOne(@NonNull final String messageId) throws IOException, InterruptedException {
+        inFlight.acquire();
+        try {
+            return requestExecutor.execute(GmailQuotaCost.MESSAGES_GET,
+                    MessageRequests.get(gmailService, userId, messageId, fetchProfile));
+        } catch (final GoogleJsonResponseException e) {
+            if (!GmailRequestExecutor.isGone(e.getStatusCode())) {
+                throw e;
+            }
+            logger.warn("Skipping message {}: {} {}", messageId, e.getStatusCode(), e.getStatusMessage());
+            return null;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static Message await(@NonNull final Future<Message> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching messages", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to fetch message", e.getCause());
+        }
+    }
+}
@@ -1,11 +1,73 @@
 package com.projecthive.ingestion.clients;
 
 import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.models.MailboxSync;
+import com.projecthive.ingestion.models.ResumeCursor;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface GmailClient {
+
+    int MAX_BATCH_MODIFY_IDS = 1000; // users.messages.batchModify limit
+
     List<Message> fetchUnreadMessages() throws IOException, GeneralSecurityException;
+
+    /**
+     * Lazily streams every unread message, requesting further listing pages only as the stream
+     * is consumed. Failures while paging surface as {@link java.io.UncheckedIOException}.
+     */
+    Stream<Message> streamUnreadMessages() throws IOException, GeneralSecurityException;
+
+    /**
+     * Syncs the mailbox from a previously checkpointed history id. When {@code startHistoryId} is
+     * {@code null}, incremental sync is disabled, or the id has expired, a bounded full sync of the
+     * unread listing is performed instead.
+     */
+    default MailboxSync syncMessages(BigInteger startHistoryId) throws IOException, GeneralSecurityException {
+        return syncMessages(startHistoryId, null);
+    }
+
+    /**
+     * Same as {@link #syncMessages(BigInteger)}, but continues an interrupted sync from
+     * {@code resumeCursor} when one is given.
+     */
+    default MailboxSync syncMessages(BigInteger startHistoryId, ResumeCursor resumeCursor)
+            throws IOException, GeneralSecurityException {
+        return syncMessages(startHistoryId, resumeCursor, messageId -> false);
+    }
+
+    /**
+     * Same as {@link #syncMessages(BigInteger, ResumeCursor)}, but drops listed messages matching
+     * {@code alreadyIngested} before they are fetched.
+     */
+    MailboxSync syncMessages(BigInteger startHistoryId, ResumeCursor resumeCursor, Predicate<String> alreadyIngested)
+            throws IOException, GeneralSecurityException;
+
+    /**
+     * Same as {@link #syncMessages(BigInteger, ResumeCursor, Predicate)}, but streams the messages of each listing
+     * page grouped by conversation, resolving conversations with several new messages through a single
+     * {@code threads.get}.
+     */
+    MailboxSync syncThreads(BigInteger startHistoryId, ResumeCursor resumeCursor, Predicate<String> alreadyIngested)
+            throws IOException, GeneralSecurityException;
+
+    /**
+     * Marks persisted messages as processed, per the configured
+     * {@link com.projecthive.ingestion.config.ProcessedMarking}, so that later listings skip them.
+     * Ids are sent to batchModify in chunks of at most {@link #MAX_BATCH_MODIFY_IDS}.
+     */
+    void markProcessed(List<String> messageIds) throws IOException;
+
+    /**
+     * Streams the decoded bytes of one attachment into {@code sink} and returns how many were written. The
+     * payload is never buffered whole, so callers control memory through the sink they pass. Attachment ids
+     * are recorded in the message metadata by the parser.
+     */
+    long fetchAttachment(String messageId, String attachmentId, OutputStream sink) throws IOException;
 }
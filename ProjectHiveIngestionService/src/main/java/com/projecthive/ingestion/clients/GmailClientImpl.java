@@ -1,62 +1,390 @@
 package com.projecthive.ingestion.clients;
 
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.util.Sleeper;
 import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.History;
+import com.google.api.services.gmail.model.Label;
+import com.google.api.services.gmail.model.HistoryMessageAdded;
+import com.google.api.services.gmail.model.ListHistoryResponse;
 import com.google.api.services.gmail.model.ListMessagesResponse;
 import com.google.api.services.gmail.model.Message;
 import com.projecthive.ingestion.auth.GmailAuthProvider;
+import com.projecthive.ingestion.config.GmailFetchConfig;
+import com.projecthive.ingestion.config.GmailQueryConfig;
+import com.projecthive.ingestion.config.ProcessedMarking;
+import com.projecthive.ingestion.models.MailboxSync;
+import com.projecthive.ingestion.models.MessageIdPage;
+import com.projecthive.ingestion.models.ResumeCursor;
 import lombok.NonNull;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class GmailClientImpl implements GmailClient {
     private static final Logger logger = LogManager.getLogger(GmailClientImpl.class);
 
+    private static final String UNREAD_LABEL = "UNREAD";
+    private static final int HTTP_NOT_FOUND = 404;
+
     private Gmail gmailService;
     private final String userId = "me"; // 'me' refers to the authenticated user
+    private final QuotaRateLimiter rateLimiter;
+    private final GmailRequestExecutor requestExecutor;
+    private final AsyncGmailClient asyncClient;
+    private final MessageFetcher messageFetcher;
+    private final ThreadMessageFetcher threadFetcher;
+    private final boolean incrementalSync;
+    private final long maxFullSyncMessages;
+    private final GmailQueryConfig queryConfig;
+    private final ProcessedMarking processedMarking;
+    private final String processedLabel;
+    private String processedLabelId; // Guarded by this
+    private Map<String, String> labelIdsByName; // Guarded by this; labels created elsewhere show up on a cold start
 
     @Inject
-    public GmailClientImpl(@NonNull final GmailAuthProvider gmailAuthProvider) {
+    public GmailClientImpl(
+            @NonNull final GmailAuthProvider gmailAuthProvider,
+            @NonNull final GmailFetchConfig fetchConfig
+    ) {
           try {
             this.gmailService = gmailAuthProvider.createGmailClient();
         } catch (final Exception e) {
             throw new RuntimeException("Failed to initialize Gmail client", e);
         }
+        this.rateLimiter = QuotaRateLimiter.create(
+                fetchConfig.getUserQuotaUnitsPerSecond(),
+                fetchConfig.getProjectQuotaUnitsPerSecond(),
+                Sleeper.DEFAULT);
+        this.requestExecutor = new GmailRequestExecutor(
+                rateLimiter,
+                fetchConfig.getMaxRetries(),
+                fetchConfig.getRetryBackoffMillis(),
+                fetchConfig.getMaxRetryBackoffMillis(),
+                Sleeper.DEFAULT,
+                ThreadLocalRandom.current());
+        this.asyncClient = new AsyncGmailClientImpl(
+                gmailService,
+                userId,
+                fetchConfig.getPageSize(),
+                fetchConfig.getFetchProfile(),
+                requestExecutor,
+                Executors.newVirtualThreadPerTaskExecutor());
+        this.messageFetcher = createMessageFetcher(fetchConfig);
+        this.threadFetcher = new ThreadMessageFetcher(asyncClient, messageFetcher);
+        this.incrementalSync = fetchConfig.isIncrementalSync();
+        this.maxFullSyncMessages = fetchConfig.getMaxFullSyncMessages();
+        this.queryConfig = fetchConfig.getQuery();
+        this.processedMarking = fetchConfig.getProcessedMarking();
+        this.processedLabel = fetchConfig.getProcessedLabel();
+    }
+
+    private MessageFetcher createMessageFetcher(@NonNull final GmailFetchConfig fetchConfig) {
+        return switch (fetchConfig.getFetchMode()) {
+            case SEQUENTIAL -> new SequentialMessageFetcher(gmailService, userId, fetchConfig.getFetchProfile());
+            case BATCH -> new BatchMessageFetcher(
+                    gmailService,
+                    userId,
+                    fetchConfig.getFetchProfile(),
+                    fetchConfig.getBatchSize(),
+                    fetchConfig.getMaxRetries(),
+                    fetchConfig.getRetryBackoffMillis(),
+                    Sleeper.DEFAULT,
+                    rateLimiter);
+            case CONCURRENT -> new ConcurrentMessageFetcher(
+                    gmailService,
+                    userId,
+                    fetchConfig.getFetchProfile(),
+                    requestExecutor,
+                    fetchConfig.getMaxInFlightRequests());
+        };
+    }
+
+    /**
+     * The non-blocking client this one adapts; it shares the same Gmail service and quota limiter.
+     */
+    public AsyncGmailClient asyncClient() {
+        return asyncClient;
     }
 
     @Override
     public List<Message> fetchUnreadMessages() {
-        try {
-            final ListMessagesResponse response = gmailService.users()
-                    .messages()
-                    .list(userId)
-                    .setQ("is:unread")
-                    .execute();
-
-            final List<Message> messages = new ArrayList<>();
-            if (response.getMessages() != null) {
-                for (final Message msg : response.getMessages()) {
-                    final Message fullMessage = gmailService.users()
-                            .messages()
-                            .get(userId, msg.getId())
-                            .execute();
-                    messages.add(fullMessage);
-                }
-            }
+        try (Stream<Message> messages = streamUnreadMessages()) {
+            final List<Message> fetched = messages.collect(Collectors.toList());
 
             logger.info("Fetched unread messages successfully");
 
-            return messages;
-        } catch (IOException e) {
+            return fetched;
+        } catch (UncheckedIOException e) {
             final String errorMessage = "Failed to fetch unread messages";
             logger.error(errorMessage, e);
-            throw new RuntimeException(errorMessage, e);
+            throw new RuntimeException(errorMessage, e.getCause());
+        }
+    }
+
+    @Override
+    public Stream<Message> streamUnreadMessages() {
+        final GmailQuery query = unreadQuery();
+        return toStream(new PagedMessageIterator(pageToken -> listUnreadPage(query, pageToken), messageFetcher));
+    }
+
+    @Override
+    public MailboxSync syncMessages(
+            final BigInteger startHistoryId,
+            final ResumeCursor resumeCursor,
+            @NonNull final Predicate<String> alreadyIngested
+    ) throws IOException {
+        return sync(startHistoryId, resumeCursor, alreadyIngested, false);
+    }
+
+    @Override
+    public MailboxSync syncThreads(
+            final BigInteger startHistoryId,
+            final ResumeCursor resumeCursor,
+            @NonNull final Predicate<String> alreadyIngested
+    ) throws IOException {
+        return sync(startHistoryId, resumeCursor, alreadyIngested, true);
+    }
+
+    private MailboxSync sync(
+            final BigInteger startHistoryId,
+            final ResumeCursor resumeCursor,
+            @NonNull final Predicate<String> alreadyIngested,
+            final boolean grouped
+    ) throws IOException {
+        // Captured before listing so that anything arriving mid-run is picked up by the next delta
+        final BigInteger currentHistoryId = AsyncGmailClientImpl.await(asyncClient.getProfile()).getHistoryId();
+        final boolean resumingFullSync = resumeCursor != null && resumeCursor.isFullSync();
+        final GmailQuery query = unreadQuery();
+
+        if (startHistoryId != null && incrementalSync && !resumingFullSync) {
+            try {
+                // History carries label ids only: names are resolved, and any other terms are checked against the
+                // search listing before a candidate is fetched
+                final GmailQuery historyQuery =
+                        query.hasLabelNames() ? query.resolveLabelNames(labelIdsByName()) : query;
+                final QueryMatches matches = historyQuery.needsSearch()
+                        ? new QueryMatches(pageToken -> listUnreadPage(query, pageToken))
+                        : null;
+                final Set<String> seenMessageIds = new HashSet<>();
+                final ResumingPageLoader pageLoader = new ResumingPageLoader(grouping(
+                        pageToken -> listHistoryPage(startHistoryId, pageToken, historyQuery, matches, seenMessageIds),
+                        grouped), resumeCursor);
+                pageLoader.prefetch();
+
+                logger.info("Running incremental Gmail sync from historyId {}{}{}", startHistoryId,
+                        grouped ? " grouped by thread" : "", resumeCursor == null ? "" : " (resuming)");
+                return toSync(pageLoader, alreadyIngested, grouped, currentHistoryId, false, Long.MAX_VALUE);
+            } catch (final GoogleJsonResponseException e) {
+                if (e.getStatusCode() != HTTP_NOT_FOUND) {
+                    throw e;
+                }
+                logger.warn("History checkpoint {} has expired, falling back to a full sync", startHistoryId);
+            }
+        }
+
+        // A full sync spanning several runs checkpoints the history id from when it began, so that mail arriving
+        // in between is read by the next delta instead of landing before the checkpoint
+        final BigInteger fullSyncHistoryId = resumingFullSync && resumeCursor.getHistoryId() != null
+                ? new BigInteger(resumeCursor.getHistoryId())
+                : currentHistoryId;
+        // Marked messages drop out of the listing, so a saved page token would skip messages that were never fetched
+        final ResumeCursor fullSyncCursor =
+                resumingFullSync && processedMarking == ProcessedMarking.NONE ? resumeCursor : null;
+
+        logger.info("Running full Gmail sync bounded to {} messages with query [{}]{}{}", maxFullSyncMessages, query,
+                grouped ? " grouped by thread" : "", resumingFullSync ? " (resuming)" : "");
+        final ResumingPageLoader pageLoader = new ResumingPageLoader(
+                grouping(pageToken -> listUnreadPage(query, pageToken), grouped), fullSyncCursor);
+        return toSync(pageLoader, alreadyIngested, grouped, fullSyncHistoryId, true, maxFullSyncMessages);
+    }
+
+    // Grouping happens before resume skipping, so a cursor indexes the same order the messages were streamed in
+    private static PagedMessageIterator.PageLoader grouping(
+            @NonNull final PagedMessageIterator.PageLoader pageLoader,
+            final boolean grouped
+    ) {
+        return grouped ? pageToken -> ThreadMessageFetcher.groupByThread(pageLoader.load(pageToken)) : pageLoader;
+    }
+
+    private MailboxSync toSync(
+            @NonNull final ResumingPageLoader pageLoader,
+            @NonNull final Predicate<String> alreadyIngested,
+            final boolean grouped,
+            final BigInteger historyId,
+            final boolean fullSync,
+            final long maxMessages
+    ) {
+        // Dropped after resume skipping, which has to see the listing as it was when the cursor was saved
+        final PagedMessageIterator iterator = new PagedMessageIterator(
+                pageToken -> pageLoader.load(pageToken).without(alreadyIngested),
+                grouped ? threadFetcher : messageFetcher, pageLoader.firstPageToken());
+        final AtomicLong streamed = new AtomicLong();
+        return new MailboxSync(toStream(iterator).limit(maxMessages).peek(message -> streamed.incrementAndGet()),
+                historyId, fullSync, iterator::currentPageToken,
+                () -> streamed.get() >= maxMessages && !iterator.isExhausted());
+    }
+
+    @Override
+    public void markProcessed(@NonNull final List<String> messageIds) throws IOException {
+        if (messageIds.isEmpty() || processedMarking == ProcessedMarking.NONE) {
+            return;
         }
+        final List<String> addLabelIds = processedMarking == ProcessedMarking.ADD_LABEL
+                ? List.of(resolveProcessedLabelId())
+                : List.of();
+        final List<String> removeLabelIds = processedMarking == ProcessedMarking.REMOVE_UNREAD
+                ? List.of(UNREAD_LABEL)
+                : List.of();
 
+        final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < messageIds.size(); from += MAX_BATCH_MODIFY_IDS) {
+            final List<String> chunk = List.copyOf(
+                    messageIds.subList(from, Math.min(from + MAX_BATCH_MODIFY_IDS, messageIds.size())));
+            chunks.add(asyncClient.batchModify(chunk, addLabelIds, removeLabelIds));
+        }
+        for (final CompletableFuture<Void> chunk : chunks) {
+            AsyncGmailClientImpl.await(chunk);
+        }
+
+        logger.info("Marked {} Gmail messages as processed ({}) in {} batchModify calls",
+                messageIds.size(), processedMarking, chunks.size());
+    }
+
+    @Override
+    public long fetchAttachment(
+            @NonNull final String messageId,
+            @NonNull final String attachmentId,
+            @NonNull final OutputStream sink
+    ) throws IOException {
+        final Gmail.Users.Messages.Attachments.Get request = gmailService.users()
+                .messages()
+                .attachments()
+                .get(userId, messageId, attachmentId);
+        try (InputStream response = requestExecutor.executeAsInputStream(GmailQuotaCost.ATTACHMENTS_GET, request)) {
+            return AttachmentData.copy(response, sink);
+        }
+    }
+
+    // The configured name is created when missing
+    private synchronized String resolveProcessedLabelId() throws IOException {
+        if (processedLabelId != null) {
+            return processedLabelId;
+        }
+        final String name = processedLabel.trim().toLowerCase(Locale.ROOT);
+        final String existingId = labelIdsByName().get(name);
+        if (existingId != null) {
+            processedLabelId = existingId;
+        } else {
+            processedLabelId = AsyncGmailClientImpl.await(asyncClient.createLabel(processedLabel)).getId();
+            labelIdsByName.put(name, processedLabelId);
+            logger.info("Created Gmail label {} ({})", processedLabel, processedLabelId);
+        }
+        return processedLabelId;
+    }
+
+    // Label ids are opaque, so the account's labels are looked up once per container, keyed by lower-cased name
+    private synchronized Map<String, String> labelIdsByName() throws IOException {
+        if (labelIdsByName == null) {
+            final List<Label> labels = AsyncGmailClientImpl.await(asyncClient.listLabels()).getLabels();
+            final Map<String, String> ids = new HashMap<>();
+            if (labels != null) {
+                for (final Label label : labels) {
+                    if (label.getName() != null) {
+                        ids.putIfAbsent(label.getName().toLowerCase(Locale.ROOT), label.getId());
+                    }
+                }
+            }
+            labelIdsByName = ids;
+        }
+        return labelIdsByName;
+    }
+
+    private GmailQuery unreadQuery() {
+        final GmailQuery.Builder query = GmailQuery.unreadBuilder(queryConfig, Instant.now());
+        if (processedMarking == ProcessedMarking.ADD_LABEL) {
+            // Labelled messages stay unread, so the listing has to exclude them explicitly
+            query.withoutLabel(processedLabel);
+        }
+        return query.build();
+    }
+
+    private MessageIdPage listUnreadPage(@NonNull final GmailQuery query, final String pageToken) throws IOException {
+        final ListMessagesResponse response =
+                AsyncGmailClientImpl.await(asyncClient.listMessages(query.toQueryString(), pageToken));
+
+        final List<String> messageIds = new ArrayList<>();
+        final List<String> threadIds = new ArrayList<>();
+        if (response.getMessages() != null) {
+            for (final Message msg : response.getMessages()) {
+                messageIds.add(msg.getId());
+                threadIds.add(msg.getThreadId());
+            }
+        }
+        return new MessageIdPage(messageIds, response.getNextPageToken(), threadIds);
+    }
+
+    private MessageIdPage listHistoryPage(
+            @NonNull final BigInteger startHistoryId,
+            final String pageToken,
+            @NonNull final GmailQuery query,
+            final QueryMatches matches,
+            @NonNull final Set<String> seenMessageIds
+    ) throws IOException {
+        final ListHistoryResponse response =
+                AsyncGmailClientImpl.await(asyncClient.listHistory(startHistoryId, pageToken));
+
+        final List<String> messageIds = new ArrayList<>();
+        final List<String> threadIds = new ArrayList<>();
+        if (response.getHistory() != null) {
+            for (final History history : response.getHistory()) {
+                if (history.getMessagesAdded() == null) {
+                    continue;
+                }
+                for (final HistoryMessageAdded added : history.getMessagesAdded()) {
+                    final Message message = added.getMessage();
+                    // History takes no search query, so labels are judged here and the rest by the search listing; a
+                    // message can be added more than once per delta
+                    if (message != null
+                            && query.admitsLabels(message.getLabelIds())
+                            && seenMessageIds.add(message.getId())
+                            && (matches == null || matches.contains(message.getId()))) {
+                        messageIds.add(message.getId());
+                        threadIds.add(message.getThreadId());
+                    }
+                }
+            }
+        }
+        return new MessageIdPage(messageIds, response.getNextPageToken(), threadIds);
+    }
 
+    private static Stream<Message> toStream(@NonNull final PagedMessageIterator iterator) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
     }
 }
@@ -0,0 +1,223 @@
+package com.projecthive.ingestion.clients;
+
+import com.projecthive.ingestion.config.GmailCategory;
+import com.projecthive.ingestion.config.GmailQueryConfig;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A typed Gmail search query, so that unwanted mail is filtered out by Google before any message is listed
+ * or fetched.
+ *
+ * <p>The History API accepts no query, so incremental syncs judge its candidates in two steps: the label part
+ * of the query via {@link #admitsLabels}, once label names have been turned into ids with
+ * {@link #resolveLabelNames}, and, when {@link #needsSearch} says the query has other terms, the search
+ * listing itself.</p>
+ */
+public final class GmailQuery {
+
+    private final List<String> terms;
+    private final Set<String> excludedLabelIds;
+    private final Set<String> requiredLabelIds;
+    private final Set<String> excludedLabelNames;
+    private final Set<String> requiredLabelNames;
+    private final boolean labelsOnly;
+
+    private GmailQuery(
+            @NonNull final List<String> terms,
+            @NonNull final Set<String> excludedLabelIds,
+            @NonNull final Set<String> requiredLabelIds,
+            @NonNull final Set<String> excludedLabelNames,
+            @NonNull final Set<String> requiredLabelNames,
+            final boolean labelsOnly
+    ) {
+        this.terms = List.copyOf(terms);
+        this.excludedLabelIds = Set.copyOf(excludedLabelIds);
+        this.requiredLabelIds = Set.copyOf(requiredLabelIds);
+        this.excludedLabelNames = Set.copyOf(excludedLabelNames);
+        this.requiredLabelNames = Set.copyOf(requiredLabelNames);
+        this.labelsOnly = labelsOnly;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The unread query for an account, with its configured filters and an {@code after:} watermark relative to {@code now}.
+     */
+    public static GmailQuery unread(@NonNull final GmailQueryConfig config, @NonNull final Instant now) {
+        return unreadBuilder(config, now).build();
+    }
+
+    /**
+     * Same as {@link #unread}, left open for callers that add their own terms.
+     */
+    public static Builder unreadBuilder(@NonNull final GmailQueryConfig config, @NonNull final Instant now) {
+        final Builder builder = builder().unread();
+        config.getExcludedCategories().forEach(builder::excludeCategory);
+        config.getIncludedLabels().forEach(builder::withLabel);
+        config.getExcludedLabels().forEach(builder::withoutLabel);
+        if (config.getLookbackDays() > 0) {
+            builder.after(now.minus(Duration.ofDays(config.getLookbackDays())));
+        }
+        if (config.getMaxSizeBytes() > 0) {
+            builder.smallerThan(config.getMaxSizeBytes());
+        }
+        return builder
+                .fromAnyOf(config.getAllowedSenders())
+                .notFrom(config.getDeniedSenders());
+    }
+
+    public String toQueryString() {
+        return String.join(" ", terms);
+    }
+
+    /**
+     * Whether the query names labels, which {@link #admitsLabels} only applies after {@link #resolveLabelNames}.
+     */
+    public boolean hasLabelNames() {
+        return !excludedLabelNames.isEmpty() || !requiredLabelNames.isEmpty();
+    }
+
+    /**
+     * This query with its label names turned into label ids, given the account's label ids by lower-cased name.
+     * A required label the account does not have admits nothing, as in a search; an excluded one excludes nothing.
+     */
+    public GmailQuery resolveLabelNames(@NonNull final Map<String, String> labelIdsByName) {
+        final Set<String> excluded = new HashSet<>(excludedLabelIds);
+        final Set<String> required = new HashSet<>(requiredLabelIds);
+        excludedLabelNames.forEach(name -> excluded.add(labelIdsByName.getOrDefault(name, name)));
+        requiredLabelNames.forEach(name -> required.add(labelIdsByName.getOrDefault(name, name)));
+        return new GmailQuery(terms, excluded, required, Set.of(), Set.of(), labelsOnly);
+    }
+
+    /**
+     * Whether the query has terms besides labels and categories (senders, size, date), which only a search can judge.
+     */
+    public boolean needsSearch() {
+        return !labelsOnly;
+    }
+
+    /**
+     * Whether a message with these label ids could match the query, judged on labels alone.
+     */
+    public boolean admitsLabels(final Collection<String> labelIds) {
+        if (labelIds == null) {
+            return requiredLabelIds.isEmpty();
+        }
+        return labelIds.containsAll(requiredLabelIds) && labelIds.stream().noneMatch(excludedLabelIds::contains);
+    }
+
+    @Override
+    public String toString() {
+        return toQueryString();
+    }
+
+    public static final class Builder {
+        private static final String UNREAD_LABEL_ID = "UNREAD";
+
+        private final List<String> terms = new ArrayList<>();
+        private final Set<String> excludedLabelIds = new HashSet<>();
+        private final Set<String> requiredLabelIds = new HashSet<>();
+        private final Set<String> excludedLabelNames = new HashSet<>();
+        private final Set<String> requiredLabelNames = new HashSet<>();
+        private boolean labelsOnly = true;
+
+        private Builder() {
+        }
+
+        public Builder unread() {
+            terms.add("is:unread");
+            requiredLabelIds.add(UNREAD_LABEL_ID);
+            return this;
+        }
+
+        public Builder inCategory(@NonNull final GmailCategory category) {
+            terms.add(category.searchTerm());
+            requiredLabelIds.add(category.labelId());
+            return this;
+        }
+
+        public Builder excludeCategory(@NonNull final GmailCategory category) {
+            terms.add("-" + category.searchTerm());
+            excludedLabelIds.add(category.labelId());
+            return this;
+        }
+
+        public Builder withLabel(@NonNull final String label) {
+            terms.add("label:" + quote(label));
+            requiredLabelNames.add(label.trim().toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        public Builder withoutLabel(@NonNull final String label) {
+            terms.add("-label:" + quote(label));
+            excludedLabelNames.add(label.trim().toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Only messages received after {@code watermark}; Gmail accepts epoch seconds for {@code after:}.
+         */
+        public Builder after(@NonNull final Instant watermark) {
+            terms.add("after:" + watermark.getEpochSecond());
+            labelsOnly = false;
+            return this;
+        }
+
+        public Builder smallerThan(final long bytes) {
+            terms.add("smaller:" + bytes);
+            labelsOnly = false;
+            return this;
+        }
+
+        public Builder largerThan(final long bytes) {
+            terms.add("larger:" + bytes);
+            labelsOnly = false;
+            return this;
+        }
+
+        public Builder fromAnyOf(@NonNull final Collection<String> senders) {
+            if (!senders.isEmpty()) {
+                terms.add(senders.stream()
+                        .map(sender -> "from:" + quote(sender))
+                        .collect(Collectors.joining(" ", "{", "}")));
+                labelsOnly = false;
+            }
+            return this;
+        }
+
+        public Builder notFrom(@NonNull final Collection<String> senders) {
+            senders.forEach(sender -> terms.add("-from:" + quote(sender)));
+            labelsOnly = labelsOnly && senders.isEmpty();
+            return this;
+        }
+
+        public GmailQuery build() {
+            return new GmailQuery(
+                    terms, excludedLabelIds, requiredLabelIds, excludedLabelNames, requiredLabelNames, labelsOnly);
+        }
+
+        // Values may not break out of their operator; anything with spaces or operators is quoted
+        private static String quote(@NonNull final String value) {
+            final String cleaned = value.replace("\"", "").trim();
+            if (cleaned.isEmpty()) {
+                throw new IllegalArgumentException("Gmail query values must not be blank");
+            }
+            return cleaned.chars().anyMatch(c -> Character.isWhitespace(c) || "(){}:".indexOf(c) >= 0)
+                    ? "\"" + cleaned + "\""
+                    : cleaned;
+        }
+    }
+}
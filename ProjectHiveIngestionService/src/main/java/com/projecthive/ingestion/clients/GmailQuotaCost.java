@@ -0,0 +1,27 @@
+package com.projecthive.ingestion.clients;
+
+import lombok.Getter;
+
+/**
+ * Gmail API quota units charged per method call.
+ *
+ * @see <a href="https://developers.google.com/gmail/api/reference/quota">Gmail API usage limits</a>
+ */
+@Getter
+public enum GmailQuotaCost {
+    GET_PROFILE(1),
+    LABELS_LIST(1),
+    LABELS_CREATE(5),
+    HISTORY_LIST(2),
+    MESSAGES_LIST(5),
+    MESSAGES_GET(5),
+    ATTACHMENTS_GET(5),
+    THREADS_GET(10),
+    BATCH_MODIFY(50);
+
+    private final int units;
+
+    GmailQuotaCost(final int units) {
+        this.units = units;
+    }
+}
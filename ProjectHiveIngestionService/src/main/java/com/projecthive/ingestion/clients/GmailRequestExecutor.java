@@ -0,0 +1,131 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
+import com.google.api.client.util.Sleeper;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Executes Gmail requests under the quota limiter, retrying rate-limited and 5xx responses with
+ * exponential backoff and full jitter so that concurrent callers do not retry in lockstep.
+ */
+public class GmailRequestExecutor {
+    private static final Logger logger = LogManager.getLogger(GmailRequestExecutor.class);
+
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 500, 502, 503, 504);
+    private static final Set<Integer> GONE_STATUS_CODES = Set.of(404, 410);
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private final QuotaRateLimiter rateLimiter;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Sleeper sleeper;
+    private final RandomGenerator random;
+
+    public GmailRequestExecutor(
+            @NonNull final QuotaRateLimiter rateLimiter,
+            final int maxAttempts,
+            final long baseBackoffMillis,
+            final long maxBackoffMillis,
+            @NonNull final Sleeper sleeper,
+            @NonNull final RandomGenerator random
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.sleeper = sleeper;
+        this.random = random;
+    }
+
+    public <T> T execute(
+            @NonNull final GmailQuotaCost cost,
+            @NonNull final AbstractGoogleClientRequest<T> request
+    ) throws IOException {
+        return executeWithRetries(cost, request::execute);
+    }
+
+    /**
+     * Same as {@link #execute}, but hands back the raw response body instead of parsing it, so large
+     * payloads can be consumed as a stream. The caller closes the stream.
+     */
+    public InputStream executeAsInputStream(
+            @NonNull final GmailQuotaCost cost,
+            @NonNull final AbstractGoogleClientRequest<?> request
+    ) throws IOException {
+        return executeWithRetries(cost, request::executeAsInputStream);
+    }
+
+    private <R> R executeWithRetries(
+            @NonNull final GmailQuotaCost cost,
+            @NonNull final Call<R> call
+    ) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rateLimiter.acquire(cost);
+                return call.run();
+            } catch (final GoogleJsonResponseException e) {
+                if (attempt >= maxAttempts || !isRetryable(e.getDetails())) {
+                    throw e;
+                }
+                final long delayMillis = backoffMillis(attempt);
+                logger.warn("Gmail {} call failed with {}, retrying in {} ms (attempt {}/{})",
+                        cost, e.getStatusCode(), delayMillis, attempt, maxAttempts);
+                sleep(delayMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for Gmail quota", e);
+            }
+        }
+    }
+
+    /**
+     * Full-jitter delay for the given 1-based attempt: uniform in {@code [0, min(max, base * 2^(attempt-1))]}.
+     */
+    long backoffMillis(final int attempt) {
+        final long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 30));
+        return ceiling <= 0 ? 0L : random.nextLong(ceiling + 1);
+    }
+
+    private void sleep(final long millis) throws IOException {
+        try {
+            sleeper.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while backing off", e);
+        }
+    }
+
+    public static boolean isRetryable(final GoogleJsonError error) {
+        if (error == null) {
+            return true;
+        }
+        if (RETRYABLE_STATUS_CODES.contains(error.getCode())) {
+            return true;
+        }
+        return error.getCode() == 403 && error.getErrors() != null && error.getErrors().stream()
+                .anyMatch(info -> RATE_LIMIT_REASONS.contains(info.getReason()));
+    }
+
+    /**
+     * Whether a failed request named a resource that no longer exists, e.g. a message deleted between list and
+     * get. Only such failures may be skipped; anything else would silently lose the message.
+     */
+    public static boolean isGone(final int statusCode) {
+        return GONE_STATUS_CODES.contains(statusCode);
+    }
+
+    @FunctionalInterface
+    private interface Call<R> {
+        R run() throws IOException;
+    }
+}
@@ -0,0 +1,27 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.models.MessageIdPage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Resolves Gmail message ids (as returned by {@code messages.list}) into full message resources.
+ * Implementations return messages in the order of the requested ids and omit only messages that no
+ * longer exist (see {@link GmailRequestExecutor#isGone}); any other failure, including one that
+ * outlasts the retries, is thrown so the caller never moves past a message it did not get.
+ */
+public interface MessageFetcher {
+
+    List<Message> fetch(@NonNull final List<String> messageIds) throws IOException;
+
+    /**
+     * Resolves a whole listing page. Fetchers that can use more than the ids, such as the thread ids, override
+     * this.
+     */
+    default List<Message> fetchPage(@NonNull final MessageIdPage page) throws IOException {
+        return fetch(page.getMessageIds());
+    }
+}
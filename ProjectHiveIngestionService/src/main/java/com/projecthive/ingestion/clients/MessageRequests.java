@@ -0,0 +1,37 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.Gmail;
+import com.projecthive.ingestion.config.FetchProfile;
+import lombok.NonNull;
+
+import java.io.IOException;
+
+/**
+ * Builds {@code messages.get} requests shaped by a {@link FetchProfile}, shared by every {@link MessageFetcher}.
+ */
+final class MessageRequests {
+
+    private MessageRequests() {
+        // Prevent instantiation
+    }
+
+    static Gmail.Users.Messages.Get get(
+            @NonNull final Gmail gmailService,
+            @NonNull final String userId,
+            @NonNull final String messageId,
+            @NonNull final FetchProfile fetchProfile
+    ) throws IOException {
+        final Gmail.Users.Messages.Get request = gmailService.users()
+                .messages()
+                .get(userId, messageId);
+
+        request.setFormat(fetchProfile.getFormat().apiValue());
+        if (!fetchProfile.getMetadataHeaders().isEmpty()) {
+            request.setMetadataHeaders(fetchProfile.getMetadataHeaders());
+        }
+        if (fetchProfile.getFields() != null) {
+            request.setFields(fetchProfile.getFields());
+        }
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.models.MessageIdPage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Walks a Gmail listing one page at a time, following {@code nextPageToken}
+ * only when the previous page has been fully consumed. Each page of ids is resolved to full
+ * messages through a {@link MessageFetcher}, so at most one page of messages is held in memory.
+ */
+public class PagedMessageIterator implements Iterator<Message> {
+
+    /**
+     * Loads a single listing page; {@code pageToken} is {@code null} for the first page.
+     */
+    @FunctionalInterface
+    public interface PageLoader {
+        MessageIdPage load(String pageToken) throws IOException;
+    }
+
+    private final PageLoader pageLoader;
+    private final MessageFetcher messageFetcher;
+
+    private Iterator<Message> currentPage = Collections.emptyIterator();
+    private String currentPageToken;
+    private String nextPageToken;
+    private boolean lastPageLoaded;
+
+    public PagedMessageIterator(@NonNull final PageLoader pageLoader, @NonNull final MessageFetcher messageFetcher) {
+        this(pageLoader, messageFetcher, null);
+    }
+
+    /**
+     * Starts the walk at {@code firstPageToken} instead of the first page, e.g. to resume an interrupted sync.
+     */
+    public PagedMessageIterator(
+            @NonNull final PageLoader pageLoader,
+            @NonNull final MessageFetcher messageFetcher,
+            final String firstPageToken
+    ) {
+        this.pageLoader = pageLoader;
+        this.messageFetcher = messageFetcher;
+        this.nextPageToken = firstPageToken;
+    }
+
+    /**
+     * The token that loaded the page the most recently returned message belongs to.
+     */
+    public String currentPageToken() {
+        return currentPageToken;
+    }
+
+    /**
+     * Whether every listed message has been returned, judged without loading another page.
+     */
+    public boolean isExhausted() {
+        return lastPageLoaded && !currentPage.hasNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext() && !lastPageLoaded) {
+            loadNextPage();
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    private void loadNextPage() {
+        try {
+            final MessageIdPage page = pageLoader.load(nextPageToken);
+
+            currentPageToken = nextPageToken;
+            nextPageToken = page.getNextPageToken();
+            lastPageLoaded = nextPageToken == null || nextPageToken.isEmpty();
+            currentPage = messageFetcher.fetchPage(page).iterator();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load Gmail listing page", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.projecthive.ingestion.clients;
+
+import com.projecthive.ingestion.models.MessageIdPage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The message ids a search query matches, read from its {@code messages.list} listing only as far as needed.
+ *
+ * <p>History deltas take no query, so their candidates are checked here before anything is fetched. The
+ * listing is newest first and the candidates are new mail, so matching ones are usually found on its first
+ * page; a candidate the query rejects walks the listing to its end, once per sync.</p>
+ */
+public class QueryMatches {
+
+    private final PagedMessageIterator.PageLoader listing;
+    private final Set<String> matched = new HashSet<>();
+
+    private String nextPageToken;
+    private boolean exhausted;
+
+    public QueryMatches(@NonNull final PagedMessageIterator.PageLoader listing) {
+        this.listing = listing;
+    }
+
+    public boolean contains(@NonNull final String messageId) throws IOException {
+        while (!matched.contains(messageId) && !exhausted) {
+            final MessageIdPage page = listing.load(nextPageToken);
+            matched.addAll(page.getMessageIds());
+            nextPageToken = page.getNextPageToken();
+            exhausted = nextPageToken == null || nextPageToken.isEmpty();
+        }
+        return matched.contains(messageId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.util.Sleeper;
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces Gmail calls against both the per-user and the per-project quota, expressed in quota units.
+ *
+ * <p>The project bucket only sees this container's traffic, so it is a local ceiling rather than a
+ * global guarantee; the backoff in {@link GmailRequestExecutor} covers whatever it misses.</p>
+ */
+public class QuotaRateLimiter {
+
+    private final TokenBucket userBucket;
+    private final TokenBucket projectBucket;
+    private final Sleeper sleeper;
+
+    public QuotaRateLimiter(
+            @NonNull final TokenBucket userBucket,
+            @NonNull final TokenBucket projectBucket,
+            @NonNull final Sleeper sleeper
+    ) {
+        this.userBucket = userBucket;
+        this.projectBucket = projectBucket;
+        this.sleeper = sleeper;
+    }
+
+    public static QuotaRateLimiter create(
+            final long userUnitsPerSecond,
+            final long projectUnitsPerSecond,
+            @NonNull final Sleeper sleeper
+    ) {
+        return new QuotaRateLimiter(
+                new TokenBucket(userUnitsPerSecond, userUnitsPerSecond, System::nanoTime),
+                new TokenBucket(projectUnitsPerSecond, projectUnitsPerSecond, System::nanoTime),
+                sleeper);
+    }
+
+    /**
+     * Blocks until {@code units} quota units are available under both limits.
+     */
+    public void acquire(final int units) throws InterruptedException {
+        final long waitNanos = Math.max(userBucket.reserve(units), projectBucket.reserve(units));
+        if (waitNanos > 0) {
+            sleeper.sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+        }
+    }
+
+    public void acquire(@NonNull final GmailQuotaCost cost) throws InterruptedException {
+        acquire(cost.getUnits());
+    }
+}
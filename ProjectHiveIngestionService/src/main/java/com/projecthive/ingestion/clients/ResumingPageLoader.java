@@ -0,0 +1,86 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.projecthive.ingestion.models.MessageIdPage;
+import com.projecthive.ingestion.models.ResumeCursor;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps a listing {@link PagedMessageIterator.PageLoader} so that the walk starts where an interrupted
+ * sync stopped: at the cursor's page, skipping the messages of that page that were already persisted.
+ *
+ * <p>The first page can be loaded eagerly with {@link #prefetch()} so that errors such as an expired
+ * history id surface before any message is streamed.</p>
+ */
+public class ResumingPageLoader implements PagedMessageIterator.PageLoader {
+    private static final Logger logger = LogManager.getLogger(ResumingPageLoader.class);
+
+    private static final int HTTP_BAD_REQUEST = 400;
+
+    private final PagedMessageIterator.PageLoader delegate;
+    private final String firstPageToken;
+    private final String afterMessageId;
+
+    private boolean firstPageLoaded;
+    private MessageIdPage prefetchedPage;
+
+    public ResumingPageLoader(@NonNull final PagedMessageIterator.PageLoader delegate, final ResumeCursor cursor) {
+        this.delegate = delegate;
+        this.firstPageToken = cursor == null ? null : cursor.getPageToken();
+        this.afterMessageId = cursor == null ? null : cursor.getAfterMessageId();
+    }
+
+    public String firstPageToken() {
+        return firstPageToken;
+    }
+
+    public void prefetch() throws IOException {
+        prefetchedPage = load(firstPageToken);
+    }
+
+    @Override
+    public MessageIdPage load(final String pageToken) throws IOException {
+        if (prefetchedPage != null) {
+            final MessageIdPage page = prefetchedPage;
+            prefetchedPage = null;
+            return page;
+        }
+        if (firstPageLoaded) {
+            return delegate.load(pageToken);
+        }
+
+        firstPageLoaded = true;
+        return skipPersisted(loadFirstPage(pageToken));
+    }
+
+    private MessageIdPage loadFirstPage(final String pageToken) throws IOException {
+        try {
+            return delegate.load(pageToken);
+        } catch (final GoogleJsonResponseException e) {
+            if (pageToken == null || e.getStatusCode() != HTTP_BAD_REQUEST) {
+                throw e;
+            }
+            logger.warn("Resume page token was rejected, restarting the listing from its first page");
+            return delegate.load(null);
+        }
+    }
+
+    private MessageIdPage skipPersisted(@NonNull final MessageIdPage page) {
+        final int index = afterMessageId == null ? -1 : page.getMessageIds().indexOf(afterMessageId);
+        if (index < 0) {
+            return page;
+        }
+        final int size = page.getMessageIds().size();
+        final List<String> remaining = page.getMessageIds().subList(index + 1, size);
+        final List<String> remainingThreads =
+                page.getThreadIds() == null ? null : new ArrayList<>(page.getThreadIds().subList(index + 1, size));
+        logger.info("Resuming after message {}, skipping {} already persisted messages", afterMessageId, index + 1);
+        return new MessageIdPage(List.copyOf(remaining), page.getNextPageToken(), remainingThreads);
+    }
+}
@@ -0,0 +1,36 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.config.FetchProfile;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SequentialMessageFetcher implements MessageFetcher {
+
+    private final Gmail gmailService;
+    private final String userId;
+    private final FetchProfile fetchProfile;
+
+    public SequentialMessageFetcher(
+            @NonNull final Gmail gmailService,
+            @NonNull final String userId,
+            @NonNull final FetchProfile fetchProfile
+    ) {
+        this.gmailService = gmailService;
+        this.userId = userId;
+        this.fetchProfile = fetchProfile;
+    }
+
+    @Override
+    public List<Message> fetch(@NonNull final List<String> messageIds) throws IOException {
+        final List<Message> messages = new ArrayList<>(messageIds.size());
+        for (final String messageId : messageIds) {
+            messages.add(MessageRequests.get(gmailService, userId, messageId, fetchProfile).execute());
+        }
+        return messages;
+    }
+}
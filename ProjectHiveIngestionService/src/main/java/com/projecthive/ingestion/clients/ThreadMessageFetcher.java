@@ -0,0 +1,122 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Thread;
+import com.projecthive.ingestion.models.MessageIdPage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resolves a page whose messages are grouped by conversation (see {@link #groupByThread}) with one
+ * {@code threads.get} per conversation instead of one {@code messages.get} per message.
+ *
+ * <p>threads.get costs twice the quota of messages.get, so threads with a single listed message on the page
+ * go through {@code singleFetcher} instead. Only listed messages are returned, in page order; earlier messages of
+ * a conversation were ingested by previous runs and share its thread id.</p>
+ */
+public class ThreadMessageFetcher implements MessageFetcher {
+
+    private final AsyncGmailClient asyncClient;
+    private final MessageFetcher singleFetcher;
+
+    public ThreadMessageFetcher(@NonNull final AsyncGmailClient asyncClient, @NonNull final MessageFetcher singleFetcher) {
+        this.asyncClient = asyncClient;
+        this.singleFetcher = singleFetcher;
+    }
+
+    /**
+     * Without thread ids there is nothing to group by, so messages are fetched one by one.
+     */
+    @Override
+    public List<Message> fetch(@NonNull final List<String> messageIds) throws IOException {
+        return singleFetcher.fetch(messageIds);
+    }
+
+    @Override
+    public List<Message> fetchPage(@NonNull final MessageIdPage page) throws IOException {
+        if (page.getThreadIds() == null) {
+            return fetch(page.getMessageIds());
+        }
+        final Map<String, List<String>> listedByThread = listedByThread(page);
+
+        final Map<String, CompletableFuture<Thread>> threads = new LinkedHashMap<>();
+        final List<String> singles = new ArrayList<>();
+        listedByThread.forEach((threadId, messageIds) -> {
+            if (messageIds.size() > 1) {
+                threads.put(threadId, asyncClient.getThread(threadId));
+            } else {
+                singles.addAll(messageIds);
+            }
+        });
+
+        final Map<String, Message> fetched = new HashMap<>();
+        for (final Message message : singleFetcher.fetch(singles)) {
+            fetched.put(message.getId(), message);
+        }
+        for (final CompletableFuture<Thread> thread : threads.values()) {
+            final List<Message> messages;
+            try {
+                messages = AsyncGmailClientImpl.await(thread).getMessages();
+            } catch (final GoogleJsonResponseException e) {
+                if (!GmailRequestExecutor.isGone(e.getStatusCode())) {
+                    throw e;
+                }
+                continue; // The whole conversation was deleted after it was listed
+            }
+            if (messages != null) {
+                for (final Message message : messages) {
+                    fetched.put(message.getId(), message);
+                }
+            }
+        }
+
+        final List<Message> ordered = new ArrayList<>(page.getMessageIds().size());
+        for (final String messageId : page.getMessageIds()) {
+            final Message message = fetched.get(messageId);
+            if (message != null) {
+                ordered.add(message);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Reorders a listing page so that messages of the same conversation are adjacent, keeping conversations in
+     * order of their first listed message and messages in listing order within each. The reordered page is what
+     * gets streamed, so resume cursors taken from it stay valid.
+     */
+    public static MessageIdPage groupByThread(@NonNull final MessageIdPage page) {
+        if (page.getThreadIds() == null) {
+            return page;
+        }
+        final List<String> messageIds = new ArrayList<>(page.getMessageIds().size());
+        final List<String> threadIds = new ArrayList<>(page.getMessageIds().size());
+        listedByThread(page).forEach((threadId, listed) -> {
+            for (final String messageId : listed) {
+                messageIds.add(messageId);
+                threadIds.add(threadId);
+            }
+        });
+        return new MessageIdPage(messageIds, page.getNextPageToken(), threadIds);
+    }
+
+    private static Map<String, List<String>> listedByThread(@NonNull final MessageIdPage page) {
+        final Map<String, List<String>> listedByThread = new LinkedHashMap<>();
+        for (int i = 0; i < page.getMessageIds().size(); i++) {
+            final String messageId = page.getMessageIds().get(i);
+            final String threadId = page.getThreadIds().get(i);
+            // A message without a thread id forms a conversation of its own
+            listedByThread.computeIfAbsent(threadId == null ? messageId : threadId, key -> new ArrayList<>(1))
+                    .add(messageId);
+        }
+        return listedByThread;
+    }
+}
@@ -0,0 +1,45 @@
+package com.projecthive.ingestion.clients;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that refills continuously at a fixed rate up to its capacity.
+ *
+ * <p>Callers reserve tokens rather than wait for them: a reservation always succeeds, may drive the
+ * balance negative, and reports how long the caller must wait before using what it reserved. Waiting
+ * happens outside the lock, so a burst of virtual threads queues up in reservation order instead of
+ * contending on the monitor.</p>
+ */
+public class TokenBucket {
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(final long capacity, final long tokensPerSecond, final LongSupplier nanoClock) {
+        if (capacity < 1 || tokensPerSecond < 1) {
+            throw new IllegalArgumentException("Token bucket capacity and rate must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / NANOS_PER_SECOND;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves {@code units} tokens and returns the number of nanoseconds to wait before they may be spent.
+     */
+    public synchronized long reserve(final int units) {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        tokens -= units;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
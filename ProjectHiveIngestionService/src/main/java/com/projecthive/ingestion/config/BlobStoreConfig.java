@@ -0,0 +1,22 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlobStoreConfig {
+
+    @Builder.Default
+    private String bucket = null; // S3 bucket for offloaded bodies; bodies stay in the item when unset
+
+    @Builder.Default
+    private int offloadThresholdBytes = 64 * 1024; // UTF-8 body size from which the body moves to the bucket
+
+    @Builder.Default
+    private String keyPrefix = "message-bodies/";
+}
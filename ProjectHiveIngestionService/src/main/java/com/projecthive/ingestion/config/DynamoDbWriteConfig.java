@@ -0,0 +1,31 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DynamoDbWriteConfig {
+
+    @Builder.Default
+    private int maxConcurrentBatches = 4; // BatchWriteItem calls in flight at once within a saveAll
+
+    @Builder.Default
+    private int maxBatchAttempts = 5; // Initial call plus retries of UnprocessedItems
+
+    @Builder.Default
+    private long retryBackoffMillis = 50L; // Base of the full-jitter exponential backoff between attempts
+
+    @Builder.Default
+    private long maxRetryBackoffMillis = 2_000L;
+
+    @Builder.Default
+    private boolean asyncWrites = false; // Write through DynamoDbAsyncClient instead of the blocking client
+
+    @Builder.Default
+    private int maxInFlightWrites = 256; // Async PutItem/BatchWriteItem calls awaiting a response; also the pool size
+}
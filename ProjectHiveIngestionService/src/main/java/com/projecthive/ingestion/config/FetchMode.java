@@ -0,0 +1,15 @@
+package com.projecthive.ingestion.config;
+
+/**
+ * How full Gmail messages are retrieved once their ids are known.
+ */
+public enum FetchMode {
+    /** One blocking {@code messages.get} round-trip per message. */
+    SEQUENTIAL,
+
+    /** {@code messages.get} calls grouped into Gmail batch requests. */
+    BATCH,
+
+    /** Individual {@code messages.get} calls issued concurrently on virtual threads. */
+    CONCURRENT
+}
@@ -0,0 +1,68 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Shape of the message resource requested from {@code messages.get}: the Gmail {@code format}, the
+ * headers kept in METADATA format, and a partial-response {@code fields} mask (null requests every field).
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FetchProfile {
+
+    private static final String COMMON_FIELDS = "id,threadId,labelIds,internalDate";
+
+    @NonNull
+    Format format;
+
+    @NonNull
+    List<String> metadataHeaders;
+
+    String fields;
+
+    public static FetchProfile minimal() {
+        return new FetchProfile(Format.MINIMAL, List.of(), COMMON_FIELDS + ",snippet");
+    }
+
+    public static FetchProfile metadata(@NonNull final String... headers) {
+        return new FetchProfile(Format.METADATA, List.of(headers), COMMON_FIELDS + ",snippet,payload/headers");
+    }
+
+    public static FetchProfile full() {
+        // payload covers every MIME part the parser walks; sizeEstimate, historyId and raw are never read
+        return new FetchProfile(Format.FULL, List.of(), COMMON_FIELDS + ",snippet,payload");
+    }
+
+    public static FetchProfile raw() {
+        return new FetchProfile(Format.RAW, List.of(), COMMON_FIELDS + ",raw");
+    }
+
+    public enum Format {
+        /** Ids, labels and snippet only. */
+        MINIMAL("minimal"),
+
+        /** Adds the selected headers, without any MIME body parts. */
+        METADATA("metadata"),
+
+        /** The parsed MIME tree including every body part. */
+        FULL("full"),
+
+        /** The entire RFC 2822 message as a base64url string. */
+        RAW("raw");
+
+        private final String apiValue;
+
+        Format(final String apiValue) {
+            this.apiValue = apiValue;
+        }
+
+        public String apiValue() {
+            return apiValue;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.projecthive.ingestion.config;
+
+/**
+ * Gmail inbox tabs, which double as search operators ({@code category:promotions}) and system labels
+ * ({@code CATEGORY_PROMOTIONS}).
+ */
+public enum GmailCategory {
+    PRIMARY,
+    SOCIAL,
+    PROMOTIONS,
+    UPDATES,
+    FORUMS;
+
+    public String searchTerm() {
+        return "category:" + name().toLowerCase();
+    }
+
+    public String labelId() {
+        return "CATEGORY_" + name();
+    }
+}
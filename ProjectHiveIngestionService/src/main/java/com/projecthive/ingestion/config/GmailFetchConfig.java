@@ -0,0 +1,64 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GmailFetchConfig {
+
+    @NonNull
+    @Builder.Default
+    private FetchMode fetchMode = FetchMode.BATCH;
+
+    @NonNull
+    @Builder.Default
+    private FetchProfile fetchProfile = FetchProfile.full(); // Narrowed to what the parser reads in GmailModule
+
+    @Builder.Default
+    private int pageSize = 100; // messages.list page size, at most 500
+
+    @Builder.Default
+    private int batchSize = 50; // Gmail allows 100 per batch but starts rate limiting well before that
+
+    @Builder.Default
+    private int maxRetries = 3; // Per-message retries for parts that failed inside a batch
+
+    @Builder.Default
+    private long retryBackoffMillis = 500L; // Base delay, doubled on every retry
+
+    @Builder.Default
+    private long maxRetryBackoffMillis = 8_000L; // Cap on the jittered backoff after rate limiting
+
+    @Builder.Default
+    private int maxInFlightRequests = 10; // Concurrent messages.get calls in CONCURRENT mode
+
+    @Builder.Default
+    private long userQuotaUnitsPerSecond = 250L; // Gmail per-user limit
+
+    @Builder.Default
+    private long projectQuotaUnitsPerSecond = 20_000L; // Gmail per-project limit of 1,200,000 units per minute
+
+    @Builder.Default
+    private boolean incrementalSync = true; // Read History API deltas when a checkpoint exists
+
+    @Builder.Default
+    private long maxFullSyncMessages = 500L; // Per-run bound for first runs and expired checkpoints; later runs resume
+
+    @NonNull
+    @Builder.Default
+    private GmailQueryConfig query = GmailQueryConfig.builder().build(); // Search filters for this account
+
+    @NonNull
+    @Builder.Default
+    private ProcessedMarking processedMarking = ProcessedMarking.ADD_LABEL; // Keeps the mailbox's unread state intact
+
+    @NonNull
+    @Builder.Default
+    private String processedLabel = "projecthive-processed"; // Created on first use in ADD_LABEL mode
+}
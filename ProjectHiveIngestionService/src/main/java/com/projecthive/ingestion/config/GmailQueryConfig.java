@@ -0,0 +1,56 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Server-side filters for one Gmail account, turned into a search query by
+ * {@link com.projecthive.ingestion.clients.GmailQuery}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GmailQueryConfig {
+
+    @NonNull
+    @Builder.Default
+    private List<GmailCategory> excludedCategories = List.of(GmailCategory.PROMOTIONS, GmailCategory.SOCIAL);
+
+    @NonNull
+    @Builder.Default
+    private List<String> includedLabels = List.of(); // Messages must carry every one of these
+
+    @NonNull
+    @Builder.Default
+    private List<String> excludedLabels = List.of();
+
+    @Builder.Default
+    private int lookbackDays = 30; // after: watermark relative to the run; 0 disables it
+
+    @Builder.Default
+    private long maxSizeBytes = 0L; // smaller: bound; 0 disables it
+
+    @NonNull
+    @Builder.Default
+    private List<String> allowedSenders = List.of(); // When non-empty, only these senders are ingested
+
+    @NonNull
+    @Builder.Default
+    private List<String> deniedSenders = List.of();
+
+    /**
+     * No filtering beyond the unread flag, matching the original {@code is:unread} listing.
+     */
+    public static GmailQueryConfig unfiltered() {
+        return GmailQueryConfig.builder()
+                .excludedCategories(List.of())
+                .lookbackDays(0)
+                .build();
+    }
+}
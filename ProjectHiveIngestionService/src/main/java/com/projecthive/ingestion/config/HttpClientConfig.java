@@ -0,0 +1,40 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HttpClientConfig {
+
+    @Builder.Default
+    private HttpTransport transport = HttpTransport.APACHE;
+
+    @Builder.Default
+    private int maxConnections = 64; // Pool size shared by every blocking SDK client
+
+    @Builder.Default
+    private long connectionTimeoutMillis = 2_000L; // TCP + TLS handshake
+
+    @Builder.Default
+    private long socketTimeoutMillis = 30_000L; // Idle read on an open connection; Apache only
+
+    @Builder.Default
+    private long connectionAcquisitionTimeoutMillis = 5_000L; // Wait for a free pooled connection; Apache only
+
+    @Builder.Default
+    private long connectionTtlMillis = 5 * 60_000L; // Recycle connections so DNS changes are picked up; Apache only
+
+    @Builder.Default
+    private long connectionMaxIdleMillis = 60_000L;
+
+    @Builder.Default
+    private boolean tcpKeepAlive = true;
+
+    @Builder.Default
+    private long tcpKeepAliveIntervalMillis = 30_000L; // Probe interval and timeout; CRT only, Apache uses the OS setting
+}
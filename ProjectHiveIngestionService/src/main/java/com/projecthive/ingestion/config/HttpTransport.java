@@ -0,0 +1,12 @@
+package com.projecthive.ingestion.config;
+
+/**
+ * HTTP implementation behind the blocking AWS SDK clients.
+ */
+public enum HttpTransport {
+    /** Apache HttpClient connection pool; supports connection TTL and acquisition timeouts. */
+    APACHE,
+
+    /** AWS Common Runtime client; native I/O with a smaller footprint and faster cold start. */
+    CRT
+}
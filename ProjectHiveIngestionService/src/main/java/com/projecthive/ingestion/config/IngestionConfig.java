@@ -0,0 +1,34 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionConfig {
+
+    @Builder.Default
+    private int pipelineQueueCapacity = 64; // Items buffered between adjacent pipeline stages
+
+    @Builder.Default
+    private long deadlineSafetyMarginMillis = 60_000L; // Stop pulling new messages once less than this remains
+
+    @Builder.Default
+    private boolean groupByThread = false; // Stream each conversation's new messages together, via threads.get
+
+    @Builder.Default
+    private int writeBatchSize = 1; // 1 writes each message with a conditional PutItem; more batch through saveAll
+
+    @Builder.Default
+    private int maxPendingWrites = 256; // Issued writes whose results the save stage has not consumed yet
+
+    @Builder.Default
+    private int seenFilterCapacity = 100_000; // Persisted message ids remembered by a warm container; 0 disables
+
+    @Builder.Default
+    private int seenFilterSnapshotIds = 0; // Newest ids saved with the checkpoint to seed cold starts, at most 40_000; 0 disables
+}
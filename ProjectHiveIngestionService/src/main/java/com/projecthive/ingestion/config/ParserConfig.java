@@ -0,0 +1,22 @@
+package com.projecthive.ingestion.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParserConfig {
+
+    @Builder.Default
+    private int maxBodyBytes = 128 * 1024; // Decoded body budget, well inside DynamoDB's 400 KB item limit
+
+    @Builder.Default
+    private boolean trimQuotedText = true; // Strip reply history, signatures and footers before persisting
+
+    @Builder.Default
+    private int addressCacheSize = 1024; // Distinct mailboxes interned across a run; 0 disables the cache
+}
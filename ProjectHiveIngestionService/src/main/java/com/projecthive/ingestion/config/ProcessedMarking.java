@@ -0,0 +1,10 @@
+package com.projecthive.ingestion.config;
+
+/**
+ * How messages are marked in Gmail once they have been persisted, so later listings skip them.
+ */
+public enum ProcessedMarking {
+    NONE,
+    ADD_LABEL,
+    REMOVE_UNREAD
+}
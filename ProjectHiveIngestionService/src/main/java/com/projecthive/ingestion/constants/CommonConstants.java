@@ -17,4 +17,112 @@ public class CommonConstants {
     public static final String GMAIL_CLIENT_SECRET = "GMAIL_CLIENT_SECRET";
 
     public static final String GMAIL_REFRESH_TOKEN = "GMAIL_REFRESH_TOKEN";
+
+    public static final String GMAIL_FETCH_MODE = "GMAIL_FETCH_MODE";
+
+    public static final String GMAIL_PAGE_SIZE = "GMAIL_PAGE_SIZE";
+
+    public static final String GMAIL_BATCH_SIZE = "GMAIL_BATCH_SIZE";
+
+    public static final String GMAIL_FETCH_MAX_RETRIES = "GMAIL_FETCH_MAX_RETRIES";
+
+    public static final String GMAIL_FETCH_RETRY_BACKOFF_MILLIS = "GMAIL_FETCH_RETRY_BACKOFF_MILLIS";
+
+    public static final String GMAIL_FETCH_MAX_RETRY_BACKOFF_MILLIS = "GMAIL_FETCH_MAX_RETRY_BACKOFF_MILLIS";
+
+    public static final String GMAIL_MAX_IN_FLIGHT_REQUESTS = "GMAIL_MAX_IN_FLIGHT_REQUESTS";
+
+    public static final String GMAIL_USER_QUOTA_UNITS_PER_SECOND = "GMAIL_USER_QUOTA_UNITS_PER_SECOND";
+
+    public static final String GMAIL_PROJECT_QUOTA_UNITS_PER_SECOND = "GMAIL_PROJECT_QUOTA_UNITS_PER_SECOND";
+
+    public static final String GMAIL_INCREMENTAL_SYNC = "GMAIL_INCREMENTAL_SYNC";
+
+    public static final String GMAIL_MAX_FULL_SYNC_MESSAGES = "GMAIL_MAX_FULL_SYNC_MESSAGES";
+
+    public static final String GMAIL_QUERY_EXCLUDED_CATEGORIES = "GMAIL_QUERY_EXCLUDED_CATEGORIES";
+
+    public static final String GMAIL_QUERY_INCLUDED_LABELS = "GMAIL_QUERY_INCLUDED_LABELS";
+
+    public static final String GMAIL_QUERY_EXCLUDED_LABELS = "GMAIL_QUERY_EXCLUDED_LABELS";
+
+    public static final String GMAIL_QUERY_LOOKBACK_DAYS = "GMAIL_QUERY_LOOKBACK_DAYS";
+
+    public static final String GMAIL_QUERY_MAX_SIZE_BYTES = "GMAIL_QUERY_MAX_SIZE_BYTES";
+
+    public static final String GMAIL_QUERY_ALLOWED_SENDERS = "GMAIL_QUERY_ALLOWED_SENDERS";
+
+    public static final String GMAIL_QUERY_DENIED_SENDERS = "GMAIL_QUERY_DENIED_SENDERS";
+
+    public static final String GMAIL_PROCESSED_MARKING = "GMAIL_PROCESSED_MARKING";
+
+    public static final String GMAIL_PROCESSED_LABEL = "GMAIL_PROCESSED_LABEL";
+
+    public static final String GMAIL_MAX_BODY_BYTES = "GMAIL_MAX_BODY_BYTES";
+
+    public static final String GMAIL_TRIM_QUOTED_TEXT = "GMAIL_TRIM_QUOTED_TEXT";
+
+    public static final String GMAIL_ADDRESS_CACHE_SIZE = "GMAIL_ADDRESS_CACHE_SIZE";
+
+    public static final String METADATA_ATTACHMENTS = "attachments";
+
+    public static final String METADATA_ATTACHMENT_COUNT = "attachmentCount";
+
+    public static final String METADATA_BODY_BYTES_TRIMMED = "bodyBytesTrimmed";
+
+    public static final String METADATA_BODY_MIME_TYPE = "bodyMimeType";
+
+    public static final String METADATA_BODY_TRUNCATED = "bodyTruncated";
+
+    public static final String INGESTION_PIPELINE_QUEUE_CAPACITY = "INGESTION_PIPELINE_QUEUE_CAPACITY";
+
+    public static final String INGESTION_DEADLINE_SAFETY_MARGIN_MILLIS = "INGESTION_DEADLINE_SAFETY_MARGIN_MILLIS";
+
+    public static final String INGESTION_GROUP_BY_THREAD = "INGESTION_GROUP_BY_THREAD";
+
+    public static final String INGESTION_WRITE_BATCH_SIZE = "INGESTION_WRITE_BATCH_SIZE";
+
+    public static final String INGESTION_MAX_PENDING_WRITES = "INGESTION_MAX_PENDING_WRITES";
+
+    public static final String INGESTION_SEEN_FILTER_CAPACITY = "INGESTION_SEEN_FILTER_CAPACITY";
+
+    public static final String INGESTION_SEEN_FILTER_SNAPSHOT_IDS = "INGESTION_SEEN_FILTER_SNAPSHOT_IDS";
+
+    public static final String DYNAMODB_MAX_CONCURRENT_BATCHES = "DYNAMODB_MAX_CONCURRENT_BATCHES";
+
+    public static final String DYNAMODB_MAX_BATCH_ATTEMPTS = "DYNAMODB_MAX_BATCH_ATTEMPTS";
+
+    public static final String DYNAMODB_RETRY_BACKOFF_MILLIS = "DYNAMODB_RETRY_BACKOFF_MILLIS";
+
+    public static final String DYNAMODB_MAX_RETRY_BACKOFF_MILLIS = "DYNAMODB_MAX_RETRY_BACKOFF_MILLIS";
+
+    public static final String DYNAMODB_ASYNC_WRITES = "DYNAMODB_ASYNC_WRITES";
+
+    public static final String DYNAMODB_MAX_IN_FLIGHT_WRITES = "DYNAMODB_MAX_IN_FLIGHT_WRITES";
+
+    public static final String MESSAGE_BLOB_BUCKET = "MESSAGE_BLOB_BUCKET";
+
+    public static final String MESSAGE_BLOB_OFFLOAD_THRESHOLD_BYTES = "MESSAGE_BLOB_OFFLOAD_THRESHOLD_BYTES";
+
+    public static final String MESSAGE_BLOB_KEY_PREFIX = "MESSAGE_BLOB_KEY_PREFIX";
+
+    public static final String HTTP_CLIENT_TRANSPORT = "HTTP_CLIENT_TRANSPORT";
+
+    public static final String HTTP_CLIENT_MAX_CONNECTIONS = "HTTP_CLIENT_MAX_CONNECTIONS";
+
+    public static final String HTTP_CLIENT_CONNECTION_TIMEOUT_MILLIS = "HTTP_CLIENT_CONNECTION_TIMEOUT_MILLIS";
+
+    public static final String HTTP_CLIENT_SOCKET_TIMEOUT_MILLIS = "HTTP_CLIENT_SOCKET_TIMEOUT_MILLIS";
+
+    public static final String HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS = "HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS";
+
+    public static final String HTTP_CLIENT_CONNECTION_TTL_MILLIS = "HTTP_CLIENT_CONNECTION_TTL_MILLIS";
+
+    public static final String HTTP_CLIENT_CONNECTION_MAX_IDLE_MILLIS = "HTTP_CLIENT_CONNECTION_MAX_IDLE_MILLIS";
+
+    public static final String HTTP_CLIENT_TCP_KEEP_ALIVE = "HTTP_CLIENT_TCP_KEEP_ALIVE";
+
+    public static final String HTTP_CLIENT_TCP_KEEP_ALIVE_INTERVAL_MILLIS = "HTTP_CLIENT_TCP_KEEP_ALIVE_INTERVAL_MILLIS";
+
+    public static final String DEFAULT_USERNAME = "jerrytang"; // Single-account deployment for now
 }
@@ -1,46 +1,342 @@
 package com.projecthive.ingestion.controllers;
 
 import com.projecthive.ingestion.clients.GmailClient;
+import com.projecthive.ingestion.config.IngestionConfig;
+import com.projecthive.ingestion.dao.CheckpointDao;
 import com.projecthive.ingestion.dao.MessageDao;
-import com.projecthive.ingestion.models.GmailMessage;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import com.projecthive.ingestion.models.MailboxSync;
 import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.PipelineResult;
+import com.projecthive.ingestion.models.ResumeCursor;
+import com.projecthive.ingestion.models.SaveResult;
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import com.projecthive.ingestion.parser.BodyTrimmer;
 import com.projecthive.ingestion.parser.GmailMessageParser;
+import com.projecthive.ingestion.pipeline.StagedPipeline;
+import com.projecthive.ingestion.utilities.Deadline;
 import com.projecthive.ingestion.utilities.MessageConverter;
+import com.projecthive.ingestion.utilities.SeenMessageFilter;
 import lombok.NonNull;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
 import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import static com.projecthive.ingestion.constants.CommonConstants.DEFAULT_USERNAME;
+import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
 
 public class GmailIngestionController {
     private static final Logger logger = LogManager.getLogger(GmailIngestionController.class);
 
+
     private GmailClient gmailClient;
     private GmailMessageParser messageParser;
+    private BodyTrimmer bodyTrimmer;
     private MessageDao messageDao;
-
+    private CheckpointDao checkpointDao;
+    private IngestionConfig ingestionConfig;
+    private SeenMessageFilter seenMessages; // Outlives a run while the container stays warm
 
     @Inject
     public GmailIngestionController(
             @NonNull final GmailClient gmailClient,
             @NonNull final GmailMessageParser messageParser,
-            @NonNull final MessageDao messageDao
+            @NonNull final BodyTrimmer bodyTrimmer,
+            @NonNull final MessageDao messageDao,
+            @NonNull final CheckpointDao checkpointDao,
+            @NonNull final IngestionConfig ingestionConfig
     ) {
         this.gmailClient = gmailClient;
         this.messageParser = messageParser;
+        this.bodyTrimmer = bodyTrimmer;
         this.messageDao = messageDao;
+        this.checkpointDao = checkpointDao;
+        this.ingestionConfig = ingestionConfig;
+        this.seenMessages = new SeenMessageFilter(ingestionConfig.getSeenFilterCapacity());
+    }
+
+    /**
+     * Ingests new Gmail messages until the mailbox is caught up or {@code deadline} is within the configured
+     * safety margin. In the latter case in-flight messages are still persisted and a resume cursor is saved,
+     * so the next invocation continues where this one stopped.
+     */
+    public void ingestGmailMessages(@NonNull final Deadline deadline) throws GeneralSecurityException, IOException {
+        final String accountId = GMAIL + "#" + DEFAULT_USERNAME;
+        final Optional<SyncCheckpoint> checkpoint = checkpointDao.load(accountId);
+        final String startHistoryId = checkpoint.map(SyncCheckpoint::getHistoryId).orElse(null);
+        final ResumeCursor resumeCursor = checkpoint.map(SyncCheckpoint::toResumeCursor).orElse(null);
+
+        if (seenMessages.size() == 0) {
+            checkpoint.map(SyncCheckpoint::getSeenMessageIds).ifPresent(seenMessages::restore); // Cold start
+        }
+        final long seenHits = seenMessages.hits();
+        final long seenMisses = seenMessages.misses();
+
+        // Messages a previous run in this container persisted are dropped from the listing before any fetch
+        final BigInteger startHistory = startHistoryId == null ? null : new BigInteger(startHistoryId);
+        final MailboxSync sync = ingestionConfig.isGroupByThread()
+                ? gmailClient.syncThreads(startHistory, resumeCursor, seenMessages::contains)
+                : gmailClient.syncMessages(startHistory, resumeCursor, seenMessages::contains);
+        final Queue<ListedMessage> listed = new ConcurrentLinkedQueue<>();
+        final SaveStage saveStage = new SaveStage(listed);
+        PipelineResult result = null;
+        IOException fetchFailure = null;
+
+        // Listing/fetching, parsing, trimming and DynamoDB writes run as overlapping stages joined by bounded queues
+        try (Stream<com.google.api.services.gmail.model.Message> gmailMessages = sync.getMessages()) {
+            result = StagedPipeline.from("fetch", trackPageTokens(gmailMessages.iterator(), sync, listed),
+                            ingestionConfig.getPipelineQueueCapacity())
+                    .stopWhen(() -> deadline.isWithin(ingestionConfig.getDeadlineSafetyMarginMillis()))
+                    .then("parse", messageParser::parse)
+                    .then("trim", bodyTrimmer::trim)
+                    .then("convert", MessageConverter::fromGmail)
+                    .drainTo("save", saveStage::accept);
+            saveStage.finish();
+        } catch (final UncheckedIOException e) {
+            fetchFailure = e.getCause();
+        } finally {
+            // Whatever reached DynamoDB is marked even if a later message failed
+            saveStage.awaitPersisted();
+            markProcessed(saveStage.unmarkedIds);
+        }
+
+        if (fetchFailure != null) {
+            // A message could not be listed or fetched: keep the history id and resume just after the last saved one
+            saveResumeCursor(accountId, startHistoryId, sync, saveStage);
+            throw fetchFailure;
+        }
+
+        if (result.isStoppedEarly()) {
+            saveResumeCursor(accountId, startHistoryId, sync, saveStage);
+            logger.warn("Stopped with {} ms left after ingesting {} Gmail messages; next run resumes after {}",
+                    deadline.remainingMillis(), result.getCompleted(), saveStage.lastSavedId);
+            return;
+        }
+        if (sync.getTruncated().getAsBoolean()) {
+            // The full sync hit its per-run bound; the rest of the mailbox is ingested from the cursor by later runs
+            saveResumeCursor(accountId, startHistoryId, sync, saveStage);
+            logger.warn("Full sync reached its limit after ingesting {} Gmail messages; next run resumes after {}",
+                    result.getCompleted(), saveStage.lastSavedId);
+            return;
+        }
+
+        // Only advance the checkpoint once every message of this sync has been persisted; fetchers skip only
+        // messages that no longer exist and throw for anything else
+        if (sync.getHistoryId() != null) {
+            checkpointDao.save(SyncCheckpoint.builder()
+                    .accountId(accountId)
+                    .historyId(sync.getHistoryId().toString())
+                    .seenMessageIds(seenMessagesSnapshot())
+                    .updatedAt(System.currentTimeMillis())
+                    .build());
+        }
+
+        logger.info("Ingested {} Gmail messages ({} already stored, {} sync), checkpoint at historyId {}",
+                result.getCompleted(), saveStage.duplicates, sync.isFullSync() ? "full" : "incremental",
+                sync.getHistoryId());
+        logger.info("Seen-message filter: {} hits, {} misses, {} ids held",
+                seenMessages.hits() - seenHits, seenMessages.misses() - seenMisses, seenMessages.size());
+    }
+
+    /**
+     * The save stage's state. Writes are issued without waiting for earlier ones to finish, but their results are
+     * consumed strictly in listing order, and the first message that was not persisted aborts the run, so neither
+     * the resume cursor nor processed-marking ever moves past it. Only the save stage touches this until the
+     * pipeline ends.
+     */
+    private final class SaveStage {
+        private final Deque<CompletableFuture<List<SaveResult>>> pendingWrites = new ArrayDeque<>();
+        private final List<Message> unsaved = new ArrayList<>(); // Buffered for the next saveAll
+        private final List<String> unmarkedIds = new ArrayList<>();
+        private final Queue<ListedMessage> listed; // Streamed but not yet saved, in listing order
+        private String lastSavedId;
+        private String lastSavedPageToken;
+        private long duplicates;
+        private boolean failed;
+
+        SaveStage(@NonNull final Queue<ListedMessage> listed) {
+            this.listed = listed;
+        }
+
+        void accept(@NonNull final Message message) {
+            if (seenMessages.contains(message.getPlatformMessageId())) {
+                flushBatch(); // Keeps results in listing order
+                pendingWrites.add(CompletableFuture.completedFuture(
+                        List.of(new SaveResult(message, SaveResult.Status.DUPLICATE))));
+            } else if (ingestionConfig.getWriteBatchSize() <= 1) {
+                pendingWrites.add(messageDao.saveAsync(message).thenApply(written -> List.of(new SaveResult(
+                        message, written ? SaveResult.Status.WRITTEN : SaveResult.Status.DUPLICATE))));
+            } else {
+                unsaved.add(message);
+                if (unsaved.size() >= ingestionConfig.getWriteBatchSize()) {
+                    flushBatch();
+                }
+            }
+
+            // Bound the writes awaiting a result by waiting on the oldest one
+            if (pendingWrites.size() >= ingestionConfig.getMaxPendingWrites()) {
+                recordNext();
+            }
+            while (!pendingWrites.isEmpty() && pendingWrites.peek().isDone()) {
+                recordNext();
+            }
+        }
+
+        void finish() {
+            flushBatch();
+            while (!pendingWrites.isEmpty()) {
+                recordNext();
+            }
+        }
+
+        // After a failure elsewhere, waits for the writes issued before it so that they are still marked
+        void awaitPersisted() {
+            while (!failed && !pendingWrites.isEmpty()) {
+                try {
+                    recordNext();
+                } catch (final RuntimeException e) {
+                    logger.error("Failed to save a message issued before the run was aborted", e);
+                }
+            }
+        }
+
+        private void flushBatch() {
+            if (!unsaved.isEmpty()) {
+                pendingWrites.add(messageDao.saveAllAsync(List.copyOf(unsaved)));
+                unsaved.clear();
+            }
+        }
+
+        private void recordNext() {
+            final List<SaveResult> results;
+            try {
+                results = pendingWrites.poll().join();
+            } catch (final CompletionException e) {
+                failed = true;
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new DaoDataAccessException("Failed to save messages to DynamoDB", e.getCause());
+            }
+            for (final SaveResult saveResult : results) {
+                if (!saveResult.isPersisted()) {
+                    failed = true;
+                    throw new DaoDataAccessException("Failed to save message "
+                            + saveResult.getMessage().getPlatformMessageId() + " to DynamoDB");
+                }
+                if (saveResult.getStatus() == SaveResult.Status.DUPLICATE) {
+                    duplicates++; // Already stored; still marked below
+                }
+                lastSavedId = saveResult.getMessage().getPlatformMessageId();
+                lastSavedPageToken = pageTokenOf(lastSavedId);
+                seenMessages.add(lastSavedId);
+                unmarkedIds.add(lastSavedId);
+                if (unmarkedIds.size() >= GmailClient.MAX_BATCH_MODIFY_IDS) {
+                    markProcessed(unmarkedIds);
+                }
+            }
+        }
+
+        // Saves follow listing order, so entries ahead of the saved message belong to messages the pipeline dropped
+        private String pageTokenOf(@NonNull final String messageId) {
+            for (ListedMessage entry = listed.poll(); entry != null; entry = listed.poll()) {
+                if (entry.messageId.equals(messageId)) {
+                    return entry.pageToken;
+                }
+            }
+            return null;
+        }
+    }
+
+    private byte[] seenMessagesSnapshot() {
+        return ingestionConfig.getSeenFilterSnapshotIds() > 0
+                ? seenMessages.snapshot(ingestionConfig.getSeenFilterSnapshotIds())
+                : null;
+    }
+
+    // Marking is best-effort: the messages are already persisted, so a failure only means they are listed again
+    private void markProcessed(@NonNull final List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        try {
+            gmailClient.markProcessed(List.copyOf(messageIds));
+        } catch (final IOException | RuntimeException e) {
+            logger.error("Failed to mark {} Gmail messages as processed", messageIds.size(), e);
+        }
+        messageIds.clear();
+    }
+
+    private void saveResumeCursor(
+            @NonNull final String accountId,
+            final String startHistoryId,
+            @NonNull final MailboxSync sync,
+            @NonNull final SaveStage saveStage
+    ) {
+        if (saveStage.lastSavedId == null) {
+            return; // Nothing persisted, so the existing checkpoint still describes where to start
+        }
+
+        // The history id stays put: it is only advanced once the interrupted sync has been completed. A full sync
+        // carries the id captured when it began, so mail arriving while it spans several runs is in the next delta
+        checkpointDao.save(SyncCheckpoint.builder()
+                .accountId(accountId)
+                .historyId(startHistoryId)
+                .resumePageToken(saveStage.lastSavedPageToken)
+                .resumeAfterMessageId(saveStage.lastSavedId)
+                .resumeFullSync(sync.isFullSync())
+                .resumeHistoryId(sync.isFullSync() && sync.getHistoryId() != null
+                        ? sync.getHistoryId().toString()
+                        : null)
+                .seenMessageIds(seenMessagesSnapshot())
+                .updatedAt(System.currentTimeMillis())
+                .build());
+    }
+
+    // Remembers which listing page each in-flight message came from, so a resume cursor can point back at it
+    private static Iterator<com.google.api.services.gmail.model.Message> trackPageTokens(
+            @NonNull final Iterator<com.google.api.services.gmail.model.Message> messages,
+            @NonNull final MailboxSync sync,
+            @NonNull final Queue<ListedMessage> listed
+    ) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return messages.hasNext();
+            }
+
+            @Override
+            public com.google.api.services.gmail.model.Message next() {
+                final com.google.api.services.gmail.model.Message message = messages.next();
+                listed.add(new ListedMessage(message.getId(), sync.getCurrentPageToken().get()));
+                return message;
+            }
+        };
     }
 
-    public void ingestGmailMessages() throws GeneralSecurityException, IOException {
-        final List<com.google.api.services.gmail.model.Message> gmailMessages = gmailClient.fetchUnreadMessages();
+    private static final class ListedMessage {
+        private final String messageId;
+        private final String pageToken; // null for the first page
 
-        for (final com.google.api.services.gmail.model.Message gmailMessage : gmailMessages) {
-            final GmailMessage parsedGmailMessage = messageParser.parse(gmailMessage);
-            final Message messageToBeSaved = MessageConverter.fromGmail(parsedGmailMessage);
-            messageDao.save(messageToBeSaved);
+        private ListedMessage(final String messageId, final String pageToken) {
+            this.messageId = messageId;
+            this.pageToken = pageToken;
         }
     }
 }
@@ -0,0 +1,291 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SaveResult;
+import lombok.Generated;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import com.google.inject.Inject;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link MessageDao} on the asynchronous enhanced client, so a single caller thread can keep many writes in
+ * flight. Every PutItem or BatchWriteItem call holds one of {@code maxInFlightWrites} permits until its
+ * response arrives; callers block only while all permits are taken, which is the back-pressure that keeps
+ * the HTTP connection pool from queueing without bound.
+ */
+public class AsyncMessageDaoImpl implements MessageDao {
+    private static final Logger logger = LogManager.getLogger(AsyncMessageDaoImpl.class);
+
+    private static final String MESSAGES_TABLE = "messages";
+    private static final Expression ID_NOT_EXISTS = Expression.builder()
+            .expression("attribute_not_exists(#id)")
+            .putExpressionName("#id", "id")
+            .build();
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final DynamoDbEnhancedAsyncClient enhancedClient;
+    private final DynamoDbAsyncTable<Message> messagesTable;
+    private final DynamoDbWriteConfig writeConfig;
+    private final BodyOffloader bodyOffloader;
+    private final Semaphore inFlightWrites;
+
+    @Inject
+    public AsyncMessageDaoImpl(
+            @NonNull final DynamoDbAsyncClient dynamoDbAsyncClient,
+            @NonNull final DynamoDbWriteConfig writeConfig,
+            @NonNull final BodyOffloader bodyOffloader
+    ) {
+        this(dynamoDbAsyncClient, buildEnhancedClient(dynamoDbAsyncClient), writeConfig, bodyOffloader);
+    }
+
+    AsyncMessageDaoImpl(
+            @NonNull final DynamoDbAsyncClient dynamoDbAsyncClient,
+            @NonNull final DynamoDbEnhancedAsyncClient enhancedClient,
+            @NonNull final DynamoDbWriteConfig writeConfig,
+            @NonNull final BodyOffloader bodyOffloader
+    ) {
+        if (writeConfig.getMaxInFlightWrites() < 1) {
+            throw new IllegalArgumentException("Max in-flight writes must be positive");
+        }
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.enhancedClient = enhancedClient;
+        this.messagesTable = enhancedClient.table(MESSAGES_TABLE, TableSchemas.MESSAGE);
+        this.writeConfig = writeConfig;
+        this.bodyOffloader = bodyOffloader;
+        this.inFlightWrites = new Semaphore(writeConfig.getMaxInFlightWrites());
+    }
+
+    @Generated
+    private static DynamoDbEnhancedAsyncClient buildEnhancedClient(@NonNull final DynamoDbAsyncClient client) {
+        return DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(client).build();
+    }
+
+    @Override
+    public boolean save(@NonNull final Message message) {
+        return join(saveAsync(message));
+    }
+
+    @Override
+    public List<SaveResult> saveAll(@NonNull final Collection<Message> messages) {
+        return join(saveAllAsync(messages));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveAsync(@NonNull final Message message) {
+        // The conditional put would reject a re-ingest only after its body had been uploaded
+        if (bodyOffloader.needsUpload(message)) {
+            return isStored(message.getId())
+                    .thenCompose(stored -> stored ? CompletableFuture.completedFuture(false) : offloadAndPut(message));
+        }
+        return offloadAndPut(message);
+    }
+
+    // A failed check is not fatal: the conditional put still keeps a stored message from being overwritten
+    private CompletableFuture<Boolean> isStored(@NonNull final String id) {
+        final Set<String> storedIds = ConcurrentHashMap.newKeySet();
+        return lookup(BatchWritePlan.lookupRequest(messagesTable.tableName(), List.of(id)), 1, storedIds)
+                .handle((unprocessedIds, error) -> {
+                    if (error != null) {
+                        logger.error("Failed to check message id {} against DynamoDB", id, unwrap(error));
+                    }
+                    return storedIds.contains(id);
+                });
+    }
+
+    private CompletableFuture<Boolean> offloadAndPut(@NonNull final Message message) {
+        try {
+            bodyOffloader.offload(message);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(new DaoDataAccessException("Failed to offload message body", e));
+        }
+        return withPermit(() -> messagesTable.putItem(PutItemEnhancedRequest.builder(Message.class)
+                        .item(message)
+                        .conditionExpression(ID_NOT_EXISTS)
+                        .build()))
+                .handle((ignored, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    if (unwrap(error) instanceof ConditionalCheckFailedException) {
+                        return false; // Re-ingest of a stored message, as in MessageDaoImpl
+                    }
+                    throw new DaoDataAccessException("Failed to save message to DynamoDB", unwrap(error));
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<SaveResult>> saveAllAsync(@NonNull final Collection<Message> messages) {
+        final BatchWritePlan plan = new BatchWritePlan(messages);
+        return excludeStored(plan).thenCompose(ignored -> writeBatches(plan));
+    }
+
+    private CompletableFuture<Void> excludeStored(@NonNull final BatchWritePlan plan) {
+        final Set<String> storedIds = ConcurrentHashMap.newKeySet();
+        final Set<String> unconfirmedIds = ConcurrentHashMap.newKeySet();
+        final CompletableFuture<?>[] lookups = plan.lookups().stream()
+                .map(ids -> lookup(BatchWritePlan.lookupRequest(messagesTable.tableName(), ids), 1, storedIds)
+                        .handle((unprocessedIds, error) -> {
+                            if (error != null) {
+                                logger.error("Failed to check {} message ids against DynamoDB", ids.size(),
+                                        unwrap(error));
+                            }
+                            unconfirmedIds.addAll(error == null ? unprocessedIds : ids);
+                            return null;
+                        }))
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(lookups).thenRun(() -> {
+            synchronized (plan) {
+                plan.excludeStored(storedIds, unconfirmedIds);
+            }
+        });
+    }
+
+    // Adds the ids found to storedIds and completes with those DynamoDB still had not processed after the last attempt
+    private CompletableFuture<List<String>> lookup(
+            @NonNull final Map<String, KeysAndAttributes> keys,
+            final int attempt,
+            @NonNull final Set<String> storedIds
+    ) {
+        final BatchGetItemRequest request = BatchGetItemRequest.builder().requestItems(keys).build();
+        return withPermit(() -> dynamoDbAsyncClient.batchGetItem(request)).thenCompose(response -> {
+            storedIds.addAll(BatchWritePlan.ids(response.responses().get(messagesTable.tableName())));
+            if (response.unprocessedKeys().isEmpty()) {
+                return CompletableFuture.completedFuture(List.of());
+            }
+            if (attempt >= writeConfig.getMaxBatchAttempts()) {
+                final List<String> unprocessedIds =
+                        BatchWritePlan.ids(response.unprocessedKeys().get(messagesTable.tableName()).keys());
+                logger.error("Could not check {} message ids after {} attempts", unprocessedIds.size(), attempt);
+                return CompletableFuture.completedFuture(unprocessedIds);
+            }
+            return CompletableFuture.supplyAsync(() -> response.unprocessedKeys(), CompletableFuture.delayedExecutor(
+                            BatchWritePlan.backoffMillis(writeConfig, attempt), TimeUnit.MILLISECONDS))
+                    .thenCompose(unprocessedKeys -> lookup(unprocessedKeys, attempt + 1, storedIds));
+        });
+    }
+
+    private CompletableFuture<List<SaveResult>> writeBatches(@NonNull final BatchWritePlan plan) {
+        final CompletableFuture<?>[] batches = new CompletableFuture<?>[plan.batchCount()];
+
+        for (int batch = 0; batch < plan.batchCount(); batch++) {
+            final int index = batch;
+            final List<Message> messageBatch = plan.batch(batch);
+            batches[batch] = offloadAndWriteBatch(messageBatch).handle((unprocessedIds, error) -> {
+                if (error != null) {
+                    logger.error("Failed to batch-write {} messages to DynamoDB", messageBatch.size(), unwrap(error));
+                }
+                synchronized (plan) {
+                    plan.complete(index, error == null ? unprocessedIds : null);
+                }
+                return null;
+            });
+        }
+        return CompletableFuture.allOf(batches).thenApply(ignored -> {
+            synchronized (plan) {
+                return plan.results();
+            }
+        });
+    }
+
+    // Oversized bodies are rare, so they are uploaded before the write is issued rather than chained onto it
+    private CompletableFuture<Set<String>> offloadAndWriteBatch(@NonNull final List<Message> batch) {
+        try {
+            batch.forEach(bodyOffloader::offload);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return writeBatch(batch, 1);
+    }
+
+    // Completes with the ids DynamoDB still had not processed after the last attempt
+    private CompletableFuture<Set<String>> writeBatch(@NonNull final List<Message> pending, final int attempt) {
+        final WriteBatch.Builder<Message> writeBatch = WriteBatch.builder(Message.class)
+                .mappedTableResource(messagesTable);
+        pending.forEach(writeBatch::addPutItem);
+        final BatchWriteItemEnhancedRequest request = BatchWriteItemEnhancedRequest.builder()
+                .writeBatches(writeBatch.build())
+                .build();
+
+        return withPermit(() -> enhancedClient.batchWriteItem(request)).thenCompose(result -> {
+            // Unprocessed items come back as freshly mapped copies, so they are matched by id
+            final Set<String> unprocessedIds = new HashSet<>();
+            result.unprocessedPutItemsForTable(messagesTable).forEach(item -> unprocessedIds.add(item.getId()));
+            if (unprocessedIds.isEmpty() || attempt >= writeConfig.getMaxBatchAttempts()) {
+                if (!unprocessedIds.isEmpty()) {
+                    logger.error("Giving up on {} unprocessed messages after {} attempts",
+                            unprocessedIds.size(), attempt);
+                }
+                return CompletableFuture.completedFuture(unprocessedIds);
+            }
+            final List<Message> retry = pending.stream()
+                    .filter(message -> unprocessedIds.contains(message.getId()))
+                    .toList();
+            final long delayMillis = BatchWritePlan.backoffMillis(writeConfig, attempt);
+            logger.warn("{} messages unprocessed, retrying in {} ms (attempt {}/{})",
+                    retry.size(), delayMillis, attempt, writeConfig.getMaxBatchAttempts());
+
+            // The retry waits on a timer rather than a thread, and gives its permit back while it waits
+            return CompletableFuture.supplyAsync(
+                            () -> retry, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS))
+                    .thenCompose(messages -> writeBatch(messages, attempt + 1));
+        });
+    }
+
+    private <T> CompletableFuture<T> withPermit(@NonNull final Supplier<CompletableFuture<T>> call) {
+        try {
+            inFlightWrites.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(
+                    new DaoDataAccessException("Interrupted while waiting to write to DynamoDB", e));
+        }
+        final CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (final RuntimeException e) {
+            inFlightWrites.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((ignored, error) -> inFlightWrites.release());
+    }
+
+    private static <T> T join(@NonNull final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof DaoDataAccessException daoException) {
+                throw daoException;
+            }
+            throw new DaoDataAccessException("Failed to write messages to DynamoDB", e.getCause());
+        }
+    }
+
+    private static Throwable unwrap(@NonNull final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,149 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SaveResult;
+import com.projecthive.ingestion.models.SaveResult.Status;
+import lombok.NonNull;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Splits a {@link MessageDao#saveAll} call into BatchWriteItem-sized batches and collects the per-message
+ * outcome in input order. Shared by the blocking and asynchronous DAOs, which differ only in how they run
+ * the batches.
+ *
+ * <p>BatchWriteItem cannot carry a condition, so ids are first looked up with keys-only BatchGetItem calls
+ * ({@link #lookups()}); only ids confirmed absent are written ({@link #excludeStored}).</p>
+ */
+final class BatchWritePlan {
+
+    static final int MAX_BATCH_WRITE_ITEMS = 25; // DynamoDB's BatchWriteItem limit
+    static final int MAX_BATCH_GET_KEYS = 100;   // DynamoDB's BatchGetItem limit
+    private static final String ID = "id";
+    private static final String ID_NAME = "#id";
+
+    private final List<Message> ordered;
+    private final Status[] statuses;
+    private List<Integer> pending;
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    BatchWritePlan(@NonNull final Collection<Message> messages) {
+        this.ordered = List.copyOf(messages);
+        this.statuses = new Status[ordered.size()];
+
+        // A BatchWriteItem request may not name the same key twice, so only the first copy of an id is written
+        final Set<String> seenIds = new HashSet<>();
+        final List<Integer> unique = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            if (seenIds.add(ordered.get(i).getId())) {
+                unique.add(i);
+            } else {
+                statuses[i] = Status.DUPLICATE;
+            }
+        }
+        this.pending = unique;
+        split();
+    }
+
+    /**
+     * Ids still to be written, in chunks of at most {@link #MAX_BATCH_GET_KEYS}, for the existence check.
+     */
+    List<List<String>> lookups() {
+        final List<List<String>> lookups = new ArrayList<>();
+        for (int start = 0; start < pending.size(); start += MAX_BATCH_GET_KEYS) {
+            lookups.add(pending.subList(start, Math.min(pending.size(), start + MAX_BATCH_GET_KEYS)).stream()
+                    .map(index -> ordered.get(index).getId())
+                    .toList());
+        }
+        return lookups;
+    }
+
+    /**
+     * Drops ids the table already holds, which are reported as duplicates, and ids whose existence could not be
+     * confirmed, which fail, so that only new ids are batch-written. Must be called before the batches are run.
+     */
+    void excludeStored(@NonNull final Set<String> storedIds, @NonNull final Set<String> unconfirmedIds) {
+        final List<Integer> confirmedNew = new ArrayList<>(pending.size());
+        for (final int index : pending) {
+            final String id = ordered.get(index).getId();
+            if (storedIds.contains(id)) {
+                statuses[index] = Status.DUPLICATE;
+            } else if (unconfirmedIds.contains(id)) {
+                statuses[index] = Status.FAILED;
+            } else {
+                confirmedNew.add(index);
+            }
+        }
+        pending = confirmedNew;
+        split();
+    }
+
+    int batchCount() {
+        return batches.size();
+    }
+
+    List<Message> batch(final int batch) {
+        return batches.get(batch).stream().map(ordered::get).toList();
+    }
+
+    /**
+     * Records the outcome of one batch: {@code unprocessedIds} are the ids still unwritten after the last
+     * attempt, or {@code null} when the batch call itself failed.
+     */
+    void complete(final int batch, final Set<String> unprocessedIds) {
+        for (final int index : batches.get(batch)) {
+            statuses[index] = unprocessedIds == null || unprocessedIds.contains(ordered.get(index).getId())
+                    ? Status.FAILED
+                    : Status.WRITTEN;
+        }
+    }
+
+    List<SaveResult> results() {
+        final List<SaveResult> results = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            results.add(new SaveResult(ordered.get(i), statuses[i]));
+        }
+        return results;
+    }
+
+    /**
+     * Keys-only, strongly consistent lookup of {@code ids}, so a write acknowledged moments ago is seen.
+     */
+    static Map<String, KeysAndAttributes> lookupRequest(@NonNull final String tableName, @NonNull final List<String> ids) {
+        return Map.of(tableName, KeysAndAttributes.builder()
+                .keys(ids.stream().map(id -> Map.of(ID, AttributeValue.fromS(id))).toList())
+                .projectionExpression(ID_NAME)
+                .expressionAttributeNames(Map.of(ID_NAME, ID))
+                .consistentRead(true)
+                .build());
+    }
+
+    static List<String> ids(final List<Map<String, AttributeValue>> items) {
+        return items == null ? List.of() : items.stream().map(item -> item.get(ID).s()).toList();
+    }
+
+    private void split() {
+        batches.clear();
+        for (int start = 0; start < pending.size(); start += MAX_BATCH_WRITE_ITEMS) {
+            batches.add(pending.subList(start, Math.min(pending.size(), start + MAX_BATCH_WRITE_ITEMS)));
+        }
+    }
+
+    /**
+     * Full-jitter delay for the given 1-based attempt: uniform in {@code [0, min(max, base * 2^(attempt-1))]}.
+     */
+    static long backoffMillis(@NonNull final DynamoDbWriteConfig writeConfig, final int attempt) {
+        final long ceiling = Math.min(writeConfig.getMaxRetryBackoffMillis(),
+                writeConfig.getRetryBackoffMillis() << Math.min(attempt - 1, 30));
+        return ceiling <= 0 ? 0L : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.projecthive.ingestion.dao;
+
+import lombok.NonNull;
+
+/**
+ * Object storage for message content too large to keep in the messages table. Keys are content hashes, so
+ * writing a key again stores the same bytes and is safe to repeat.
+ */
+public interface BlobStore {
+
+    void put(@NonNull final String key, @NonNull final byte[] content);
+
+    /**
+     * Returns the content stored under {@code key}. Throws
+     * {@link com.projecthive.ingestion.exceptions.DaoDataAccessException} when it cannot be read.
+     */
+    byte[] get(@NonNull final String key);
+}
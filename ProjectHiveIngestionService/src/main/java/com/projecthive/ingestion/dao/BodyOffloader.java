@@ -0,0 +1,79 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.config.BlobStoreConfig;
+import com.projecthive.ingestion.models.Message;
+import lombok.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Moves bodies of at least {@code offloadThresholdBytes} out of the message item and into a {@link BlobStore},
+ * under a key derived from the SHA-256 of the body. The key is recorded in {@link Message#getBodyRef()}; the
+ * body itself stays on the in-memory message but is no longer written to DynamoDB.
+ */
+public class BodyOffloader {
+
+    private final BlobStore blobStore; // Null when offloading is disabled
+    private final int thresholdBytes;
+    private final String keyPrefix;
+
+    public BodyOffloader(final BlobStore blobStore, @NonNull final BlobStoreConfig config) {
+        if (config.getOffloadThresholdBytes() < 1) {
+            throw new IllegalArgumentException("Offload threshold must be positive");
+        }
+        this.blobStore = blobStore;
+        this.thresholdBytes = config.getOffloadThresholdBytes();
+        this.keyPrefix = config.getKeyPrefix();
+    }
+
+    public static BodyOffloader disabled() {
+        return new BodyOffloader(null, BlobStoreConfig.builder().build());
+    }
+
+    /**
+     * Whether {@link #offload} would upload the body of {@code message}, so callers can skip the upload for
+     * messages that are already stored.
+     */
+    public boolean needsUpload(@NonNull final Message message) {
+        if (blobStore == null || message.getBody() == null || message.getBodyRef() != null) {
+            return false;
+        }
+        final String body = message.getBody();
+        // A char takes one to three UTF-8 bytes, so most bodies are settled without encoding them
+        if (body.length() >= thresholdBytes) {
+            return true;
+        }
+        if ((long) body.length() * 3 < thresholdBytes) {
+            return false;
+        }
+        return body.getBytes(StandardCharsets.UTF_8).length >= thresholdBytes;
+    }
+
+    /**
+     * Uploads the body of {@code message} if it is over the threshold. Messages already offloaded are left as
+     * they are, so retried writes do not upload again.
+     */
+    public void offload(@NonNull final Message message) {
+        if (blobStore == null || message.getBody() == null || message.getBodyRef() != null) {
+            return;
+        }
+        final byte[] utf8 = message.getBody().getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < thresholdBytes) {
+            return;
+        }
+        final String key = keyPrefix + sha256(utf8);
+        blobStore.put(key, utf8);
+        message.setBodyRef(key);
+    }
+
+    private static String sha256(@NonNull final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Every JVM is required to provide it
+        }
+    }
+}
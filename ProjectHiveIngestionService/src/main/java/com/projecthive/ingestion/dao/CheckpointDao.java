@@ -0,0 +1,14 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import lombok.NonNull;
+
+import java.util.Optional;
+
+public interface CheckpointDao {
+
+    Optional<SyncCheckpoint> load(@NonNull final String accountId);
+
+    void save(@NonNull final SyncCheckpoint checkpoint);
+
+}
@@ -0,0 +1,57 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import lombok.Generated;
+import lombok.NonNull;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import com.google.inject.Inject;
+import java.util.Optional;
+
+public class CheckpointDaoImpl implements CheckpointDao {
+
+    private DynamoDbTable<SyncCheckpoint> checkpointsTable;
+    private static final String CHECKPOINTS_TABLE = "ingestion_checkpoints";
+
+
+    @Inject
+    public CheckpointDaoImpl(@NonNull final DynamoDbClient dynamoDbClient) {
+        this(buildEnhancedClient(dynamoDbClient));
+    }
+
+    CheckpointDaoImpl(@NonNull final DynamoDbEnhancedClient enhancedClient) {
+        this.checkpointsTable = enhancedClient.table(CHECKPOINTS_TABLE, TableSchemas.SYNC_CHECKPOINT);
+    }
+
+    @Generated
+    private static DynamoDbEnhancedClient buildEnhancedClient(@NonNull final DynamoDbClient client) {
+        return DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+    }
+
+    @Override
+    public Optional<SyncCheckpoint> load(@NonNull final String accountId) {
+        try {
+            return Optional.ofNullable(checkpointsTable.getItem(Key.builder()
+                    .partitionValue(accountId)
+                    .build()));
+        } catch (final Exception e) {
+            throw new DaoDataAccessException("Failed to load sync checkpoint from DynamoDB", e);
+        }
+    }
+
+    @Override
+    public void save(@NonNull final SyncCheckpoint checkpoint) {
+        try {
+            checkpointsTable.putItem(PutItemEnhancedRequest.builder(SyncCheckpoint.class)
+                    .item(checkpoint)
+                    .build());
+        } catch (final Exception e) {
+            throw new DaoDataAccessException("Failed to save sync checkpoint to DynamoDB", e);
+        }
+    }
+}
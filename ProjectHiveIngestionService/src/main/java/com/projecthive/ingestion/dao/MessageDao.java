@@ -1,10 +1,51 @@
 package com.projecthive.ingestion.dao;
 
 import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SaveResult;
 import lombok.NonNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface MessageDao {
 
-    void save(@NonNull final Message message);
+    /**
+     * Writes {@code message} unless an item with the same id already exists. Returns {@code false} for such a
+     * duplicate, which is left untouched.
+     */
+    boolean save(@NonNull final Message message);
+
+    /**
+     * Writes {@code messages} with batched puts and returns one result per message, in input order. As with
+     * {@link #save}, ids that are already stored are reported as duplicates and left untouched: BatchWriteItem
+     * has no condition, so they are looked up first and only ids confirmed absent are written. A message whose
+     * existence could not be checked fails rather than risk a rewrite.
+     */
+    List<SaveResult> saveAll(@NonNull final Collection<Message> messages);
+
+    /**
+     * Non-blocking {@link #save}. Failures complete the future exceptionally with a
+     * {@link com.projecthive.ingestion.exceptions.DaoDataAccessException}. Blocking implementations complete
+     * it before returning.
+     */
+    default CompletableFuture<Boolean> saveAsync(@NonNull final Message message) {
+        try {
+            return CompletableFuture.completedFuture(save(message));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Non-blocking {@link #saveAll}.
+     */
+    default CompletableFuture<List<SaveResult>> saveAllAsync(@NonNull final Collection<Message> messages) {
+        try {
+            return CompletableFuture.completedFuture(saveAll(messages));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
 }
@@ -1,43 +1,223 @@
 package com.projecthive.ingestion.dao;
 
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
 import com.projecthive.ingestion.exceptions.DaoDataAccessException;
 import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SaveResult;
 import lombok.Generated;
 import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 
 import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 public class MessageDaoImpl implements MessageDao {
+    private static final Logger logger = LogManager.getLogger(MessageDaoImpl.class);
 
+    private DynamoDbClient dynamoDbClient;
+    private DynamoDbEnhancedClient enhancedClient;
     private DynamoDbTable<Message> messagesTable;
+    private DynamoDbWriteConfig writeConfig;
+    private BodyOffloader bodyOffloader;
+    private Semaphore inFlightBatches;
     private static final String MESSAGES_TABLE = "messages";
+    private static final Expression ID_NOT_EXISTS = Expression.builder()
+            .expression("attribute_not_exists(#id)")
+            .putExpressionName("#id", "id")
+            .build();
 
 
     @Inject
-    public MessageDaoImpl(@NonNull final DynamoDbClient dynamoDbClient) {
-        final DynamoDbEnhancedClient enhancedClient = buildEnhancedClient(dynamoDbClient);
+    public MessageDaoImpl(
+            @NonNull final DynamoDbClient dynamoDbClient,
+            @NonNull final DynamoDbWriteConfig writeConfig,
+            @NonNull final BodyOffloader bodyOffloader
+    ) {
+        this(dynamoDbClient, buildEnhancedClient(dynamoDbClient), writeConfig, bodyOffloader);
+    }
 
-        this.messagesTable = enhancedClient.table(MESSAGES_TABLE, TableSchema.fromBean(Message.class));
+    MessageDaoImpl(
+            @NonNull final DynamoDbClient dynamoDbClient,
+            @NonNull final DynamoDbEnhancedClient enhancedClient,
+            @NonNull final DynamoDbWriteConfig writeConfig,
+            @NonNull final BodyOffloader bodyOffloader
+    ) {
+        if (writeConfig.getMaxConcurrentBatches() < 1) {
+            throw new IllegalArgumentException("Max concurrent batches must be positive");
+        }
+        this.dynamoDbClient = dynamoDbClient;
+        this.enhancedClient = enhancedClient;
+        this.messagesTable = enhancedClient.table(MESSAGES_TABLE, TableSchemas.MESSAGE);
+        this.writeConfig = writeConfig;
+        this.bodyOffloader = bodyOffloader;
+        this.inFlightBatches = new Semaphore(writeConfig.getMaxConcurrentBatches());
     }
 
     @Generated
-    protected DynamoDbEnhancedClient buildEnhancedClient(@NonNull final DynamoDbClient client) {
+    private static DynamoDbEnhancedClient buildEnhancedClient(@NonNull final DynamoDbClient client) {
         return DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
     }
 
     @Override
-    public void save(@NonNull final Message message) {
+    public boolean save(@NonNull final Message message) {
         try {
+            // The conditional put would reject a re-ingest only after its body had been uploaded
+            if (bodyOffloader.needsUpload(message) && isStored(message.getId())) {
+                return false;
+            }
+            bodyOffloader.offload(message);
             messagesTable.putItem(PutItemEnhancedRequest.builder(Message.class)
                     .item(message)
+                    .conditionExpression(ID_NOT_EXISTS)
                     .build());
+            return true;
+        } catch (final ConditionalCheckFailedException e) {
+            // Ids are derived from the source message, so this is a re-ingest: no overwrite, no new stream record
+            return false;
         } catch (final Exception e) {
             throw new DaoDataAccessException("Failed to save message to DynamoDB", e);
         }
     }
+
+    @Override
+    public List<SaveResult> saveAll(@NonNull final Collection<Message> messages) {
+        final BatchWritePlan plan = new BatchWritePlan(messages);
+        excludeStored(plan);
+        final List<Future<Set<String>>> futures = new ArrayList<>(plan.batchCount());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int batch = 0; batch < plan.batchCount(); batch++) {
+                final List<Message> messageBatch = plan.batch(batch);
+                futures.add(executor.submit(() -> writeBatch(messageBatch)));
+            }
+            for (int batch = 0; batch < plan.batchCount(); batch++) {
+                plan.complete(batch, await(futures.get(batch), plan.batch(batch).size()));
+            }
+        }
+        return plan.results();
+    }
+
+    // A failed check is not fatal: the conditional put still keeps a stored message from being overwritten
+    private boolean isStored(@NonNull final String id) {
+        final Set<String> storedIds = new HashSet<>();
+        try {
+            lookup(List.of(id), storedIds);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DaoDataAccessException("Interrupted while checking for a stored message", e);
+        } catch (final RuntimeException e) {
+            logger.error("Failed to check message id {} against DynamoDB", id, e);
+        }
+        return storedIds.contains(id);
+    }
+
+    private void excludeStored(@NonNull final BatchWritePlan plan) {
+        final Set<String> storedIds = new HashSet<>();
+        final Set<String> unconfirmedIds = new HashSet<>();
+        for (final List<String> ids : plan.lookups()) {
+            try {
+                unconfirmedIds.addAll(lookup(ids, storedIds));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DaoDataAccessException("Interrupted while checking for stored messages", e);
+            } catch (final RuntimeException e) {
+                logger.error("Failed to check {} message ids against DynamoDB", ids.size(), e);
+                unconfirmedIds.addAll(ids);
+            }
+        }
+        plan.excludeStored(storedIds, unconfirmedIds);
+    }
+
+    // Adds the ids found to storedIds and returns those DynamoDB still had not processed after the last attempt
+    private Set<String> lookup(@NonNull final List<String> ids, @NonNull final Set<String> storedIds)
+            throws InterruptedException {
+        Map<String, KeysAndAttributes> keys = BatchWritePlan.lookupRequest(messagesTable.tableName(), ids);
+        for (int attempt = 1; ; attempt++) {
+            final BatchGetItemResponse response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(keys)
+                    .build());
+            storedIds.addAll(BatchWritePlan.ids(response.responses().get(messagesTable.tableName())));
+            keys = response.unprocessedKeys();
+            if (keys.isEmpty()) {
+                return Set.of();
+            }
+            final List<String> unprocessedIds = BatchWritePlan.ids(keys.get(messagesTable.tableName()).keys());
+            if (attempt >= writeConfig.getMaxBatchAttempts()) {
+                logger.error("Could not check {} message ids after {} attempts", unprocessedIds.size(), attempt);
+                return new HashSet<>(unprocessedIds);
+            }
+            Thread.sleep(BatchWritePlan.backoffMillis(writeConfig, attempt));
+        }
+    }
+
+    // Returns the ids DynamoDB still had not processed after the last attempt
+    private Set<String> writeBatch(@NonNull final List<Message> batch) throws InterruptedException {
+        inFlightBatches.acquire();
+        try {
+            batch.forEach(bodyOffloader::offload); // A failed upload fails the batch, as a failed write would
+            List<Message> pending = batch;
+            for (int attempt = 1; ; attempt++) {
+                final WriteBatch.Builder<Message> writeBatch = WriteBatch.builder(Message.class)
+                        .mappedTableResource(messagesTable);
+                pending.forEach(writeBatch::addPutItem);
+                final BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                        .writeBatches(writeBatch.build())
+                        .build());
+
+                // Unprocessed items come back as freshly mapped copies, so they are matched by id
+                final Set<String> unprocessedIds = new HashSet<>();
+                result.unprocessedPutItemsForTable(messagesTable).forEach(item -> unprocessedIds.add(item.getId()));
+                if (unprocessedIds.isEmpty()) {
+                    return unprocessedIds;
+                }
+                pending = pending.stream().filter(message -> unprocessedIds.contains(message.getId())).toList();
+                if (attempt >= writeConfig.getMaxBatchAttempts()) {
+                    logger.error("Giving up on {} unprocessed messages after {} attempts", pending.size(), attempt);
+                    return unprocessedIds;
+                }
+                final long delayMillis = BatchWritePlan.backoffMillis(writeConfig, attempt);
+                logger.warn("{} messages unprocessed, retrying in {} ms (attempt {}/{})",
+                        pending.size(), delayMillis, attempt, writeConfig.getMaxBatchAttempts());
+                Thread.sleep(delayMillis);
+            }
+        } finally {
+            inFlightBatches.release();
+        }
+    }
+
+    // Null when the batch call threw: that fails only its own messages, and the caller decides what that means
+    private static Set<String> await(@NonNull final Future<Set<String>> future, final int size) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DaoDataAccessException("Interrupted while saving messages to DynamoDB", e);
+        } catch (final ExecutionException e) {
+            logger.error("Failed to batch-write {} messages to DynamoDB", size, e.getCause());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import lombok.NonNull;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+public class S3BlobStore implements BlobStore {
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3BlobStore(@NonNull final S3Client s3Client, @NonNull final String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void put(@NonNull final String key, @NonNull final byte[] content) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(CONTENT_TYPE)
+                            .build(),
+                    RequestBody.fromBytes(content));
+        } catch (final SdkException e) {
+            throw new DaoDataAccessException("Failed to write blob " + key + " to S3", e);
+        }
+    }
+
+    @Override
+    public byte[] get(@NonNull final String key) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .build())
+                    .asByteArray();
+        } catch (final SdkException e) {
+            throw new DaoDataAccessException("Failed to read blob " + key + " from S3", e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.MessageBody;
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import com.projecthive.ingestion.utilities.MessageBodyConverter;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import java.util.List;
+import java.util.Map;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+/**
+ * Hand-built schemas for the tables this service writes. {@code TableSchema.fromBean} introspects the Lombok
+ * beans and generates accessor lambdas on first use, which lands on the Lambda cold start; these are plain
+ * method references. The models keep their bean annotations, and {@code TableSchemasTest} checks both map
+ * every item identically, so a field added to a model must be added here too.
+ */
+public final class TableSchemas {
+
+    private static final EnhancedType<List<String>> STRING_LIST = EnhancedType.listOf(String.class);
+    private static final EnhancedType<Map<String, String>> STRING_MAP = EnhancedType.mapOf(String.class, String.class);
+
+    public static final TableSchema<Message> MESSAGE = StaticTableSchema.builder(Message.class)
+            .newItemSupplier(Message::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(Message::getId)
+                    .setter(Message::setId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("username")
+                    .getter(Message::getUsername)
+                    .setter(Message::setUsername))
+            .addAttribute(String.class, a -> a.name("platform")
+                    .getter(Message::getPlatform)
+                    .setter(Message::setPlatform))
+            .addAttribute(String.class, a -> a.name("platformMessageId")
+                    .getter(Message::getPlatformMessageId)
+                    .setter(Message::setPlatformMessageId))
+            .addAttribute(String.class, a -> a.name("recipient")
+                    .getter(Message::getRecipient)
+                    .setter(Message::setRecipient))
+            .addAttribute(String.class, a -> a.name("sender")
+                    .getter(Message::getSender)
+                    .setter(Message::setSender))
+            .addAttribute(Long.class, a -> a.name("receivedAt")
+                    .getter(Message::getReceivedAt)
+                    .setter(Message::setReceivedAt))
+            .addAttribute(String.class, a -> a.name("subject")
+                    .getter(Message::getSubject)
+                    .setter(Message::setSubject))
+            .addAttribute(MessageBody.class, a -> a.name("body")
+                    .getter(Message::getStoredBody)
+                    .setter(Message::setStoredBody)
+                    .attributeConverter(new MessageBodyConverter()))
+            .addAttribute(String.class, a -> a.name("bodyRef")
+                    .getter(Message::getBodyRef)
+                    .setter(Message::setBodyRef))
+            .addAttribute(STRING_MAP, a -> a.name("metadata")
+                    .getter(Message::getMetadata)
+                    .setter(Message::setMetadata))
+            .addAttribute(String.class, a -> a.name("threadId")
+                    .getter(Message::getThreadId)
+                    .setter(Message::setThreadId))
+            .addAttribute(String.class, a -> a.name("inReplyTo")
+                    .getter(Message::getInReplyTo)
+                    .setter(Message::setInReplyTo))
+            .addAttribute(STRING_LIST, a -> a.name("references")
+                    .getter(Message::getReferences)
+                    .setter(Message::setReferences))
+            .addAttribute(String.class, a -> a.name("senderAddress")
+                    .getter(Message::getSenderAddress)
+                    .setter(Message::setSenderAddress))
+            .addAttribute(STRING_LIST, a -> a.name("toAddresses")
+                    .getter(Message::getToAddresses)
+                    .setter(Message::setToAddresses))
+            .addAttribute(STRING_LIST, a -> a.name("ccAddresses")
+                    .getter(Message::getCcAddresses)
+                    .setter(Message::setCcAddresses))
+            .addAttribute(STRING_LIST, a -> a.name("bccAddresses")
+                    .getter(Message::getBccAddresses)
+                    .setter(Message::setBccAddresses))
+            .addAttribute(STRING_LIST, a -> a.name("replyToAddresses")
+                    .getter(Message::getReplyToAddresses)
+                    .setter(Message::setReplyToAddresses))
+            .build();
+
+    public static final TableSchema<SyncCheckpoint> SYNC_CHECKPOINT = StaticTableSchema.builder(SyncCheckpoint.class)
+            .newItemSupplier(SyncCheckpoint::new)
+            .addAttribute(String.class, a -> a.name("accountId")
+                    .getter(SyncCheckpoint::getAccountId)
+                    .setter(SyncCheckpoint::setAccountId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("historyId")
+                    .getter(SyncCheckpoint::getHistoryId)
+                    .setter(SyncCheckpoint::setHistoryId))
+            .addAttribute(String.class, a -> a.name("resumePageToken")
+                    .getter(SyncCheckpoint::getResumePageToken)
+                    .setter(SyncCheckpoint::setResumePageToken))
+            .addAttribute(String.class, a -> a.name("resumeAfterMessageId")
+                    .getter(SyncCheckpoint::getResumeAfterMessageId)
+                    .setter(SyncCheckpoint::setResumeAfterMessageId))
+            .addAttribute(Boolean.class, a -> a.name("resumeFullSync")
+                    .getter(SyncCheckpoint::getResumeFullSync)
+                    .setter(SyncCheckpoint::setResumeFullSync))
+            .addAttribute(String.class, a -> a.name("resumeHistoryId")
+                    .getter(SyncCheckpoint::getResumeHistoryId)
+                    .setter(SyncCheckpoint::setResumeHistoryId))
+            .addAttribute(byte[].class, a -> a.name("seenMessageIds")
+                    .getter(SyncCheckpoint::getSeenMessageIds)
+                    .setter(SyncCheckpoint::setSeenMessageIds))
+            .addAttribute(Long.class, a -> a.name("updatedAt")
+                    .getter(SyncCheckpoint::getUpdatedAt)
+                    .setter(SyncCheckpoint::setUpdatedAt))
+            .build();
+
+    private TableSchemas() {
+        // Prevent instantiation
+    }
+}
@@ -1,22 +1,126 @@
 package com.projecthive.ingestion.guice;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
 import com.google.inject.Provides;
+import com.projecthive.ingestion.config.BlobStoreConfig;
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
+import com.projecthive.ingestion.dao.AsyncMessageDaoImpl;
+import com.projecthive.ingestion.dao.BodyOffloader;
+import com.projecthive.ingestion.dao.CheckpointDao;
+import com.projecthive.ingestion.dao.CheckpointDaoImpl;
 import com.projecthive.ingestion.dao.MessageDao;
 import com.projecthive.ingestion.dao.MessageDaoImpl;
+import com.projecthive.ingestion.dao.S3BlobStore;
+import com.projecthive.ingestion.utilities.HttpPoolMetrics;
+import lombok.NonNull;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.s3.S3Client;
 
 import com.google.inject.Singleton;
 
+import static com.projecthive.ingestion.constants.CommonConstants.*;
+
 public class DynamoDbModule extends AbstractModule {
+
+    private final EnvironmentVariables env;
+
+    public DynamoDbModule() {
+        this(EnvironmentVariables.system());
+    }
+
+    DynamoDbModule(@NonNull final EnvironmentVariables env) {
+        this.env = env;
+    }
+
     @Override
     protected void configure() {
-        bind(MessageDao.class).to(MessageDaoImpl.class).in(Singleton.class);
+        bind(MessageDaoImpl.class).in(Singleton.class);
+        bind(AsyncMessageDaoImpl.class).in(Singleton.class);
+        bind(CheckpointDao.class).to(CheckpointDaoImpl.class).in(Singleton.class);
     }
 
+    // Only the selected implementation, and so only its client, is ever constructed
     @Provides
     @Singleton
-    public DynamoDbClient provideDynamoDbClient() {
-        return DynamoDbClient.create();
+    public MessageDao provideMessageDao(
+            final DynamoDbWriteConfig writeConfig,
+            final Provider<MessageDaoImpl> blockingDao,
+            final Provider<AsyncMessageDaoImpl> asyncDao
+    ) {
+        return writeConfig.isAsyncWrites() ? asyncDao.get() : blockingDao.get();
+    }
+
+    @Provides
+    @Singleton
+    public DynamoDbClient provideDynamoDbClient(final SdkHttpClient httpClient, final HttpPoolMetrics poolMetrics) {
+        return DynamoDbClient.builder()
+                .httpClient(httpClient)
+                .overrideConfiguration(override -> override.addMetricPublisher(poolMetrics))
+                .build();
+    }
+
+    // Async writes keep their own event-loop transport, sized to the in-flight write limit
+    @Provides
+    @Singleton
+    public DynamoDbAsyncClient provideDynamoDbAsyncClient(final DynamoDbWriteConfig writeConfig) {
+        return DynamoDbAsyncClient.builder()
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(writeConfig.getMaxInFlightWrites()))
+                .build();
+    }
+
+    // The S3 client is only built when a bucket is configured
+    @Provides
+    @Singleton
+    public BodyOffloader provideBodyOffloader(final BlobStoreConfig blobStoreConfig, final Provider<S3Client> s3Client) {
+        return blobStoreConfig.getBucket() == null
+                ? BodyOffloader.disabled()
+                : new BodyOffloader(new S3BlobStore(s3Client.get(), blobStoreConfig.getBucket()), blobStoreConfig);
+    }
+
+    @Provides
+    @Singleton
+    public S3Client provideS3Client(final SdkHttpClient httpClient, final HttpPoolMetrics poolMetrics) {
+        return S3Client.builder()
+                .httpClient(httpClient)
+                .overrideConfiguration(override -> override.addMetricPublisher(poolMetrics))
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    public BlobStoreConfig provideBlobStoreConfig() {
+        final BlobStoreConfig defaults = BlobStoreConfig.builder().build();
+
+        return BlobStoreConfig.builder()
+                .bucket(env.getString(MESSAGE_BLOB_BUCKET, defaults.getBucket()))
+                .offloadThresholdBytes(env.getInt(
+                        MESSAGE_BLOB_OFFLOAD_THRESHOLD_BYTES, defaults.getOffloadThresholdBytes()))
+                .keyPrefix(env.getString(MESSAGE_BLOB_KEY_PREFIX, defaults.getKeyPrefix()))
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    public DynamoDbWriteConfig provideDynamoDbWriteConfig() {
+        final DynamoDbWriteConfig defaults = DynamoDbWriteConfig.builder().build();
+
+        return DynamoDbWriteConfig.builder()
+                .maxConcurrentBatches(env.getInt(
+                        DYNAMODB_MAX_CONCURRENT_BATCHES, defaults.getMaxConcurrentBatches(), 1, Integer.MAX_VALUE))
+                .maxBatchAttempts(env.getInt(
+                        DYNAMODB_MAX_BATCH_ATTEMPTS, defaults.getMaxBatchAttempts(), 1, Integer.MAX_VALUE))
+                .retryBackoffMillis(env.getLong(
+                        DYNAMODB_RETRY_BACKOFF_MILLIS, defaults.getRetryBackoffMillis()))
+                .maxRetryBackoffMillis(env.getLong(
+                        DYNAMODB_MAX_RETRY_BACKOFF_MILLIS, defaults.getMaxRetryBackoffMillis()))
+                .asyncWrites(env.getBoolean(DYNAMODB_ASYNC_WRITES, defaults.isAsyncWrites()))
+                .maxInFlightWrites(env.getInt(
+                        DYNAMODB_MAX_IN_FLIGHT_WRITES, defaults.getMaxInFlightWrites(), 1, Integer.MAX_VALUE))
+                .build();
     }
 }
@@ -0,0 +1,100 @@
+package com.projecthive.ingestion.guice;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reads optional tuning knobs from the Lambda environment, falling back to defaults when unset. Values
+ * that cannot be parsed or fall outside their range fail at startup, naming the variable. The summarization
+ * service has an identical copy, so both services parse and validate settings the same way.
+ */
+final class EnvironmentVariables {
+
+    private final UnaryOperator<String> lookup;
+
+    EnvironmentVariables(@NonNull final UnaryOperator<String> lookup) {
+        this.lookup = lookup;
+    }
+
+    static EnvironmentVariables system() {
+        return new EnvironmentVariables(System::getenv);
+    }
+
+    String getString(@NonNull final String name, final String defaultValue) {
+        final String value = lookup.apply(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    int getInt(@NonNull final String name, final int defaultValue) {
+        return getInt(name, defaultValue, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    int getInt(@NonNull final String name, final int defaultValue, final int min, final int max) {
+        return (int) getLong(name, defaultValue, min, max);
+    }
+
+    long getLong(@NonNull final String name, final long defaultValue) {
+        return getLong(name, defaultValue, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    long getLong(@NonNull final String name, final long defaultValue, final long min, final long max) {
+        final String value = getString(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        final long parsed;
+        try {
+            parsed = Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number, got " + value, e);
+        }
+        if (parsed < min || parsed > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + ", got " + value);
+        }
+        return parsed;
+    }
+
+    boolean getBoolean(@NonNull final String name, final boolean defaultValue) {
+        final String value = getString(name, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    <E extends Enum<E>> E getEnum(@NonNull final String name, @NonNull final E defaultValue) {
+        final String value = getString(name, null);
+        return value == null ? defaultValue : parseEnum(name, defaultValue.getDeclaringClass(), value);
+    }
+
+    List<String> getList(@NonNull final String name, @NonNull final List<String> defaultValue) {
+        final String value = getString(name, null);
+        return value == null
+                ? defaultValue
+                : Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
+    }
+
+    <E extends Enum<E>> List<E> getEnumList(
+            @NonNull final String name,
+            @NonNull final Class<E> type,
+            @NonNull final List<E> defaultValue
+    ) {
+        final String value = getString(name, null);
+        return value == null
+                ? defaultValue
+                : getList(name, List.of()).stream().map(item -> parseEnum(name, type, item)).toList();
+    }
+
+    private static <E extends Enum<E>> E parseEnum(
+            @NonNull final String name,
+            @NonNull final Class<E> type,
+            @NonNull final String value
+    ) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " must be one of "
+                    + Arrays.toString(type.getEnumConstants()) + ", got " + value, e);
+        }
+    }
+}
@@ -4,10 +4,20 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.projecthive.ingestion.auth.GmailAuthProvider;
 import com.projecthive.ingestion.auth.GmailCredentialConfig;
+import com.projecthive.ingestion.clients.AsyncGmailClient;
+import com.projecthive.ingestion.clients.BatchMessageFetcher;
 import com.projecthive.ingestion.clients.GmailClient;
 import com.projecthive.ingestion.clients.GmailClientImpl;
+import com.projecthive.ingestion.config.GmailCategory;
+import com.projecthive.ingestion.config.GmailFetchConfig;
+import com.projecthive.ingestion.config.GmailQueryConfig;
+import com.projecthive.ingestion.config.IngestionConfig;
+import com.projecthive.ingestion.config.ParserConfig;
 import com.projecthive.ingestion.controllers.GmailIngestionController;
+import com.projecthive.ingestion.parser.BodyTrimmer;
 import com.projecthive.ingestion.parser.GmailMessageParser;
+import com.projecthive.ingestion.utilities.SeenMessageFilter;
+import lombok.NonNull;
 
 import com.google.inject.Singleton;
 
@@ -15,14 +25,34 @@ import static com.projecthive.ingestion.constants.CommonConstants.*;
 
 public class GmailModule extends AbstractModule {
 
+    private static final int MAX_GMAIL_PAGE_SIZE = 500; // messages.list and history.list maxResults limit
+
+    private final EnvironmentVariables env;
+
+    public GmailModule() {
+        this(EnvironmentVariables.system());
+    }
+
+    GmailModule(@NonNull final EnvironmentVariables env) {
+        this.env = env;
+    }
+
     @Override
     protected void configure() {
         bind(GmailAuthProvider.class).in(Singleton.class);
-        bind(GmailClient.class).to(GmailClientImpl.class).in(Singleton.class);
+        bind(GmailClientImpl.class).in(Singleton.class);
+        bind(GmailClient.class).to(GmailClientImpl.class);
         bind(GmailMessageParser.class).in(Singleton.class);
+        bind(BodyTrimmer.class).in(Singleton.class);
         bind(GmailIngestionController.class).in(Singleton.class);
     }
 
+    @Provides
+    @Singleton
+    public AsyncGmailClient provideAsyncGmailClient(final GmailClientImpl gmailClient) {
+        return gmailClient.asyncClient();
+    }
+
     @Provides
     @Singleton
     public GmailCredentialConfig provideGmailCredentialConfig() {
@@ -36,4 +66,86 @@ public class GmailModule extends AbstractModule {
 
         return new GmailCredentialConfig(clientId, clientSecret, refreshToken);
     }
+
+    @Provides
+    @Singleton
+    public GmailFetchConfig provideGmailFetchConfig(final GmailMessageParser parser) {
+        final GmailFetchConfig defaults = GmailFetchConfig.builder().build();
+
+        return GmailFetchConfig.builder()
+                .fetchMode(env.getEnum(GMAIL_FETCH_MODE, defaults.getFetchMode()))
+                .fetchProfile(parser.requiredFetchProfile())
+                .pageSize(env.getInt(GMAIL_PAGE_SIZE, defaults.getPageSize(), 1, MAX_GMAIL_PAGE_SIZE))
+                .batchSize(env.getInt(
+                        GMAIL_BATCH_SIZE, defaults.getBatchSize(), 1, BatchMessageFetcher.MAX_BATCH_SIZE))
+                .maxRetries(env.getInt(GMAIL_FETCH_MAX_RETRIES, defaults.getMaxRetries(), 1, Integer.MAX_VALUE))
+                .retryBackoffMillis(env.getLong(
+                        GMAIL_FETCH_RETRY_BACKOFF_MILLIS, defaults.getRetryBackoffMillis()))
+                .maxRetryBackoffMillis(env.getLong(
+                        GMAIL_FETCH_MAX_RETRY_BACKOFF_MILLIS, defaults.getMaxRetryBackoffMillis()))
+                .maxInFlightRequests(env.getInt(
+                        GMAIL_MAX_IN_FLIGHT_REQUESTS, defaults.getMaxInFlightRequests(), 1, Integer.MAX_VALUE))
+                .userQuotaUnitsPerSecond(env.getLong(
+                        GMAIL_USER_QUOTA_UNITS_PER_SECOND, defaults.getUserQuotaUnitsPerSecond(), 1L, Long.MAX_VALUE))
+                .projectQuotaUnitsPerSecond(env.getLong(
+                        GMAIL_PROJECT_QUOTA_UNITS_PER_SECOND, defaults.getProjectQuotaUnitsPerSecond(),
+                        1L, Long.MAX_VALUE))
+                .incrementalSync(env.getBoolean(GMAIL_INCREMENTAL_SYNC, defaults.isIncrementalSync()))
+                .maxFullSyncMessages(env.getLong(
+                        GMAIL_MAX_FULL_SYNC_MESSAGES, defaults.getMaxFullSyncMessages(), 1L, Long.MAX_VALUE))
+                .query(provideGmailQueryConfig())
+                .processedMarking(env.getEnum(GMAIL_PROCESSED_MARKING, defaults.getProcessedMarking()))
+                .processedLabel(env.getString(GMAIL_PROCESSED_LABEL, defaults.getProcessedLabel()))
+                .build();
+    }
+
+    private GmailQueryConfig provideGmailQueryConfig() {
+        final GmailQueryConfig defaults = GmailQueryConfig.builder().build();
+
+        return GmailQueryConfig.builder()
+                .excludedCategories(env.getEnumList(
+                        GMAIL_QUERY_EXCLUDED_CATEGORIES, GmailCategory.class, defaults.getExcludedCategories()))
+                .includedLabels(env.getList(GMAIL_QUERY_INCLUDED_LABELS, defaults.getIncludedLabels()))
+                .excludedLabels(env.getList(GMAIL_QUERY_EXCLUDED_LABELS, defaults.getExcludedLabels()))
+                .lookbackDays(env.getInt(GMAIL_QUERY_LOOKBACK_DAYS, defaults.getLookbackDays()))
+                .maxSizeBytes(env.getLong(GMAIL_QUERY_MAX_SIZE_BYTES, defaults.getMaxSizeBytes()))
+                .allowedSenders(env.getList(GMAIL_QUERY_ALLOWED_SENDERS, defaults.getAllowedSenders()))
+                .deniedSenders(env.getList(GMAIL_QUERY_DENIED_SENDERS, defaults.getDeniedSenders()))
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    public ParserConfig provideParserConfig() {
+        final ParserConfig defaults = ParserConfig.builder().build();
+
+        return ParserConfig.builder()
+                .maxBodyBytes(env.getInt(GMAIL_MAX_BODY_BYTES, defaults.getMaxBodyBytes()))
+                .trimQuotedText(env.getBoolean(GMAIL_TRIM_QUOTED_TEXT, defaults.isTrimQuotedText()))
+                .addressCacheSize(env.getInt(GMAIL_ADDRESS_CACHE_SIZE, defaults.getAddressCacheSize()))
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    public IngestionConfig provideIngestionConfig() {
+        final IngestionConfig defaults = IngestionConfig.builder().build();
+
+        return IngestionConfig.builder()
+                .pipelineQueueCapacity(env.getInt(
+                        INGESTION_PIPELINE_QUEUE_CAPACITY, defaults.getPipelineQueueCapacity(), 1, Integer.MAX_VALUE))
+                .deadlineSafetyMarginMillis(env.getLong(
+                        INGESTION_DEADLINE_SAFETY_MARGIN_MILLIS, defaults.getDeadlineSafetyMarginMillis()))
+                .groupByThread(env.getBoolean(INGESTION_GROUP_BY_THREAD, defaults.isGroupByThread()))
+                .writeBatchSize(env.getInt(
+                        INGESTION_WRITE_BATCH_SIZE, defaults.getWriteBatchSize(), 1, Integer.MAX_VALUE))
+                .maxPendingWrites(env.getInt(
+                        INGESTION_MAX_PENDING_WRITES, defaults.getMaxPendingWrites(), 1, Integer.MAX_VALUE))
+                .seenFilterCapacity(env.getInt(
+                        INGESTION_SEEN_FILTER_CAPACITY, defaults.getSeenFilterCapacity(), 0, Integer.MAX_VALUE))
+                .seenFilterSnapshotIds(env.getInt(
+                        INGESTION_SEEN_FILTER_SNAPSHOT_IDS, defaults.getSeenFilterSnapshotIds(),
+                        0, SeenMessageFilter.MAX_SNAPSHOT_IDS))
+                .build();
+    }
 }
@@ -7,6 +7,7 @@ public class MainModule extends AbstractModule {
     @Override
     protected void configure() {
         install(new GmailModule());
+        install(new HttpClientModule());
         install(new DynamoDbModule());
     }
 }
@@ -4,8 +4,11 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
 import com.google.inject.Guice;
+import com.google.inject.Injector;
 import com.projecthive.ingestion.controllers.GmailIngestionController;
 import com.projecthive.ingestion.guice.MainModule;
+import com.projecthive.ingestion.utilities.Deadline;
+import com.projecthive.ingestion.utilities.HttpPoolMetrics;
 import lombok.Generated;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -23,16 +26,23 @@ public class GmailIngestionHandler implements RequestHandler<ScheduledEvent, Voi
     private static final Logger logger = LogManager.getLogger(GmailIngestionHandler.class);
 
     private final GmailIngestionController gmailIngestionController;
+    private final HttpPoolMetrics httpPoolMetrics;
 
 
     @Generated
     public GmailIngestionHandler() {
-        this(Guice.createInjector(new MainModule()).getInstance(GmailIngestionController.class));
+        this(Guice.createInjector(new MainModule()));
+    }
+
+    @Generated
+    private GmailIngestionHandler(final Injector injector) {
+        this(injector.getInstance(GmailIngestionController.class), injector.getInstance(HttpPoolMetrics.class));
     }
 
     @Inject
-    GmailIngestionHandler(GmailIngestionController controller) {
+    GmailIngestionHandler(GmailIngestionController controller, HttpPoolMetrics httpPoolMetrics) {
         this.gmailIngestionController = controller;
+        this.httpPoolMetrics = httpPoolMetrics;
     }
 
     @Override
@@ -45,12 +55,13 @@ public class GmailIngestionHandler implements RequestHandler<ScheduledEvent, Voi
 
             logger.info("EventBridge trigger received: {}", event.getDetailType());
 
-            gmailIngestionController.ingestGmailMessages();
+            gmailIngestionController.ingestGmailMessages(Deadline.in(context.getRemainingTimeInMillis()));
 
             logger.info("Ingestion completed successfully");
         } catch (final GeneralSecurityException | IOException e) {
             throw new RuntimeException(e);
         } finally {
+            logger.info("SDK HTTP pool: {}", httpPoolMetrics.snapshotAndReset());
             ThreadContext.clearAll();
         }
         return null;
@@ -0,0 +1,24 @@
+package com.projecthive.ingestion.models;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * What is known about an attachment without downloading it.
+ */
+@Value
+public class AttachmentDescriptor {
+
+    @NonNull
+    String partId;
+
+    @NonNull
+    String filename;
+
+    @NonNull
+    String mimeType;
+
+    long sizeBytes;         // Decoded size as reported by Gmail
+
+    String attachmentId;    // For GmailClient.fetchAttachment; null when Gmail inlined the (small) payload
+}
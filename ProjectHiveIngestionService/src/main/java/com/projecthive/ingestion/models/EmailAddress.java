@@ -0,0 +1,21 @@
+package com.projecthive.ingestion.models;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * One mailbox from an address header, e.g. {@code "Doe, Jane" <Jane.Doe@Example.com>}.
+ */
+@Value
+public class EmailAddress {
+
+    @NonNull
+    String displayName; // Empty when the header carried a bare address
+
+    @NonNull
+    String address;     // Canonical form: lower-cased, without brackets or comments
+
+    public String domain() {
+        return address.substring(address.lastIndexOf('@') + 1);
+    }
+}
@@ -0,0 +1,23 @@
+package com.projecthive.ingestion.models;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The text body picked out of a Gmail MIME tree.
+ */
+@Value
+public class ExtractedBody {
+
+    @NonNull
+    String text;
+
+    @NonNull
+    String mimeType;    // text/plain or text/html
+
+    boolean truncated;  // Cut off at the configured byte budget
+
+    public boolean isHtml() {
+        return "text/html".equals(mimeType);
+    }
+}
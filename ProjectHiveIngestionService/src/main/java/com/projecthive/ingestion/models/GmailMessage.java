@@ -7,6 +7,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import java.util.List;
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,4 +32,22 @@ public class GmailMessage {
     @NonNull
     private Long receivedAt;    // Epoch milliseconds (parsed from internalDate)
 
+    private Map<String, String> metadata; // Carried over to Message.metadata
+
+    private String threadId;                        // Gmail conversation the message belongs to
+
+    private String inReplyTo;                       // Message-ID this message replies to
+
+    private List<String> references;                // Message-IDs of the conversation so far, oldest first
+
+    private EmailAddress fromAddress;               // Parsed From mailbox; null when it has no usable address
+
+    private List<EmailAddress> toAddresses;
+
+    private List<EmailAddress> ccAddresses;
+
+    private List<EmailAddress> bccAddresses;
+
+    private List<EmailAddress> replyToAddresses;
+
 }
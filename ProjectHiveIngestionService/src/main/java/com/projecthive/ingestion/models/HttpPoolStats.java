@@ -0,0 +1,19 @@
+package com.projecthive.ingestion.models;
+
+import lombok.Value;
+
+/**
+ * Connection pool utilization of the shared SDK HTTP client since the last snapshot.
+ */
+@Value
+public class HttpPoolStats {
+    long requests;           // HTTP attempts made through the pool
+    int maxConcurrency;      // Pool size reported by the client
+    int peakLeased;          // Most connections in use at once
+    int peakPending;         // Most requests queued waiting for a connection
+    long peakAcquireMillis;  // Longest wait to lease a connection; Apache only
+
+    public double peakUtilization() {
+        return maxConcurrency == 0 ? 0d : (double) peakLeased / maxConcurrency;
+    }
+}
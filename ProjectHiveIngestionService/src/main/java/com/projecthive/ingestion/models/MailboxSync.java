@@ -0,0 +1,33 @@
+package com.projecthive.ingestion.models;
+
+import com.google.api.services.gmail.model.Message;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The result of a mailbox sync: a lazy stream of messages to ingest, plus the history id that
+ * should be checkpointed once every message in the stream has been persisted. If ingestion has to stop
+ * early, or the stream itself stopped at the full-sync limit ({@link #getTruncated()}), {@link #getCurrentPageToken()}
+ * tells which listing page to resume from.
+ */
+@Value
+public class MailboxSync {
+
+    @NonNull
+    Stream<Message> messages;
+
+    BigInteger historyId; // Mailbox history id captured before listing started, or before a resumed full sync began
+
+    boolean fullSync; // false when only History API deltas were read
+
+    @NonNull
+    Supplier<String> currentPageToken; // Token of the listing page the last streamed message came from
+
+    @NonNull
+    BooleanSupplier truncated; // true once the stream ended at the full-sync limit with messages still listed
+}
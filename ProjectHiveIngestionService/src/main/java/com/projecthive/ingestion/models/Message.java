@@ -1,9 +1,14 @@
 package com.projecthive.ingestion.models;
 
+import com.projecthive.ingestion.utilities.MessageBodyConverter;
 import lombok.*;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
 
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -36,13 +41,60 @@ public class Message {
 
     private String subject;
 
-    private String body;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private MessageBody body; // Stored through MessageBodyConverter, which deflates large bodies
+
+    private String bodyRef; // Blob store key holding the body when it was too large for the item
 
     private Map<String, String> metadata;
 
+    private String threadId; // Conversation id on the source platform, for grouping replies
+
+    private String inReplyTo;
+
+    private List<String> references;
+
+    private String senderAddress; // Canonical address parsed from the sender, for routing by correspondent
+
+    private List<String> toAddresses;
+
+    private List<String> ccAddresses;
+
+    private List<String> bccAddresses;
+
+    private List<String> replyToAddresses;
+
     @DynamoDbPartitionKey
     public @NonNull String getId() {
         return id;
     }
 
+    @DynamoDbIgnore
+    public String getBody() {
+        return body == null ? null : body.text();
+    }
+
+    public void setBody(final String body) {
+        this.body = MessageBody.of(body);
+    }
+
+    // An offloaded body stays readable in memory but is left out of the item
+    @DynamoDbAttribute("body")
+    @DynamoDbConvertedBy(MessageBodyConverter.class)
+    public MessageBody getStoredBody() {
+        return bodyRef == null ? body : null;
+    }
+
+    public void setStoredBody(final MessageBody storedBody) {
+        this.body = storedBody;
+    }
+
+    public static class MessageBuilder {
+        public MessageBuilder body(final String body) {
+            this.body = MessageBody.of(body);
+            return this;
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+package com.projecthive.ingestion.models;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * One page of message ids from a Gmail listing ({@code messages.list} or {@code history.list}).
+ */
+@Value
+@AllArgsConstructor
+public class MessageIdPage {
+
+    @NonNull
+    List<String> messageIds;
+
+    String nextPageToken; // null or empty on the last page
+
+    List<String> threadIds; // Thread id of each message, index-aligned with messageIds; null when not requested
+
+    public MessageIdPage(@NonNull final List<String> messageIds, final String nextPageToken) {
+        this(messageIds, nextPageToken, null);
+    }
+
+    /**
+     * This page without the messages matching {@code excluded}, keeping thread ids aligned.
+     */
+    public MessageIdPage without(@NonNull final Predicate<String> excluded) {
+        final List<String> keptIds = new ArrayList<>(messageIds.size());
+        final List<String> keptThreads = threadIds == null ? null : new ArrayList<>(threadIds.size());
+        for (int i = 0; i < messageIds.size(); i++) {
+            if (!excluded.test(messageIds.get(i))) {
+                keptIds.add(messageIds.get(i));
+                if (keptThreads != null) {
+                    keptThreads.add(threadIds.get(i));
+                }
+            }
+        }
+        return keptIds.size() == messageIds.size() ? this : new MessageIdPage(keptIds, nextPageToken, keptThreads);
+    }
+}
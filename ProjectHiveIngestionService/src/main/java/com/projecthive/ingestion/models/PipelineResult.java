@@ -0,0 +1,17 @@
+package com.projecthive.ingestion.models;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class PipelineResult {
+    long completed;     // Items accepted by the sink
+    long elapsedMillis;
+
+    boolean stoppedEarly; // The stop condition fired before the source was exhausted
+
+    @NonNull
+    List<StageMetrics> stages;
+}
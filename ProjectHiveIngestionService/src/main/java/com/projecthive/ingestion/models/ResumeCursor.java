@@ -0,0 +1,19 @@
+package com.projecthive.ingestion.models;
+
+import lombok.Value;
+
+/**
+ * Where an interrupted sync left off: the listing page that was being ingested and the last message
+ * from it that was persisted.
+ */
+@Value
+public class ResumeCursor {
+
+    String pageToken; // null when the run stopped inside the first page
+
+    String afterMessageId; // Last persisted message; everything up to and including it is skipped
+
+    boolean fullSync; // Whether the interrupted run was reading the unread listing rather than history
+
+    String historyId; // Captured when the interrupted full sync began and checkpointed once it completes
+}
@@ -0,0 +1,22 @@
+package com.projecthive.ingestion.models;
+
+import lombok.Value;
+
+/**
+ * Outcome of writing one message as part of a {@link com.projecthive.ingestion.dao.MessageDao#saveAll} call.
+ */
+@Value
+public class SaveResult {
+    Message message;
+    Status status;
+
+    public enum Status {
+        WRITTEN,   // Acknowledged by DynamoDB
+        DUPLICATE, // Already in the table, or same id as an earlier message in the call; not rewritten
+        FAILED     // Still unprocessed after the last retry, or its batch call failed
+    }
+
+    public boolean isPersisted() {
+        return status != Status.FAILED;
+    }
+}
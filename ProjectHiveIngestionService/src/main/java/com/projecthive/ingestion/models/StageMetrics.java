@@ -0,0 +1,18 @@
+package com.projecthive.ingestion.models;
+
+import lombok.Value;
+
+/**
+ * Per-stage counters collected by a {@link com.projecthive.ingestion.pipeline.StagedPipeline} run.
+ */
+@Value
+public class StageMetrics {
+    String stage;
+    long processed;       // Items handed to the stage
+    long busyMillis;      // Time spent inside the stage function, excluding queue waits
+    int peakQueueDepth;   // Deepest the stage's input queue got; 0 for the source
+
+    public double throughputPerSecond() {
+        return busyMillis == 0 ? processed : processed * 1000d / busyMillis;
+    }
+}
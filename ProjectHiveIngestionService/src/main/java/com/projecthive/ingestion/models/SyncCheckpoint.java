@@ -0,0 +1,45 @@
+package com.projecthive.ingestion.models;
+
+import lombok.*;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@DynamoDbBean
+public class SyncCheckpoint {
+
+    @NonNull
+    private String accountId; // "<platform>#<username>"
+
+    private String historyId; // Gmail mailbox history id the next incremental sync starts from; null before the first full sync completes
+
+    private String resumePageToken; // Set, together with the fields below, only while a sync is unfinished
+
+    private String resumeAfterMessageId;
+
+    private Boolean resumeFullSync;
+
+    private String resumeHistoryId; // History id captured when the unfinished full sync began
+
+    private byte[] seenMessageIds; // Optional snapshot of the controller's SeenMessageFilter, for cold starts
+
+    @NonNull
+    private Long updatedAt; // Epoch millis
+
+    @DynamoDbPartitionKey
+    public @NonNull String getAccountId() {
+        return accountId;
+    }
+
+    public ResumeCursor toResumeCursor() {
+        if (resumeAfterMessageId == null) {
+            return null;
+        }
+        return new ResumeCursor(
+                resumePageToken, resumeAfterMessageId, Boolean.TRUE.equals(resumeFullSync), resumeHistoryId);
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.projecthive.ingestion.parser;
+
+import com.projecthive.ingestion.models.EmailAddress;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses RFC 5322 address lists (From, To, Cc, Bcc, Reply-To) into canonical {@link EmailAddress}es.
+ *
+ * <p>Handles display names (quoted or not), quoted-pair escapes, comments, groups such as
+ * {@code undisclosed-recipients:;}, and the obsolete {@code addr (Name)} form. Entries without a usable
+ * address are dropped rather than failing the message.</p>
+ *
+ * <p>Parsed mailboxes are interned in a bounded LRU cache keyed by their raw text: mail traffic is dominated by
+ * a few hundred correspondents, so most lookups return an existing instance instead of allocating a new
+ * address and display name. Instances are thread-safe.</p>
+ */
+public class AddressListParser {
+
+    private final Map<String, EmailAddress> cache;
+
+    public AddressListParser(final int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Address cache size must not be negative");
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, EmailAddress> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public List<EmailAddress> parse(final String header) {
+        if (header == null || header.isBlank()) {
+            return Collections.emptyList();
+        }
+        final List<EmailAddress> addresses = new ArrayList<>(1);
+        boolean quoted = false;
+        boolean angled = false;
+        int commentDepth = 0;
+        int start = 0;
+        for (int i = 0; i < header.length(); i++) {
+            final char c = header.charAt(i);
+            if (c == '\\' && (quoted || commentDepth > 0)) {
+                i++; // Quoted-pair: the next character is literal
+            } else if (quoted) {
+                quoted = c != '"';
+            } else if (c == '(') {
+                commentDepth++;
+            } else if (commentDepth > 0) {
+                commentDepth -= c == ')' ? 1 : 0;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == '<') {
+                angled = true;
+            } else if (c == '>') {
+                angled = false;
+            } else if (!angled && c == ':') {
+                start = i + 1; // Group name; its members follow
+            } else if (!angled && (c == ',' || c == ';')) {
+                addMailbox(header, start, i, addresses);
+                start = i + 1;
+            }
+        }
+        addMailbox(header, start, header.length(), addresses);
+        return addresses;
+    }
+
+    /**
+     * Number of distinct mailboxes currently cached.
+     */
+    public synchronized int cachedCount() {
+        return cache.size();
+    }
+
+    private void addMailbox(final String header, final int start, final int end, final List<EmailAddress> into) {
+        final String raw = header.substring(start, end).strip();
+        if (raw.isEmpty()) {
+            return;
+        }
+        final EmailAddress address = intern(raw);
+        if (address != null) {
+            into.add(address);
+        }
+    }
+
+    private synchronized EmailAddress intern(final String raw) {
+        final EmailAddress cached = cache.get(raw);
+        if (cached != null) {
+            return cached;
+        }
+        final EmailAddress parsed = parseMailbox(raw);
+        if (parsed != null) {
+            cache.put(raw, parsed);
+        }
+        return parsed;
+    }
+
+    // Parses "Display Name <addr>", "<addr>", "addr" or "addr (Display Name)"
+    static EmailAddress parseMailbox(@NonNull final String mailbox) {
+        final StringBuilder phrase = new StringBuilder();
+        final StringBuilder comment = new StringBuilder();
+        final StringBuilder angleAddress = new StringBuilder();
+        boolean quoted = false;
+        boolean angled = false;
+        boolean sawAngle = false;
+        int commentDepth = 0;
+        for (int i = 0; i < mailbox.length(); i++) {
+            char c = mailbox.charAt(i);
+            final boolean escaped = c == '\\' && (quoted || commentDepth > 0) && i + 1 < mailbox.length();
+            if (escaped) {
+                c = mailbox.charAt(++i);
+            }
+            if (commentDepth > 0) {
+                if (!escaped && c == '(') {
+                    commentDepth++;
+                } else if (!escaped && c == ')') {
+                    commentDepth--;
+                }
+                if (commentDepth > 0) {
+                    comment.append(c);
+                }
+            } else if (quoted) {
+                if (!escaped && c == '"') {
+                    quoted = false;
+                } else {
+                    phrase.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == '(') {
+                commentDepth = 1;
+                if (!comment.isEmpty()) {
+                    comment.append(' ');
+                }
+            } else if (c == '<') {
+                angled = true;
+                sawAngle = true;
+            } else if (c == '>') {
+                angled = false;
+            } else if (angled) {
+                angleAddress.append(c);
+            } else {
+                phrase.append(c);
+            }
+        }
+
+        final String address = canonicalAddress(sawAngle ? angleAddress : phrase);
+        if (address == null) {
+            return null;
+        }
+        final String displayName = sawAngle ? collapseWhitespace(phrase) : collapseWhitespace(comment);
+        return new EmailAddress(displayName, address);
+    }
+
+    private static String canonicalAddress(@NonNull final CharSequence text) {
+        final StringBuilder address = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                address.append(c);
+            }
+        }
+        final int at = address.lastIndexOf("@");
+        if (at <= 0 || at == address.length() - 1) {
+            return null;
+        }
+        // Local parts are case-sensitive on paper but not at any provider we ingest from
+        return address.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static String collapseWhitespace(@NonNull final CharSequence text) {
+        final StringBuilder collapsed = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !collapsed.isEmpty();
+            } else {
+                if (pendingSpace) {
+                    collapsed.append(' ');
+                    pendingSpace = false;
+                }
+                collapsed.append(c);
+            }
+        }
+        return collapsed.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.projecthive.ingestion.parser;
+
+import lombok.NonNull;
+
+import java.io.InputStream;
+
+/**
+ * Reads an ASCII {@link CharSequence} (such as base64url text) as bytes without copying it first.
+ */
+final class AsciiInputStream extends InputStream {
+
+    private final CharSequence chars;
+    private int position;
+
+    AsciiInputStream(@NonNull final CharSequence chars) {
+        this.chars = chars;
+    }
+
+    @Override
+    public int read() {
+        return position < chars.length() ? chars.charAt(position++) & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) {
+        if (position >= chars.length()) {
+            return -1;
+        }
+        final int count = Math.min(length, chars.length() - position);
+        for (int i = 0; i < count; i++) {
+            buffer[offset + i] = (byte) chars.charAt(position++);
+        }
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chars.length() - position;
+    }
+}
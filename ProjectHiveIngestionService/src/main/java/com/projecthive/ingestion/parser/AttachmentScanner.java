@@ -0,0 +1,65 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePart;
+import com.google.api.services.gmail.model.MessagePartBody;
+import com.projecthive.ingestion.models.AttachmentDescriptor;
+import com.projecthive.ingestion.parser.ParsedHeaders.Header;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lists the attachments in a Gmail {@link MessagePart} tree from part headers alone. Part data is never
+ * read, so the cost of a message does not depend on the size of what is attached to it.
+ */
+public final class AttachmentScanner {
+
+    private static final String ATTACHMENT_DISPOSITION = "attachment";
+
+    private AttachmentScanner() {
+    }
+
+    public static List<AttachmentDescriptor> scan(final MessagePart payload) {
+        if (payload == null) {
+            return Collections.emptyList();
+        }
+        final List<AttachmentDescriptor> attachments = new ArrayList<>();
+        final Deque<MessagePart> pending = new ArrayDeque<>();
+        pending.push(payload);
+        while (!pending.isEmpty()) {
+            final MessagePart part = pending.pop();
+            final List<MessagePart> children = part.getParts();
+            if (children != null && !children.isEmpty()) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    pending.push(children.get(i));
+                }
+            } else if (isAttachment(part)) {
+                attachments.add(describe(part));
+            }
+        }
+        return attachments;
+    }
+
+    private static boolean isAttachment(@NonNull final MessagePart part) {
+        if (part.getFilename() != null && !part.getFilename().isEmpty()) {
+            return true;
+        }
+        final String disposition = ParsedHeaders.of(part.getHeaders()).get(Header.CONTENT_DISPOSITION);
+        return disposition != null && disposition.toLowerCase(Locale.ROOT).startsWith(ATTACHMENT_DISPOSITION);
+    }
+
+    private static AttachmentDescriptor describe(@NonNull final MessagePart part) {
+        final MessagePartBody body = part.getBody();
+        return new AttachmentDescriptor(
+                part.getPartId() == null ? "" : part.getPartId(),
+                part.getFilename() == null ? "" : part.getFilename(),
+                part.getMimeType() == null ? "" : part.getMimeType().toLowerCase(Locale.ROOT),
+                body == null || body.getSize() == null ? 0L : body.getSize(),
+                body == null ? null : body.getAttachmentId());
+    }
+}
@@ -0,0 +1,173 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.inject.Inject;
+import com.projecthive.ingestion.config.ParserConfig;
+import com.projecthive.ingestion.models.GmailMessage;
+import lombok.NonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_BYTES_TRIMMED;
+
+/**
+ * Removes text that repeats or adds nothing to a message before it is persisted: quoted reply history
+ * ("On ... wrote:", Outlook "Original Message" and header blocks, {@code >} quoted lines), signatures and
+ * legal footers.
+ *
+ * <p>Lines are scanned once; only lines that start like a marker are inspected further. Everything from the
+ * first reply header, signature delimiter or footer onwards is dropped. A body that would be trimmed to
+ * nothing is kept as is.</p>
+ */
+public class BodyTrimmer {
+
+    private static final int MAX_REPLY_HEADER_LENGTH = 300;
+    private static final int MIN_SEPARATOR_UNDERSCORES = 20;
+    private static final int OUTLOOK_HEADER_LOOKAHEAD = 4;
+    private static final String[] MOBILE_SIGNATURES = {"sent from my ", "get outlook for ", "sent from mail for "};
+    private static final String[] FOOTER_OPENINGS = {
+            "confidentiality notice", "disclaimer:", "this email and any attachments", "this e-mail and any attachments",
+            "this message and any attachments", "this email is confidential", "the information contained in this"
+    };
+
+    private final boolean enabled;
+
+    public BodyTrimmer() {
+        this(ParserConfig.builder().build());
+    }
+
+    @Inject
+    public BodyTrimmer(@NonNull final ParserConfig parserConfig) {
+        this.enabled = parserConfig.isTrimQuotedText();
+    }
+
+    /**
+     * Trims the message body in place, recording the number of UTF-8 bytes removed in its metadata.
+     */
+    public GmailMessage trim(@NonNull final GmailMessage message) {
+        final String body = message.getBody();
+        if (!enabled || body == null || body.isEmpty()) {
+            return message;
+        }
+        final String trimmed = trimBody(body);
+        final long removedBytes = utf8Length(body) - utf8Length(trimmed);
+        if (removedBytes > 0) {
+            final Map<String, String> metadata =
+                    message.getMetadata() == null ? new HashMap<>() : new HashMap<>(message.getMetadata());
+            metadata.put(METADATA_BODY_BYTES_TRIMMED, Long.toString(removedBytes));
+            message.setMetadata(metadata);
+            message.setBody(trimmed);
+        }
+        return message;
+    }
+
+    static String trimBody(@NonNull final String body) {
+        final StringBuilder kept = new StringBuilder(body.length());
+        int lineStart = 0;
+        while (lineStart < body.length()) {
+            final int newline = body.indexOf('\n', lineStart);
+            final int lineEnd = newline < 0 ? body.length() : newline;
+            final int nextStart = newline < 0 ? body.length() : newline + 1;
+
+            if (startsTrailer(body, lineStart, lineEnd, nextStart)) {
+                break;
+            }
+            if (!isQuotedLine(body, lineStart, lineEnd)) {
+                kept.append(body, lineStart, lineEnd).append('\n');
+            }
+            lineStart = nextStart;
+        }
+
+        final String result = kept.toString().strip();
+        return result.isEmpty() ? body : result;
+    }
+
+    // Whether the line opens quoted history, a signature or a footer, i.e. everything from here on goes
+    private static boolean startsTrailer(final String body, final int start, final int end, final int nextStart) {
+        final String line = body.substring(start, end).strip();
+        if (line.isEmpty()) {
+            return false;
+        }
+        if (line.equals("--") || line.equals("__") || isOriginalMessageSeparator(line)) {
+            return true;
+        }
+        final String lower = line.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("on ") && line.length() <= MAX_REPLY_HEADER_LENGTH) {
+            // Clients often wrap long attributions, so the "wrote:" may sit on the following line
+            return lower.endsWith("wrote:") || nextLine(body, nextStart).toLowerCase(Locale.ROOT).endsWith("wrote:");
+        }
+        if (line.length() >= MIN_SEPARATOR_UNDERSCORES && line.chars().allMatch(c -> c == '_')) {
+            return true; // Outlook puts a rule of underscores above the quoted headers
+        }
+        if (lower.startsWith("from:")) {
+            return hasOutlookHeaderBelow(body, nextStart);
+        }
+        return startsWithAny(lower, MOBILE_SIGNATURES) || startsWithAny(lower, FOOTER_OPENINGS);
+    }
+
+    private static boolean isOriginalMessageSeparator(final String line) {
+        return line.startsWith("-----") && line.toLowerCase(Locale.ROOT).contains("original message");
+    }
+
+    private static boolean hasOutlookHeaderBelow(final String body, final int from) {
+        int lineStart = from;
+        for (int i = 0; i < OUTLOOK_HEADER_LOOKAHEAD && lineStart < body.length(); i++) {
+            final String line = nextLine(body, lineStart).toLowerCase(Locale.ROOT);
+            if (line.startsWith("sent:") || line.startsWith("date:")) {
+                return true;
+            }
+            final int newline = body.indexOf('\n', lineStart);
+            lineStart = newline < 0 ? body.length() : newline + 1;
+        }
+        return false;
+    }
+
+    private static boolean isQuotedLine(final String body, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = body.charAt(i);
+            if (c == '>') {
+                return true;
+            }
+            if (c != ' ' && c != '\t') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static String nextLine(final String body, final int start) {
+        if (start >= body.length()) {
+            return "";
+        }
+        final int newline = body.indexOf('\n', start);
+        return body.substring(start, newline < 0 ? body.length() : newline).strip();
+    }
+
+    private static boolean startsWithAny(final String line, final String[] prefixes) {
+        for (final String prefix : prefixes) {
+            if (line.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static long utf8Length(@NonNull final CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
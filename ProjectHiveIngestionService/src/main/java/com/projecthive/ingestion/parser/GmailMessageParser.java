@@ -1,37 +1,127 @@
 package com.projecthive.ingestion.parser;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.services.gmail.model.Message;
-import com.google.api.services.gmail.model.MessagePartHeader;
+import com.google.inject.Inject;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.config.ParserConfig;
+import com.projecthive.ingestion.models.AttachmentDescriptor;
+import com.projecthive.ingestion.models.EmailAddress;
+import com.projecthive.ingestion.models.ExtractedBody;
 import com.projecthive.ingestion.models.GmailMessage;
+import com.projecthive.ingestion.parser.ParsedHeaders.Header;
 import lombok.NonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_ATTACHMENTS;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_ATTACHMENT_COUNT;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_MIME_TYPE;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_TRUNCATED;
 
 public class GmailMessageParser {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final MimeBodyExtractor bodyExtractor;
+    private final AddressListParser addressParser;
+
+    public GmailMessageParser() {
+        this(ParserConfig.builder().build());
+    }
+
+    @Inject
+    public GmailMessageParser(@NonNull final ParserConfig parserConfig) {
+        this.bodyExtractor = new MimeBodyExtractor(parserConfig.getMaxBodyBytes());
+        this.addressParser = new AddressListParser(parserConfig.getAddressCacheSize());
+    }
+
+    /**
+     * The narrowest message shape that still carries everything {@link #parse} reads, which includes the
+     * MIME part bodies.
+     */
+    public FetchProfile requiredFetchProfile() {
+        return FetchProfile.full();
+    }
+
     public GmailMessage parse(@NonNull final Message message) {
+        final ParsedHeaders headers = ParsedHeaders.of(
+                message.getPayload() == null ? null : message.getPayload().getHeaders());
+        final Optional<ExtractedBody> body = bodyExtractor.extract(message.getPayload());
+        final Map<String, String> metadata = new HashMap<>();
+        body.ifPresent(extracted -> {
+            metadata.put(METADATA_BODY_MIME_TYPE, extracted.getMimeType());
+            if (extracted.isTruncated()) {
+                metadata.put(METADATA_BODY_TRUNCATED, Boolean.TRUE.toString());
+            }
+        });
+        // Only descriptors are kept; payloads are fetched on demand through GmailClient.fetchAttachment
+        final List<EmailAddress> from = addressParser.parse(headers.get(Header.FROM));
+        final List<AttachmentDescriptor> attachments = AttachmentScanner.scan(message.getPayload());
+        if (!attachments.isEmpty()) {
+            metadata.put(METADATA_ATTACHMENT_COUNT, Integer.toString(attachments.size()));
+            metadata.put(METADATA_ATTACHMENTS, toJson(attachments));
+        }
+
         return GmailMessage.builder()
                 .id(message.getId())
-                .from(extractHeader(message, "From"))
-                .to(extractHeader(message, "To"))
-                .subject(extractHeader(message, "Subject"))
-                .body(message.getSnippet()) // could extract full body later
+                .from(headers.getOrEmpty(Header.FROM))
+                .to(headers.getOrEmpty(Header.TO))
+                .subject(headers.getOrEmpty(Header.SUBJECT))
+                .body(body.map(ExtractedBody::getText).orElse(message.getSnippet())) // Snippet when no text part exists
                 .receivedAt(message.getInternalDate())
+                .metadata(metadata)
+                .threadId(message.getThreadId())
+                .inReplyTo(firstOrNull(messageIds(headers.get(Header.IN_REPLY_TO))))
+                .references(messageIds(headers.get(Header.REFERENCES)))
+                .fromAddress(from.isEmpty() ? null : from.get(0))
+                .toAddresses(addressParser.parse(headers.get(Header.TO)))
+                .ccAddresses(addressParser.parse(headers.get(Header.CC)))
+                .bccAddresses(addressParser.parse(headers.get(Header.BCC)))
+                .replyToAddresses(addressParser.parse(headers.get(Header.REPLY_TO)))
                 .build();
     }
 
-    private String extractHeader(@NonNull final Message message, @NonNull final String headerName) {
-        if (message.getPayload() == null || message.getPayload().getHeaders() == null) {
-            return "";
+    // Message-IDs are <id@host> tokens; headers are often folded or comma separated, and some clients omit the brackets
+    static List<String> messageIds(final String header) {
+        if (header == null || header.isBlank()) {
+            return List.of();
         }
-        
-        final List<MessagePartHeader> headers = message.getPayload().getHeaders();
-
-        for (MessagePartHeader header : headers) {
-            if (headerName.equalsIgnoreCase(header.getName())) {
-                return header.getValue();
+        final List<String> ids = new ArrayList<>();
+        int start = header.indexOf('<');
+        if (start < 0) {
+            for (final String token : header.trim().split("[\\s,]+")) {
+                ids.add(token);
+            }
+            return ids;
+        }
+        while (start >= 0) {
+            final int end = header.indexOf('>', start);
+            if (end < 0) {
+                break;
+            }
+            if (end > start + 1) {
+                ids.add(header.substring(start, end + 1));
             }
+            start = header.indexOf('<', end);
+        }
+        return ids;
+    }
+
+    private static String firstOrNull(@NonNull final List<String> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static String toJson(@NonNull final List<AttachmentDescriptor> attachments) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attachments);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize attachment descriptors", e);
         }
-        return "";
     }
 }
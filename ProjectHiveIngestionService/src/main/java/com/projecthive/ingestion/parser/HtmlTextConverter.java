@@ -0,0 +1,272 @@
+package com.projecthive.ingestion.parser;
+
+/**
+ * Converts HTML to plain text as a stream of chunks, without building a DOM.
+ *
+ * <p>Markup is consumed by a small state machine: text is kept, whitespace is collapsed, block-level tags become
+ * line breaks, entities are decoded, and the contents of script, style, head and similar elements are dropped.
+ * Images (including tracking pixels) produce no output; link text is kept as ordinary text. Only the tag name
+ * and entity being parsed are buffered, so memory stays flat however large the input is.</p>
+ *
+ * <p>Instances are single-use and not thread-safe.</p>
+ */
+public final class HtmlTextConverter {
+
+    private static final int MAX_TAG_NAME_LENGTH = 16;
+    private static final int MAX_ENTITY_LENGTH = 10;
+    private static final int MAX_CONSECUTIVE_BREAKS = 2;
+    private static final int DROPPED = 0; // Zero-width entities used as spacers in newsletter preheaders
+    private static final char NO_BREAK_SPACE = '\u00A0';
+    private static final String[] BLOCK_TAGS = {
+            "p", "div", "br", "li", "ul", "ol", "tr", "table", "h1", "h2", "h3", "h4", "h5", "h6",
+            "blockquote", "hr", "pre", "section", "article", "header", "footer", "dd", "dt"
+    };
+    private static final String[] SKIPPED_TAGS = {"script", "style", "head", "noscript", "template", "svg"};
+
+    private enum State { TEXT, TAG, COMMENT, ENTITY }
+
+    private final int maxChars;
+    private final StringBuilder output = new StringBuilder();
+    private final StringBuilder tagName = new StringBuilder(MAX_TAG_NAME_LENGTH);
+    private final StringBuilder entity = new StringBuilder(MAX_ENTITY_LENGTH);
+
+    private State state = State.TEXT;
+    private String skippedTag;       // Set while inside an element whose content is dropped
+    private boolean closingTag;
+    private boolean tagNameDone;
+    private char attributeQuote;     // Quote character of the attribute value being read, or 0
+    private int commentDashes;
+    private boolean pendingSpace;
+    private int pendingBreaks;
+    private boolean full;
+
+    public HtmlTextConverter(final int maxChars) {
+        if (maxChars < 1) {
+            throw new IllegalArgumentException("Text budget must be positive");
+        }
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Consumes the next chunk of HTML. Returns {@code false} once the text budget is used up, after which
+     * further input is ignored.
+     */
+    public boolean feed(final CharSequence chunk) {
+        for (int i = 0, length = chunk.length(); i < length && !full; i++) {
+            accept(chunk.charAt(i));
+        }
+        return !full;
+    }
+
+    /**
+     * Whether the output was cut off at the text budget.
+     */
+    public boolean isTruncated() {
+        return full;
+    }
+
+    /**
+     * Flushes any half-read entity and returns the text produced so far.
+     */
+    public String finish() {
+        if (state == State.ENTITY) {
+            emitRaw(entity);
+            state = State.TEXT;
+        }
+        return output.toString();
+    }
+
+    private void accept(final char c) {
+        switch (state) {
+            case TEXT -> acceptText(c);
+            case TAG -> acceptTag(c);
+            case COMMENT -> acceptComment(c);
+            case ENTITY -> acceptEntity(c);
+        }
+    }
+
+    private void acceptText(final char c) {
+        if (c == '<') {
+            state = State.TAG;
+            tagName.setLength(0);
+            closingTag = false;
+            tagNameDone = false;
+            attributeQuote = 0;
+        } else if (skippedTag != null) {
+            return;
+        } else if (c == '&') {
+            state = State.ENTITY;
+            entity.setLength(0);
+            entity.append(c);
+        } else {
+            emit(c);
+        }
+    }
+
+    private void acceptTag(final char c) {
+        if (attributeQuote != 0) {
+            if (c == attributeQuote) {
+                attributeQuote = 0;
+            }
+            return;
+        }
+        if (c == '>') {
+            state = State.TEXT;
+            endTag();
+            return;
+        }
+        if (c == '<') {
+            acceptText(c); // Not a tag after all (e.g. "a<b" in a script); restart at the new bracket
+            return;
+        }
+        if (tagNameDone) {
+            if (c == '"' || c == '\'') {
+                attributeQuote = c;
+            }
+            return;
+        }
+        if (c == '/' && tagName.isEmpty() && !closingTag) {
+            closingTag = true;
+        } else if (Character.isWhitespace(c) || c == '/') {
+            tagNameDone = !tagName.isEmpty() || closingTag;
+        } else {
+            if (tagName.length() < MAX_TAG_NAME_LENGTH) {
+                tagName.append(c);
+            }
+            if (tagName.length() == 3 && tagName.charAt(0) == '!' && tagName.charAt(1) == '-' && tagName.charAt(2) == '-') {
+                state = State.COMMENT;
+                commentDashes = 0;
+            }
+        }
+    }
+
+    private void acceptComment(final char c) {
+        if (c == '>' && commentDashes >= 2) {
+            state = State.TEXT;
+        } else {
+            commentDashes = c == '-' ? commentDashes + 1 : 0;
+        }
+    }
+
+    private void acceptEntity(final char c) {
+        if (c == ';') {
+            state = State.TEXT;
+            final int decoded = decodeEntity(entity);
+            if (decoded < 0) {
+                entity.append(c);
+                emitRaw(entity);
+            } else if (decoded != DROPPED) {
+                for (final char unit : Character.toChars(decoded)) {
+                    emit(unit);
+                }
+            }
+        } else if (entity.length() >= MAX_ENTITY_LENGTH || !(Character.isLetterOrDigit(c) || c == '#')) {
+            state = State.TEXT;
+            emitRaw(entity);
+            acceptText(c);
+        } else {
+            entity.append(c);
+        }
+    }
+
+    private void endTag() {
+        if (tagName.isEmpty() || tagName.charAt(0) == '!' || tagName.charAt(0) == '?') {
+            return; // Doctype or processing instruction
+        }
+        if (skippedTag != null) {
+            if (closingTag && nameIs(skippedTag)) {
+                skippedTag = null;
+            }
+            return;
+        }
+        if (!closingTag) {
+            for (final String skipped : SKIPPED_TAGS) {
+                if (nameIs(skipped)) {
+                    skippedTag = skipped;
+                    return;
+                }
+            }
+        }
+        for (final String block : BLOCK_TAGS) {
+            if (nameIs(block)) {
+                pendingBreaks = Math.min(MAX_CONSECUTIVE_BREAKS, pendingBreaks + (block.equals("p") ? 2 : 1));
+                return;
+            }
+        }
+        if (nameIs("td") || nameIs("th")) {
+            pendingSpace = true;
+        }
+    }
+
+    private boolean nameIs(final String name) {
+        if (tagName.length() != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (Character.toLowerCase(tagName.charAt(i)) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void emit(final char c) {
+        if (Character.isWhitespace(c) || c == NO_BREAK_SPACE) {
+            pendingSpace = true;
+            return;
+        }
+        if (output.length() >= maxChars) {
+            full = true;
+            return;
+        }
+        if (!output.isEmpty()) {
+            if (pendingBreaks > 0) {
+                for (int i = 0; i < pendingBreaks; i++) {
+                    output.append('\n');
+                }
+            } else if (pendingSpace) {
+                output.append(' ');
+            }
+        }
+        pendingBreaks = 0;
+        pendingSpace = false;
+        output.append(c);
+    }
+
+    private void emitRaw(final CharSequence text) {
+        for (int i = 0; i < text.length() && !full; i++) {
+            emit(text.charAt(i));
+        }
+    }
+
+    // Returns the decoded code point, DROPPED for invisible ones, or -1 for an entity we don't know
+    private static int decodeEntity(final StringBuilder entity) {
+        if (entity.length() > 2 && entity.charAt(1) == '#') {
+            final boolean hex = entity.charAt(2) == 'x' || entity.charAt(2) == 'X';
+            try {
+                final int codePoint = Integer.parseInt(entity, hex ? 3 : 2, entity.length(), hex ? 16 : 10);
+                return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+            } catch (final NumberFormatException e) {
+                return -1;
+            }
+        }
+        return switch (entity.substring(1)) {
+            case "amp" -> '&';
+            case "lt" -> '<';
+            case "gt" -> '>';
+            case "quot" -> '"';
+            case "apos" -> '\'';
+            case "nbsp" -> NO_BREAK_SPACE;
+            case "mdash" -> '\u2014';
+            case "ndash" -> '\u2013';
+            case "hellip" -> '\u2026';
+            case "lsquo" -> '\u2018';
+            case "rsquo" -> '\u2019';
+            case "ldquo" -> '\u201C';
+            case "rdquo" -> '\u201D';
+            case "copy" -> '\u00A9';
+            case "zwnj", "zwj", "shy" -> DROPPED;
+            default -> -1;
+        };
+    }
+}
@@ -0,0 +1,196 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePart;
+import com.google.api.services.gmail.model.MessagePartBody;
+import com.projecthive.ingestion.models.ExtractedBody;
+import com.projecthive.ingestion.parser.ParsedHeaders.Header;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Picks the text body out of a Gmail {@link MessagePart} tree: the first inline text/plain part, or the first
+ * text/html part when there is no plain alternative.
+ *
+ * <p>Part data is base64url text. It is decoded as a stream into a per-thread buffer of {@code maxBodyBytes},
+ * so a large body is never materialised as an intermediate byte array or String, and decoding stops once the
+ * budget is spent. HTML bodies are decoded in chunks and fed through {@link HtmlTextConverter}, so the budget
+ * caps the extracted text rather than the markup.</p>
+ */
+public class MimeBodyExtractor {
+    private static final Logger logger = LogManager.getLogger(MimeBodyExtractor.class);
+
+    static final String TEXT_PLAIN = "text/plain";
+    static final String TEXT_HTML = "text/html";
+    private static final String CHARSET_PARAMETER = "charset=";
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+    private static final int HTML_CHUNK_CHARS = 8 * 1024;
+
+    private final int maxBodyBytes;
+    private final ThreadLocal<byte[]> buffers;
+    private final ThreadLocal<CharBuffer> htmlChunks = ThreadLocal.withInitial(() -> CharBuffer.allocate(HTML_CHUNK_CHARS));
+
+    public MimeBodyExtractor(final int maxBodyBytes) {
+        if (maxBodyBytes < 1) {
+            throw new IllegalArgumentException("Body byte budget must be positive");
+        }
+        this.maxBodyBytes = maxBodyBytes;
+        this.buffers = ThreadLocal.withInitial(() -> new byte[maxBodyBytes]);
+    }
+
+    public Optional<ExtractedBody> extract(final MessagePart payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        MessagePart plain = null;
+        MessagePart html = null;
+
+        // Depth-first in document order, so the first alternative of each type wins
+        final Deque<MessagePart> pending = new ArrayDeque<>();
+        pending.push(payload);
+        while (!pending.isEmpty() && plain == null) {
+            final MessagePart part = pending.pop();
+            final List<MessagePart> children = part.getParts();
+            if (children != null && !children.isEmpty()) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    pending.push(children.get(i));
+                }
+            } else if (isInlineText(part)) {
+                final String mimeType = mimeType(part);
+                if (TEXT_PLAIN.equals(mimeType)) {
+                    plain = part;
+                } else if (TEXT_HTML.equals(mimeType) && html == null) {
+                    html = part;
+                }
+            }
+        }
+
+        final MessagePart chosen = plain != null ? plain : html;
+        if (chosen == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(chosen == plain ? decode(chosen) : decodeHtml(chosen));
+    }
+
+    private ExtractedBody decode(@NonNull final MessagePart part) {
+        final byte[] buffer = buffers.get();
+        int length = 0;
+        boolean truncated = false;
+
+        try (InputStream decoded = Base64.getUrlDecoder().wrap(new AsciiInputStream(part.getBody().getData()))) {
+            int read;
+            while (length < maxBodyBytes && (read = decoded.read(buffer, length, maxBodyBytes - length)) != -1) {
+                length += read;
+            }
+            truncated = length == maxBodyBytes && decoded.read() != -1;
+        } catch (final IOException | IllegalArgumentException e) {
+            logger.warn("Skipping undecodable {} part {}", mimeType(part), part.getPartId(), e);
+            return null;
+        }
+
+        // Charset.decode replaces malformed input rather than failing the whole message
+        String text = charset(part).decode(ByteBuffer.wrap(buffer, 0, length)).toString();
+        if (truncated && !text.isEmpty() && text.charAt(text.length() - 1) == REPLACEMENT_CHARACTER) {
+            // The budget split a multi-byte character
+            text = text.substring(0, text.length() - 1);
+        }
+        return new ExtractedBody(text, mimeType(part), truncated);
+    }
+
+    // HTML is converted chunk by chunk while it is decoded; the budget applies to the resulting text
+    private ExtractedBody decodeHtml(@NonNull final MessagePart part) {
+        final HtmlTextConverter converter = new HtmlTextConverter(maxBodyBytes);
+        final CharsetDecoder charsetDecoder = charset(part).newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final ByteBuffer bytes = ByteBuffer.wrap(buffers.get());
+        final CharBuffer chars = htmlChunks.get();
+        chars.clear();
+
+        try (InputStream decoded = Base64.getUrlDecoder().wrap(new AsciiInputStream(part.getBody().getData()))) {
+            boolean endOfInput = false;
+            boolean accepting = true;
+            while (accepting && !endOfInput) {
+                final int read = decoded.read(bytes.array(), bytes.position(), bytes.remaining());
+                endOfInput = read == -1;
+                if (!endOfInput) {
+                    bytes.position(bytes.position() + read);
+                }
+                bytes.flip();
+                CoderResult result;
+                do {
+                    result = charsetDecoder.decode(bytes, chars, endOfInput);
+                    accepting = drain(chars, converter);
+                } while (accepting && result.isOverflow());
+                bytes.compact();
+            }
+            if (accepting) {
+                charsetDecoder.flush(chars);
+                drain(chars, converter);
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            logger.warn("Skipping undecodable {} part {}", mimeType(part), part.getPartId(), e);
+            return null;
+        }
+        return new ExtractedBody(converter.finish(), mimeType(part), converter.isTruncated());
+    }
+
+    private static boolean drain(@NonNull final CharBuffer chars, @NonNull final HtmlTextConverter converter) {
+        chars.flip();
+        final boolean accepting = converter.feed(chars);
+        chars.clear();
+        return accepting;
+    }
+
+    private static boolean isInlineText(@NonNull final MessagePart part) {
+        final MessagePartBody body = part.getBody();
+        if (body == null || body.getData() == null) {
+            return false; // Bodies stored as attachments are not fetched here
+        }
+        if (part.getFilename() != null && !part.getFilename().isEmpty()) {
+            return false;
+        }
+        final String disposition = ParsedHeaders.of(part.getHeaders()).get(Header.CONTENT_DISPOSITION);
+        return disposition == null || !disposition.toLowerCase(Locale.ROOT).startsWith("attachment");
+    }
+
+    private static String mimeType(@NonNull final MessagePart part) {
+        return part.getMimeType() == null ? "" : part.getMimeType().toLowerCase(Locale.ROOT);
+    }
+
+    static Charset charset(@NonNull final MessagePart part) {
+        final String contentType = ParsedHeaders.of(part.getHeaders()).get(Header.CONTENT_TYPE);
+        if (contentType == null) {
+            return StandardCharsets.UTF_8;
+        }
+        final int start = contentType.toLowerCase(Locale.ROOT).indexOf(CHARSET_PARAMETER);
+        if (start < 0) {
+            return StandardCharsets.UTF_8;
+        }
+        String name = contentType.substring(start + CHARSET_PARAMETER.length());
+        final int end = name.indexOf(';');
+        name = (end < 0 ? name : name.substring(0, end)).trim().replace("\"", "").replace("'", "");
+        try {
+            return Charset.forName(name);
+        } catch (final IllegalArgumentException e) {
+            // Covers both illegal and unsupported names; UTF-8 is a superset of the usual us-ascii mislabel
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
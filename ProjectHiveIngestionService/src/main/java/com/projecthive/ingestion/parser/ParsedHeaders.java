@@ -0,0 +1,116 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePartHeader;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A case-insensitive index of the headers the pipeline reads, built in a single pass over a part's header list.
+ *
+ * <p>Real messages carry dozens of headers (Received, DKIM-Signature, ARC-*, X-*) that are never read. Each one
+ * is rejected by a length-bucketed lookup, so the common case costs an array read and no allocation; only
+ * headers whose length matches a known name are compared. The first occurrence of a header wins.</p>
+ */
+public final class ParsedHeaders {
+
+    public enum Header {
+        FROM("From"),
+        TO("To"),
+        CC("Cc"),
+        BCC("Bcc"),
+        REPLY_TO("Reply-To"),
+        SUBJECT("Subject"),
+        DATE("Date"),
+        MESSAGE_ID("Message-ID"),
+        IN_REPLY_TO("In-Reply-To"),
+        REFERENCES("References"),
+        LIST_ID("List-Id"),
+        LIST_UNSUBSCRIBE("List-Unsubscribe"),
+        CONTENT_TYPE("Content-Type"),
+        CONTENT_DISPOSITION("Content-Disposition");
+
+        private final String headerName;
+
+        Header(final String headerName) {
+            this.headerName = headerName;
+        }
+
+        public String headerName() {
+            return headerName;
+        }
+    }
+
+    private static final Header[] HEADERS = Header.values();
+    private static final Header[][] BY_LENGTH = indexByLength();
+    private static final ParsedHeaders EMPTY = new ParsedHeaders(new String[HEADERS.length]);
+
+    private final String[] values;
+
+    private ParsedHeaders(final String[] values) {
+        this.values = values;
+    }
+
+    public static ParsedHeaders of(final List<MessagePartHeader> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return EMPTY;
+        }
+        final String[] values = new String[HEADERS.length];
+        for (int i = 0, size = headers.size(); i < size; i++) {
+            final MessagePartHeader header = headers.get(i);
+            final Header known = lookup(header.getName());
+            if (known != null && values[known.ordinal()] == null) {
+                values[known.ordinal()] = header.getValue();
+            }
+        }
+        return new ParsedHeaders(values);
+    }
+
+    /**
+     * The first value of {@code header}, or {@code null} when the message doesn't carry it.
+     */
+    public String get(final Header header) {
+        return values[header.ordinal()];
+    }
+
+    public String getOrEmpty(final Header header) {
+        final String value = values[header.ordinal()];
+        return value == null ? "" : value;
+    }
+
+    public boolean contains(final Header header) {
+        return values[header.ordinal()] != null;
+    }
+
+    static Header lookup(final String name) {
+        if (name == null || name.length() >= BY_LENGTH.length) {
+            return null;
+        }
+        final Header[] candidates = BY_LENGTH[name.length()];
+        if (candidates == null) {
+            return null;
+        }
+        for (final Header candidate : candidates) {
+            if (candidate.headerName.equalsIgnoreCase(name)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Header[][] indexByLength() {
+        int maxLength = 0;
+        for (final Header header : HEADERS) {
+            maxLength = Math.max(maxLength, header.headerName.length());
+        }
+        final Header[][] byLength = new Header[maxLength + 1][];
+        for (final Header header : HEADERS) {
+            final int length = header.headerName.length();
+            final Header[] existing = byLength[length];
+            final Header[] bucket = existing == null ? new Header[1] : Arrays.copyOf(existing, existing.length + 1);
+            bucket[bucket.length - 1] = header;
+            byLength[length] = bucket;
+        }
+        return byLength;
+    }
+}
@@ -0,0 +1,253 @@
+package com.projecthive.ingestion.pipeline;
+
+import com.projecthive.ingestion.models.PipelineResult;
+import com.projecthive.ingestion.models.StageMetrics;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A linear pipeline in which every stage runs on its own virtual thread and hands items to the next
+ * stage through a bounded queue, so that I/O-bound stages overlap instead of running back to back.
+ *
+ * <p>A stage that returns {@code null} drops the item. When the source is exhausted an end-of-stream
+ * marker drains through every queue, so {@link #drainTo} returns only after the sink has consumed every
+ * item. If any stage throws, the remaining stages are interrupted and the first failure is rethrown.
+ * A {@link #stopWhen stop condition} ends the source early while still draining what is in flight.</p>
+ *
+ * @param <T> type of the items produced by the last stage added so far
+ */
+public final class StagedPipeline<T> {
+    private static final Logger logger = LogManager.getLogger(StagedPipeline.class);
+
+    private static final Object END_OF_STREAM = new Object();
+
+    private final String sourceName;
+    private final Iterator<?> source;
+    private final int queueCapacity;
+    private final List<Stage> stages;
+    private final BooleanSupplier stopCondition;
+
+    private StagedPipeline(
+            @NonNull final String sourceName,
+            @NonNull final Iterator<?> source,
+            final int queueCapacity,
+            @NonNull final List<Stage> stages,
+            @NonNull final BooleanSupplier stopCondition
+    ) {
+        this.sourceName = sourceName;
+        this.source = source;
+        this.queueCapacity = queueCapacity;
+        this.stages = stages;
+        this.stopCondition = stopCondition;
+    }
+
+    public static <T> StagedPipeline<T> from(
+            @NonNull final String name,
+            @NonNull final Iterator<T> source,
+            final int queueCapacity
+    ) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Pipeline queue capacity must be positive");
+        }
+        return new StagedPipeline<>(name, source, queueCapacity, List.of(), () -> false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> StagedPipeline<R> then(
+            @NonNull final String name,
+            @NonNull final Function<? super T, ? extends R> function
+    ) {
+        final List<Stage> next = new ArrayList<>(stages);
+        next.add(new Stage(name, item -> function.apply((T) item)));
+        return new StagedPipeline<>(sourceName, source, queueCapacity, next, stopCondition);
+    }
+
+    /**
+     * Checked before every item is pulled from the source; once it returns {@code true} no new items enter
+     * the pipeline, while items already in flight still run through every stage.
+     */
+    public StagedPipeline<T> stopWhen(@NonNull final BooleanSupplier condition) {
+        return new StagedPipeline<>(sourceName, source, queueCapacity, stages, condition);
+    }
+
+    /**
+     * Runs the pipeline into {@code sink} and blocks until every item has been consumed or a stage failed.
+     */
+    @SuppressWarnings("unchecked")
+    public PipelineResult drainTo(@NonNull final String name, @NonNull final Consumer<? super T> sink) {
+        final List<Stage> allStages = new ArrayList<>(stages);
+        allStages.add(new Stage(name, item -> {
+            sink.accept((T) item);
+            return null;
+        }));
+
+        final Counter sourceCounter = new Counter(sourceName);
+        final List<Counter> counters = new ArrayList<>();
+        counters.add(sourceCounter);
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final long startNanos = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("pipeline-", 0).factory())) {
+            final List<Runnable> workers = new ArrayList<>();
+            BlockingQueue<Object> input = new ArrayBlockingQueue<>(queueCapacity);
+            final BlockingQueue<Object> sourceOutput = input;
+            workers.add(guarded(executor, failure, () -> runSource(sourceOutput, sourceCounter)));
+
+            for (int i = 0; i < allStages.size(); i++) {
+                final Stage stage = allStages.get(i);
+                final boolean last = i == allStages.size() - 1;
+                final BlockingQueue<Object> stageInput = input;
+                final BlockingQueue<Object> stageOutput = last ? null : new ArrayBlockingQueue<>(queueCapacity);
+                final Counter counter = new Counter(stage.name);
+                counters.add(counter);
+
+                workers.add(guarded(executor, failure, () -> runStage(stage, stageInput, stageOutput, counter)));
+                input = stageOutput;
+            }
+
+            for (final Runnable worker : workers) {
+                try {
+                    executor.execute(worker);
+                } catch (final RejectedExecutionException e) {
+                    // An already running stage failed and shut the executor down
+                    break;
+                }
+            }
+        }
+
+        final Throwable thrown = failure.get();
+        if (thrown instanceof Error error) {
+            throw error;
+        }
+        if (thrown != null) {
+            throw (RuntimeException) thrown;
+        }
+
+        final List<StageMetrics> metrics = counters.stream().map(Counter::toMetrics).toList();
+        final PipelineResult result = new PipelineResult(metrics.getLast().getProcessed(),
+                (System.nanoTime() - startNanos) / 1_000_000L, sourceCounter.stopped, metrics);
+        metrics.forEach(stage -> logger.info(
+                "Stage {} processed {} items, {} ms busy ({} items/s), peak queue depth {}/{}",
+                stage.getStage(), stage.getProcessed(), stage.getBusyMillis(),
+                String.format("%.1f", stage.throughputPerSecond()), stage.getPeakQueueDepth(), queueCapacity));
+        logger.info("Pipeline completed {} items in {} ms{}", result.getCompleted(), result.getElapsedMillis(),
+                result.isStoppedEarly() ? ", stopped early" : "");
+        return result;
+    }
+
+    private void runSource(
+            @NonNull final BlockingQueue<Object> output,
+            @NonNull final Counter counter
+    ) throws InterruptedException {
+        while (true) {
+            if (stopCondition.getAsBoolean()) {
+                counter.stopped = true;
+                break;
+            }
+            final long startNanos = System.nanoTime();
+            if (!source.hasNext()) {
+                counter.busyNanos += System.nanoTime() - startNanos;
+                break;
+            }
+            final Object item = source.next();
+            counter.busyNanos += System.nanoTime() - startNanos;
+            counter.processed++;
+            output.put(item);
+        }
+        output.put(END_OF_STREAM);
+    }
+
+    private static void runStage(
+            @NonNull final Stage stage,
+            @NonNull final BlockingQueue<Object> input,
+            final BlockingQueue<Object> output,
+            @NonNull final Counter counter
+    ) throws InterruptedException {
+        while (true) {
+            counter.peakQueueDepth = Math.max(counter.peakQueueDepth, input.size());
+            final Object item = input.take();
+            if (item == END_OF_STREAM) {
+                if (output != null) {
+                    output.put(END_OF_STREAM);
+                }
+                return;
+            }
+
+            final long startNanos = System.nanoTime();
+            final Object result = stage.function.apply(item);
+            counter.busyNanos += System.nanoTime() - startNanos;
+            counter.processed++;
+
+            if (output != null && result != null) {
+                output.put(result);
+            }
+        }
+    }
+
+    private static Runnable guarded(
+            @NonNull final ExecutorService executor,
+            @NonNull final AtomicReference<Throwable> failure,
+            @NonNull final Worker worker
+    ) {
+        return () -> {
+            try {
+                worker.run();
+            } catch (final InterruptedException e) {
+                // Interrupted because another stage failed; that failure is what gets reported
+                Thread.currentThread().interrupt();
+            } catch (final Throwable t) {
+                if (failure.compareAndSet(null, t)) {
+                    executor.shutdownNow();
+                }
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run() throws InterruptedException;
+    }
+
+    private static final class Stage {
+        private final String name;
+        private final Function<Object, Object> function;
+
+        private Stage(final String name, final Function<Object, Object> function) {
+            this.name = name;
+            this.function = function;
+        }
+    }
+
+    // Each counter is written by a single stage thread and read after the executor has terminated
+    private static final class Counter {
+        private final String name;
+        private long processed;
+        private long busyNanos;
+        private int peakQueueDepth;
+        private boolean stopped;
+
+        private Counter(final String name) {
+            this.name = name;
+        }
+
+        private StageMetrics toMetrics() {
+            return new StageMetrics(name, processed, busyNanos / 1_000_000L, peakQueueDepth);
+        }
+    }
+}
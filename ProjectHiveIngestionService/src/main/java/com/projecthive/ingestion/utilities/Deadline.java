@@ -0,0 +1,47 @@
+package com.projecthive.ingestion.utilities;
+
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A point in time by which an invocation has to finish, typically derived from
+ * {@code Context.getRemainingTimeInMillis()}.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoClock;
+
+    private Deadline(final long deadlineNanos, @NonNull final LongSupplier nanoClock) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public static Deadline in(final long remainingMillis) {
+        return in(remainingMillis, System::nanoTime);
+    }
+
+    public static Deadline in(final long remainingMillis, @NonNull final LongSupplier nanoClock) {
+        return new Deadline(nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(remainingMillis), nanoClock);
+    }
+
+    /**
+     * A deadline that never expires, for callers without a time budget.
+     */
+    public static Deadline none() {
+        return new Deadline(Long.MAX_VALUE, () -> 0L);
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - nanoClock.getAsLong());
+    }
+
+    /**
+     * Whether no more than {@code marginMillis} remain before the deadline.
+     */
+    public boolean isWithin(final long marginMillis) {
+        return remainingMillis() <= marginMillis;
+    }
+}
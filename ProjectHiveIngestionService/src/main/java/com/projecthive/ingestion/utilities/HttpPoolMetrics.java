@@ -0,0 +1,66 @@
+package com.projecthive.ingestion.utilities;
+
+import com.projecthive.ingestion.models.HttpPoolStats;
+import lombok.NonNull;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects connection pool metrics from every SDK client that shares the HTTP client.
+ *
+ * <p>The SDK reports pool state on each API call attempt; only peaks and counts are kept, so publishing is
+ * cheap and safe from any SDK thread. {@link #snapshotAndReset()} reads and clears them, once per
+ * invocation.</p>
+ *
+ * <p>The summarization service has an identical copy; change both together.</p>
+ */
+public class HttpPoolMetrics implements MetricPublisher {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAccumulator maxConcurrency = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakLeased = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakPending = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakAcquireMillis = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void publish(@NonNull final MetricCollection metricCollection) {
+        record(metricCollection);
+    }
+
+    public HttpPoolStats snapshotAndReset() {
+        return new HttpPoolStats(
+                requests.sumThenReset(),
+                (int) maxConcurrency.getThenReset(),
+                (int) peakLeased.getThenReset(),
+                (int) peakPending.getThenReset(),
+                peakAcquireMillis.getThenReset());
+    }
+
+    @Override
+    public void close() {
+        // Nothing is buffered
+    }
+
+    // HTTP metrics sit on the per-attempt child collections of the API call
+    private void record(final MetricCollection collection) {
+        final List<Integer> concurrency = collection.metricValues(HttpMetric.MAX_CONCURRENCY);
+        if (!concurrency.isEmpty()) {
+            requests.increment();
+            concurrency.forEach(maxConcurrency::accumulate);
+            collection.metricValues(HttpMetric.LEASED_CONCURRENCY).forEach(peakLeased::accumulate);
+            collection.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES).forEach(peakPending::accumulate);
+            for (final Duration wait : collection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)) {
+                peakAcquireMillis.accumulate(wait.toMillis());
+            }
+        }
+        for (final MetricCollection child : collection.children()) {
+            record(child);
+        }
+    }
+}
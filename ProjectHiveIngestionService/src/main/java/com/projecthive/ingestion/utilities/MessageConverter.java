@@ -1,20 +1,24 @@
 package com.projecthive.ingestion.utilities;
 
 
+import com.projecthive.ingestion.models.EmailAddress;
 import com.projecthive.ingestion.models.GmailMessage;
 import com.projecthive.ingestion.models.Message;
 import lombok.NonNull;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
+import static com.projecthive.ingestion.constants.CommonConstants.DEFAULT_USERNAME;
 import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
 
 public final class MessageConverter {
 
     public static Message fromGmail(@NonNull final GmailMessage gmailMessage) {
         return Message.builder()
-                .id(UUID.randomUUID().toString()) // Internal ID
-                .username("jerrytang") // Using a test username for now
+                .id(messageId(DEFAULT_USERNAME, GMAIL, gmailMessage.getId()))
+                .username(DEFAULT_USERNAME)
                 .platform(GMAIL)
                 .platformMessageId(gmailMessage.getId())
                 .recipient(gmailMessage.getTo())
@@ -22,6 +26,38 @@ public final class MessageConverter {
                 .subject(gmailMessage.getSubject())
                 .body(gmailMessage.getBody())
                 .receivedAt(gmailMessage.getReceivedAt())
+                .metadata(gmailMessage.getMetadata())
+                .threadId(gmailMessage.getThreadId())
+                .inReplyTo(gmailMessage.getInReplyTo())
+                .references(gmailMessage.getReferences() == null || gmailMessage.getReferences().isEmpty()
+                        ? null
+                        : gmailMessage.getReferences())
+                .senderAddress(gmailMessage.getFromAddress() == null ? null : gmailMessage.getFromAddress().getAddress())
+                .toAddresses(addresses(gmailMessage.getToAddresses()))
+                .ccAddresses(addresses(gmailMessage.getCcAddresses()))
+                .bccAddresses(addresses(gmailMessage.getBccAddresses()))
+                .replyToAddresses(addresses(gmailMessage.getReplyToAddresses()))
                 .build();
     }
+
+    /**
+     * Name-based (type 3) UUID of the message's identity, so that re-ingesting a message yields the same id and
+     * the conditional write in {@link com.projecthive.ingestion.dao.MessageDao#save} can reject it.
+     */
+    public static String messageId(
+            @NonNull final String username,
+            @NonNull final String platform,
+            @NonNull final String platformMessageId
+    ) {
+        final String identity = platform + "#" + username + "#" + platformMessageId;
+        return UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // Empty lists are stored as absent attributes rather than empty DynamoDB lists
+    private static List<String> addresses(final List<EmailAddress> addresses) {
+        if (addresses == null || addresses.isEmpty()) {
+            return null;
+        }
+        return addresses.stream().map(EmailAddress::getAddress).toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.projecthive.ingestion.utilities;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bounded set of recently persisted Gmail message ids. The controller keeps one for the lifetime of a warm
+ * Lambda container, so a run can drop messages an earlier run already stored before fetching them from Gmail
+ * or writing them to DynamoDB.
+ *
+ * <p>Gmail message ids are 64-bit numbers written in hex, so they are held exactly, as longs in an
+ * open-addressing table: unlike a Bloom filter there are no false positives. An id that is absent (evicted,
+ * never seen, or not in Gmail's format) just takes the normal path to the conditional write. Once the
+ * capacity is reached the oldest id is evicted. Memory is fixed at about 24 bytes per id of capacity.</p>
+ */
+public final class SeenMessageFilter {
+
+    /**
+     * Most ids a {@link #snapshot} holds: 8 bytes each keeps it at 320 KB, under DynamoDB's 400 KB item limit
+     * together with the rest of the checkpoint.
+     */
+    public static final int MAX_SNAPSHOT_IDS = 40_000;
+
+    private static final long EMPTY = 0L;     // Also the key of ids that cannot be held
+    private static final int MAX_HEX_DIGITS = 16;
+
+    private final int capacity;
+    private final long[] table;               // Linear probing, at most half full
+    private final int mask;
+    private final long[] insertionOrder;      // Ring of held keys, oldest at `oldest`
+    private int oldest;
+    private int size;
+    private long hits;
+    private long misses;
+
+    public SeenMessageFilter(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.capacity = capacity;
+        this.table = new long[capacity == 0 ? 1 : Integer.highestOneBit(capacity * 2 - 1) << 1];
+        this.mask = table.length - 1;
+        this.insertionOrder = new long[capacity];
+    }
+
+    /**
+     * Whether {@code messageId} was recorded as persisted. Counts towards {@link #hits()} or {@link #misses()}.
+     */
+    public synchronized boolean contains(@NonNull final String messageId) {
+        final long key = key(messageId);
+        final boolean seen = key != EMPTY && slotOf(key) >= 0;
+        if (seen) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return seen;
+    }
+
+    public synchronized void add(@NonNull final String messageId) {
+        addKey(key(messageId));
+    }
+
+    private void addKey(final long key) {
+        if (key == EMPTY || capacity == 0 || slotOf(key) >= 0) {
+            return;
+        }
+        if (size == capacity) {
+            remove(insertionOrder[oldest]);
+            oldest = (oldest + 1) % capacity;
+            size--;
+        }
+        insertionOrder[(oldest + size) % capacity] = key;
+        size++;
+        int slot = home(key);
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * The newest {@code maxIds} ids, but never more than {@link #MAX_SNAPSHOT_IDS}, oldest first, as big-endian
+     * longs, for {@link #restore}.
+     */
+    public synchronized byte[] snapshot(final int maxIds) {
+        final int count = Math.max(0, Math.min(Math.min(maxIds, MAX_SNAPSHOT_IDS), size));
+        final ByteBuffer buffer = ByteBuffer.allocate(count * Long.BYTES);
+        for (int i = size - count; i < size; i++) {
+            buffer.putLong(insertionOrder[(oldest + i) % capacity]);
+        }
+        return buffer.array();
+    }
+
+    public synchronized void restore(@NonNull final byte[] snapshot) {
+        final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+        while (buffer.remaining() >= Long.BYTES) {
+            addKey(buffer.getLong());
+        }
+    }
+
+    private int home(final long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 33) & mask;
+    }
+
+    private int slotOf(final long key) {
+        for (int slot = home(key); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (table[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // Backward-shift deletion keeps every remaining key reachable from its home slot without tombstones
+    private void remove(final long key) {
+        int hole = slotOf(key);
+        if (hole < 0) {
+            return;
+        }
+        for (int slot = (hole + 1) & mask; table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (((slot - home(table[slot])) & mask) >= ((slot - hole) & mask)) {
+                table[hole] = table[slot];
+                hole = slot;
+            }
+        }
+        table[hole] = EMPTY;
+    }
+
+    private static long key(@NonNull final String messageId) {
+        final int length = messageId.length();
+        if (length == 0 || length > MAX_HEX_DIGITS) {
+            return EMPTY;
+        }
+        long key = 0L;
+        for (int i = 0; i < length; i++) {
+            final int digit = Character.digit(messageId.charAt(i), 16);
+            if (digit < 0) {
+                return EMPTY;
+            }
+            key = key << 4 | digit;
+        }
+        return key;
+    }
+}
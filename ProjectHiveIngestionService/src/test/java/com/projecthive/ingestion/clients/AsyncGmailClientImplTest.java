@@ -0,0 +1,272 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.BatchModifyMessagesRequest;
+import com.google.api.services.gmail.model.Label;
+import com.google.api.services.gmail.model.ListHistoryResponse;
+import com.google.api.services.gmail.model.ListLabelsResponse;
+import com.google.api.services.gmail.model.ListMessagesResponse;
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Profile;
+import com.google.api.services.gmail.model.Thread;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.constants.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncGmailClientImplTest {
+
+    @Mock
+    private Gmail mockGmail;
+
+    @Mock
+    private Gmail.Users mockUsers;
+
+    @Mock
+    private Gmail.Users.Messages mockMessages;
+
+    @Mock
+    private GmailRequestExecutor mockRequestExecutor;
+
+    private AsyncGmailClientImpl asyncClient;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockGmail.users()).thenReturn(mockUsers);
+        lenient().when(mockUsers.messages()).thenReturn(mockMessages);
+        // Direct executor keeps the tests deterministic; production runs on virtual threads
+        asyncClient = new AsyncGmailClientImpl(mockGmail, TestConstants.USER_ID, TestConstants.PAGE_SIZE,
+                FetchProfile.metadata("From"), mockRequestExecutor, Runnable::run);
+    }
+
+    @Test
+    public void getProfile_completesWithProfile() throws Exception {
+        // Arrange
+        final Gmail.Users.GetProfile getProfile = mock(Gmail.Users.GetProfile.class);
+        final Profile profile = new Profile().setHistoryId(TestConstants.HISTORY_ID);
+        when(mockUsers.getProfile(TestConstants.USER_ID)).thenReturn(getProfile);
+        when(mockRequestExecutor.execute(GmailQuotaCost.GET_PROFILE, getProfile)).thenReturn(profile);
+
+        // Act & Assert
+        assertSame(profile, asyncClient.getProfile().join());
+    }
+
+    @Test
+    public void listMessages_appliesQueryPagingAndFieldMask() throws Exception {
+        // Arrange
+        final Gmail.Users.Messages.List list = mock(Gmail.Users.Messages.List.class);
+        final ListMessagesResponse response = new ListMessagesResponse();
+        when(mockMessages.list(TestConstants.USER_ID)).thenReturn(list);
+        when(list.setQ(TestConstants.QUERY_UNREAD)).thenReturn(list);
+        when(list.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(list);
+        when(list.setPageToken(TestConstants.PAGE_TOKEN)).thenReturn(list);
+        when(mockRequestExecutor.execute(GmailQuotaCost.MESSAGES_LIST, list)).thenReturn(response);
+
+        // Act
+        final ListMessagesResponse result =
+                asyncClient.listMessages(TestConstants.QUERY_UNREAD, TestConstants.PAGE_TOKEN).join();
+
+        // Assert
+        assertSame(response, result);
+        verify(list).setFields("messages(id,threadId),nextPageToken");
+    }
+
+    @Test
+    public void listHistory_requestsAddedMessagesOnly() throws Exception {
+        // Arrange
+        final Gmail.Users.History history = mock(Gmail.Users.History.class);
+        final Gmail.Users.History.List list = mock(Gmail.Users.History.List.class);
+        final ListHistoryResponse response = new ListHistoryResponse();
+        when(mockUsers.history()).thenReturn(history);
+        when(history.list(TestConstants.USER_ID)).thenReturn(list);
+        when(list.setStartHistoryId(TestConstants.HISTORY_ID)).thenReturn(list);
+        when(list.setHistoryTypes(List.of("messageAdded"))).thenReturn(list);
+        when(list.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(list);
+        when(list.setPageToken(null)).thenReturn(list);
+        when(mockRequestExecutor.execute(GmailQuotaCost.HISTORY_LIST, list)).thenReturn(response);
+
+        // Act & Assert
+        assertSame(response, asyncClient.listHistory(TestConstants.HISTORY_ID, null).join());
+    }
+
+    @Test
+    public void getMessage_usesFetchProfile() throws Exception {
+        // Arrange
+        final Gmail.Users.Messages.Get get = mock(Gmail.Users.Messages.Get.class);
+        final Message message = new Message().setId(TestConstants.MSG_ID_1);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(get);
+        when(mockRequestExecutor.execute(GmailQuotaCost.MESSAGES_GET, get)).thenReturn(message);
+
+        // Act
+        final Message result = asyncClient.getMessage(TestConstants.MSG_ID_1).join();
+
+        // Assert
+        assertSame(message, result);
+        verify(get).setFormat("metadata");
+        verify(get).setMetadataHeaders(List.of("From"));
+    }
+
+    @Test
+    public void getThread_chargesThreadQuota() throws Exception {
+        // Arrange
+        final Gmail.Users.Threads threads = mock(Gmail.Users.Threads.class);
+        final Gmail.Users.Threads.Get get = mock(Gmail.Users.Threads.Get.class);
+        final Thread thread = new Thread().setId(TestConstants.THREAD_ID);
+        when(mockUsers.threads()).thenReturn(threads);
+        when(threads.get(TestConstants.USER_ID, TestConstants.THREAD_ID)).thenReturn(get);
+        when(mockRequestExecutor.execute(GmailQuotaCost.THREADS_GET, get)).thenReturn(thread);
+
+        // Act
+        final Thread result = asyncClient.getThread(TestConstants.THREAD_ID).join();
+
+        // Assert
+        assertSame(thread, result);
+        verify(get).setFormat("metadata");
+        verify(get).setFields("messages(id,threadId,labelIds,internalDate,snippet,payload/headers)");
+    }
+
+    @Test
+    public void getThread_rawProfile_readsMessagesInFullWithTheFullMask() throws Exception {
+        // Arrange
+        final AsyncGmailClientImpl rawClient = new AsyncGmailClientImpl(mockGmail, TestConstants.USER_ID,
+                TestConstants.PAGE_SIZE, FetchProfile.raw(), mockRequestExecutor, Runnable::run);
+        final Gmail.Users.Threads threads = mock(Gmail.Users.Threads.class);
+        final Gmail.Users.Threads.Get get = mock(Gmail.Users.Threads.Get.class);
+        when(mockUsers.threads()).thenReturn(threads);
+        when(threads.get(TestConstants.USER_ID, TestConstants.THREAD_ID)).thenReturn(get);
+        when(mockRequestExecutor.execute(GmailQuotaCost.THREADS_GET, get))
+                .thenReturn(new Thread().setId(TestConstants.THREAD_ID));
+
+        // Act
+        rawClient.getThread(TestConstants.THREAD_ID).join();
+
+        // Assert
+        verify(get).setFormat("full");
+        verify(get).setFields("messages(id,threadId,labelIds,internalDate,snippet,payload)");
+    }
+
+    @Test
+    public void batchModify_sendsIdsAndLabelChanges() throws Exception {
+        // Arrange
+        final Gmail.Users.Messages.BatchModify batchModify = mock(Gmail.Users.Messages.BatchModify.class);
+        when(mockMessages.batchModify(eq(TestConstants.USER_ID), any(BatchModifyMessagesRequest.class)))
+                .thenReturn(batchModify);
+
+        // Act
+        asyncClient.batchModify(List.of(TestConstants.MSG_ID_1), List.of(), List.of("UNREAD")).join();
+
+        // Assert
+        final ArgumentCaptor<BatchModifyMessagesRequest> captor =
+                ArgumentCaptor.forClass(BatchModifyMessagesRequest.class);
+        verify(mockMessages).batchModify(eq(TestConstants.USER_ID), captor.capture());
+        assertEquals(List.of(TestConstants.MSG_ID_1), captor.getValue().getIds());
+        assertEquals(List.of("UNREAD"), captor.getValue().getRemoveLabelIds());
+        verify(mockRequestExecutor).execute(GmailQuotaCost.BATCH_MODIFY, batchModify);
+    }
+
+    @Test
+    public void listLabels_requestsOnlyIdsAndNames() throws Exception {
+        // Arrange
+        final Gmail.Users.Labels labels = mock(Gmail.Users.Labels.class);
+        final Gmail.Users.Labels.List list = mock(Gmail.Users.Labels.List.class);
+        final ListLabelsResponse response = new ListLabelsResponse();
+        when(mockUsers.labels()).thenReturn(labels);
+        when(labels.list(TestConstants.USER_ID)).thenReturn(list);
+        when(mockRequestExecutor.execute(GmailQuotaCost.LABELS_LIST, list)).thenReturn(response);
+
+        // Act & Assert
+        assertSame(response, asyncClient.listLabels().join());
+        verify(list).setFields("labels(id,name)");
+    }
+
+    @Test
+    public void createLabel_createsVisibleLabel() throws Exception {
+        // Arrange
+        final Gmail.Users.Labels labels = mock(Gmail.Users.Labels.class);
+        final Gmail.Users.Labels.Create create = mock(Gmail.Users.Labels.Create.class);
+        final Label created = new Label().setId(TestConstants.LABEL_ID);
+        when(mockUsers.labels()).thenReturn(labels);
+        when(labels.create(eq(TestConstants.USER_ID), any(Label.class))).thenReturn(create);
+        when(mockRequestExecutor.execute(GmailQuotaCost.LABELS_CREATE, create)).thenReturn(created);
+
+        // Act
+        final Label result = asyncClient.createLabel(TestConstants.PROCESSED_LABEL).join();
+
+        // Assert
+        assertSame(created, result);
+        final ArgumentCaptor<Label> captor = ArgumentCaptor.forClass(Label.class);
+        verify(labels).create(eq(TestConstants.USER_ID), captor.capture());
+        assertEquals(TestConstants.PROCESSED_LABEL, captor.getValue().getName());
+        assertEquals("labelShow", captor.getValue().getLabelListVisibility());
+    }
+
+    @Test
+    public void getMessage_failure_completesExceptionally() throws Exception {
+        // Arrange
+        final Gmail.Users.Messages.Get get = mock(Gmail.Users.Messages.Get.class);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(get);
+        when(mockRequestExecutor.execute(GmailQuotaCost.MESSAGES_GET, get)).thenThrow(jsonException(404));
+
+        // Act
+        final CompletableFuture<Message> future = asyncClient.getMessage(TestConstants.MSG_ID_1);
+
+        // Assert
+        final CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(GoogleJsonResponseException.class, thrown.getCause());
+    }
+
+    @Test
+    public void await_unwrapsIOException() {
+        // Arrange
+        final IOException failure = new IOException(TestConstants.ERROR_MESSAGE);
+
+        // Act & Assert
+        assertSame(failure, assertThrows(IOException.class,
+                () -> AsyncGmailClientImpl.await(CompletableFuture.failedFuture(new CompletionException(failure)))));
+    }
+
+    @Test
+    public void await_rethrowsRuntimeFailures() {
+        // Arrange
+        final IllegalStateException failure = new IllegalStateException(TestConstants.ERROR_MESSAGE);
+
+        // Act & Assert
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> AsyncGmailClientImpl.await(CompletableFuture.supplyAsync(() -> {
+                    throw failure;
+                }))));
+    }
+
+    private static GoogleJsonResponseException jsonException(final int statusCode) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(statusCode);
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(statusCode, TestConstants.ERROR_MESSAGE, new HttpHeaders()),
+                error);
+    }
+}
@@ -0,0 +1,59 @@
+package com.projecthive.ingestion.clients;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AttachmentDataTest {
+
+    @Test
+    public void copy_decodesUrlSafeDataAfterSkippingOtherFields() throws IOException {
+        // Arrange
+        final byte[] payload = new byte[100_000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i * 31);
+        }
+        final String json = "{\"attachmentId\":\"abc\",\"extra\":{\"nested\":[1,2]},\"size\":" + payload.length
+                + ",\"data\":\"" + Base64.getUrlEncoder().encodeToString(payload) + "\"}";
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        // Act
+        final long written = AttachmentData.copy(json(json), sink);
+
+        // Assert
+        assertEquals(payload.length, written);
+        assertArrayEquals(payload, sink.toByteArray());
+    }
+
+    @Test
+    public void copy_acceptsUnpaddedData() throws IOException {
+        // Arrange
+        final String json = "{\"data\":\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] {-1, -2}) + "\"}";
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        // Act & Assert
+        assertEquals(2, AttachmentData.copy(json(json), sink));
+        assertArrayEquals(new byte[] {-1, -2}, sink.toByteArray());
+    }
+
+    @Test
+    public void copy_missingData_throwsIOException() {
+        // Act & Assert
+        assertThrows(IOException.class, () -> AttachmentData.copy(json("{\"size\":0}"), new ByteArrayOutputStream()));
+        assertThrows(IOException.class, () -> AttachmentData.copy(json("[]"), new ByteArrayOutputStream()));
+        assertThrows(IOException.class, () -> AttachmentData.copy(json("{\"data\":\"a+b/\"}"), new ByteArrayOutputStream()));
+    }
+
+    private static InputStream json(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,243 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.Sleeper;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.constants.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchMessageFetcherTest {
+
+    @Mock
+    private Gmail mockGmail;
+
+    @Mock
+    private Gmail.Users mockUsers;
+
+    @Mock
+    private Gmail.Users.Messages mockMessages;
+
+    @Mock
+    private Sleeper mockSleeper;
+
+    @Mock
+    private QuotaRateLimiter mockRateLimiter;
+
+    private final List<BatchRequest> batches = new ArrayList<>();
+    private final List<Runnable> queuedCallbacks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockGmail.users()).thenReturn(mockUsers);
+        lenient().when(mockUsers.messages()).thenReturn(mockMessages);
+    }
+
+    @Test
+    public void fetch_groupsGetsIntoBatchesAndPreservesOrder() throws Exception {
+        // Arrange
+        final Message message1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message message2 = new Message().setId(TestConstants.MSG_ID_2);
+        final Message message3 = new Message().setId(TestConstants.MSG_ID_3);
+        stubBatches();
+        stubQueuedSuccess(TestConstants.MSG_ID_1, message1);
+        stubQueuedSuccess(TestConstants.MSG_ID_2, message2);
+        stubQueuedSuccess(TestConstants.MSG_ID_3, message3);
+
+        final BatchMessageFetcher fetcher = new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), 2, 3, 10L, mockSleeper, mockRateLimiter);
+
+        // Act
+        final List<Message> result = fetcher.fetch(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2, TestConstants.MSG_ID_3));
+
+        // Assert
+        assertEquals(List.of(message1, message2, message3), result);
+        assertEquals(2, batches.size());
+        verify(mockSleeper, never()).sleep(anyLong());
+        verify(mockRateLimiter).acquire(2 * GmailQuotaCost.MESSAGES_GET.getUnits());
+        verify(mockRateLimiter).acquire(GmailQuotaCost.MESSAGES_GET.getUnits());
+    }
+
+    @Test
+    public void fetch_retriesRateLimitedPartIndividually() throws Exception {
+        // Arrange
+        final Message message1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message message2 = new Message().setId(TestConstants.MSG_ID_2);
+        stubBatches();
+        stubQueuedSuccess(TestConstants.MSG_ID_1, message1);
+        final Gmail.Users.Messages.Get retriedGet = stubQueuedFailure(TestConstants.MSG_ID_2, 429);
+        when(retriedGet.execute())
+                .thenThrow(jsonException(503))
+                .thenReturn(message2);
+
+        final BatchMessageFetcher fetcher = new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), 50, 3, 10L, mockSleeper, mockRateLimiter);
+
+        // Act
+        final List<Message> result = fetcher.fetch(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2));
+
+        // Assert
+        assertEquals(List.of(message1, message2), result);
+        verify(mockSleeper).sleep(10L);
+        verify(mockSleeper).sleep(20L);
+    }
+
+    @Test
+    public void fetch_skipsPermanentFailuresWithoutRetrying() throws Exception {
+        // Arrange
+        final Message message1 = new Message().setId(TestConstants.MSG_ID_1);
+        stubBatches();
+        stubQueuedSuccess(TestConstants.MSG_ID_1, message1);
+        final Gmail.Users.Messages.Get missingGet = stubQueuedFailure(TestConstants.MSG_ID_2, 404);
+
+        final BatchMessageFetcher fetcher = new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), 50, 3, 10L, mockSleeper, mockRateLimiter);
+
+        // Act
+        final List<Message> result = fetcher.fetch(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2));
+
+        // Assert
+        assertEquals(List.of(message1), result);
+        verify(missingGet, never()).execute();
+    }
+
+    @Test
+    public void fetch_givesUpAfterMaxRetries() throws Exception {
+        // Arrange
+        stubBatches();
+        final Gmail.Users.Messages.Get retriedGet = stubQueuedFailure(TestConstants.MSG_ID_1, 500);
+        when(retriedGet.execute()).thenThrow(jsonException(500));
+
+        final BatchMessageFetcher fetcher = new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), 50, 2, 10L, mockSleeper, mockRateLimiter);
+
+        // Act & Assert
+        assertThrows(GoogleJsonResponseException.class, () -> fetcher.fetch(List.of(TestConstants.MSG_ID_1)));
+        verify(retriedGet, times(2)).execute();
+    }
+
+    @Test
+    public void fetch_failsOnNonRetryableFailureThatIsNotAMissingMessage() throws Exception {
+        // Arrange
+        stubBatches();
+        stubQueuedSuccess(TestConstants.MSG_ID_1, new Message().setId(TestConstants.MSG_ID_1));
+        final Gmail.Users.Messages.Get forbiddenGet = stubQueuedFailure(TestConstants.MSG_ID_2, 400);
+
+        final BatchMessageFetcher fetcher = new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), 50, 3, 10L, mockSleeper, mockRateLimiter);
+
+        // Act & Assert
+        final IOException thrown = assertThrows(IOException.class,
+                () -> fetcher.fetch(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2)));
+        assertTrue(thrown.getMessage().contains("400"));
+        verify(forbiddenGet, never()).execute();
+    }
+
+    @Test
+    public void fetch_emptyIds_sendsNoBatch() throws Exception {
+        // Arrange
+        final BatchMessageFetcher fetcher = new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), 50, 3, 10L, mockSleeper, mockRateLimiter);
+
+        // Act
+        final List<Message> result = fetcher.fetch(Collections.emptyList());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(mockGmail, never()).batch();
+    }
+
+    @Test
+    public void constructor_rejectsBatchSizeAboveGmailLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchMessageFetcher(
+                mockGmail, TestConstants.USER_ID, FetchProfile.full(), BatchMessageFetcher.MAX_BATCH_SIZE + 1, 3, 10L, mockSleeper, mockRateLimiter));
+    }
+
+    private void stubBatches() throws Exception {
+        when(mockGmail.batch()).thenAnswer(invocation -> {
+            final BatchRequest batch = mock(BatchRequest.class);
+            doAnswer(execute -> {
+                queuedCallbacks.forEach(Runnable::run);
+                queuedCallbacks.clear();
+                return null;
+            }).when(batch).execute();
+            batches.add(batch);
+            return batch;
+        });
+    }
+
+    private void stubQueuedSuccess(final String messageId, final Message message) throws Exception {
+        final Gmail.Users.Messages.Get get = mock(Gmail.Users.Messages.Get.class);
+        when(mockMessages.get(TestConstants.USER_ID, messageId)).thenReturn(get);
+        doAnswer(invocation -> {
+            final JsonBatchCallback<Message> callback = invocation.getArgument(1);
+            queuedCallbacks.add(() -> {
+                try {
+                    callback.onSuccess(message, new HttpHeaders());
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return null;
+        }).when(get).queue(any(BatchRequest.class), any());
+    }
+
+    private Gmail.Users.Messages.Get stubQueuedFailure(final String messageId, final int statusCode) throws Exception {
+        final Gmail.Users.Messages.Get get = mock(Gmail.Users.Messages.Get.class);
+        when(mockMessages.get(eq(TestConstants.USER_ID), eq(messageId))).thenReturn(get);
+        doAnswer(invocation -> {
+            final JsonBatchCallback<Message> callback = invocation.getArgument(1);
+            final GoogleJsonError error = new GoogleJsonError();
+            error.setCode(statusCode);
+            error.setMessage(TestConstants.ERROR_MESSAGE);
+            queuedCallbacks.add(() -> {
+                try {
+                    callback.onFailure(error, new HttpHeaders());
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return null;
+        }).when(get).queue(any(BatchRequest.class), any());
+        return get;
+    }
+
+    private static GoogleJsonResponseException jsonException(final int statusCode) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(statusCode);
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(statusCode, TestConstants.ERROR_MESSAGE, new HttpHeaders()),
+                error);
+    }
+}
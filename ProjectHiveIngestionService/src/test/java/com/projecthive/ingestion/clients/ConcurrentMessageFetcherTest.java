@@ -0,0 +1,144 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.constants.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrentMessageFetcherTest {
+
+    @Mock
+    private Gmail mockGmail;
+
+    @Mock
+    private Gmail.Users mockUsers;
+
+    @Mock
+    private Gmail.Users.Messages mockMessages;
+
+    @Mock
+    private GmailRequestExecutor mockRequestExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockGmail.users()).thenReturn(mockUsers);
+        lenient().when(mockUsers.messages()).thenReturn(mockMessages);
+    }
+
+    @Test
+    public void fetch_returnsMessagesInInputOrderAndBoundsInFlightRequests() throws Exception {
+        // Arrange
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxObserved = new AtomicInteger();
+        final List<String> ids = List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2, TestConstants.MSG_ID_3);
+        for (final String id : ids) {
+            final Gmail.Users.Messages.Get get = mock(Gmail.Users.Messages.Get.class);
+            when(mockMessages.get(TestConstants.USER_ID, id)).thenReturn(get);
+            when(mockRequestExecutor.execute(GmailQuotaCost.MESSAGES_GET, get)).thenAnswer(invocation -> {
+                maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(20L);
+                inFlight.decrementAndGet();
+                return new Message().setId(id);
+            });
+        }
+
+        final ConcurrentMessageFetcher fetcher =
+                new ConcurrentMessageFetcher(mockGmail, TestConstants.USER_ID, FetchProfile.full(), mockRequestExecutor, 2);
+
+        // Act
+        final List<Message> result = fetcher.fetch(ids);
+
+        // Assert
+        assertEquals(ids, result.stream().map(Message::getId).toList());
+        assertTrue(maxObserved.get() <= 2);
+    }
+
+    @Test
+    public void fetch_skipsMessagesThatNoLongerExist() throws Exception {
+        // Arrange
+        final Gmail.Users.Messages.Get okGet = mock(Gmail.Users.Messages.Get.class);
+        final Gmail.Users.Messages.Get missingGet = mock(Gmail.Users.Messages.Get.class);
+        final Message message = new Message().setId(TestConstants.MSG_ID_1);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(okGet);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_2)).thenReturn(missingGet);
+        when(mockRequestExecutor.execute(GmailQuotaCost.MESSAGES_GET, okGet)).thenReturn(message);
+        when(mockRequestExecutor.execute(GmailQuotaCost.MESSAGES_GET, missingGet)).thenThrow(jsonException(404));
+
+        final ConcurrentMessageFetcher fetcher =
+                new ConcurrentMessageFetcher(mockGmail, TestConstants.USER_ID, FetchProfile.full(), mockRequestExecutor, 4);
+
+        // Act
+        final List<Message> result = fetcher.fetch(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2));
+
+        // Assert
+        assertEquals(List.of(message), result);
+    }
+
+    @Test
+    public void fetch_failureThatOutlastsRetries_propagates() throws Exception {
+        // Arrange
+        when(mockMessages.get(eq(TestConstants.USER_ID), any())).thenReturn(mock(Gmail.Users.Messages.Get.class));
+        when(mockRequestExecutor.execute(eq(GmailQuotaCost.MESSAGES_GET), any())).thenThrow(jsonException(503));
+
+        final ConcurrentMessageFetcher fetcher =
+                new ConcurrentMessageFetcher(mockGmail, TestConstants.USER_ID, FetchProfile.full(), mockRequestExecutor, 4);
+
+        // Act & Assert
+        final GoogleJsonResponseException thrown = assertThrows(GoogleJsonResponseException.class,
+                () -> fetcher.fetch(List.of(TestConstants.MSG_ID_1)));
+        assertEquals(503, thrown.getStatusCode());
+    }
+
+    @Test
+    public void fetch_ioFailure_propagates() throws Exception {
+        // Arrange
+        when(mockMessages.get(eq(TestConstants.USER_ID), any())).thenReturn(mock(Gmail.Users.Messages.Get.class));
+        when(mockRequestExecutor.execute(eq(GmailQuotaCost.MESSAGES_GET), any()))
+                .thenThrow(new IOException(TestConstants.ERROR_MESSAGE));
+
+        final ConcurrentMessageFetcher fetcher =
+                new ConcurrentMessageFetcher(mockGmail, TestConstants.USER_ID, FetchProfile.full(), mockRequestExecutor, 4);
+
+        // Act & Assert
+        final IOException thrown = assertThrows(IOException.class,
+                () -> fetcher.fetch(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2)));
+        assertEquals(TestConstants.ERROR_MESSAGE, thrown.getMessage());
+    }
+
+    @Test
+    public void constructor_rejectsNonPositiveInFlightLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentMessageFetcher(mockGmail, TestConstants.USER_ID, FetchProfile.full(), mockRequestExecutor, 0));
+    }
+
+    private static GoogleJsonResponseException jsonException(final int statusCode) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(statusCode);
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(statusCode, TestConstants.ERROR_MESSAGE, new HttpHeaders()),
+                error);
+    }
+}
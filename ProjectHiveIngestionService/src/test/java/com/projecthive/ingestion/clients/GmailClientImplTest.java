@@ -1,22 +1,59 @@
 package com.projecthive.ingestion.clients;
 
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.BatchModifyMessagesRequest;
+import com.google.api.services.gmail.model.History;
+import com.google.api.services.gmail.model.HistoryMessageAdded;
+import com.google.api.services.gmail.model.Label;
+import com.google.api.services.gmail.model.ListHistoryResponse;
+import com.google.api.services.gmail.model.ListLabelsResponse;
 import com.google.api.services.gmail.model.ListMessagesResponse;
 import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Profile;
 import com.projecthive.ingestion.auth.GmailAuthProvider;
+import com.projecthive.ingestion.config.FetchMode;
+import com.projecthive.ingestion.config.GmailCategory;
+import com.projecthive.ingestion.config.GmailFetchConfig;
+import com.projecthive.ingestion.config.GmailQueryConfig;
+import com.projecthive.ingestion.config.ProcessedMarking;
 import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.MailboxSync;
+import com.projecthive.ingestion.models.ResumeCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +74,27 @@ public class GmailClientImplTest {
     @Mock
     private Gmail.Users.Messages.Get mockGet;
 
+    @Mock
+    private Gmail.Users.GetProfile mockGetProfile;
+
+    @Mock
+    private Gmail.Users.History mockHistory;
+
+    @Mock
+    private Gmail.Users.History.List mockHistoryList;
+
+    @Mock
+    private Gmail.Users.Messages.BatchModify mockBatchModify;
+
+    @Mock
+    private Gmail.Users.Labels mockLabels;
+
+    @Mock
+    private Gmail.Users.Labels.List mockLabelsList;
+
+    @Mock
+    private Gmail.Users.Labels.Create mockLabelsCreate;
+
     @Mock
     private GmailAuthProvider mockAuthProvider;
 
@@ -51,9 +109,15 @@ public class GmailClientImplTest {
     @BeforeEach
     public void setUp() throws Exception {
         when(mockAuthProvider.createGmailClient()).thenReturn(mockGmail);
-        when(mockGmail.users()).thenReturn(mockUsers);
-        when(mockUsers.messages()).thenReturn(mockMessages);
-        gmailClient = new GmailClientImpl(mockAuthProvider);
+        lenient().when(mockGmail.users()).thenReturn(mockUsers);
+        lenient().when(mockUsers.messages()).thenReturn(mockMessages);
+        gmailClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.REMOVE_UNREAD)
+                .retryBackoffMillis(1L)
+                .build());
     }
 
     @Test
@@ -63,6 +127,8 @@ public class GmailClientImplTest {
 
         when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
         when(mockList.setQ(TestConstants.QUERY_UNREAD)).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
         when(mockList.execute()).thenReturn(response);
         when(mockMessageSummary.getId()).thenReturn(TestConstants.MSG_ID_1);
         when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
@@ -81,6 +147,8 @@ public class GmailClientImplTest {
 
         when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
         when(mockList.setQ(TestConstants.QUERY_UNREAD)).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
         when(mockList.execute()).thenReturn(response);
 
         final List<Message> result = gmailClient.fetchUnreadMessages();
@@ -92,8 +160,458 @@ public class GmailClientImplTest {
     public void fetchUnreadMessages_throwsRuntimeExceptionOnIOException() throws IOException {
         when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
         when(mockList.setQ(TestConstants.QUERY_UNREAD)).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
         when(mockList.execute()).thenThrow(new IOException(TestConstants.ERROR_MESSAGE));
 
         assertThrows(RuntimeException.class, () -> gmailClient.fetchUnreadMessages());
     }
+
+    @Test
+    public void fetchUnreadMessages_followsNextPageToken() throws IOException {
+        final ListMessagesResponse firstPage = new ListMessagesResponse()
+                .setMessages(Collections.singletonList(new Message().setId(TestConstants.MSG_ID_1)))
+                .setNextPageToken(TestConstants.PAGE_TOKEN);
+        final ListMessagesResponse secondPage = new ListMessagesResponse()
+                .setMessages(Collections.singletonList(new Message().setId(TestConstants.MSG_ID_2)));
+        final Message fullMessage2 = new Message().setId(TestConstants.MSG_ID_2);
+
+        when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
+        when(mockList.setQ(TestConstants.QUERY_UNREAD)).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
+        when(mockList.setPageToken(TestConstants.PAGE_TOKEN)).thenReturn(mockList);
+        when(mockList.execute()).thenReturn(firstPage, secondPage);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_2)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage, fullMessage2);
+
+        final List<Message> result = gmailClient.fetchUnreadMessages();
+
+        assertEquals(List.of(mockFullMessage, fullMessage2), result);
+        verify(mockList, times(2)).execute();
+    }
+
+    @Test
+    public void syncMessages_withCheckpoint_readsUnreadHistoryDeltas() throws Exception {
+        stubProfile();
+        final ListHistoryResponse historyResponse = new ListHistoryResponse().setHistory(List.of(
+                new History().setMessagesAdded(List.of(
+                        addedMessage(TestConstants.MSG_ID_1, "UNREAD", "INBOX"),
+                        addedMessage(TestConstants.MSG_ID_2, "SENT"))),
+                new History().setMessagesAdded(List.of(
+                        addedMessage(TestConstants.MSG_ID_1, "UNREAD", "INBOX")))));
+        stubHistoryList().thenReturn(historyResponse);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = gmailClient.syncMessages(TestConstants.HISTORY_ID);
+
+        assertFalse(sync.isFullSync());
+        assertEquals(TestConstants.NEW_HISTORY_ID, sync.getHistoryId());
+        assertEquals(List.of(mockFullMessage), sync.getMessages().toList());
+    }
+
+    @Test
+    public void syncMessages_withCheckpoint_appliesQueryLabelFiltersToHistory() throws Exception {
+        final GmailClientImpl filteredClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.builder()
+                        .excludedCategories(List.of(GmailCategory.PROMOTIONS))
+                        .excludedLabels(List.of("Newsletters"))
+                        .lookbackDays(0)
+                        .build())
+                .processedMarking(ProcessedMarking.ADD_LABEL)
+                .processedLabel(TestConstants.PROCESSED_LABEL)
+                .build());
+        stubProfile();
+        // History carries label ids, so user label names are resolved through labels.list
+        stubLabelsList(new Label().setId("Label_7").setName("newsletters"),
+                new Label().setId(TestConstants.LABEL_ID).setName(TestConstants.PROCESSED_LABEL));
+        stubHistoryList().thenReturn(new ListHistoryResponse().setHistory(List.of(
+                new History().setMessagesAdded(List.of(
+                        addedMessage(TestConstants.MSG_ID_1, "UNREAD", "INBOX"),
+                        addedMessage(TestConstants.MSG_ID_2, "UNREAD", "CATEGORY_PROMOTIONS"),
+                        addedMessage(TestConstants.MSG_ID_3, "UNREAD", "Label_7"),
+                        addedMessage("msg4", "UNREAD", TestConstants.LABEL_ID))))));
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = filteredClient.syncMessages(TestConstants.HISTORY_ID);
+
+        assertEquals(List.of(mockFullMessage), sync.getMessages().toList());
+        verify(mockMessages, never()).list(anyString()); // Labels alone settle this query
+    }
+
+    @Test
+    public void syncMessages_withCheckpoint_checksOtherQueryTermsAgainstSearchBeforeFetching() throws Exception {
+        final GmailClientImpl filteredClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.builder()
+                        .excludedCategories(List.of())
+                        .lookbackDays(0)
+                        .deniedSenders(List.of("noreply@example.com"))
+                        .build())
+                .processedMarking(ProcessedMarking.NONE)
+                .build());
+        stubProfile();
+        stubHistoryList().thenReturn(new ListHistoryResponse().setHistory(List.of(
+                new History().setMessagesAdded(List.of(
+                        addedMessage(TestConstants.MSG_ID_1, "UNREAD", "INBOX"),
+                        addedMessage(TestConstants.MSG_ID_2, "UNREAD", "INBOX"))))));
+        when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
+        when(mockList.setQ(TestConstants.QUERY_UNREAD + " -from:noreply@example.com")).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
+        when(mockList.execute()).thenReturn(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1))));
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = filteredClient.syncMessages(TestConstants.HISTORY_ID);
+
+        assertFalse(sync.isFullSync());
+        assertEquals(List.of(mockFullMessage), sync.getMessages().toList());
+        verify(mockMessages, never()).get(TestConstants.USER_ID, TestConstants.MSG_ID_2);
+        verify(mockList, times(1)).execute();
+    }
+
+    @Test
+    public void syncMessages_expiredCheckpoint_fallsBackToFullSync() throws Exception {
+        stubProfile();
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(404);
+        stubHistoryList().thenThrow(new GoogleJsonResponseException(
+                new HttpResponseException.Builder(404, TestConstants.ERROR_MESSAGE, new HttpHeaders()), error));
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(mockMessageSummary)));
+        when(mockMessageSummary.getId()).thenReturn(TestConstants.MSG_ID_1);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = gmailClient.syncMessages(TestConstants.HISTORY_ID);
+
+        assertTrue(sync.isFullSync());
+        assertEquals(List.of(mockFullMessage), sync.getMessages().toList());
+    }
+
+    @Test
+    public void syncMessages_historyFailure_propagates() throws Exception {
+        stubProfile();
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(500);
+        stubHistoryList().thenThrow(new GoogleJsonResponseException(
+                new HttpResponseException.Builder(500, TestConstants.ERROR_MESSAGE, new HttpHeaders()), error));
+
+        assertThrows(GoogleJsonResponseException.class, () -> gmailClient.syncMessages(TestConstants.HISTORY_ID));
+    }
+
+    @Test
+    public void syncMessages_withoutCheckpoint_boundsFullSync() throws Exception {
+        final GmailClientImpl boundedClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.REMOVE_UNREAD)
+                .maxFullSyncMessages(1L)
+                .build());
+        stubProfile();
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2))));
+        when(mockMessages.get(eq(TestConstants.USER_ID), anyString())).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = boundedClient.syncMessages(null);
+
+        assertTrue(sync.isFullSync());
+        assertEquals(1, sync.getMessages().count());
+        assertTrue(sync.getTruncated().getAsBoolean());
+    }
+
+    @Test
+    public void syncMessages_mailboxWithinFullSyncLimit_isNotTruncated() throws Exception {
+        final GmailClientImpl boundedClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.REMOVE_UNREAD)
+                .maxFullSyncMessages(2L)
+                .build());
+        stubProfile();
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2))));
+        when(mockMessages.get(eq(TestConstants.USER_ID), anyString())).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = boundedClient.syncMessages(null);
+
+        assertEquals(2, sync.getMessages().count());
+        assertFalse(sync.getTruncated().getAsBoolean());
+    }
+
+    @Test
+    public void syncMessages_dropsAlreadyIngestedIdsBeforeFetching() throws Exception {
+        final GmailClientImpl sequentialClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.REMOVE_UNREAD)
+                .build());
+        stubProfile();
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2))));
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_2)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = sequentialClient.syncMessages(null, null, TestConstants.MSG_ID_1::equals);
+
+        assertEquals(1, sync.getMessages().count());
+        verify(mockMessages, never()).get(TestConstants.USER_ID, TestConstants.MSG_ID_1);
+    }
+
+    @Test
+    public void syncThreads_fetchesConversationsWithSeveralNewMessagesInOneCall() throws Exception {
+        final Gmail.Users.Threads mockThreads = mock(Gmail.Users.Threads.class);
+        final Gmail.Users.Threads.Get mockThreadGet = mock(Gmail.Users.Threads.Get.class);
+        final Message first = new Message().setId(TestConstants.MSG_ID_1).setThreadId(TestConstants.THREAD_ID);
+        final Message reply = new Message().setId(TestConstants.MSG_ID_3).setThreadId(TestConstants.THREAD_ID);
+        stubProfile();
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_3).setThreadId(TestConstants.THREAD_ID),
+                new Message().setId(TestConstants.MSG_ID_2).setThreadId("thread2"),
+                new Message().setId(TestConstants.MSG_ID_1).setThreadId(TestConstants.THREAD_ID))));
+        when(mockUsers.threads()).thenReturn(mockThreads);
+        when(mockThreads.get(TestConstants.USER_ID, TestConstants.THREAD_ID)).thenReturn(mockThreadGet);
+        when(mockThreadGet.execute()).thenReturn(new com.google.api.services.gmail.model.Thread().setMessages(List.of(first, reply)));
+        final Message single = new Message().setId(TestConstants.MSG_ID_2).setThreadId("thread2");
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_2)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(single);
+
+        final MailboxSync sync = gmailClient.syncThreads(null, null, messageId -> false);
+
+        assertEquals(List.of(reply, first, single), sync.getMessages().toList());
+        verify(mockMessages, never()).get(TestConstants.USER_ID, TestConstants.MSG_ID_1);
+    }
+
+    @Test
+    public void fetchUnreadMessages_concurrentMode_fetchesThroughVirtualThreads() throws Exception {
+        final GmailClientImpl concurrentClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.CONCURRENT)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.REMOVE_UNREAD)
+                .build());
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2))));
+        when(mockMessages.get(eq(TestConstants.USER_ID), anyString())).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final List<Message> result = concurrentClient.fetchUnreadMessages();
+
+        assertEquals(List.of(mockFullMessage, mockFullMessage), result);
+    }
+
+    @Test
+    public void syncMessages_resumingFullSync_continuesFromCursorPage() throws Exception {
+        final GmailClientImpl passiveClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.NONE)
+                .build());
+        stubProfile();
+        when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
+        when(mockList.setQ(TestConstants.QUERY_UNREAD)).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(TestConstants.PAGE_TOKEN)).thenReturn(mockList);
+        when(mockList.execute()).thenReturn(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2))));
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_2)).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = passiveClient.syncMessages(null,
+                new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_1, true, TestConstants.HISTORY_ID.toString()));
+
+        assertTrue(sync.isFullSync());
+        assertEquals(List.of(mockFullMessage), sync.getMessages().toList());
+        assertEquals(TestConstants.PAGE_TOKEN, sync.getCurrentPageToken().get());
+        // Checkpointed on completion, so mail that arrived since the full sync began is read by the next delta
+        assertEquals(TestConstants.HISTORY_ID, sync.getHistoryId());
+        verify(mockUsers, never()).history();
+    }
+
+    @Test
+    public void syncMessages_resumingFullSyncWithMarking_restartsListingFromFirstPage() throws Exception {
+        // Processed messages have left the unread listing, so the saved page token no longer lines up with it
+        stubProfile();
+        stubUnreadListing(new ListMessagesResponse().setMessages(List.of(
+                new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2))));
+        when(mockMessages.get(eq(TestConstants.USER_ID), anyString())).thenReturn(mockGet);
+        when(mockGet.execute()).thenReturn(mockFullMessage);
+
+        final MailboxSync sync = gmailClient.syncMessages(null,
+                new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_1, true, TestConstants.HISTORY_ID.toString()));
+
+        assertEquals(2, sync.getMessages().count());
+        assertEquals(TestConstants.HISTORY_ID, sync.getHistoryId());
+        verify(mockList, never()).setPageToken(TestConstants.PAGE_TOKEN);
+    }
+
+    @Test
+    public void markProcessed_removeUnread_sendsBatchModifyInChunks() throws Exception {
+        final List<String> messageIds = IntStream.rangeClosed(1, GmailClient.MAX_BATCH_MODIFY_IDS + 1)
+                .mapToObj(i -> "msg" + i)
+                .toList();
+        when(mockMessages.batchModify(eq(TestConstants.USER_ID), any(BatchModifyMessagesRequest.class)))
+                .thenReturn(mockBatchModify);
+
+        gmailClient.markProcessed(messageIds);
+
+        final ArgumentCaptor<BatchModifyMessagesRequest> captor =
+                ArgumentCaptor.forClass(BatchModifyMessagesRequest.class);
+        verify(mockMessages, times(2)).batchModify(eq(TestConstants.USER_ID), captor.capture());
+        // Chunks are sent concurrently, so the order in which they reach the mock varies
+        final List<BatchModifyMessagesRequest> requests = captor.getAllValues().stream()
+                .sorted(Comparator.comparingInt(request -> -request.getIds().size()))
+                .toList();
+        assertEquals(messageIds.subList(0, GmailClient.MAX_BATCH_MODIFY_IDS), requests.get(0).getIds());
+        assertEquals(List.of("UNREAD"), requests.get(0).getRemoveLabelIds());
+        assertEquals(List.of("msg" + (GmailClient.MAX_BATCH_MODIFY_IDS + 1)), requests.get(1).getIds());
+        verify(mockBatchModify, times(2)).execute();
+    }
+
+    @Test
+    public void markProcessed_addLabel_createsMissingLabelOnce() throws Exception {
+        final GmailClientImpl labellingClient = labellingClient();
+        when(mockUsers.labels()).thenReturn(mockLabels);
+        when(mockLabels.list(TestConstants.USER_ID)).thenReturn(mockLabelsList);
+        when(mockLabelsList.execute()).thenReturn(new ListLabelsResponse().setLabels(List.of(
+                new Label().setId("Label_1").setName("other"))));
+        when(mockLabels.create(eq(TestConstants.USER_ID), any(Label.class))).thenReturn(mockLabelsCreate);
+        when(mockLabelsCreate.execute()).thenReturn(new Label().setId(TestConstants.LABEL_ID));
+        when(mockMessages.batchModify(eq(TestConstants.USER_ID), any(BatchModifyMessagesRequest.class)))
+                .thenReturn(mockBatchModify);
+
+        labellingClient.markProcessed(List.of(TestConstants.MSG_ID_1));
+        labellingClient.markProcessed(List.of(TestConstants.MSG_ID_2));
+
+        final ArgumentCaptor<BatchModifyMessagesRequest> captor =
+                ArgumentCaptor.forClass(BatchModifyMessagesRequest.class);
+        verify(mockMessages, times(2)).batchModify(eq(TestConstants.USER_ID), captor.capture());
+        assertEquals(List.of(TestConstants.LABEL_ID), captor.getValue().getAddLabelIds());
+        assertTrue(captor.getValue().getRemoveLabelIds().isEmpty());
+        verify(mockLabels).list(TestConstants.USER_ID);
+        verify(mockLabels).create(eq(TestConstants.USER_ID), any(Label.class));
+    }
+
+    @Test
+    public void markProcessed_addLabel_reusesExistingLabel() throws Exception {
+        final GmailClientImpl labellingClient = labellingClient();
+        when(mockUsers.labels()).thenReturn(mockLabels);
+        when(mockLabels.list(TestConstants.USER_ID)).thenReturn(mockLabelsList);
+        when(mockLabelsList.execute()).thenReturn(new ListLabelsResponse().setLabels(List.of(
+                new Label().setId(TestConstants.LABEL_ID).setName(TestConstants.PROCESSED_LABEL))));
+        when(mockMessages.batchModify(eq(TestConstants.USER_ID), any(BatchModifyMessagesRequest.class)))
+                .thenReturn(mockBatchModify);
+
+        labellingClient.markProcessed(List.of(TestConstants.MSG_ID_1));
+
+        verify(mockLabels, never()).create(anyString(), any(Label.class));
+    }
+
+    @Test
+    public void markProcessed_noneOrEmpty_sendsNothing() throws Exception {
+        final GmailClientImpl passiveClient = new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .processedMarking(ProcessedMarking.NONE)
+                .build());
+
+        passiveClient.markProcessed(List.of(TestConstants.MSG_ID_1));
+        gmailClient.markProcessed(List.of());
+
+        verify(mockMessages, never()).batchModify(anyString(), any(BatchModifyMessagesRequest.class));
+    }
+
+    @Test
+    public void fetchUnreadMessages_addLabel_excludesProcessedLabelFromListing() throws Exception {
+        final GmailClientImpl labellingClient = labellingClient();
+        when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
+        when(mockList.setQ(TestConstants.QUERY_UNREAD + " -label:" + TestConstants.PROCESSED_LABEL))
+                .thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
+        when(mockList.execute()).thenReturn(new ListMessagesResponse());
+
+        assertTrue(labellingClient.fetchUnreadMessages().isEmpty());
+    }
+
+    @Test
+    public void fetchAttachment_streamsDecodedPayloadIntoSink() throws Exception {
+        final Gmail.Users.Messages.Attachments mockAttachments = mock(Gmail.Users.Messages.Attachments.class);
+        final Gmail.Users.Messages.Attachments.Get mockAttachmentGet = mock(Gmail.Users.Messages.Attachments.Get.class);
+        final byte[] payload = "%PDF-1.7 report".getBytes(StandardCharsets.UTF_8);
+        when(mockMessages.attachments()).thenReturn(mockAttachments);
+        when(mockAttachments.get(TestConstants.USER_ID, TestConstants.MSG_ID_1, TestConstants.ATTACHMENT_ID))
+                .thenReturn(mockAttachmentGet);
+        when(mockAttachmentGet.executeAsInputStream()).thenReturn(new ByteArrayInputStream(
+                ("{\"size\":" + payload.length + ",\"data\":\"" + Base64.getUrlEncoder().encodeToString(payload) + "\"}")
+                        .getBytes(StandardCharsets.UTF_8)));
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        final long written = gmailClient.fetchAttachment(TestConstants.MSG_ID_1, TestConstants.ATTACHMENT_ID, sink);
+
+        assertEquals(payload.length, written);
+        assertArrayEquals(payload, sink.toByteArray());
+        verify(mockAttachmentGet, never()).execute();
+    }
+
+    private GmailClientImpl labellingClient() {
+        return new GmailClientImpl(mockAuthProvider, GmailFetchConfig.builder()
+                .fetchMode(FetchMode.SEQUENTIAL)
+                .pageSize((int) TestConstants.PAGE_SIZE)
+                .query(GmailQueryConfig.unfiltered())
+                .processedMarking(ProcessedMarking.ADD_LABEL)
+                .processedLabel(TestConstants.PROCESSED_LABEL)
+                .build());
+    }
+
+    private void stubProfile() throws IOException {
+        when(mockUsers.getProfile(TestConstants.USER_ID)).thenReturn(mockGetProfile);
+        when(mockGetProfile.execute()).thenReturn(new Profile().setHistoryId(TestConstants.NEW_HISTORY_ID));
+    }
+
+    private void stubLabelsList(final Label... labels) throws IOException {
+        when(mockUsers.labels()).thenReturn(mockLabels);
+        when(mockLabels.list(TestConstants.USER_ID)).thenReturn(mockLabelsList);
+        when(mockLabelsList.execute()).thenReturn(new ListLabelsResponse().setLabels(List.of(labels)));
+    }
+
+    private OngoingStubbing<ListHistoryResponse> stubHistoryList() throws IOException {
+        when(mockUsers.history()).thenReturn(mockHistory);
+        when(mockHistory.list(TestConstants.USER_ID)).thenReturn(mockHistoryList);
+        when(mockHistoryList.setStartHistoryId(TestConstants.HISTORY_ID)).thenReturn(mockHistoryList);
+        when(mockHistoryList.setHistoryTypes(List.of("messageAdded"))).thenReturn(mockHistoryList);
+        when(mockHistoryList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockHistoryList);
+        when(mockHistoryList.setPageToken(null)).thenReturn(mockHistoryList);
+        return when(mockHistoryList.execute());
+    }
+
+    private void stubUnreadListing(final ListMessagesResponse response) throws IOException {
+        when(mockMessages.list(TestConstants.USER_ID)).thenReturn(mockList);
+        when(mockList.setQ(TestConstants.QUERY_UNREAD)).thenReturn(mockList);
+        when(mockList.setMaxResults(TestConstants.PAGE_SIZE)).thenReturn(mockList);
+        when(mockList.setPageToken(null)).thenReturn(mockList);
+        when(mockList.execute()).thenReturn(response);
+    }
+
+    private static HistoryMessageAdded addedMessage(final String messageId, final String... labelIds) {
+        return new HistoryMessageAdded().setMessage(new Message()
+                .setId(messageId)
+                .setLabelIds(List.of(labelIds)));
+    }
 }
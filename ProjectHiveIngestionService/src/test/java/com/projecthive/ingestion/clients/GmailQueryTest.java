@@ -0,0 +1,132 @@
+package com.projecthive.ingestion.clients;
+
+import com.projecthive.ingestion.config.GmailCategory;
+import com.projecthive.ingestion.config.GmailQueryConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GmailQueryTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_864_000L);
+
+    @Test
+    public void unread_unfilteredConfig_rendersPlainUnreadQuery() {
+        // Act
+        final GmailQuery query = GmailQuery.unread(GmailQueryConfig.unfiltered(), NOW);
+
+        // Assert
+        assertEquals("is:unread", query.toQueryString());
+    }
+
+    @Test
+    public void unread_rendersEveryConfiguredFilter() {
+        // Arrange
+        final GmailQueryConfig config = GmailQueryConfig.builder()
+                .excludedCategories(List.of(GmailCategory.PROMOTIONS, GmailCategory.SOCIAL))
+                .includedLabels(List.of("Work Projects"))
+                .excludedLabels(List.of("newsletters"))
+                .lookbackDays(2)
+                .maxSizeBytes(1_048_576L)
+                .allowedSenders(List.of("alice@example.com", "bob@example.com"))
+                .deniedSenders(List.of("noreply@example.com"))
+                .build();
+
+        // Act
+        final GmailQuery query = GmailQuery.unread(config, NOW);
+
+        // Assert
+        assertEquals("is:unread -category:promotions -category:social label:\"Work Projects\" -label:newsletters"
+                        + " after:1700691200 smaller:1048576 {from:alice@example.com from:bob@example.com}"
+                        + " -from:noreply@example.com",
+                query.toQueryString());
+    }
+
+    @Test
+    public void admitsLabels_appliesCategoryAndUnreadRulesToLabelIds() {
+        // Arrange
+        final GmailQuery query = GmailQuery.unread(GmailQueryConfig.builder()
+                .excludedLabels(List.of("spam"))
+                .build(), NOW).resolveLabelNames(Map.of("spam", "SPAM"));
+
+        // Act & Assert
+        assertTrue(query.admitsLabels(List.of("UNREAD", "INBOX", "CATEGORY_PERSONAL")));
+        assertFalse(query.admitsLabels(List.of("UNREAD", "CATEGORY_PROMOTIONS")));
+        assertFalse(query.admitsLabels(List.of("UNREAD", "SPAM")));
+        assertFalse(query.admitsLabels(List.of("INBOX")));
+        assertFalse(query.admitsLabels(null));
+    }
+
+    @Test
+    public void resolveLabelNames_judgesUserLabelsByTheirIds() {
+        // Arrange
+        final GmailQuery query = GmailQuery.unread(GmailQueryConfig.builder()
+                .excludedCategories(List.of())
+                .lookbackDays(0)
+                .includedLabels(List.of("Work Projects"))
+                .excludedLabels(List.of("Newsletters", "Unknown"))
+                .build(), NOW);
+
+        // Act
+        final GmailQuery resolved = query.resolveLabelNames(Map.of(
+                "work projects", "Label_1",
+                "newsletters", "Label_2"));
+
+        // Assert
+        assertTrue(query.hasLabelNames());
+        assertFalse(resolved.hasLabelNames());
+        assertTrue(resolved.admitsLabels(List.of("UNREAD", "Label_1")));
+        assertFalse(resolved.admitsLabels(List.of("UNREAD", "Label_1", "Label_2")));
+        assertFalse(resolved.admitsLabels(List.of("UNREAD")));
+        assertEquals(query.toQueryString(), resolved.toQueryString());
+    }
+
+    @Test
+    public void resolveLabelNames_requiredLabelMissingFromAccount_admitsNothing() {
+        // Arrange
+        final GmailQuery query = GmailQuery.builder().withLabel("Missing").build();
+
+        // Act & Assert
+        assertFalse(query.resolveLabelNames(Map.of()).admitsLabels(List.of("UNREAD", "INBOX")));
+    }
+
+    @Test
+    public void needsSearch_onlyForTermsLabelsCannotJudge() {
+        assertFalse(GmailQuery.unread(GmailQueryConfig.builder()
+                .excludedCategories(List.of(GmailCategory.PROMOTIONS))
+                .lookbackDays(0)
+                .excludedLabels(List.of("newsletters"))
+                .build(), NOW).needsSearch());
+        assertFalse(GmailQuery.builder().fromAnyOf(List.of()).notFrom(List.of()).build().needsSearch());
+        assertTrue(GmailQuery.unread(GmailQueryConfig.builder().build(), NOW).needsSearch()); // Lookback window
+        assertTrue(GmailQuery.builder().notFrom(List.of("noreply@example.com")).build().needsSearch());
+        assertTrue(GmailQuery.builder().fromAnyOf(List.of("alice@example.com")).build().needsSearch());
+        assertTrue(GmailQuery.builder().smallerThan(10L).build().needsSearch());
+    }
+
+    @Test
+    public void builder_quotesValuesThatWouldBreakTheOperator() {
+        // Act
+        final GmailQuery query = GmailQuery.builder()
+                .inCategory(GmailCategory.UPDATES)
+                .withLabel("a\"b) OR (c")
+                .largerThan(10L)
+                .build();
+
+        // Assert
+        assertEquals("category:updates label:\"ab) OR (c\" larger:10", query.toString());
+        assertTrue(GmailQuery.builder().build().admitsLabels(null));
+    }
+
+    @Test
+    public void builder_rejectsBlankValues() {
+        assertThrows(IllegalArgumentException.class, () -> GmailQuery.builder().notFrom(List.of(" ")));
+    }
+}
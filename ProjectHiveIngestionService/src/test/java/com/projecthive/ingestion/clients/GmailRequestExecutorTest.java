@@ -0,0 +1,177 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.Sleeper;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.constants.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GmailRequestExecutorTest {
+
+    @Mock
+    private QuotaRateLimiter mockRateLimiter;
+
+    @Mock
+    private Sleeper mockSleeper;
+
+    @Mock
+    private RandomGenerator mockRandom;
+
+    @Mock
+    private Gmail.Users.Messages.Get mockGet;
+
+    private GmailRequestExecutor requestExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        requestExecutor = new GmailRequestExecutor(mockRateLimiter, 3, 100L, 150L, mockSleeper, mockRandom);
+    }
+
+    @Test
+    public void execute_chargesQuotaAndReturnsResponse() throws Exception {
+        // Arrange
+        final Message message = new Message().setId(TestConstants.MSG_ID_1);
+        when(mockGet.execute()).thenReturn(message);
+
+        // Act
+        final Message result = requestExecutor.execute(GmailQuotaCost.MESSAGES_GET, mockGet);
+
+        // Assert
+        assertSame(message, result);
+        verify(mockRateLimiter).acquire(GmailQuotaCost.MESSAGES_GET);
+        verify(mockSleeper, never()).sleep(anyLong());
+    }
+
+    @Test
+    public void execute_rateLimited_backsOffWithJitterAndRetries() throws Exception {
+        // Arrange
+        final Message message = new Message().setId(TestConstants.MSG_ID_1);
+        when(mockGet.execute())
+                .thenThrow(jsonException(429))
+                .thenThrow(jsonException(503))
+                .thenReturn(message);
+        when(mockRandom.nextLong(101L)).thenReturn(42L);
+        when(mockRandom.nextLong(151L)).thenReturn(7L);
+
+        // Act
+        final Message result = requestExecutor.execute(GmailQuotaCost.MESSAGES_GET, mockGet);
+
+        // Assert
+        assertSame(message, result);
+        verify(mockSleeper).sleep(42L);
+        verify(mockSleeper).sleep(7L);
+        verify(mockRateLimiter, times(3)).acquire(GmailQuotaCost.MESSAGES_GET);
+    }
+
+    @Test
+    public void executeAsInputStream_retriesAndReturnsRawResponse() throws Exception {
+        // Arrange
+        final InputStream response = new ByteArrayInputStream(new byte[0]);
+        when(mockGet.executeAsInputStream())
+                .thenThrow(jsonException(503))
+                .thenReturn(response);
+        when(mockRandom.nextLong(101L)).thenReturn(0L);
+
+        // Act
+        final InputStream result = requestExecutor.executeAsInputStream(GmailQuotaCost.ATTACHMENTS_GET, mockGet);
+
+        // Assert
+        assertSame(response, result);
+        verify(mockRateLimiter, times(2)).acquire(GmailQuotaCost.ATTACHMENTS_GET);
+        verify(mockGet, never()).execute();
+    }
+
+    @Test
+    public void execute_exhaustedRetries_rethrows() throws Exception {
+        // Arrange
+        final GoogleJsonResponseException rateLimited = jsonException(429);
+        when(mockGet.execute()).thenThrow(rateLimited);
+
+        // Act & Assert
+        assertSame(rateLimited, assertThrows(GoogleJsonResponseException.class,
+                () -> requestExecutor.execute(GmailQuotaCost.MESSAGES_GET, mockGet)));
+        verify(mockGet, times(3)).execute();
+    }
+
+    @Test
+    public void execute_permanentFailure_doesNotRetry() throws Exception {
+        // Arrange
+        when(mockGet.execute()).thenThrow(jsonException(404));
+
+        // Act & Assert
+        assertThrows(GoogleJsonResponseException.class,
+                () -> requestExecutor.execute(GmailQuotaCost.MESSAGES_GET, mockGet));
+        verify(mockGet).execute();
+        verify(mockSleeper, never()).sleep(anyLong());
+    }
+
+    @Test
+    public void execute_interruptedWhileWaitingForQuota_throwsIOException() throws Exception {
+        // Arrange
+        doThrow(new InterruptedException()).when(mockRateLimiter).acquire(GmailQuotaCost.MESSAGES_GET);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> requestExecutor.execute(GmailQuotaCost.MESSAGES_GET, mockGet));
+        assertTrue(Thread.interrupted());
+        verify(mockGet, never()).execute();
+    }
+
+    @Test
+    public void backoffMillis_isCappedAtMaxBackoff() {
+        // Arrange
+        when(mockRandom.nextLong(151L)).thenReturn(150L);
+
+        // Act & Assert
+        assertEquals(150L, requestExecutor.backoffMillis(10));
+    }
+
+    @Test
+    public void isRetryable_recognisesRateLimitReasonsOn403() {
+        final GoogleJsonError.ErrorInfo info = new GoogleJsonError.ErrorInfo();
+        info.setReason("userRateLimitExceeded");
+        final GoogleJsonError rateLimited = new GoogleJsonError();
+        rateLimited.setCode(403);
+        rateLimited.setErrors(List.of(info));
+
+        final GoogleJsonError forbidden = new GoogleJsonError();
+        forbidden.setCode(403);
+
+        assertTrue(GmailRequestExecutor.isRetryable(rateLimited));
+        assertFalse(GmailRequestExecutor.isRetryable(forbidden));
+    }
+
+    private static GoogleJsonResponseException jsonException(final int statusCode) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(statusCode);
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(statusCode, TestConstants.ERROR_MESSAGE, new HttpHeaders()),
+                error);
+    }
+}
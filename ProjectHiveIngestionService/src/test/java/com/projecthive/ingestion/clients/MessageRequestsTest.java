@@ -0,0 +1,78 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.Gmail;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.constants.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MessageRequestsTest {
+
+    @Mock
+    private Gmail mockGmail;
+
+    @Mock
+    private Gmail.Users mockUsers;
+
+    @Mock
+    private Gmail.Users.Messages mockMessages;
+
+    @Mock
+    private Gmail.Users.Messages.Get mockGet;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(mockGmail.users()).thenReturn(mockUsers);
+        when(mockUsers.messages()).thenReturn(mockMessages);
+        when(mockMessages.get(TestConstants.USER_ID, TestConstants.MSG_ID_1)).thenReturn(mockGet);
+    }
+
+    @Test
+    public void get_metadataProfile_requestsOnlySelectedHeaders() throws Exception {
+        // Arrange
+        final FetchProfile profile = FetchProfile.metadata("From", "Subject");
+
+        // Act
+        final Gmail.Users.Messages.Get result =
+                MessageRequests.get(mockGmail, TestConstants.USER_ID, TestConstants.MSG_ID_1, profile);
+
+        // Assert
+        assertSame(mockGet, result);
+        verify(mockGet).setFormat("metadata");
+        verify(mockGet).setMetadataHeaders(List.of("From", "Subject"));
+        verify(mockGet).setFields("id,threadId,labelIds,internalDate,snippet,payload/headers");
+    }
+
+    @Test
+    public void get_fullProfile_masksToParsedFields() throws Exception {
+        // Act
+        MessageRequests.get(mockGmail, TestConstants.USER_ID, TestConstants.MSG_ID_1, FetchProfile.full());
+
+        // Assert
+        verify(mockGet).setFormat("full");
+        verify(mockGet, never()).setMetadataHeaders(anyList());
+        verify(mockGet).setFields("id,threadId,labelIds,internalDate,snippet,payload");
+    }
+
+    @Test
+    public void get_rawProfile_masksToRawPayload() throws Exception {
+        // Act
+        MessageRequests.get(mockGmail, TestConstants.USER_ID, TestConstants.MSG_ID_1, FetchProfile.raw());
+
+        // Assert
+        verify(mockGet).setFormat("raw");
+        verify(mockGet).setFields("id,threadId,labelIds,internalDate,raw");
+    }
+}
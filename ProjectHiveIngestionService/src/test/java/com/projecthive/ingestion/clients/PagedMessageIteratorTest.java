@@ -0,0 +1,111 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.services.gmail.model.Message;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.MessageIdPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PagedMessageIteratorTest {
+
+    @Mock
+    private PagedMessageIterator.PageLoader mockPageLoader;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS) // fetchPage falls through to the stubbed fetch
+    private MessageFetcher mockFetcher;
+
+    @Test
+    public void next_loadsFollowingPageOnlyWhenCurrentPageIsConsumed() throws IOException {
+        // Arrange
+        final Message message1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message message2 = new Message().setId(TestConstants.MSG_ID_2);
+        when(mockPageLoader.load(null)).thenReturn(new MessageIdPage(List.of(TestConstants.MSG_ID_1), TestConstants.PAGE_TOKEN));
+        when(mockFetcher.fetch(List.of(TestConstants.MSG_ID_1))).thenReturn(List.of(message1));
+
+        final PagedMessageIterator iterator = new PagedMessageIterator(mockPageLoader, mockFetcher);
+
+        // Act
+        final Message first = iterator.next();
+
+        // Assert
+        assertEquals(message1, first);
+        verify(mockPageLoader, never()).load(TestConstants.PAGE_TOKEN);
+
+        // Arrange
+        when(mockPageLoader.load(TestConstants.PAGE_TOKEN)).thenReturn(new MessageIdPage(List.of(TestConstants.MSG_ID_2), null));
+        when(mockFetcher.fetch(List.of(TestConstants.MSG_ID_2))).thenReturn(List.of(message2));
+
+        // Act & Assert
+        assertTrue(iterator.hasNext());
+        assertEquals(message2, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void currentPageToken_tracksPageOfLastReturnedMessage() throws IOException {
+        // Arrange
+        final Message message1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message message2 = new Message().setId(TestConstants.MSG_ID_2);
+        when(mockPageLoader.load(TestConstants.PAGE_TOKEN))
+                .thenReturn(new MessageIdPage(List.of(TestConstants.MSG_ID_1), TestConstants.NEXT_PAGE_TOKEN));
+        when(mockPageLoader.load(TestConstants.NEXT_PAGE_TOKEN))
+                .thenReturn(new MessageIdPage(List.of(TestConstants.MSG_ID_2), null));
+        when(mockFetcher.fetch(List.of(TestConstants.MSG_ID_1))).thenReturn(List.of(message1));
+        when(mockFetcher.fetch(List.of(TestConstants.MSG_ID_2))).thenReturn(List.of(message2));
+
+        final PagedMessageIterator iterator =
+                new PagedMessageIterator(mockPageLoader, mockFetcher, TestConstants.PAGE_TOKEN);
+
+        // Act & Assert
+        assertEquals(message1, iterator.next());
+        assertEquals(TestConstants.PAGE_TOKEN, iterator.currentPageToken());
+        assertEquals(message2, iterator.next());
+        assertEquals(TestConstants.NEXT_PAGE_TOKEN, iterator.currentPageToken());
+    }
+
+    @Test
+    public void hasNext_skipsPagesWhoseMessagesCouldNotBeFetched() throws IOException {
+        // Arrange
+        final Message message2 = new Message().setId(TestConstants.MSG_ID_2);
+        when(mockPageLoader.load(null)).thenReturn(new MessageIdPage(List.of(TestConstants.MSG_ID_1), TestConstants.PAGE_TOKEN));
+        when(mockPageLoader.load(TestConstants.PAGE_TOKEN)).thenReturn(new MessageIdPage(List.of(TestConstants.MSG_ID_2), null));
+        when(mockFetcher.fetch(List.of(TestConstants.MSG_ID_1))).thenReturn(Collections.emptyList());
+        when(mockFetcher.fetch(List.of(TestConstants.MSG_ID_2))).thenReturn(List.of(message2));
+
+        final PagedMessageIterator iterator = new PagedMessageIterator(mockPageLoader, mockFetcher);
+
+        // Act & Assert
+        assertTrue(iterator.hasNext());
+        assertEquals(message2, iterator.next());
+    }
+
+    @Test
+    public void hasNext_wrapsListingFailureInUncheckedIOException() throws IOException {
+        // Arrange
+        when(mockPageLoader.load(null)).thenThrow(new IOException(TestConstants.ERROR_MESSAGE));
+
+        final PagedMessageIterator iterator = new PagedMessageIterator(mockPageLoader, mockFetcher);
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, iterator::hasNext);
+    }
+}
@@ -0,0 +1,55 @@
+package com.projecthive.ingestion.clients;
+
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.MessageIdPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class QueryMatchesTest {
+
+    @Mock
+    private PagedMessageIterator.PageLoader mockListing;
+
+    @Test
+    public void contains_stopsListingOnceTheMessageIsFound() throws Exception {
+        // Arrange
+        when(mockListing.load(null)).thenReturn(
+                new MessageIdPage(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2), TestConstants.PAGE_TOKEN));
+        final QueryMatches matches = new QueryMatches(mockListing);
+
+        // Act & Assert
+        assertTrue(matches.contains(TestConstants.MSG_ID_1));
+        assertTrue(matches.contains(TestConstants.MSG_ID_2));
+        verify(mockListing, times(1)).load(any());
+        verify(mockListing, never()).load(TestConstants.PAGE_TOKEN);
+    }
+
+    @Test
+    public void contains_walksLaterPagesAndListsEachOnlyOnce() throws Exception {
+        // Arrange
+        when(mockListing.load(null)).thenReturn(
+                new MessageIdPage(List.of(TestConstants.MSG_ID_1), TestConstants.PAGE_TOKEN));
+        when(mockListing.load(TestConstants.PAGE_TOKEN)).thenReturn(
+                new MessageIdPage(List.of(TestConstants.MSG_ID_2), ""));
+        final QueryMatches matches = new QueryMatches(mockListing);
+
+        // Act & Assert
+        assertTrue(matches.contains(TestConstants.MSG_ID_2));
+        assertFalse(matches.contains(TestConstants.MSG_ID_3)); // Rejected by the query
+        assertFalse(matches.contains(TestConstants.MSG_ID_3));
+        verify(mockListing, times(2)).load(any());
+    }
+}
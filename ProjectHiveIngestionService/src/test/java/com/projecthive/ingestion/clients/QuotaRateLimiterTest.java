@@ -0,0 +1,69 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.util.Sleeper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class QuotaRateLimiterTest {
+
+    @Mock
+    private TokenBucket mockUserBucket;
+
+    @Mock
+    private TokenBucket mockProjectBucket;
+
+    @Mock
+    private Sleeper mockSleeper;
+
+    @Test
+    public void acquire_withTokensAvailable_doesNotSleep() throws Exception {
+        // Arrange
+        final QuotaRateLimiter limiter = new QuotaRateLimiter(mockUserBucket, mockProjectBucket, mockSleeper);
+        when(mockUserBucket.reserve(GmailQuotaCost.MESSAGES_GET.getUnits())).thenReturn(0L);
+        when(mockProjectBucket.reserve(GmailQuotaCost.MESSAGES_GET.getUnits())).thenReturn(0L);
+
+        // Act
+        limiter.acquire(GmailQuotaCost.MESSAGES_GET);
+
+        // Assert
+        verify(mockSleeper, never()).sleep(anyLong());
+    }
+
+    @Test
+    public void acquire_sleepsForTheStricterLimit() throws Exception {
+        // Arrange
+        final QuotaRateLimiter limiter = new QuotaRateLimiter(mockUserBucket, mockProjectBucket, mockSleeper);
+        when(mockUserBucket.reserve(GmailQuotaCost.HISTORY_LIST.getUnits()))
+                .thenReturn(TimeUnit.MILLISECONDS.toNanos(40));
+        when(mockProjectBucket.reserve(GmailQuotaCost.HISTORY_LIST.getUnits()))
+                .thenReturn(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Act
+        limiter.acquire(GmailQuotaCost.HISTORY_LIST);
+
+        // Assert
+        verify(mockSleeper).sleep(41L);
+    }
+
+    @Test
+    public void create_buildsLimiterWithFullBuckets() throws Exception {
+        // Arrange
+        final QuotaRateLimiter limiter = QuotaRateLimiter.create(250L, 20_000L, mockSleeper);
+
+        // Act
+        limiter.acquire(250);
+
+        // Assert
+        verify(mockSleeper, never()).sleep(anyLong());
+    }
+}
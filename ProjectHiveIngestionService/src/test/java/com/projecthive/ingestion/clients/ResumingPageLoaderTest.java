@@ -0,0 +1,129 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.MessageIdPage;
+import com.projecthive.ingestion.models.ResumeCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ResumingPageLoaderTest {
+
+    @Mock
+    private PagedMessageIterator.PageLoader mockDelegate;
+
+    @Test
+    public void load_withoutCursor_passesPagesThrough() throws Exception {
+        // Arrange
+        final MessageIdPage page = new MessageIdPage(List.of(TestConstants.MSG_ID_1), null);
+        when(mockDelegate.load(null)).thenReturn(page);
+        final ResumingPageLoader loader = new ResumingPageLoader(mockDelegate, null);
+
+        // Act & Assert
+        assertNull(loader.firstPageToken());
+        assertSame(page, loader.load(null));
+    }
+
+    @Test
+    public void load_firstPage_keepsThreadIdsAlignedWhenSkipping() throws Exception {
+        // Arrange
+        when(mockDelegate.load(TestConstants.PAGE_TOKEN)).thenReturn(new MessageIdPage(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2, TestConstants.MSG_ID_3),
+                null,
+                List.of(TestConstants.THREAD_ID, TestConstants.THREAD_ID, TestConstants.MSG_ID_3)));
+        final ResumingPageLoader loader = new ResumingPageLoader(
+                mockDelegate, new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_1, true, null));
+
+        // Act
+        final MessageIdPage first = loader.load(loader.firstPageToken());
+
+        // Assert
+        assertEquals(List.of(TestConstants.MSG_ID_2, TestConstants.MSG_ID_3), first.getMessageIds());
+        assertEquals(List.of(TestConstants.THREAD_ID, TestConstants.MSG_ID_3), first.getThreadIds());
+    }
+
+    @Test
+    public void load_firstPage_skipsMessagesUpToCursor() throws Exception {
+        // Arrange
+        when(mockDelegate.load(TestConstants.PAGE_TOKEN)).thenReturn(new MessageIdPage(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2, TestConstants.MSG_ID_3),
+                TestConstants.NEXT_PAGE_TOKEN));
+        final MessageIdPage secondPage = new MessageIdPage(List.of(TestConstants.MSG_ID_1), null);
+        when(mockDelegate.load(TestConstants.NEXT_PAGE_TOKEN)).thenReturn(secondPage);
+        final ResumingPageLoader loader = new ResumingPageLoader(
+                mockDelegate, new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_2, true, null));
+
+        // Act
+        final MessageIdPage first = loader.load(loader.firstPageToken());
+        final MessageIdPage second = loader.load(TestConstants.NEXT_PAGE_TOKEN);
+
+        // Assert
+        assertEquals(List.of(TestConstants.MSG_ID_3), first.getMessageIds());
+        assertEquals(TestConstants.NEXT_PAGE_TOKEN, first.getNextPageToken());
+        assertSame(secondPage, second);
+    }
+
+    @Test
+    public void prefetch_loadsFirstPageOnce() throws Exception {
+        // Arrange
+        final MessageIdPage page = new MessageIdPage(List.of(TestConstants.MSG_ID_1), null);
+        when(mockDelegate.load(null)).thenReturn(page);
+        final ResumingPageLoader loader = new ResumingPageLoader(mockDelegate, null);
+
+        // Act
+        loader.prefetch();
+        final MessageIdPage result = loader.load(null);
+
+        // Assert
+        assertSame(page, result);
+        verify(mockDelegate, times(1)).load(null);
+    }
+
+    @Test
+    public void load_rejectedResumeToken_restartsFromFirstPage() throws Exception {
+        // Arrange
+        final MessageIdPage page = new MessageIdPage(List.of(TestConstants.MSG_ID_1), null);
+        when(mockDelegate.load(TestConstants.PAGE_TOKEN)).thenThrow(jsonException(400));
+        when(mockDelegate.load(null)).thenReturn(page);
+        final ResumingPageLoader loader = new ResumingPageLoader(
+                mockDelegate, new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_3, false, null));
+
+        // Act & Assert
+        assertEquals(page, loader.load(TestConstants.PAGE_TOKEN));
+    }
+
+    @Test
+    public void load_otherFailures_propagate() throws Exception {
+        // Arrange
+        when(mockDelegate.load(TestConstants.PAGE_TOKEN)).thenThrow(jsonException(500));
+        final ResumingPageLoader loader = new ResumingPageLoader(
+                mockDelegate, new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_1, false, null));
+
+        // Act & Assert
+        assertThrows(GoogleJsonResponseException.class, () -> loader.load(TestConstants.PAGE_TOKEN));
+    }
+
+    private static GoogleJsonResponseException jsonException(final int statusCode) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(statusCode);
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(statusCode, TestConstants.ERROR_MESSAGE, new HttpHeaders()),
+                error);
+    }
+}
@@ -0,0 +1,143 @@
+package com.projecthive.ingestion.clients;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Thread;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.MessageIdPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ThreadMessageFetcherTest {
+
+    private static final String OTHER_THREAD_ID = "thread2";
+
+    @Mock
+    private AsyncGmailClient mockAsyncClient;
+
+    @Mock
+    private MessageFetcher mockSingleFetcher;
+
+    private ThreadMessageFetcher fetcher;
+
+    @BeforeEach
+    public void setUp() {
+        fetcher = new ThreadMessageFetcher(mockAsyncClient, mockSingleFetcher);
+    }
+
+    @Test
+    public void groupByThread_makesConversationsAdjacentInOrderOfFirstAppearance() {
+        // Arrange
+        final MessageIdPage page = new MessageIdPage(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2, TestConstants.MSG_ID_3, TestConstants.MSG_ID_4),
+                TestConstants.NEXT_PAGE_TOKEN,
+                Arrays.asList(TestConstants.THREAD_ID, OTHER_THREAD_ID, TestConstants.THREAD_ID, null));
+
+        // Act
+        final MessageIdPage grouped = ThreadMessageFetcher.groupByThread(page);
+
+        // Assert
+        assertEquals(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_3, TestConstants.MSG_ID_2, TestConstants.MSG_ID_4),
+                grouped.getMessageIds());
+        assertEquals(List.of(TestConstants.THREAD_ID, TestConstants.THREAD_ID, OTHER_THREAD_ID, TestConstants.MSG_ID_4),
+                grouped.getThreadIds());
+        assertEquals(TestConstants.NEXT_PAGE_TOKEN, grouped.getNextPageToken());
+    }
+
+    @Test
+    public void fetch_usesOneThreadCallPerConversationAndSingleFetchesForTheRest() throws Exception {
+        // Arrange
+        final Message first = new Message().setId(TestConstants.MSG_ID_1);
+        final Message reply = new Message().setId(TestConstants.MSG_ID_3);
+        final Message alreadyIngested = new Message().setId(TestConstants.MSG_ID_4);
+        final Message single = new Message().setId(TestConstants.MSG_ID_2);
+        final MessageIdPage page = new MessageIdPage(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_3, TestConstants.MSG_ID_2),
+                null,
+                List.of(TestConstants.THREAD_ID, TestConstants.THREAD_ID, OTHER_THREAD_ID));
+        when(mockAsyncClient.getThread(TestConstants.THREAD_ID)).thenReturn(CompletableFuture.completedFuture(
+                new Thread().setId(TestConstants.THREAD_ID).setMessages(List.of(alreadyIngested, first, reply))));
+        when(mockSingleFetcher.fetch(List.of(TestConstants.MSG_ID_2))).thenReturn(List.of(single));
+
+        // Act
+        final List<Message> result = fetcher.fetchPage(page);
+
+        // Assert
+        assertEquals(List.of(first, reply, single), result);
+        verify(mockAsyncClient, never()).getThread(OTHER_THREAD_ID);
+    }
+
+    @Test
+    public void fetch_skipsConversationDeletedAfterListing() throws Exception {
+        // Arrange
+        final Message single = new Message().setId(TestConstants.MSG_ID_2);
+        final MessageIdPage page = new MessageIdPage(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_3, TestConstants.MSG_ID_2),
+                null,
+                List.of(TestConstants.THREAD_ID, TestConstants.THREAD_ID, OTHER_THREAD_ID));
+        when(mockAsyncClient.getThread(TestConstants.THREAD_ID))
+                .thenReturn(CompletableFuture.failedFuture(jsonException(404)));
+        when(mockSingleFetcher.fetch(List.of(TestConstants.MSG_ID_2))).thenReturn(List.of(single));
+
+        // Act
+        final List<Message> result = fetcher.fetchPage(page);
+
+        // Assert
+        assertEquals(List.of(single), result);
+    }
+
+    @Test
+    public void fetch_threadFailureThatIsNotADeletion_propagates() {
+        // Arrange
+        final MessageIdPage page = new MessageIdPage(
+                List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_3),
+                null,
+                List.of(TestConstants.THREAD_ID, TestConstants.THREAD_ID));
+        when(mockAsyncClient.getThread(TestConstants.THREAD_ID))
+                .thenReturn(CompletableFuture.failedFuture(jsonException(503)));
+
+        // Act & Assert
+        final GoogleJsonResponseException thrown =
+                assertThrows(GoogleJsonResponseException.class, () -> fetcher.fetchPage(page));
+        assertEquals(503, thrown.getStatusCode());
+    }
+
+    @Test
+    public void fetch_withoutThreadIds_delegatesToSingleFetcher() throws Exception {
+        // Arrange
+        final List<Message> messages = List.of(new Message().setId(TestConstants.MSG_ID_1));
+        when(mockSingleFetcher.fetch(List.of(TestConstants.MSG_ID_1))).thenReturn(messages);
+
+        // Act
+        final List<Message> result = fetcher.fetchPage(new MessageIdPage(List.of(TestConstants.MSG_ID_1), null));
+
+        // Assert
+        assertSame(messages, result);
+    }
+
+    private static GoogleJsonResponseException jsonException(final int statusCode) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(statusCode);
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(statusCode, TestConstants.ERROR_MESSAGE, new HttpHeaders()),
+                error);
+    }
+}
@@ -0,0 +1,56 @@
+package com.projecthive.ingestion.clients;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void reserve_withinCapacity_doesNotWait() {
+        // Arrange
+        final TokenBucket bucket = new TokenBucket(10, 10, clock::get);
+
+        // Act & Assert
+        assertEquals(0L, bucket.reserve(5));
+        assertEquals(0L, bucket.reserve(5));
+    }
+
+    @Test
+    public void reserve_beyondCapacity_waitsForRefill() {
+        // Arrange
+        final TokenBucket bucket = new TokenBucket(10, 10, clock::get);
+        bucket.reserve(10);
+
+        // Act
+        final long waitNanos = bucket.reserve(5);
+
+        // Assert
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), waitNanos);
+    }
+
+    @Test
+    public void reserve_refillsOverTimeUpToCapacity() {
+        // Arrange
+        final TokenBucket bucket = new TokenBucket(10, 10, clock::get);
+        bucket.reserve(10);
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        // Assert
+        assertEquals(0L, bucket.reserve(10));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(1));
+    }
+
+    @Test
+    public void constructor_rejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0, clock::get));
+    }
+}
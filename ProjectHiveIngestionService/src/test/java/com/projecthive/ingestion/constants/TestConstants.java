@@ -1,12 +1,26 @@
 package com.projecthive.ingestion.constants;
 
+import java.math.BigInteger;
+
 public class TestConstants {
 
     public static final String USER_ID = "me";
     public static final String QUERY_UNREAD = "is:unread";
+    public static final String PROCESSED_LABEL = "projecthive-processed";
+    public static final String LABEL_ID = "Label_42";
+    public static final long PAGE_SIZE = 100L;
+    public static final String PAGE_TOKEN = "page-2";
+    public static final String NEXT_PAGE_TOKEN = "page-3";
     public static final String MSG_ID_1 = "msg1";
     public static final String MSG_ID_2 = "msg2";
+    public static final String GMAIL_MSG_ID_1 = "18c2a1f0b3d4e501"; // Real Gmail ids are 64-bit hex
+    public static final String GMAIL_MSG_ID_2 = "18c2a1f0b3d4e502";
+    public static final String MSG_ID_3 = "msg3";
+    public static final String MSG_ID_4 = "msg4";
+    public static final String THREAD_ID = "thread1";
     public static final String SNIPPET_1 = "hello";
+    public static final String ATTACHMENT_ID = "ANGjdJ9attachment";
+    public static final String BODY_1 = "Hello team, the release is scheduled for Friday.";
     public static final String SNIPPET_2 = "world";
     public static final String ERROR_MESSAGE = "API error";
     public static final String ID = "id";
@@ -24,9 +38,15 @@ public class TestConstants {
     public static final String SUBJECT_2 = "Subject 2";
 
     public static final String MESSAGES_TABLE = "messages";
+    public static final String CHECKPOINTS_TABLE = "ingestion_checkpoints";
+    public static final String ACCOUNT_ID = "gmail#jerrytang";
+    public static final BigInteger HISTORY_ID = BigInteger.valueOf(1000L);
+    public static final BigInteger NEW_HISTORY_ID = BigInteger.valueOf(2000L);
+    public static final long DEADLINE_MARGIN_MILLIS = 30_000L;
 
     public static final String EVENT_ID = "test-event-id";
     public static final String DETAIL_TYPE = "test-detail-type";
+    public static final int REMAINING_TIME_MILLIS = 900_000;
 
     private TestConstants() {
         // Prevent instantiation
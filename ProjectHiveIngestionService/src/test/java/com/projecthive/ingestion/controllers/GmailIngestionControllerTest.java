@@ -2,26 +2,53 @@ package com.projecthive.ingestion.controllers;
 
 import com.google.api.services.gmail.model.Message;
 import com.projecthive.ingestion.clients.GmailClient;
+import com.projecthive.ingestion.config.IngestionConfig;
 import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.dao.CheckpointDao;
 import com.projecthive.ingestion.dao.MessageDao;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
 import com.projecthive.ingestion.models.GmailMessage;
+import com.projecthive.ingestion.models.MailboxSync;
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import com.projecthive.ingestion.models.ResumeCursor;
+import com.projecthive.ingestion.models.SaveResult;
+import com.projecthive.ingestion.parser.BodyTrimmer;
 import com.projecthive.ingestion.parser.GmailMessageParser;
+import com.projecthive.ingestion.utilities.Deadline;
 import com.projecthive.ingestion.utilities.MessageConverter;
+import com.projecthive.ingestion.utilities.SeenMessageFilter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,12 +60,48 @@ public class GmailIngestionControllerTest {
     @Mock
     private GmailMessageParser messageParser;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS) // saveAsync/saveAllAsync fall through to the stubbed blocking calls
     private MessageDao messageDao;
 
-    @InjectMocks
+    @Mock
+    private CheckpointDao checkpointDao;
+
     private GmailIngestionController controller;
 
+    @BeforeEach
+    public void setUp() {
+        controller = new GmailIngestionController(
+                gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao, IngestionConfig.builder().writeBatchSize(1).build());
+    }
+
+    @Test
+    public void testIngestGmailMessages_groupByThread_syncsThreads() throws Exception {
+        // Arrange
+        final Message raw = new Message().setId(TestConstants.MSG_ID_1).setThreadId(TestConstants.THREAD_ID);
+        final GmailMessage parsed = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .body(TestConstants.SNIPPET_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .threadId(TestConstants.THREAD_ID)
+                .build();
+        when(gmailClient.syncThreads(isNull(), isNull(), any())).thenReturn(fullSync(Stream.of(raw)));
+        when(messageParser.parse(raw)).thenReturn(parsed);
+        controller = new GmailIngestionController(gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao,
+                IngestionConfig.builder().groupByThread(true).writeBatchSize(1).build());
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<com.projecthive.ingestion.models.Message> captor =
+                ArgumentCaptor.forClass(com.projecthive.ingestion.models.Message.class);
+        verify(messageDao).save(captor.capture());
+        assertEquals(TestConstants.THREAD_ID, captor.getValue().getThreadId());
+        verify(gmailClient, never()).syncMessages(any(), any(), any());
+    }
+
     @Test
     public void testIngestGmailMessages_savesParsedMessages() throws Exception {
         // Arrange
@@ -64,26 +127,122 @@ public class GmailIngestionControllerTest {
                 .receivedAt(2000L)
                 .build();
 
-        when(gmailClient.fetchUnreadMessages()).thenReturn(rawMessages);
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(rawMessages.stream()));
         when(messageParser.parse(raw1)).thenReturn(parsed1);
         when(messageParser.parse(raw2)).thenReturn(parsed2);
 
         // Act
-        controller.ingestGmailMessages();
+        controller.ingestGmailMessages(Deadline.none());
 
         // Assert
         final ArgumentCaptor<com.projecthive.ingestion.models.Message> captor =
                 ArgumentCaptor.forClass(com.projecthive.ingestion.models.Message.class);
         verify(messageDao, times(2)).save(captor.capture());
+        verify(gmailClient).markProcessed(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2));
+    }
+
+    @Test
+    public void testIngestGmailMessages_marksProcessedInBatchModifySizedChunks() throws Exception {
+        // Arrange
+        final List<Message> rawMessages = IntStream.rangeClosed(1, GmailClient.MAX_BATCH_MODIFY_IDS + 1)
+                .mapToObj(i -> new Message().setId("msg" + i))
+                .toList();
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(rawMessages.stream()));
+        when(messageParser.parse(any())).thenAnswer(invocation -> GmailMessage.builder()
+                .id(invocation.<Message>getArgument(0).getId())
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build());
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gmailClient, times(2)).markProcessed(captor.capture());
+        assertEquals(GmailClient.MAX_BATCH_MODIFY_IDS, captor.getAllValues().get(0).size());
+        assertEquals(List.of("msg" + (GmailClient.MAX_BATCH_MODIFY_IDS + 1)), captor.getAllValues().get(1));
+    }
+
+    @Test
+    public void testIngestGmailMessages_duplicates_areMarkedProcessedAndAdvanceCheckpoint() throws Exception {
+        // Arrange
+        final Message raw1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message raw2 = new Message().setId(TestConstants.MSG_ID_2);
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(Stream.of(raw1, raw2)));
+        when(messageParser.parse(any())).thenAnswer(invocation -> GmailMessage.builder()
+                .id(invocation.<Message>getArgument(0).getId())
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build());
+        when(messageDao.save(any())).thenReturn(true, false); // The second was stored by an earlier run
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        verify(messageDao, times(2)).save(any());
+        verify(gmailClient).markProcessed(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2));
+        verify(checkpointDao).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_defaultConfig_sameMessageTwice_isWrittenOnce() throws Exception {
+        // Arrange: two cold containers, so only the DAO's existence check can catch the repeat
+        final Message raw = new Message().setId(TestConstants.MSG_ID_1);
+        when(gmailClient.syncMessages(isNull(), isNull(), any()))
+                .thenAnswer(invocation -> fullSync(Stream.of(raw)));
+        when(messageParser.parse(raw)).thenReturn(parsed(TestConstants.MSG_ID_1));
+        final Set<String> storedIds = new HashSet<>();
+        final List<Boolean> writes = new ArrayList<>();
+        when(messageDao.save(any())).thenAnswer(invocation -> {
+            final boolean written = storedIds.add(invocation.<com.projecthive.ingestion.models.Message>getArgument(0).getId());
+            writes.add(written);
+            return written;
+        });
+
+        // Act
+        for (int run = 0; run < 2; run++) {
+            new GmailIngestionController(gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao,
+                    IngestionConfig.builder().build()).ingestGmailMessages(Deadline.none());
+        }
+
+        // Assert
+        assertEquals(List.of(true, false), writes);
+        verify(messageDao, never()).saveAll(any());
+        verify(checkpointDao, times(2)).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_markingFails_stillAdvancesCheckpoint() throws Exception {
+        // Arrange
+        final Message rawMessage = new Message().setId(TestConstants.MSG_ID_1);
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(Stream.of(rawMessage)));
+        when(messageParser.parse(rawMessage)).thenReturn(GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build());
+        doThrow(new IOException(TestConstants.ERROR_MESSAGE)).when(gmailClient).markProcessed(any());
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        verify(messageDao).save(any());
+        verify(checkpointDao).save(any());
     }
     
     @Test
     public void testIngestGmailMessages_noUnreadMessages_doesNotSaveAnything() throws Exception {
         // Arrange
-        when(gmailClient.fetchUnreadMessages()).thenReturn(Collections.emptyList());
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(Stream.empty()));
 
         // Act
-        controller.ingestGmailMessages();
+        controller.ingestGmailMessages(Deadline.none());
 
         // Assert
         verify(messageDao, never()).save(any());
@@ -105,11 +264,11 @@ public class GmailIngestionControllerTest {
                 .receivedAt(TestConstants.RECEIVED_AT_1)
                 .build();
 
-        when(gmailClient.fetchUnreadMessages()).thenReturn(rawMessages);
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(rawMessages.stream()));
         when(messageParser.parse(rawMessage)).thenReturn(parsedMessage);
 
         // Act
-        controller.ingestGmailMessages();
+        controller.ingestGmailMessages(Deadline.none());
 
         // Assert
         final ArgumentCaptor<com.projecthive.ingestion.models.Message> captor =
@@ -124,4 +283,407 @@ public class GmailIngestionControllerTest {
         assertEquals(TestConstants.SNIPPET_1, savedMessage.getBody());
         assertEquals(TestConstants.RECEIVED_AT_1, savedMessage.getReceivedAt());
     }
+
+    @Test
+    public void testIngestGmailMessages_pagingFailure_rethrowsIOException() throws Exception {
+        // Arrange
+        final Stream<Message> failingStream = Stream.generate(() -> {
+            throw new UncheckedIOException(new IOException(TestConstants.ERROR_MESSAGE));
+        });
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(failingStream));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> controller.ingestGmailMessages(Deadline.none()));
+        verify(messageDao, never()).save(any());
+        verify(checkpointDao, never()).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_fetchFailsAfterSomeSaves_savesResumeCursorInsteadOfAdvancing() throws Exception {
+        // Arrange
+        final Message raw1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message raw2 = new Message().setId(TestConstants.MSG_ID_2);
+        final GmailMessage parsed1 = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+        final CountDownLatch firstSaved = new CountDownLatch(1);
+        // The second message cannot be fetched, but only after the first one reached the table
+        final Stream<Message> messages = Stream.of(raw1, raw2).map(message -> {
+            if (message == raw2) {
+                try {
+                    firstSaved.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new UncheckedIOException(new IOException(TestConstants.ERROR_MESSAGE));
+            }
+            return message;
+        });
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(
+                new MailboxSync(messages, TestConstants.NEW_HISTORY_ID, true, () -> TestConstants.PAGE_TOKEN, () -> false));
+        when(messageParser.parse(raw1)).thenReturn(parsed1);
+        doAnswer(invocation -> {
+            firstSaved.countDown();
+            return true;
+        }).when(messageDao).save(any());
+
+        // Act & Assert
+        final IOException thrown = assertThrows(IOException.class, () -> controller.ingestGmailMessages(Deadline.none()));
+        assertEquals(TestConstants.ERROR_MESSAGE, thrown.getMessage());
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(null, captor.getValue().getHistoryId());
+        assertEquals(TestConstants.PAGE_TOKEN, captor.getValue().getResumePageToken());
+        assertEquals(TestConstants.MSG_ID_1, captor.getValue().getResumeAfterMessageId());
+        assertEquals(Boolean.TRUE, captor.getValue().getResumeFullSync());
+        assertEquals(TestConstants.NEW_HISTORY_ID.toString(), captor.getValue().getResumeHistoryId());
+    }
+
+    @Test
+    public void testIngestGmailMessages_withCheckpoint_syncsIncrementallyAndAdvancesCheckpoint() throws Exception {
+        // Arrange
+        when(checkpointDao.load(TestConstants.ACCOUNT_ID)).thenReturn(Optional.of(SyncCheckpoint.builder()
+                .accountId(TestConstants.ACCOUNT_ID)
+                .historyId(TestConstants.HISTORY_ID.toString())
+                .updatedAt(TestConstants.RECEIVED_AT_1)
+                .build()));
+        when(gmailClient.syncMessages(eq(TestConstants.HISTORY_ID), isNull(), any()))
+                .thenReturn(new MailboxSync(Stream.empty(), TestConstants.NEW_HISTORY_ID, false, () -> null, () -> false));
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(TestConstants.ACCOUNT_ID, captor.getValue().getAccountId());
+        assertEquals(TestConstants.NEW_HISTORY_ID.toString(), captor.getValue().getHistoryId());
+    }
+
+    @Test
+    public void testIngestGmailMessages_saveFails_doesNotAdvanceCheckpoint() throws Exception {
+        // Arrange
+        final Message rawMessage = new Message().setId(TestConstants.MSG_ID_1);
+        final GmailMessage parsedMessage = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(Stream.of(rawMessage)));
+        when(messageParser.parse(rawMessage)).thenReturn(parsedMessage);
+        doThrow(new DaoDataAccessException(TestConstants.ERROR_MESSAGE)).when(messageDao).save(any());
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> controller.ingestGmailMessages(Deadline.none()));
+        verify(checkpointDao, never()).save(any());
+        verify(gmailClient, never()).markProcessed(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_deadlineReached_savesResumeCursorInsteadOfAdvancing() throws Exception {
+        // Arrange
+        final Message raw1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message raw2 = new Message().setId(TestConstants.MSG_ID_2);
+        final GmailMessage parsed1 = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+        final AtomicLong clockNanos = new AtomicLong();
+        final Deadline deadline = Deadline.in(TestConstants.DEADLINE_MARGIN_MILLIS * 2, clockNanos::get);
+        // The budget runs out as soon as the first message has been pulled
+        final Stream<Message> messages = Stream.of(raw1, raw2)
+                .peek(message -> clockNanos.set(TimeUnit.MILLISECONDS.toNanos(TestConstants.DEADLINE_MARGIN_MILLIS * 2)));
+
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(
+                new MailboxSync(messages, TestConstants.NEW_HISTORY_ID, true, () -> TestConstants.PAGE_TOKEN, () -> false));
+        when(messageParser.parse(raw1)).thenReturn(parsed1);
+        controller = new GmailIngestionController(gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao,
+                IngestionConfig.builder()
+                        .pipelineQueueCapacity(1)
+                        .deadlineSafetyMarginMillis(TestConstants.DEADLINE_MARGIN_MILLIS)
+                        .writeBatchSize(1)
+                        .build());
+
+        // Act
+        controller.ingestGmailMessages(deadline);
+
+        // Assert
+        verify(messageDao).save(any());
+        verify(messageParser, never()).parse(raw2);
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(null, captor.getValue().getHistoryId());
+        assertEquals(TestConstants.PAGE_TOKEN, captor.getValue().getResumePageToken());
+        assertEquals(TestConstants.MSG_ID_1, captor.getValue().getResumeAfterMessageId());
+        assertEquals(Boolean.TRUE, captor.getValue().getResumeFullSync());
+    }
+
+    @Test
+    public void testIngestGmailMessages_fullSyncLimitReached_savesResumeCursorInsteadOfAdvancing() throws Exception {
+        // Arrange
+        final Message raw1 = new Message().setId(TestConstants.MSG_ID_1);
+        final GmailMessage parsed1 = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+        // The mailbox holds more than the one message the full sync was allowed to stream
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(new MailboxSync(
+                Stream.of(raw1), TestConstants.NEW_HISTORY_ID, true, () -> TestConstants.PAGE_TOKEN, () -> true));
+        when(messageParser.parse(raw1)).thenReturn(parsed1);
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(null, captor.getValue().getHistoryId());
+        assertEquals(TestConstants.PAGE_TOKEN, captor.getValue().getResumePageToken());
+        assertEquals(TestConstants.MSG_ID_1, captor.getValue().getResumeAfterMessageId());
+        assertEquals(Boolean.TRUE, captor.getValue().getResumeFullSync());
+    }
+
+    @Test
+    public void testIngestGmailMessages_resumeCursor_usesPageOfLastSavedMessagePastDroppedOnes() throws Exception {
+        // Arrange
+        final Message raw1 = new Message().setId(TestConstants.MSG_ID_1);
+        final Message raw2 = new Message().setId(TestConstants.MSG_ID_2);
+        final Message raw3 = new Message().setId(TestConstants.MSG_ID_3);
+        final GmailMessage parsed1 = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+        final GmailMessage parsed3 = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_3)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+        // One message per listing page; the second one cannot be parsed and is dropped by the pipeline
+        final List<String> pageTokens = Arrays.asList(null, TestConstants.PAGE_TOKEN, TestConstants.NEXT_PAGE_TOKEN);
+        final List<Message> raws = List.of(raw1, raw2, raw3);
+        final AtomicReference<String> currentPageToken = new AtomicReference<>();
+        final Stream<Message> messages = IntStream.range(0, raws.size()).mapToObj(i -> {
+            currentPageToken.set(pageTokens.get(i));
+            return raws.get(i);
+        });
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(new MailboxSync(
+                messages, TestConstants.NEW_HISTORY_ID, true, currentPageToken::get, () -> true));
+        when(messageParser.parse(raw1)).thenReturn(parsed1);
+        when(messageParser.parse(raw2)).thenReturn(null);
+        when(messageParser.parse(raw3)).thenReturn(parsed3);
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(TestConstants.NEXT_PAGE_TOKEN, captor.getValue().getResumePageToken());
+        assertEquals(TestConstants.MSG_ID_3, captor.getValue().getResumeAfterMessageId());
+    }
+
+    @Test
+    public void testIngestGmailMessages_deadlineAlreadyReached_keepsExistingCheckpoint() throws Exception {
+        // Arrange
+        when(gmailClient.syncMessages(isNull(), isNull(), any()))
+                .thenReturn(fullSync(Stream.of(new Message().setId(TestConstants.MSG_ID_1))));
+
+        // Act
+        controller.ingestGmailMessages(Deadline.in(0L));
+
+        // Assert
+        verify(messageDao, never()).save(any());
+        verify(checkpointDao, never()).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_withResumeCursor_resumesAndClearsCursorOnCompletion() throws Exception {
+        // Arrange
+        when(checkpointDao.load(TestConstants.ACCOUNT_ID)).thenReturn(Optional.of(SyncCheckpoint.builder()
+                .accountId(TestConstants.ACCOUNT_ID)
+                .historyId(TestConstants.HISTORY_ID.toString())
+                .resumePageToken(TestConstants.PAGE_TOKEN)
+                .resumeAfterMessageId(TestConstants.MSG_ID_1)
+                .resumeFullSync(false)
+                .updatedAt(TestConstants.RECEIVED_AT_1)
+                .build()));
+        when(gmailClient.syncMessages(eq(TestConstants.HISTORY_ID),
+                eq(new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_1, false, null)), any()))
+                .thenReturn(new MailboxSync(Stream.empty(), TestConstants.NEW_HISTORY_ID, false, () -> null, () -> false));
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(TestConstants.NEW_HISTORY_ID.toString(), captor.getValue().getHistoryId());
+        assertEquals(null, captor.getValue().getResumeAfterMessageId());
+        assertEquals(null, captor.getValue().getResumeHistoryId());
+    }
+
+    @Test
+    public void testIngestGmailMessages_resumingFullSync_passesHistoryIdCapturedWhenItBegan() throws Exception {
+        // Arrange
+        when(checkpointDao.load(TestConstants.ACCOUNT_ID)).thenReturn(Optional.of(SyncCheckpoint.builder()
+                .accountId(TestConstants.ACCOUNT_ID)
+                .resumePageToken(TestConstants.PAGE_TOKEN)
+                .resumeAfterMessageId(TestConstants.MSG_ID_1)
+                .resumeFullSync(true)
+                .resumeHistoryId(TestConstants.HISTORY_ID.toString())
+                .updatedAt(TestConstants.RECEIVED_AT_1)
+                .build()));
+        when(gmailClient.syncMessages(isNull(), eq(new ResumeCursor(TestConstants.PAGE_TOKEN, TestConstants.MSG_ID_1,
+                true, TestConstants.HISTORY_ID.toString())), any()))
+                .thenReturn(new MailboxSync(Stream.empty(), TestConstants.HISTORY_ID, true, () -> null, () -> false));
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<SyncCheckpoint> captor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(captor.capture());
+        assertEquals(TestConstants.HISTORY_ID.toString(), captor.getValue().getHistoryId());
+    }
+
+    @Test
+    public void testIngestGmailMessages_batchedWrites_savesInChunksAndAdvancesCheckpoint() throws Exception {
+        // Arrange
+        controller = new GmailIngestionController(gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao,
+                IngestionConfig.builder().writeBatchSize(2).build());
+        final List<Message> rawMessages = List.of(new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2), new Message().setId(TestConstants.MSG_ID_3));
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(rawMessages.stream()));
+        when(messageParser.parse(any())).thenAnswer(invocation -> parsed(invocation.<Message>getArgument(0).getId()));
+        final List<Integer> batchSizes = new ArrayList<>();
+        when(messageDao.saveAll(any())).thenAnswer(invocation -> {
+            final List<com.projecthive.ingestion.models.Message> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch.stream().map(message -> new SaveResult(message, SaveResult.Status.WRITTEN)).toList();
+        });
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        assertEquals(List.of(2, 1), batchSizes);
+        verify(messageDao, never()).save(any());
+        verify(gmailClient).markProcessed(List.of(TestConstants.MSG_ID_1, TestConstants.MSG_ID_2, TestConstants.MSG_ID_3));
+        verify(checkpointDao).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_batchedWriteFails_marksOnlyMessagesBeforeTheFailure() throws Exception {
+        // Arrange
+        controller = new GmailIngestionController(gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao,
+                IngestionConfig.builder().writeBatchSize(3).build());
+        final List<Message> rawMessages = List.of(new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2), new Message().setId(TestConstants.MSG_ID_3));
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(rawMessages.stream()));
+        when(messageParser.parse(any())).thenAnswer(invocation -> parsed(invocation.<Message>getArgument(0).getId()));
+        when(messageDao.saveAll(any())).thenAnswer(invocation -> {
+            final List<com.projecthive.ingestion.models.Message> batch = invocation.getArgument(0);
+            return List.of(new SaveResult(batch.get(0), SaveResult.Status.WRITTEN),
+                    new SaveResult(batch.get(1), SaveResult.Status.FAILED),
+                    new SaveResult(batch.get(2), SaveResult.Status.WRITTEN));
+        });
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> controller.ingestGmailMessages(Deadline.none()));
+        verify(gmailClient).markProcessed(List.of(TestConstants.MSG_ID_1));
+        verify(checkpointDao, never()).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_asyncWriteFails_marksOnlyEarlierMessages() throws Exception {
+        // Arrange
+        final List<Message> rawMessages = List.of(new Message().setId(TestConstants.MSG_ID_1),
+                new Message().setId(TestConstants.MSG_ID_2), new Message().setId(TestConstants.MSG_ID_3));
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(rawMessages.stream()));
+        when(messageParser.parse(any())).thenAnswer(invocation -> parsed(invocation.<Message>getArgument(0).getId()));
+        doReturn(CompletableFuture.completedFuture(true),
+                CompletableFuture.failedFuture(new DaoDataAccessException(TestConstants.ERROR_MESSAGE)),
+                CompletableFuture.completedFuture(true))
+                .when(messageDao).saveAsync(any()); // when() would run the real default method with a null argument
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> controller.ingestGmailMessages(Deadline.none()));
+        verify(gmailClient).markProcessed(List.of(TestConstants.MSG_ID_1));
+        verify(checkpointDao, never()).save(any());
+    }
+
+    @Test
+    public void testIngestGmailMessages_warmContainer_dropsPersistedIdsFromLaterListings() throws Exception {
+        // Arrange
+        final Message raw = new Message().setId(TestConstants.GMAIL_MSG_ID_1);
+        when(gmailClient.syncMessages(isNull(), isNull(), any()))
+                .thenReturn(fullSync(Stream.of(raw)), fullSync(Stream.empty()));
+        when(messageParser.parse(raw)).thenReturn(parsed(TestConstants.GMAIL_MSG_ID_1));
+        when(messageDao.save(any())).thenReturn(true);
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<Predicate<String>> captor = ArgumentCaptor.forClass(Predicate.class);
+        verify(gmailClient, times(2)).syncMessages(isNull(), isNull(), captor.capture());
+        assertTrue(captor.getValue().test(TestConstants.GMAIL_MSG_ID_1));
+        assertFalse(captor.getValue().test(TestConstants.GMAIL_MSG_ID_2));
+    }
+
+    @Test
+    public void testIngestGmailMessages_coldStart_restoresSeenIdsFromCheckpointSnapshot() throws Exception {
+        // Arrange
+        controller = new GmailIngestionController(gmailClient, messageParser, new BodyTrimmer(), messageDao, checkpointDao,
+                IngestionConfig.builder().writeBatchSize(1).seenFilterSnapshotIds(10).build());
+        final SeenMessageFilter previous = new SeenMessageFilter(10);
+        previous.add(TestConstants.GMAIL_MSG_ID_1);
+        when(checkpointDao.load(TestConstants.ACCOUNT_ID)).thenReturn(Optional.of(SyncCheckpoint.builder()
+                .accountId(TestConstants.ACCOUNT_ID)
+                .seenMessageIds(previous.snapshot(10))
+                .updatedAt(TestConstants.RECEIVED_AT_1)
+                .build()));
+        final Message raw = new Message().setId(TestConstants.GMAIL_MSG_ID_2);
+        when(gmailClient.syncMessages(isNull(), isNull(), any())).thenReturn(fullSync(Stream.of(raw)));
+        when(messageParser.parse(raw)).thenReturn(parsed(TestConstants.GMAIL_MSG_ID_2));
+
+        // Act
+        controller.ingestGmailMessages(Deadline.none());
+
+        // Assert
+        final ArgumentCaptor<Predicate<String>> predicateCaptor = ArgumentCaptor.forClass(Predicate.class);
+        verify(gmailClient).syncMessages(isNull(), isNull(), predicateCaptor.capture());
+        assertTrue(predicateCaptor.getValue().test(TestConstants.GMAIL_MSG_ID_1));
+        final ArgumentCaptor<SyncCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointDao).save(checkpointCaptor.capture());
+        final SeenMessageFilter saved = new SeenMessageFilter(10);
+        saved.restore(checkpointCaptor.getValue().getSeenMessageIds());
+        assertEquals(2, saved.size());
+    }
+
+    private static GmailMessage parsed(final String id) {
+        return GmailMessage.builder()
+                .id(id)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+    }
+
+    private static MailboxSync fullSync(final Stream<Message> messages) {
+        return new MailboxSync(messages, TestConstants.NEW_HISTORY_ID, true, () -> null, () -> false);
+    }
 }
@@ -0,0 +1,287 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SaveResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncMessageDaoImplTest {
+
+    private static final DynamoDbWriteConfig WRITE_CONFIG =
+            DynamoDbWriteConfig.builder().maxBatchAttempts(2).retryBackoffMillis(0L).maxInFlightWrites(2).build();
+    private static final TableSchema<Message> SCHEMA = TableSchema.fromBean(Message.class);
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    @Mock
+    private DynamoDbEnhancedAsyncClient mockEnhancedClient;
+
+    @Mock
+    private DynamoDbAsyncTable<Message> mockTable;
+
+    @Mock
+    private BodyOffloader mockBodyOffloader;
+
+    private AsyncMessageDaoImpl messageDao;
+
+    @BeforeEach
+    public void setUp() {
+        when(mockEnhancedClient.table(eq(TestConstants.MESSAGES_TABLE), any(TableSchema.class)))
+                .thenReturn(mockTable);
+
+        messageDao = new AsyncMessageDaoImpl(mockDynamoDbAsyncClient, mockEnhancedClient, WRITE_CONFIG, mockBodyOffloader);
+    }
+
+    @Test
+    public void testSaveAsync_putsWithIdNotExistsCondition() {
+        // Arrange
+        when(mockTable.putItem(any(PutItemEnhancedRequest.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        final boolean written = messageDao.saveAsync(message(TestConstants.MSG_ID_1)).join();
+
+        // Assert
+        final ArgumentCaptor<PutItemEnhancedRequest<Message>> captor = ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(mockTable).putItem(captor.capture());
+        assertTrue(written);
+        assertEquals("attribute_not_exists(#id)", captor.getValue().conditionExpression().expression());
+    }
+
+    @Test
+    public void testSaveAsync_largeBodyAlreadyStored_skipsUploadAndPut() {
+        // Arrange
+        final Message stored = message(TestConstants.MSG_ID_1);
+        when(mockBodyOffloader.needsUpload(stored)).thenReturn(true);
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(found(stored)));
+
+        // Act
+        final boolean written = messageDao.saveAsync(stored).join();
+
+        // Assert
+        assertFalse(written);
+        verify(mockBodyOffloader, never()).offload(stored);
+        verify(mockTable, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void testSaveAsync_largeBodyNotStored_uploadsThenPuts() {
+        // Arrange
+        final Message fresh = message(TestConstants.MSG_ID_1);
+        when(mockBodyOffloader.needsUpload(fresh)).thenReturn(true);
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(found()));
+        when(mockTable.putItem(any(PutItemEnhancedRequest.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        final boolean written = messageDao.saveAsync(fresh).join();
+
+        // Assert
+        assertTrue(written);
+        verify(mockBodyOffloader).offload(fresh);
+    }
+
+    @Test
+    public void testSave_whenItemExists_returnsFalse() {
+        // Arrange
+        when(mockTable.putItem(any(PutItemEnhancedRequest.class))).thenReturn(CompletableFuture.failedFuture(
+                ConditionalCheckFailedException.builder().message(TestConstants.ERROR_MESSAGE).build()));
+
+        // Act & Assert
+        assertFalse(messageDao.save(message(TestConstants.MSG_ID_1)));
+    }
+
+    @Test
+    public void testSave_whenPutFails_throwsDaoDataAccessException() {
+        // Arrange
+        when(mockTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException(TestConstants.ERROR_MESSAGE)));
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> messageDao.save(message(TestConstants.MSG_ID_1)));
+    }
+
+    @Test
+    public void testSaveAll_retriesUnprocessedItemsAndFailsThoseLeftAfterLastAttempt() {
+        // Arrange
+        stubTable();
+        final Message first = message(TestConstants.MSG_ID_1);
+        final Message second = message(TestConstants.MSG_ID_2);
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(unprocessed(second)),
+                CompletableFuture.completedFuture(unprocessed(second)));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(first, second, first));
+
+        // Assert
+        verify(mockEnhancedClient, times(2)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+        assertEquals(SaveResult.Status.WRITTEN, results.get(0).getStatus());
+        assertEquals(SaveResult.Status.FAILED, results.get(1).getStatus());
+        assertEquals(SaveResult.Status.DUPLICATE, results.get(2).getStatus());
+    }
+
+    @Test
+    public void testSaveAllAsync_whenBatchCallFails_reportsItsMessagesAsFailed() {
+        // Arrange
+        stubTable();
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException(TestConstants.ERROR_MESSAGE)));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAllAsync(List.of(message(TestConstants.MSG_ID_1))).join();
+
+        // Assert
+        assertEquals(SaveResult.Status.FAILED, results.get(0).getStatus());
+    }
+
+    @Test
+    public void testSaveAsync_whenBodyUploadFails_failsWithoutWriting() {
+        // Arrange
+        final Message message = message(TestConstants.MSG_ID_1);
+        doThrow(new DaoDataAccessException(TestConstants.ERROR_MESSAGE)).when(mockBodyOffloader).offload(message);
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> messageDao.save(message));
+        verify(mockTable, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void testSaveAllAsync_whenBodyUploadFails_reportsBatchAsFailed() {
+        // Arrange
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(found()));
+        final Message message = message(TestConstants.MSG_ID_1);
+        doThrow(new DaoDataAccessException(TestConstants.ERROR_MESSAGE)).when(mockBodyOffloader).offload(message);
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAllAsync(List.of(message)).join();
+
+        // Assert
+        assertEquals(SaveResult.Status.FAILED, results.get(0).getStatus());
+        verify(mockEnhancedClient, never()).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void testSaveAllAsync_reportsStoredIdsAsDuplicatesAndRetriesUncheckedKeys() {
+        // Arrange
+        stubTable();
+        final Message stored = message(TestConstants.MSG_ID_1);
+        final Message fresh = message(TestConstants.MSG_ID_2);
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(unprocessedKeys(stored)),
+                CompletableFuture.completedFuture(found(stored)));
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteResult.builder().unprocessedRequests(Map.of()).build()));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAllAsync(List.of(stored, fresh)).join();
+
+        // Assert
+        verify(mockDynamoDbAsyncClient, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+        final ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(mockEnhancedClient).batchWriteItem(captor.capture());
+        assertEquals(1, captor.getValue().writeBatches().iterator().next().writeRequests().size());
+        verify(mockBodyOffloader, never()).offload(stored);
+        assertEquals(SaveResult.Status.DUPLICATE, results.get(0).getStatus());
+        assertEquals(SaveResult.Status.WRITTEN, results.get(1).getStatus());
+    }
+
+    @Test
+    public void testSaveAllAsync_whenLookupFails_failsWithoutWriting() {
+        // Arrange
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException(TestConstants.ERROR_MESSAGE)));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAllAsync(List.of(message(TestConstants.MSG_ID_1))).join();
+
+        // Assert
+        assertEquals(SaveResult.Status.FAILED, results.get(0).getStatus());
+        verify(mockEnhancedClient, never()).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
+    private void stubTable() {
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockTable.tableSchema()).thenReturn(SCHEMA);
+        lenient().when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(CompletableFuture.completedFuture(found()));
+    }
+
+    private static BatchGetItemResponse found(final Message... stored) {
+        return BatchGetItemResponse.builder()
+                .responses(Map.of(TestConstants.MESSAGES_TABLE, Arrays.stream(stored)
+                        .map(message -> Map.of("id", AttributeValue.fromS(message.getId())))
+                        .toList()))
+                .build();
+    }
+
+    private static BatchGetItemResponse unprocessedKeys(final Message message) {
+        return BatchGetItemResponse.builder()
+                .responses(Map.of())
+                .unprocessedKeys(Map.of(TestConstants.MESSAGES_TABLE, KeysAndAttributes.builder()
+                        .keys(Map.of("id", AttributeValue.fromS(message.getId())))
+                        .build()))
+                .build();
+    }
+
+    private static BatchWriteResult unprocessed(final Message message) {
+        return BatchWriteResult.builder()
+                .unprocessedRequests(Map.of(TestConstants.MESSAGES_TABLE, List.of(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(SCHEMA.itemToMap(message, true)).build())
+                        .build())))
+                .build();
+    }
+
+    private static Message message(final String platformMessageId) {
+        return Message.builder()
+                .id("id-" + platformMessageId)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(platformMessageId)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SaveResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchWritePlanTest {
+
+    @Test
+    public void testPlan_splitsDistinctIdsIntoBatchesAndReportsResultsInInputOrder() {
+        // Arrange
+        final List<Message> messages = new ArrayList<>(IntStream.rangeClosed(1, 26).mapToObj(i -> message("msg" + i)).toList());
+        messages.add(1, message("msg1"));
+
+        // Act
+        final BatchWritePlan plan = new BatchWritePlan(messages);
+        plan.complete(0, Set.of("id-msg2"));
+        plan.complete(1, null);
+        final List<SaveResult> results = plan.results();
+
+        // Assert
+        assertEquals(2, plan.batchCount());
+        assertEquals(BatchWritePlan.MAX_BATCH_WRITE_ITEMS, plan.batch(0).size());
+        assertEquals(List.of(messages.get(26)), plan.batch(1));
+        assertEquals(SaveResult.Status.WRITTEN, results.get(0).getStatus());
+        assertEquals(SaveResult.Status.DUPLICATE, results.get(1).getStatus());
+        assertEquals(SaveResult.Status.FAILED, results.get(2).getStatus());
+        assertEquals(SaveResult.Status.WRITTEN, results.get(3).getStatus());
+        assertEquals(SaveResult.Status.FAILED, results.get(26).getStatus());
+    }
+
+    @Test
+    public void testExcludeStored_writesOnlyIdsConfirmedNew() {
+        // Arrange
+        final List<Message> messages = IntStream.rangeClosed(1, BatchWritePlan.MAX_BATCH_GET_KEYS + 1)
+                .mapToObj(i -> message("msg" + i))
+                .toList();
+        final BatchWritePlan plan = new BatchWritePlan(messages);
+
+        // Act
+        final List<List<String>> lookups = plan.lookups();
+        plan.excludeStored(Set.of("id-msg1"), Set.of("id-msg2"));
+        plan.complete(0, Set.of());
+
+        // Assert
+        assertEquals(List.of(BatchWritePlan.MAX_BATCH_GET_KEYS, 1), lookups.stream().map(List::size).toList());
+        assertEquals(messages.get(2), plan.batch(0).get(0));
+        final List<SaveResult> results = plan.results();
+        assertEquals(SaveResult.Status.DUPLICATE, results.get(0).getStatus());
+        assertEquals(SaveResult.Status.FAILED, results.get(1).getStatus());
+        assertEquals(SaveResult.Status.WRITTEN, results.get(2).getStatus());
+    }
+
+    @Test
+    public void testBackoffMillis_staysWithinCappedExponentialCeiling() {
+        // Arrange
+        final DynamoDbWriteConfig writeConfig =
+                DynamoDbWriteConfig.builder().retryBackoffMillis(10L).maxRetryBackoffMillis(30L).build();
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertTrue(BatchWritePlan.backoffMillis(writeConfig, 1) <= 10L);
+            assertTrue(BatchWritePlan.backoffMillis(writeConfig, 5) <= 30L);
+        }
+    }
+
+    private static Message message(final String platformMessageId) {
+        return Message.builder()
+                .id("id-" + platformMessageId)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(platformMessageId)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.config.BlobStoreConfig;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import com.projecthive.ingestion.models.Message;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BodyOffloaderTest {
+
+    private static final BlobStoreConfig CONFIG = BlobStoreConfig.builder().offloadThresholdBytes(32).build();
+
+    @TempDir
+    private Path blobDirectory;
+
+    @Test
+    public void offload_storesLargeBodyUnderContentHash() {
+        // Arrange
+        final LocalFileBlobStore blobStore = new LocalFileBlobStore(blobDirectory);
+        final BodyOffloader offloader = new BodyOffloader(blobStore, CONFIG);
+        final Message first = message(TestConstants.MSG_ID_1, TestConstants.BODY_1);
+        final Message second = message(TestConstants.MSG_ID_2, TestConstants.BODY_1);
+
+        // Act
+        offloader.offload(first);
+        offloader.offload(second);
+
+        // Assert
+        assertTrue(first.getBodyRef().startsWith(CONFIG.getKeyPrefix()));
+        assertEquals(first.getBodyRef(), second.getBodyRef()); // Same content, same key
+        assertEquals(TestConstants.BODY_1, new String(blobStore.get(first.getBodyRef()), StandardCharsets.UTF_8));
+        assertEquals(TestConstants.BODY_1, first.getBody());
+        assertNull(first.getStoredBody());
+    }
+
+    @Test
+    public void offload_leavesSmallAndAlreadyOffloadedBodiesAlone() {
+        // Arrange
+        final BodyOffloader offloader = new BodyOffloader(new LocalFileBlobStore(blobDirectory), CONFIG);
+        final Message small = message(TestConstants.MSG_ID_1, TestConstants.SNIPPET_1);
+        final Message offloaded = message(TestConstants.MSG_ID_2, TestConstants.BODY_1);
+        offloaded.setBodyRef(TestConstants.ID);
+        final Message empty = message(TestConstants.MSG_ID_3, null);
+
+        // Act
+        offloader.offload(small);
+        offloader.offload(offloaded);
+        offloader.offload(empty);
+
+        // Assert
+        assertNull(small.getBodyRef());
+        assertEquals(TestConstants.ID, offloaded.getBodyRef());
+        assertNull(empty.getBodyRef());
+    }
+
+    @Test
+    public void needsUpload_judgesEncodedSizeWithoutUploading() {
+        // Arrange
+        final BodyOffloader offloader = new BodyOffloader(new LocalFileBlobStore(blobDirectory), CONFIG);
+        final Message offloaded = message(TestConstants.MSG_ID_2, TestConstants.BODY_1);
+        offloaded.setBodyRef(TestConstants.ID);
+
+        // Act & Assert
+        assertTrue(offloader.needsUpload(message(TestConstants.MSG_ID_1, TestConstants.BODY_1)));
+        assertTrue(offloader.needsUpload(message(TestConstants.MSG_ID_1, "\u00e9".repeat(16)))); // 16 chars, 32 bytes
+        assertFalse(offloader.needsUpload(message(TestConstants.MSG_ID_1, "e".repeat(31))));
+        assertFalse(offloader.needsUpload(offloaded));
+        assertFalse(BodyOffloader.disabled().needsUpload(message(TestConstants.MSG_ID_1, TestConstants.BODY_1)));
+        assertEquals(0, blobDirectory.toFile().list().length);
+    }
+
+    @Test
+    public void offload_whenDisabled_keepsBodyInItem() {
+        // Arrange
+        final Message message = message(TestConstants.MSG_ID_1, TestConstants.BODY_1.repeat(2_000));
+
+        // Act
+        BodyOffloader.disabled().offload(message);
+
+        // Assert
+        assertNull(message.getBodyRef());
+        assertNotNull(message.getStoredBody());
+    }
+
+    @Test
+    public void offload_propagatesUploadFailure() throws Exception {
+        // Arrange
+        final Path notADirectory = Files.createFile(blobDirectory.resolve(TestConstants.ID));
+        final BodyOffloader offloader = new BodyOffloader(new LocalFileBlobStore(notADirectory), CONFIG);
+        final Message message = message(TestConstants.MSG_ID_1, TestConstants.BODY_1);
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> offloader.offload(message));
+        assertNull(message.getBodyRef());
+    }
+
+    @Test
+    public void constructor_rejectsNonPositiveThreshold() {
+        // Arrange
+        final BlobStoreConfig config = BlobStoreConfig.builder().offloadThresholdBytes(0).build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BodyOffloader(null, config));
+    }
+
+    private static Message message(final String platformMessageId, final String body) {
+        return Message.builder()
+                .id("id-" + platformMessageId)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(platformMessageId)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CheckpointDaoImplTest {
+
+    @Mock
+    private DynamoDbEnhancedClient mockEnhancedClient;
+
+    @Mock
+    private DynamoDbTable<SyncCheckpoint> mockTable;
+
+    private CheckpointDaoImpl checkpointDao;
+
+    @BeforeEach
+    public void setUp() {
+        when(mockEnhancedClient.table(eq(TestConstants.CHECKPOINTS_TABLE), any(TableSchema.class)))
+                .thenReturn(mockTable);
+
+        checkpointDao = new CheckpointDaoImpl(mockEnhancedClient);
+    }
+
+    @Test
+    public void testLoad_returnsStoredCheckpoint() {
+        final SyncCheckpoint checkpoint = buildCheckpoint();
+        when(mockTable.getItem(any(Key.class))).thenReturn(checkpoint);
+
+        final Optional<SyncCheckpoint> result = checkpointDao.load(TestConstants.ACCOUNT_ID);
+
+        assertEquals(Optional.of(checkpoint), result);
+    }
+
+    @Test
+    public void testLoad_missingCheckpoint_returnsEmpty() {
+        when(mockTable.getItem(any(Key.class))).thenReturn(null);
+
+        assertTrue(checkpointDao.load(TestConstants.ACCOUNT_ID).isEmpty());
+    }
+
+    @Test
+    public void testLoad_whenGetFails_throwsDaoDataAccessException() {
+        when(mockTable.getItem(any(Key.class))).thenThrow(RuntimeException.class);
+
+        assertThrows(DaoDataAccessException.class, () -> checkpointDao.load(TestConstants.ACCOUNT_ID));
+    }
+
+    @Test
+    public void testSave_callsPutItem() {
+        checkpointDao.save(buildCheckpoint());
+
+        verify(mockTable).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void testSave_whenPutFails_throwsDaoDataAccessException() {
+        doThrow(RuntimeException.class)
+                .when(mockTable)
+                .putItem(any(PutItemEnhancedRequest.class));
+
+        assertThrows(DaoDataAccessException.class, () -> checkpointDao.save(buildCheckpoint()));
+    }
+
+    private static SyncCheckpoint buildCheckpoint() {
+        return SyncCheckpoint.builder()
+                .accountId(TestConstants.ACCOUNT_ID)
+                .historyId(TestConstants.HISTORY_ID.toString())
+                .updatedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link BlobStore} over a local directory, standing in for S3 in tests. Keys map to relative paths.
+ */
+public class LocalFileBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalFileBlobStore(@NonNull final Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public void put(@NonNull final String key, @NonNull final byte[] content) {
+        final Path path = root.resolve(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+        } catch (final IOException e) {
+            throw new DaoDataAccessException("Failed to write blob " + key, e);
+        }
+    }
+
+    @Override
+    public byte[] get(@NonNull final String key) {
+        try {
+            return Files.readAllBytes(root.resolve(key));
+        } catch (final IOException e) {
+            throw new DaoDataAccessException("Failed to read blob " + key, e);
+        }
+    }
+}
@@ -1,23 +1,48 @@
 package com.projecthive.ingestion.dao;
 
+import com.projecthive.ingestion.config.BlobStoreConfig;
+import com.projecthive.ingestion.config.DynamoDbWriteConfig;
 import com.projecthive.ingestion.constants.TestConstants;
 import com.projecthive.ingestion.exceptions.DaoDataAccessException;
 import com.projecthive.ingestion.models.Message;
-import org.checkerframework.checker.nullness.qual.NonNull;
+import com.projecthive.ingestion.models.SaveResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -34,6 +59,16 @@ public class MessageDaoImplTest {
     @Mock
     private DynamoDbTable<Message> mockTable;
 
+    private static final DynamoDbWriteConfig WRITE_CONFIG =
+            DynamoDbWriteConfig.builder().maxBatchAttempts(2).retryBackoffMillis(0L).build();
+    private static final TableSchema<Message> SCHEMA = TableSchema.fromBean(Message.class);
+    private static final BlobStoreConfig BLOB_CONFIG = BlobStoreConfig.builder().offloadThresholdBytes(32).build();
+
+    @TempDir
+    private Path blobDirectory;
+
+    private LocalFileBlobStore blobStore;
+
     private MessageDaoImpl messageDao;
 
     @BeforeEach
@@ -41,12 +76,9 @@ public class MessageDaoImplTest {
         when(mockEnhancedClient.table(eq(TestConstants.MESSAGES_TABLE), any(TableSchema.class)))
                 .thenReturn(mockTable);
 
-        messageDao = new MessageDaoImpl(mockDynamoDbClient) {
-            @Override
-            protected DynamoDbEnhancedClient buildEnhancedClient(@NonNull final DynamoDbClient client) {
-                return mockEnhancedClient;
-            }
-        };
+        blobStore = new LocalFileBlobStore(blobDirectory);
+        messageDao = new MessageDaoImpl(
+                mockDynamoDbClient, mockEnhancedClient, WRITE_CONFIG, new BodyOffloader(blobStore, BLOB_CONFIG));
     }
 
     @Test
@@ -63,9 +95,32 @@ public class MessageDaoImplTest {
                 .receivedAt(TestConstants.RECEIVED_AT_1)
                 .build();
 
-        messageDao.save(testMessage);
+        final boolean written = messageDao.save(testMessage);
 
-        verify(mockTable).putItem(any(PutItemEnhancedRequest.class));
+        final ArgumentCaptor<PutItemEnhancedRequest<Message>> captor = ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(mockTable).putItem(captor.capture());
+        assertTrue(written);
+        assertEquals("attribute_not_exists(#id)", captor.getValue().conditionExpression().expression());
+        assertEquals(Map.of("#id", "id"), captor.getValue().conditionExpression().expressionNames());
+    }
+
+    @Test
+    public void testSave_whenItemExists_returnsFalseWithoutThrowing() {
+        final Message testMessage = Message.builder()
+                .id(TestConstants.ID)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(TestConstants.MSG_ID_1)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+
+        doThrow(ConditionalCheckFailedException.builder().message(TestConstants.ERROR_MESSAGE).build())
+                .when(mockTable)
+                .putItem(any(PutItemEnhancedRequest.class));
+
+        assertFalse(messageDao.save(testMessage));
     }
 
     @Test
@@ -88,5 +143,241 @@ public class MessageDaoImplTest {
 
         assertThrows(DaoDataAccessException.class, () -> messageDao.save(testMessage));
     }
-    
+
+    @Test
+    public void testSave_offloadsLargeBodyAndWritesPointer() {
+        // Arrange
+        final Message testMessage = message(TestConstants.MSG_ID_1);
+        testMessage.setBody(TestConstants.BODY_1);
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found());
+
+        // Act
+        messageDao.save(testMessage);
+
+        // Assert
+        final ArgumentCaptor<PutItemEnhancedRequest<Message>> captor = ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(mockTable).putItem(captor.capture());
+        final Map<String, AttributeValue> item = SCHEMA.itemToMap(captor.getValue().item(), true);
+        assertFalse(item.containsKey("body"));
+        assertEquals(testMessage.getBodyRef(), item.get("bodyRef").s());
+        assertEquals(TestConstants.BODY_1, new String(blobStore.get(testMessage.getBodyRef()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSave_largeBodyAlreadyStored_skipsUploadAndPut() {
+        // Arrange
+        final Message stored = message(TestConstants.MSG_ID_1);
+        stored.setBody(TestConstants.BODY_1);
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found(stored));
+
+        // Act
+        final boolean written = messageDao.save(stored);
+
+        // Assert
+        assertFalse(written);
+        assertNull(stored.getBodyRef());
+        assertEquals(0, blobDirectory.toFile().list().length);
+        verify(mockTable, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void testSave_smallBody_skipsExistenceCheck() {
+        // Arrange
+        final Message small = message(TestConstants.MSG_ID_1);
+        small.setBody(TestConstants.SNIPPET_1);
+
+        // Act
+        messageDao.save(small);
+
+        // Assert
+        verify(mockDynamoDbClient, never()).batchGetItem(any(BatchGetItemRequest.class));
+        verify(mockTable).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    public void testSaveAll_offloadsLargeBodiesBeforeBatchWrite() {
+        // Arrange
+        stubTable();
+        final Message large = message(TestConstants.MSG_ID_1);
+        large.setBody(TestConstants.BODY_1);
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(BatchWriteResult.builder().unprocessedRequests(Map.of()).build());
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(large, message(TestConstants.MSG_ID_2)));
+
+        // Assert
+        assertTrue(results.stream().allMatch(SaveResult::isPersisted));
+        final ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(mockEnhancedClient).batchWriteItem(captor.capture());
+        final List<WriteRequest> writes = List.copyOf(captor.getValue().writeBatches().iterator().next().writeRequests());
+        assertFalse(writes.get(0).putRequest().item().containsKey("body"));
+        assertNotNull(writes.get(0).putRequest().item().get("bodyRef"));
+        assertNull(writes.get(1).putRequest().item().get("bodyRef"));
+    }
+
+    @Test
+    public void testSaveAll_writesDistinctMessagesIn25ItemBatches() {
+        // Arrange
+        stubTable();
+        final List<Message> messages = new ArrayList<>(IntStream.rangeClosed(1, 26).mapToObj(i -> message("msg" + i)).toList());
+        messages.add(message("msg1")); // Same id as the first; written once
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(BatchWriteResult.builder().unprocessedRequests(Map.of()).build());
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(messages);
+
+        // Assert
+        final ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(mockEnhancedClient, times(2)).batchWriteItem(captor.capture());
+        assertEquals(List.of(1, 25), captor.getAllValues().stream()
+                .map(request -> request.writeBatches().iterator().next().writeRequests().size())
+                .sorted()
+                .toList());
+        assertEquals(27, results.size());
+        assertTrue(results.subList(0, 26).stream().allMatch(result -> result.getStatus() == SaveResult.Status.WRITTEN));
+        assertEquals(SaveResult.Status.DUPLICATE, results.get(26).getStatus());
+        assertEquals(messages.get(5), results.get(5).getMessage());
+    }
+
+    @Test
+    public void testSaveAll_retriesUnprocessedItemsAndFailsThoseLeftAfterLastAttempt() {
+        // Arrange
+        stubTable();
+        final Message first = message(TestConstants.MSG_ID_1);
+        final Message second = message(TestConstants.MSG_ID_2);
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(unprocessed(second), unprocessed(second));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(first, second));
+
+        // Assert
+        final ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(mockEnhancedClient, times(2)).batchWriteItem(captor.capture());
+        assertEquals(1, captor.getAllValues().get(1).writeBatches().iterator().next().writeRequests().size());
+        assertEquals(SaveResult.Status.WRITTEN, results.get(0).getStatus());
+        assertEquals(SaveResult.Status.FAILED, results.get(1).getStatus());
+        assertFalse(results.get(1).isPersisted());
+    }
+
+    @Test
+    public void testSaveAll_whenBatchCallFails_reportsItsMessagesAsFailed() {
+        // Arrange
+        stubTable();
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenThrow(new RuntimeException(TestConstants.ERROR_MESSAGE));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(message(TestConstants.MSG_ID_1)));
+
+        // Assert
+        assertEquals(SaveResult.Status.FAILED, results.get(0).getStatus());
+    }
+
+    @Test
+    public void testSaveAll_reportsStoredIdsAsDuplicatesWithoutRewritingThem() {
+        // Arrange
+        stubTable();
+        final Message stored = message(TestConstants.MSG_ID_1);
+        stored.setBody(TestConstants.BODY_1); // Would be offloaded again if it were rewritten
+        final Message fresh = message(TestConstants.MSG_ID_2);
+        when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found(stored));
+        when(mockEnhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(BatchWriteResult.builder().unprocessedRequests(Map.of()).build());
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(stored, fresh));
+
+        // Assert
+        final ArgumentCaptor<BatchGetItemRequest> lookupCaptor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(mockDynamoDbClient).batchGetItem(lookupCaptor.capture());
+        assertTrue(lookupCaptor.getValue().requestItems().get(TestConstants.MESSAGES_TABLE).consistentRead());
+        final ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(mockEnhancedClient).batchWriteItem(captor.capture());
+        final List<WriteRequest> writes = List.copyOf(captor.getValue().writeBatches().iterator().next().writeRequests());
+        assertEquals(1, writes.size());
+        assertEquals(fresh.getId(), writes.get(0).putRequest().item().get("id").s());
+        assertEquals(SaveResult.Status.DUPLICATE, results.get(0).getStatus());
+        assertEquals(SaveResult.Status.WRITTEN, results.get(1).getStatus());
+        assertNull(stored.getBodyRef());
+    }
+
+    @Test
+    public void testSaveAll_whenExistenceCannotBeConfirmed_failsWithoutWriting() {
+        // Arrange
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        final Message message = message(TestConstants.MSG_ID_1);
+        when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(unprocessedKeys(message), unprocessedKeys(message));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(message));
+
+        // Assert
+        verify(mockDynamoDbClient, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+        verify(mockEnhancedClient, never()).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+        assertEquals(SaveResult.Status.FAILED, results.get(0).getStatus());
+    }
+
+    @Test
+    public void testSaveAll_whenLookupFails_failsItsMessages() {
+        // Arrange
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenThrow(new RuntimeException(TestConstants.ERROR_MESSAGE));
+
+        // Act
+        final List<SaveResult> results = messageDao.saveAll(List.of(message(TestConstants.MSG_ID_1)));
+
+        // Assert
+        assertEquals(SaveResult.Status.FAILED, results.get(0).getStatus());
+        verify(mockEnhancedClient, never()).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
+    private void stubTable() {
+        when(mockTable.tableName()).thenReturn(TestConstants.MESSAGES_TABLE);
+        when(mockTable.tableSchema()).thenReturn(SCHEMA);
+        lenient().when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found());
+    }
+
+    private static BatchGetItemResponse found(final Message... stored) {
+        return BatchGetItemResponse.builder()
+                .responses(Map.of(TestConstants.MESSAGES_TABLE, Arrays.stream(stored)
+                        .map(message -> Map.of("id", AttributeValue.fromS(message.getId())))
+                        .toList()))
+                .build();
+    }
+
+    private static BatchGetItemResponse unprocessedKeys(final Message message) {
+        return BatchGetItemResponse.builder()
+                .responses(Map.of())
+                .unprocessedKeys(Map.of(TestConstants.MESSAGES_TABLE, KeysAndAttributes.builder()
+                        .keys(Map.of("id", AttributeValue.fromS(message.getId())))
+                        .build()))
+                .build();
+    }
+
+    private static BatchWriteResult unprocessed(final Message message) {
+        return BatchWriteResult.builder()
+                .unprocessedRequests(Map.of(TestConstants.MESSAGES_TABLE, List.of(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(SCHEMA.itemToMap(message, true)).build())
+                        .build())))
+                .build();
+    }
+
+    private static Message message(final String platformMessageId) {
+        return Message.builder()
+                .id("id-" + platformMessageId)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(platformMessageId)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+    }
 }
@@ -0,0 +1,76 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.exceptions.DaoDataAccessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class S3BlobStoreTest {
+
+    private static final String BUCKET = "message-bodies";
+    private static final byte[] CONTENT = TestConstants.BODY_1.getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private S3Client mockS3Client;
+
+    @Test
+    public void put_writesObjectUnderKey() {
+        // Arrange
+        final S3BlobStore blobStore = new S3BlobStore(mockS3Client, BUCKET);
+
+        // Act
+        blobStore.put(TestConstants.ID, CONTENT);
+
+        // Assert
+        final ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(mockS3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertEquals(BUCKET, captor.getValue().bucket());
+        assertEquals(TestConstants.ID, captor.getValue().key());
+    }
+
+    @Test
+    public void get_returnsObjectBytes() {
+        // Arrange
+        when(mockS3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), CONTENT));
+        final S3BlobStore blobStore = new S3BlobStore(mockS3Client, BUCKET);
+
+        // Act & Assert
+        assertArrayEquals(CONTENT, blobStore.get(TestConstants.ID));
+    }
+
+    @Test
+    public void putAndGet_wrapSdkFailures() {
+        // Arrange
+        when(mockS3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message(TestConstants.ERROR_MESSAGE).build());
+        when(mockS3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message(TestConstants.ERROR_MESSAGE).build());
+        final S3BlobStore blobStore = new S3BlobStore(mockS3Client, BUCKET);
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> blobStore.put(TestConstants.ID, CONTENT));
+        assertThrows(DaoDataAccessException.class, () -> blobStore.get(TestConstants.ID));
+    }
+}
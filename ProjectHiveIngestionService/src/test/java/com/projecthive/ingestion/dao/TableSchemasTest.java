@@ -0,0 +1,89 @@
+package com.projecthive.ingestion.dao;
+
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.SyncCheckpoint;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TableSchemasTest {
+
+    @Test
+    public void message_mapsLikeBeanSchema() {
+        // Arrange
+        final Message inline = fullMessage();
+        final Message offloaded = fullMessage();
+        offloaded.setBodyRef(TestConstants.ID);
+
+        // Act & Assert
+        assertParity(TableSchema.fromBean(Message.class), TableSchemas.MESSAGE, inline);
+        assertParity(TableSchema.fromBean(Message.class), TableSchemas.MESSAGE, offloaded);
+        assertParity(TableSchema.fromBean(Message.class), TableSchemas.MESSAGE, Message.builder()
+                .id(TestConstants.ID)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(TestConstants.MSG_ID_1)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build());
+    }
+
+    @Test
+    public void syncCheckpoint_mapsLikeBeanSchema() {
+        // Arrange
+        final SyncCheckpoint checkpoint = SyncCheckpoint.builder()
+                .accountId(TestConstants.ACCOUNT_ID)
+                .historyId(TestConstants.HISTORY_ID.toString())
+                .resumePageToken(TestConstants.PAGE_TOKEN)
+                .resumeAfterMessageId(TestConstants.MSG_ID_1)
+                .resumeFullSync(true)
+                .seenMessageIds(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})
+                .updatedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+
+        // Act & Assert
+        assertParity(TableSchema.fromBean(SyncCheckpoint.class), TableSchemas.SYNC_CHECKPOINT, checkpoint);
+    }
+
+    private static <T> void assertParity(final TableSchema<T> bean, final TableSchema<T> hand, final T item) {
+        assertEquals(new HashSet<>(bean.attributeNames()), new HashSet<>(hand.attributeNames()));
+        assertEquals(bean.tableMetadata().primaryPartitionKey(), hand.tableMetadata().primaryPartitionKey());
+        assertEquals(bean.itemToMap(item, false), hand.itemToMap(item, false));
+
+        final Map<String, AttributeValue> stored = bean.itemToMap(item, true);
+        assertEquals(stored, hand.itemToMap(item, true));
+        assertEquals(bean.mapToItem(stored), hand.mapToItem(stored));
+    }
+
+    private static Message fullMessage() {
+        return Message.builder()
+                .id(TestConstants.ID)
+                .username(TestConstants.USERNAME)
+                .platform(GMAIL)
+                .platformMessageId(TestConstants.MSG_ID_1)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .subject(TestConstants.SUBJECT_1)
+                .body(TestConstants.BODY_1.repeat(50)) // Over the compression threshold, so stored as binary
+                .metadata(Map.of(TestConstants.ID, TestConstants.SECRET))
+                .threadId(TestConstants.THREAD_ID)
+                .inReplyTo(TestConstants.MSG_ID_2)
+                .references(List.of(TestConstants.MSG_ID_2, TestConstants.MSG_ID_3))
+                .senderAddress(TestConstants.SENDER_1)
+                .toAddresses(List.of(TestConstants.RECEIVER_1))
+                .ccAddresses(List.of(TestConstants.RECEIVER_2))
+                .bccAddresses(List.of())
+                .replyToAddresses(List.of(TestConstants.SENDER_2))
+                .build();
+    }
+}
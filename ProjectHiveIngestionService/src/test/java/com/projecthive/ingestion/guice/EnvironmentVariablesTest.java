@@ -0,0 +1,65 @@
+package com.projecthive.ingestion.guice;
+
+import com.projecthive.ingestion.config.HttpTransport;
+import com.projecthive.ingestion.config.ProcessedMarking;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EnvironmentVariablesTest {
+
+    private static final String NAME = "SOME_SETTING";
+
+    @Test
+    public void unsetOrBlankValues_fallBackToDefaults() {
+        // Arrange
+        final EnvironmentVariables unset = new EnvironmentVariables(Map.<String, String>of()::get);
+        final EnvironmentVariables blank = environment("  ");
+
+        // Act & Assert
+        assertEquals("fallback", unset.getString(NAME, "fallback"));
+        assertEquals(7, blank.getInt(NAME, 7));
+        assertEquals(7L, blank.getLong(NAME, 7L, 0L, 10L));
+        assertTrue(blank.getBoolean(NAME, true));
+        assertEquals(HttpTransport.CRT, blank.getEnum(NAME, HttpTransport.CRT));
+        assertEquals(List.of("a"), blank.getList(NAME, List.of("a")));
+    }
+
+    @Test
+    public void setValues_areTrimmedAndParsed() {
+        assertEquals("value", environment(" value ").getString(NAME, null));
+        assertEquals(42, environment(" 42 ").getInt(NAME, 0, 1, 100));
+        assertEquals(HttpTransport.CRT, environment("crt").getEnum(NAME, HttpTransport.APACHE));
+        assertEquals(List.of("a", "b"), environment(" a, ,b ").getList(NAME, List.of()));
+        assertEquals(List.of(ProcessedMarking.NONE, ProcessedMarking.ADD_LABEL),
+                environment("none,add_label").getEnumList(NAME, ProcessedMarking.class, List.of()));
+    }
+
+    @Test
+    public void valuesOutsideTheirRange_areRejectedNamingTheVariable() {
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> environment("101").getInt(NAME, 0, 1, 100));
+
+        assertTrue(thrown.getMessage().contains(NAME));
+        assertThrows(IllegalArgumentException.class, () -> environment("0").getLong(NAME, 5L, 1L, 10L));
+    }
+
+    @Test
+    public void unparseableValues_areRejectedNamingTheVariable() {
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> environment("ten").getInt(NAME, 0))
+                .getMessage().contains(NAME));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> environment("http2").getEnum(NAME, HttpTransport.APACHE))
+                .getMessage().contains(NAME));
+        assertThrows(IllegalArgumentException.class,
+                () -> environment("none,bogus").getEnumList(NAME, ProcessedMarking.class, List.of()));
+    }
+
+    private static EnvironmentVariables environment(final String value) {
+        return new EnvironmentVariables(Map.of(NAME, value)::get);
+    }
+}
@@ -0,0 +1,92 @@
+package com.projecthive.ingestion.guice;
+
+import com.projecthive.ingestion.config.FetchMode;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.config.GmailCategory;
+import com.projecthive.ingestion.config.GmailFetchConfig;
+import com.projecthive.ingestion.config.IngestionConfig;
+import com.projecthive.ingestion.config.ParserConfig;
+import com.projecthive.ingestion.parser.GmailMessageParser;
+import com.projecthive.ingestion.utilities.SeenMessageFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.projecthive.ingestion.constants.CommonConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GmailModuleTest {
+
+    @Mock
+    private GmailMessageParser mockParser;
+
+    @Test
+    public void provideConfigs_withoutEnvironment_useBuilderDefaults() {
+        // Arrange
+        when(mockParser.requiredFetchProfile()).thenReturn(FetchProfile.full());
+        final GmailModule module = module(Map.of());
+
+        // Act & Assert
+        assertEquals(GmailFetchConfig.builder().build(), module.provideGmailFetchConfig(mockParser));
+        assertEquals(IngestionConfig.builder().build(), module.provideIngestionConfig());
+        assertEquals(ParserConfig.builder().build(), module.provideParserConfig());
+    }
+
+    @Test
+    public void provideGmailFetchConfig_readsOverrides() {
+        // Arrange
+        final FetchProfile profile = FetchProfile.metadata("From");
+        when(mockParser.requiredFetchProfile()).thenReturn(profile);
+        final GmailModule module = module(Map.of(
+                GMAIL_FETCH_MODE, "concurrent",
+                GMAIL_PAGE_SIZE, "500",
+                GMAIL_QUERY_EXCLUDED_CATEGORIES, "forums",
+                GMAIL_QUERY_LOOKBACK_DAYS, "0"));
+
+        // Act
+        final GmailFetchConfig config = module.provideGmailFetchConfig(mockParser);
+
+        // Assert
+        assertEquals(FetchMode.CONCURRENT, config.getFetchMode());
+        assertEquals(profile, config.getFetchProfile());
+        assertEquals(500, config.getPageSize());
+        assertEquals(List.of(GmailCategory.FORUMS), config.getQuery().getExcludedCategories());
+        assertEquals(0, config.getQuery().getLookbackDays());
+    }
+
+    @Test
+    public void provideGmailFetchConfig_rejectsSizesGmailDoesNotAccept() {
+        when(mockParser.requiredFetchProfile()).thenReturn(FetchProfile.full());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> module(Map.of(GMAIL_PAGE_SIZE, "501")).provideGmailFetchConfig(mockParser));
+        assertThrows(IllegalArgumentException.class,
+                () -> module(Map.of(GMAIL_BATCH_SIZE, "101")).provideGmailFetchConfig(mockParser));
+    }
+
+    @Test
+    public void provideIngestionConfig_rejectsSnapshotsThatWouldNotFitTheCheckpoint() {
+        // Arrange
+        final String max = String.valueOf(SeenMessageFilter.MAX_SNAPSHOT_IDS);
+
+        // Act & Assert
+        assertEquals(SeenMessageFilter.MAX_SNAPSHOT_IDS,
+                module(Map.of(INGESTION_SEEN_FILTER_SNAPSHOT_IDS, max)).provideIngestionConfig().getSeenFilterSnapshotIds());
+        assertThrows(IllegalArgumentException.class, () -> module(Map.of(
+                INGESTION_SEEN_FILTER_SNAPSHOT_IDS, String.valueOf(SeenMessageFilter.MAX_SNAPSHOT_IDS + 1)))
+                .provideIngestionConfig());
+        assertThrows(IllegalArgumentException.class,
+                () -> module(Map.of(INGESTION_WRITE_BATCH_SIZE, "0")).provideIngestionConfig());
+    }
+
+    private static GmailModule module(final Map<String, String> environment) {
+        return new GmailModule(new EnvironmentVariables(environment::get));
+    }
+}
@@ -4,10 +4,13 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
 import com.projecthive.ingestion.constants.TestConstants;
 import com.projecthive.ingestion.controllers.GmailIngestionController;
+import com.projecthive.ingestion.utilities.Deadline;
+import com.projecthive.ingestion.utilities.HttpPoolMetrics;
 import org.apache.logging.log4j.ThreadContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -15,6 +18,8 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +35,7 @@ class GmailIngestionHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new GmailIngestionHandler(mockController);
+        handler = new GmailIngestionHandler(mockController, new HttpPoolMetrics());
     }
 
     @Test
@@ -41,25 +46,40 @@ class GmailIngestionHandlerTest {
 
         handler.handleRequest(event, mockContext);
 
-        verify(mockController).ingestGmailMessages();
+        verify(mockController).ingestGmailMessages(any(Deadline.class));
         verifyNoMoreInteractions(mockController);
 
         // Optional: Assert MDC is cleared
         assert ThreadContext.getContext().isEmpty();
     }
 
+    @Test
+    void handleRequest_shouldPassRemainingTimeAsDeadline() throws GeneralSecurityException, IOException {
+        final ScheduledEvent event = new ScheduledEvent();
+        event.setId(TestConstants.EVENT_ID);
+        event.setDetailType(TestConstants.DETAIL_TYPE);
+        when(mockContext.getRemainingTimeInMillis()).thenReturn(TestConstants.REMAINING_TIME_MILLIS);
+
+        handler.handleRequest(event, mockContext);
+
+        final ArgumentCaptor<Deadline> captor = ArgumentCaptor.forClass(Deadline.class);
+        verify(mockController).ingestGmailMessages(captor.capture());
+        assertTrue(captor.getValue().remainingMillis() <= TestConstants.REMAINING_TIME_MILLIS);
+        assertTrue(captor.getValue().remainingMillis() > TestConstants.REMAINING_TIME_MILLIS - 10_000L);
+    }
+
     @Test
     void handleRequest_shouldThrowRuntimeException_onException() throws Exception {
         final ScheduledEvent event = new ScheduledEvent();
         event.setId(TestConstants.EVENT_ID);
         event.setDetailType(TestConstants.DETAIL_TYPE);
 
-        doThrow(new RuntimeException("Mocked exception")).when(mockController).ingestGmailMessages();
+        doThrow(new RuntimeException("Mocked exception")).when(mockController).ingestGmailMessages(any(Deadline.class));
 
 
             assertThrows(RuntimeException.class, () -> handler.handleRequest(event, mockContext));
 
-        verify(mockController).ingestGmailMessages();
+        verify(mockController).ingestGmailMessages(any(Deadline.class));
         verifyNoMoreInteractions(mockController);
 
         // Optional: Assert MDC is cleared even after exception
@@ -75,14 +95,14 @@ class GmailIngestionHandlerTest {
 
         doThrow(new GeneralSecurityException())
                 .when(mockController)
-                .ingestGmailMessages();
+                .ingestGmailMessages(any(Deadline.class));
 
         // Act & Assert
         assertThrows(RuntimeException.class, () ->
                 handler.handleRequest(event, mockContext)
         );
 
-        verify(mockController).ingestGmailMessages();
+        verify(mockController).ingestGmailMessages(any(Deadline.class));
         verifyNoMoreInteractions(mockController);
         assert ThreadContext.getContext().isEmpty();
     }
@@ -96,14 +116,14 @@ class GmailIngestionHandlerTest {
 
         doThrow(new IOException())
                 .when(mockController)
-                .ingestGmailMessages();
+                .ingestGmailMessages(any(Deadline.class));
 
         // Act & Assert
         assertThrows(RuntimeException.class, () ->
                 handler.handleRequest(event, mockContext)
         );
 
-        verify(mockController).ingestGmailMessages();
+        verify(mockController).ingestGmailMessages(any(Deadline.class));
         verifyNoMoreInteractions(mockController);
         assert ThreadContext.getContext().isEmpty();
     }
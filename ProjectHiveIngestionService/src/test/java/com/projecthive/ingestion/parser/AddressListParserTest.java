@@ -0,0 +1,91 @@
+package com.projecthive.ingestion.parser;
+
+import com.projecthive.ingestion.models.EmailAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddressListParserTest {
+
+    private final AddressListParser parser = new AddressListParser(16);
+
+    @Test
+    public void parse_handlesDisplayNamesQuotingAndBareAddresses() {
+        // Arrange
+        final String header = "\"Doe, Jane\" <Jane.Doe@Example.COM>, bob@example.org,"
+                + " Carol  Smith <carol@example.net>, <dave@example.com>";
+
+        // Act
+        final List<EmailAddress> addresses = parser.parse(header);
+
+        // Assert
+        assertEquals(List.of(
+                new EmailAddress("Doe, Jane", "jane.doe@example.com"),
+                new EmailAddress("", "bob@example.org"),
+                new EmailAddress("Carol Smith", "carol@example.net"),
+                new EmailAddress("", "dave@example.com")), addresses);
+        assertEquals("example.com", addresses.get(0).domain());
+    }
+
+    @Test
+    public void parse_handlesGroupsCommentsAndEscapes() {
+        // Arrange
+        final String header = "Team: alice@example.com, \"Bob \\\"The Builder\\\"\" <bob@example.com>;"
+                + " erin@example.com (Erin (ops)), undisclosed-recipients:;";
+
+        // Act
+        final List<EmailAddress> addresses = parser.parse(header);
+
+        // Assert
+        assertEquals(List.of(
+                new EmailAddress("", "alice@example.com"),
+                new EmailAddress("Bob \"The Builder\"", "bob@example.com"),
+                new EmailAddress("Erin (ops)", "erin@example.com")), addresses);
+    }
+
+    @Test
+    public void parse_dropsEntriesWithoutAUsableAddress() {
+        // Act & Assert
+        assertTrue(parser.parse(null).isEmpty());
+        assertTrue(parser.parse("  ").isEmpty());
+        assertEquals(List.of(new EmailAddress("", "ok@example.com")),
+                parser.parse("Just A Name, <@example.com>, nobody@, ok@example.com"));
+    }
+
+    @Test
+    public void parse_internsRepeatedMailboxesWithinTheCacheBound() {
+        // Arrange
+        final AddressListParser smallCache = new AddressListParser(2);
+
+        // Act
+        final EmailAddress first = smallCache.parse("Jane <jane@example.com>").get(0);
+        final EmailAddress again = smallCache.parse("bob@example.com, Jane <jane@example.com>").get(1);
+        smallCache.parse("carol@example.com, dave@example.com");
+        final EmailAddress evicted = smallCache.parse("Jane <jane@example.com>").get(0);
+
+        // Assert
+        assertSame(first, again);
+        assertEquals(2, smallCache.cachedCount());
+        assertNotSame(first, evicted);
+        assertEquals(first, evicted);
+    }
+
+    @Test
+    public void parse_zeroCacheSizeDisablesInterning() {
+        // Arrange
+        final AddressListParser uncached = new AddressListParser(0);
+
+        // Act
+        final EmailAddress first = uncached.parse("jane@example.com").get(0);
+        final EmailAddress second = uncached.parse("jane@example.com").get(0);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(0, uncached.cachedCount());
+    }
+}
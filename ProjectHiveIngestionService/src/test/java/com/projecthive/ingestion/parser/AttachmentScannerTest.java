@@ -0,0 +1,59 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePart;
+import com.google.api.services.gmail.model.MessagePartBody;
+import com.google.api.services.gmail.model.MessagePartHeader;
+import com.projecthive.ingestion.models.AttachmentDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AttachmentScannerTest {
+
+    private static final String PDF_ATTACHMENT_ID = "ANGjdJ8pdf";
+
+    @Test
+    public void scan_describesAttachmentsInDocumentOrderWithoutTouchingTheirData() {
+        // Arrange
+        final MessagePart pdf = new MessagePart()
+                .setPartId("1")
+                .setMimeType("Application/PDF")
+                .setFilename("report.pdf")
+                .setBody(new MessagePartBody().setAttachmentId(PDF_ATTACHMENT_ID).setSize(20 * 1024 * 1024));
+        final MessagePart unnamed = new MessagePart()
+                .setPartId("2")
+                .setMimeType("text/calendar")
+                .setFilename("")
+                .setHeaders(List.of(new MessagePartHeader()
+                        .setName("Content-Disposition")
+                        .setValue("Attachment; size=12")))
+                .setBody(new MessagePartBody().setData("QkVHSU4").setSize(5));
+        final MessagePart payload = new MessagePart()
+                .setMimeType("multipart/mixed")
+                .setParts(List.of(
+                        new MessagePart()
+                                .setPartId("0")
+                                .setMimeType("text/plain")
+                                .setFilename("")
+                                .setBody(new MessagePartBody().setData("SGk").setSize(2)),
+                        pdf,
+                        unnamed));
+
+        // Act
+        final List<AttachmentDescriptor> attachments = AttachmentScanner.scan(payload);
+
+        // Assert
+        assertEquals(List.of(
+                new AttachmentDescriptor("1", "report.pdf", "application/pdf", 20L * 1024 * 1024, PDF_ATTACHMENT_ID),
+                new AttachmentDescriptor("2", "", "text/calendar", 5L, null)), attachments);
+    }
+
+    @Test
+    public void scan_nullPayload_returnsEmptyList() {
+        // Act & Assert
+        assertTrue(AttachmentScanner.scan(null).isEmpty());
+    }
+}
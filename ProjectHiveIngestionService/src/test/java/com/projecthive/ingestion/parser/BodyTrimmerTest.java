@@ -0,0 +1,136 @@
+package com.projecthive.ingestion.parser;
+
+import com.projecthive.ingestion.config.ParserConfig;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.GmailMessage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_BYTES_TRIMMED;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_MIME_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BodyTrimmerTest {
+
+    private final BodyTrimmer trimmer = new BodyTrimmer();
+
+    @Test
+    public void trim_dropsGmailStyleReplyHistoryAndRecordsBytesRemoved() {
+        // Arrange
+        final String body = "Sounds good, see you then.\n\nOn Tue, Mar 4, 2025 at 9:12 AM Jane <jane@example.com> wrote:\n"
+                + "> Are we still on for Friday?\n> Jane\n";
+        final GmailMessage message = message(body);
+        message.setMetadata(Map.of(METADATA_BODY_MIME_TYPE, "text/plain"));
+
+        // Act
+        final GmailMessage trimmed = trimmer.trim(message);
+
+        // Assert
+        assertEquals("Sounds good, see you then.", trimmed.getBody());
+        assertEquals(Long.toString(utf8(body) - utf8(trimmed.getBody())), trimmed.getMetadata().get(METADATA_BODY_BYTES_TRIMMED));
+        assertEquals("text/plain", trimmed.getMetadata().get(METADATA_BODY_MIME_TYPE));
+    }
+
+    @Test
+    public void trimBody_handlesAttributionWrappedOntoTwoLines() {
+        // Arrange
+        final String body = "Thanks!\nOn Tue, Mar 4, 2025 at 9:12 AM Jane Doe <jane.doe@example.com>\nwrote:\n\nOriginal text";
+
+        // Act & Assert
+        assertEquals("Thanks!", BodyTrimmer.trimBody(body));
+    }
+
+    @Test
+    public void trimBody_dropsOutlookOriginalMessageAndHeaderBlocks() {
+        // Arrange
+        final String separator = "Approved.\n\n-----Original Message-----\nFrom: Bob\nSent: Monday\nSubject: PO";
+        final String headerBlock = "Approved.\n________________________________\nFrom: Bob <bob@example.com>\n"
+                + "Sent: Monday, March 3, 2025 4:00 PM\nTo: Alice\nSubject: PO";
+        final String bareHeaders = "Approved.\n\nFrom: Bob <bob@example.com>\nDate: Monday\nSubject: PO";
+
+        // Act & Assert
+        assertEquals("Approved.", BodyTrimmer.trimBody(separator));
+        assertEquals("Approved.", BodyTrimmer.trimBody(headerBlock));
+        assertEquals("Approved.", BodyTrimmer.trimBody(bareHeaders));
+    }
+
+    @Test
+    public void trimBody_dropsSignaturesAndLegalFooters() {
+        // Act & Assert
+        assertEquals("Call me.", BodyTrimmer.trimBody("Call me.\n-- \nAlice Smith\nACME Corp"));
+        assertEquals("Call me.", BodyTrimmer.trimBody("Call me.\n\nSent from my iPhone"));
+        assertEquals("Call me.", BodyTrimmer.trimBody("Call me.\n\nGet Outlook for Android"));
+        assertEquals("Call me.", BodyTrimmer.trimBody(
+                "Call me.\n\nCONFIDENTIALITY NOTICE: This e-mail is intended only for the named recipient."));
+    }
+
+    @Test
+    public void trimBody_keepsFromLinesThatAreNotQuotedHeaders() {
+        // Arrange
+        final String body = "From: the team\nWe shipped the release today.\nMore details tomorrow.";
+
+        // Act & Assert
+        assertEquals(body, BodyTrimmer.trimBody(body));
+    }
+
+    @Test
+    public void trimBody_keepsOriginalWhenEverythingWouldBeRemoved() {
+        // Arrange
+        final String body = "> only quoted text\n> nothing new";
+
+        // Act & Assert
+        assertEquals(body, BodyTrimmer.trimBody(body));
+    }
+
+    @Test
+    public void trim_leavesUntouchedBodiesWithoutMetadata() {
+        // Arrange
+        final GmailMessage message = message(TestConstants.BODY_1);
+
+        // Act
+        final GmailMessage result = trimmer.trim(message);
+
+        // Assert
+        assertSame(message, result);
+        assertEquals(TestConstants.BODY_1, result.getBody());
+        assertNull(result.getMetadata());
+    }
+
+    @Test
+    public void trim_isNoOpWhenDisabled() {
+        // Arrange
+        final BodyTrimmer disabled = new BodyTrimmer(ParserConfig.builder().trimQuotedText(false).build());
+        final String body = "Hi\n> quoted";
+
+        // Act & Assert
+        assertEquals(body, disabled.trim(message(body)).getBody());
+    }
+
+    @Test
+    public void utf8Length_countsMultiByteCharactersAndSurrogatePairs() {
+        // Arrange
+        final String text = "aé€😀";
+
+        // Act & Assert
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, BodyTrimmer.utf8Length(text));
+    }
+
+    private static GmailMessage message(final String body) {
+        return GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .subject(TestConstants.SUBJECT_1)
+                .body(body)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
+    }
+
+    private static long utf8(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
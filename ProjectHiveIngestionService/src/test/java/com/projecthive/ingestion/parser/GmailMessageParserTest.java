@@ -2,16 +2,27 @@ package com.projecthive.ingestion.parser;
 
 import com.google.api.services.gmail.model.Message;
 import com.google.api.services.gmail.model.MessagePart;
+import com.google.api.services.gmail.model.MessagePartBody;
 import com.google.api.services.gmail.model.MessagePartHeader;
+import com.projecthive.ingestion.config.FetchProfile;
+import com.projecthive.ingestion.config.ParserConfig;
 import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.EmailAddress;
 import com.projecthive.ingestion.models.GmailMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_ATTACHMENTS;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_ATTACHMENT_COUNT;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_MIME_TYPE;
+import static com.projecthive.ingestion.constants.CommonConstants.METADATA_BODY_TRUNCATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
@@ -152,4 +163,155 @@ public class GmailMessageParserTest {
             assertNotNull(e);
         }
     }
+
+    @Test
+    public void testParse_extractsFullBodyInsteadOfSnippet() {
+        // Arrange
+        final MessagePart payload = new MessagePart()
+                .setMimeType("multipart/alternative")
+                .setHeaders(List.of(new MessagePartHeader().setName("From").setValue(TestConstants.SENDER_1)))
+                .setParts(List.of(
+                        textPart("text/plain", TestConstants.BODY_1),
+                        textPart("text/html", "<p>" + TestConstants.BODY_1 + "</p>")));
+
+        final Message gmailMessage = new Message()
+                .setId(TestConstants.MSG_ID_1)
+                .setSnippet(TestConstants.SNIPPET_1)
+                .setInternalDate(TestConstants.RECEIVED_AT_1)
+                .setPayload(payload);
+
+        final GmailMessageParser parser = new GmailMessageParser();
+
+        // Act
+        final GmailMessage result = parser.parse(gmailMessage);
+
+        // Assert
+        assertEquals(TestConstants.BODY_1, result.getBody());
+        assertEquals(Map.of(METADATA_BODY_MIME_TYPE, "text/plain"), result.getMetadata());
+    }
+
+    @Test
+    public void testParse_bodyOverBudget_flagsTruncation() {
+        // Arrange
+        final Message gmailMessage = new Message()
+                .setId(TestConstants.MSG_ID_1)
+                .setInternalDate(TestConstants.RECEIVED_AT_1)
+                .setPayload(textPart("text/plain", TestConstants.BODY_1));
+
+        final GmailMessageParser parser = new GmailMessageParser(ParserConfig.builder().maxBodyBytes(5).build());
+
+        // Act
+        final GmailMessage result = parser.parse(gmailMessage);
+
+        // Assert
+        assertEquals(TestConstants.BODY_1.substring(0, 5), result.getBody());
+        assertEquals("true", result.getMetadata().get(METADATA_BODY_TRUNCATED));
+    }
+
+    @Test
+    public void testParse_recordsAttachmentDescriptors() {
+        // Arrange
+        final MessagePart attachment = new MessagePart()
+                .setPartId("1")
+                .setMimeType("application/pdf")
+                .setFilename("report.pdf")
+                .setBody(new MessagePartBody().setAttachmentId(TestConstants.ATTACHMENT_ID).setSize(1024));
+        final Message gmailMessage = new Message()
+                .setId(TestConstants.MSG_ID_1)
+                .setInternalDate(TestConstants.RECEIVED_AT_1)
+                .setPayload(new MessagePart()
+                        .setMimeType("multipart/mixed")
+                        .setParts(List.of(textPart("text/plain", TestConstants.BODY_1), attachment)));
+
+        final GmailMessageParser parser = new GmailMessageParser();
+
+        // Act
+        final GmailMessage result = parser.parse(gmailMessage);
+
+        // Assert
+        assertEquals(TestConstants.BODY_1, result.getBody());
+        assertEquals("1", result.getMetadata().get(METADATA_ATTACHMENT_COUNT));
+        assertEquals("[{\"partId\":\"1\",\"filename\":\"report.pdf\",\"mimeType\":\"application/pdf\","
+                        + "\"sizeBytes\":1024,\"attachmentId\":\"" + TestConstants.ATTACHMENT_ID + "\"}]",
+                result.getMetadata().get(METADATA_ATTACHMENTS));
+    }
+
+    @Test
+    public void testParse_parsesAddressHeaders() {
+        // Arrange
+        final MessagePart payload = new MessagePart()
+                .setHeaders(List.of(
+                        new MessagePartHeader().setName("From").setValue("Sender One <Sender1@Example.com>"),
+                        new MessagePartHeader().setName("To").setValue("a@example.com, \"B, Bee\" <b@example.com>"),
+                        new MessagePartHeader().setName("Cc").setValue("c@example.com"),
+                        new MessagePartHeader().setName("Reply-To").setValue("list@example.com")));
+        final Message gmailMessage = new Message()
+                .setId(TestConstants.MSG_ID_1)
+                .setInternalDate(TestConstants.RECEIVED_AT_1)
+                .setPayload(payload);
+
+        final GmailMessageParser parser = new GmailMessageParser();
+
+        // Act
+        final GmailMessage result = parser.parse(gmailMessage);
+
+        // Assert
+        assertEquals(new EmailAddress("Sender One", "sender1@example.com"), result.getFromAddress());
+        assertEquals(List.of(new EmailAddress("", "a@example.com"), new EmailAddress("B, Bee", "b@example.com")),
+                result.getToAddresses());
+        assertEquals(List.of(new EmailAddress("", "c@example.com")), result.getCcAddresses());
+        assertEquals(List.of(), result.getBccAddresses());
+        assertEquals(List.of(new EmailAddress("", "list@example.com")), result.getReplyToAddresses());
+    }
+
+    @Test
+    public void testParse_capturesThreadAndReplyHeaders() {
+        // Arrange
+        final MessagePart payload = new MessagePart()
+                .setHeaders(List.of(
+                        new MessagePartHeader().setName("In-Reply-To").setValue("<b@example.com>"),
+                        new MessagePartHeader().setName("References").setValue("<a@example.com>\r\n <b@example.com>")));
+        final Message gmailMessage = new Message()
+                .setId(TestConstants.MSG_ID_1)
+                .setThreadId(TestConstants.THREAD_ID)
+                .setInternalDate(TestConstants.RECEIVED_AT_1)
+                .setPayload(payload);
+
+        final GmailMessageParser parser = new GmailMessageParser();
+
+        // Act
+        final GmailMessage result = parser.parse(gmailMessage);
+
+        // Assert
+        assertEquals(TestConstants.THREAD_ID, result.getThreadId());
+        assertEquals("<b@example.com>", result.getInReplyTo());
+        assertEquals(List.of("<a@example.com>", "<b@example.com>"), result.getReferences());
+    }
+
+    @Test
+    public void testMessageIds_acceptsUnbracketedAndMalformedValues() {
+        // Act & Assert
+        assertEquals(List.of("a@example.com", "b@example.com"), GmailMessageParser.messageIds(" a@example.com, b@example.com"));
+        assertEquals(List.of("<a@example.com>"), GmailMessageParser.messageIds("<> <a@example.com> <unterminated"));
+        assertEquals(List.of(), GmailMessageParser.messageIds(null));
+    }
+
+    @Test
+    public void testRequiredFetchProfile_requestsMimeBodies() {
+        // Arrange
+        final GmailMessageParser parser = new GmailMessageParser();
+
+        // Act
+        final FetchProfile profile = parser.requiredFetchProfile();
+
+        // Assert
+        assertEquals(FetchProfile.Format.FULL, profile.getFormat());
+        assertEquals("id,threadId,labelIds,internalDate,snippet,payload", profile.getFields());
+    }
+
+    private static MessagePart textPart(final String mimeType, final String text) {
+        return new MessagePart()
+                .setMimeType(mimeType)
+                .setBody(new MessagePartBody().encodeData(text.getBytes(StandardCharsets.UTF_8)));
+    }
 }
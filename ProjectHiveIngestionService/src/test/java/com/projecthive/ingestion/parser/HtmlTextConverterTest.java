@@ -0,0 +1,90 @@
+package com.projecthive.ingestion.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HtmlTextConverterTest {
+
+    @Test
+    public void feed_dropsScriptsStylesCommentsAndImagesButKeepsLinkText() {
+        // Arrange
+        final HtmlTextConverter converter = new HtmlTextConverter(1_000);
+
+        // Act
+        converter.feed("<!DOCTYPE html><html><head><title>ignored</title><style>.a{}</style></head>"
+                + "<body><!-- tracking --><script>if (a<b) { x(); }</script>"
+                + "<img src=\"https://t.example.com/open.gif\" width=\"1\" height=\"1\">"
+                + "Read <a href=\"https://example.com/?a=1&amp;b=2\" title=\"x > y\">the   release notes</a>.</body></html>");
+
+        // Assert
+        assertEquals("Read the release notes.", converter.finish());
+        assertFalse(converter.isTruncated());
+    }
+
+    @Test
+    public void feed_turnsBlocksIntoLineBreaksAndCellsIntoSpaces() {
+        // Arrange
+        final HtmlTextConverter converter = new HtmlTextConverter(1_000);
+
+        // Act
+        converter.feed("<h1>Title</h1><p>First\n   paragraph</p><p>Second</p>"
+                + "<table><tr><td>a</td><td>b</td></tr></table>line<br/>break<BR>again");
+
+        // Assert
+        // Breaks from adjacent closing and opening tags are capped at one blank line
+        assertEquals("Title\n\nFirst paragraph\n\nSecond\n\na b\n\nline\nbreak\nagain", converter.finish());
+    }
+
+    @Test
+    public void feed_decodesEntities() {
+        // Arrange
+        final HtmlTextConverter converter = new HtmlTextConverter(1_000);
+
+        // Act
+        converter.feed("Tom &amp; Jerry &lt;3 &#8212; &#x1F600; &quot;hi&quot;&zwnj; &unknown; & done &amp");
+
+        // Assert
+        assertEquals("Tom & Jerry <3 \u2014 \uD83D\uDE00 \"hi\" &unknown; & done &amp", converter.finish());
+    }
+
+    @Test
+    public void feed_acceptsMarkupSplitAcrossChunks() {
+        // Arrange
+        final HtmlTextConverter converter = new HtmlTextConverter(1_000);
+
+        // Act
+        converter.feed("<scr");
+        converter.feed("ipt>hidden</scr");
+        converter.feed("ipt><p>vis");
+        converter.feed("ible &am");
+        converter.feed("p; text</p><!-");
+        converter.feed("- note -");
+        converter.feed("->end");
+
+        // Assert
+        assertEquals("visible & text\n\nend", converter.finish());
+    }
+
+    @Test
+    public void feed_stopsAtTextBudget() {
+        // Arrange
+        final HtmlTextConverter converter = new HtmlTextConverter(5);
+
+        // Act
+        final boolean accepting = converter.feed("<p>abcdefgh</p>");
+
+        // Assert
+        assertFalse(accepting);
+        assertTrue(converter.isTruncated());
+        assertEquals("abcde", converter.finish());
+    }
+
+    @Test
+    public void constructor_rejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new HtmlTextConverter(0));
+    }
+}
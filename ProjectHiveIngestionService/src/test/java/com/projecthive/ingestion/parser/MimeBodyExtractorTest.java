@@ -0,0 +1,180 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePart;
+import com.google.api.services.gmail.model.MessagePartBody;
+import com.google.api.services.gmail.model.MessagePartHeader;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.ExtractedBody;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MimeBodyExtractorTest {
+
+    private final MimeBodyExtractor extractor = new MimeBodyExtractor(1024);
+
+    @Test
+    public void extract_prefersPlainTextOverEarlierHtmlAndSkipsAttachments() {
+        // Arrange
+        final MessagePart payload = multipart("multipart/mixed",
+                multipart("multipart/alternative",
+                        part("text/html", "<b>html</b>", StandardCharsets.UTF_8),
+                        part("text/plain", TestConstants.BODY_1, StandardCharsets.UTF_8)),
+                part("text/plain", "attached notes", StandardCharsets.UTF_8).setFilename("notes.txt"));
+
+        // Act
+        final ExtractedBody body = extractor.extract(payload).orElseThrow();
+
+        // Assert
+        assertEquals(TestConstants.BODY_1, body.getText());
+        assertEquals("text/plain", body.getMimeType());
+        assertFalse(body.isTruncated());
+        assertFalse(body.isHtml());
+    }
+
+    @Test
+    public void extract_fallsBackToHtml() {
+        // Arrange
+        final MessagePart payload = multipart("multipart/mixed",
+                part("text/html", "<p>hi</p>", StandardCharsets.UTF_8),
+                part("text/plain", "inline attachment", StandardCharsets.UTF_8)
+                        .setHeaders(List.of(header("Content-Disposition", "attachment; filename=a.txt"))));
+
+        // Act
+        final ExtractedBody body = extractor.extract(payload).orElseThrow();
+
+        // Assert
+        assertEquals("hi", body.getText());
+        assertTrue(body.isHtml());
+    }
+
+    @Test
+    public void extract_largeHtml_convertsInChunksAndCapsText() {
+        // Arrange
+        final StringBuilder html = new StringBuilder("<html><head><style>p { color: red; }</style></head><body>");
+        for (int i = 0; i < 5_000; i++) {
+            html.append("<p>caf\u00e9 paragraph ").append(i).append("</p>");
+        }
+        html.append("</body></html>");
+        final MimeBodyExtractor smallExtractor = new MimeBodyExtractor(100);
+        final MessagePart payload = part("text/html", html.toString(), StandardCharsets.UTF_8);
+
+        // Act
+        final ExtractedBody body = smallExtractor.extract(payload).orElseThrow();
+
+        // Assert
+        assertTrue(body.getText().startsWith("caf\u00e9 paragraph 0\n\ncaf\u00e9 paragraph 1"));
+        assertTrue(body.getText().length() <= 100);
+        assertTrue(body.isTruncated());
+    }
+
+    @Test
+    public void extract_smallHtml_convertsWholeBody() {
+        // Arrange
+        final MessagePart payload = part("text/html", "<div>Hello&nbsp;<a href=\"https://x\">there</a></div>",
+                StandardCharsets.ISO_8859_1)
+                .setHeaders(List.of(header("Content-Type", "text/html; charset=iso-8859-1")));
+
+        // Act
+        final ExtractedBody body = extractor.extract(payload).orElseThrow();
+
+        // Assert
+        assertEquals("Hello there", body.getText());
+        assertFalse(body.isTruncated());
+    }
+
+    @Test
+    public void extract_decodesWithDeclaredCharset() {
+        // Arrange
+        final Charset latin1 = StandardCharsets.ISO_8859_1;
+        final MessagePart payload = part("text/plain", "café", latin1)
+                .setHeaders(List.of(header("content-type", "text/plain; charset=\"ISO-8859-1\"; format=flowed")));
+
+        // Act
+        final ExtractedBody body = extractor.extract(payload).orElseThrow();
+
+        // Assert
+        assertEquals("café", body.getText());
+    }
+
+    @Test
+    public void extract_unknownCharset_fallsBackToUtf8() {
+        // Arrange
+        final MessagePart payload = part("text/plain", "naïve", StandardCharsets.UTF_8)
+                .setHeaders(List.of(header("Content-Type", "text/plain; charset=x-made-up")));
+
+        // Act & Assert
+        assertEquals("naïve", extractor.extract(payload).orElseThrow().getText());
+    }
+
+    @Test
+    public void extract_overBudget_truncatesWithoutSplittingACharacter() {
+        // Arrange
+        final MimeBodyExtractor smallExtractor = new MimeBodyExtractor(4);
+        final MessagePart payload = part("text/plain", "abcé and more", StandardCharsets.UTF_8);
+
+        // Act
+        final ExtractedBody body = smallExtractor.extract(payload).orElseThrow();
+
+        // Assert
+        assertEquals("abc", body.getText());
+        assertTrue(body.isTruncated());
+    }
+
+    @Test
+    public void extract_reusesBufferAcrossMessages() {
+        // Act
+        final String first = extractor.extract(part("text/plain", "a longer first body", StandardCharsets.UTF_8))
+                .orElseThrow().getText();
+        final String second = extractor.extract(part("text/plain", "short", StandardCharsets.UTF_8))
+                .orElseThrow().getText();
+
+        // Assert
+        assertEquals("a longer first body", first);
+        assertEquals("short", second);
+    }
+
+    @Test
+    public void extract_noDecodableTextPart_returnsEmpty() {
+        // Arrange
+        final MessagePart invalid = new MessagePart()
+                .setMimeType("text/plain")
+                .setBody(new MessagePartBody().setData("!!not base64!!"));
+        final MessagePart attachmentOnly = new MessagePart()
+                .setMimeType("text/plain")
+                .setBody(new MessagePartBody().setAttachmentId("att-1"));
+
+        // Act & Assert
+        assertEquals(Optional.empty(), extractor.extract(invalid));
+        assertEquals(Optional.empty(), extractor.extract(attachmentOnly));
+        assertEquals(Optional.empty(), extractor.extract(multipart("multipart/mixed")));
+        assertEquals(Optional.empty(), extractor.extract(null));
+    }
+
+    @Test
+    public void constructor_rejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MimeBodyExtractor(0));
+    }
+
+    private static MessagePart part(final String mimeType, final String text, final Charset charset) {
+        return new MessagePart()
+                .setMimeType(mimeType)
+                .setBody(new MessagePartBody().encodeData(text.getBytes(charset)));
+    }
+
+    private static MessagePart multipart(final String mimeType, final MessagePart... parts) {
+        return new MessagePart().setMimeType(mimeType).setParts(List.of(parts));
+    }
+
+    private static MessagePartHeader header(final String name, final String value) {
+        return new MessagePartHeader().setName(name).setValue(value);
+    }
+}
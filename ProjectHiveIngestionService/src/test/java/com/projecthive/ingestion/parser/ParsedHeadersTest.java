@@ -0,0 +1,70 @@
+package com.projecthive.ingestion.parser;
+
+import com.google.api.services.gmail.model.MessagePartHeader;
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.parser.ParsedHeaders.Header;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParsedHeadersTest {
+
+    @Test
+    public void of_indexesKnownHeadersCaseInsensitivelyAndIgnoresTheRest() {
+        // Arrange
+        final List<MessagePartHeader> headers = List.of(
+                header("Received", "from mail.example.com"),
+                header("DKIM-Signature", "v=1; a=rsa-sha256"),
+                header("FROM", TestConstants.SENDER_1),
+                header("message-id", "<abc@example.com>"),
+                header("To", TestConstants.RECEIVER_1),
+                header("X-Gm-Message-State", "AOJu0Yw"),
+                header(null, "nameless"));
+
+        // Act
+        final ParsedHeaders parsed = ParsedHeaders.of(headers);
+
+        // Assert
+        assertEquals(TestConstants.SENDER_1, parsed.get(Header.FROM));
+        assertEquals(TestConstants.RECEIVER_1, parsed.get(Header.TO));
+        assertEquals("<abc@example.com>", parsed.get(Header.MESSAGE_ID));
+        assertTrue(parsed.contains(Header.MESSAGE_ID));
+        assertFalse(parsed.contains(Header.SUBJECT));
+        assertEquals("", parsed.getOrEmpty(Header.SUBJECT));
+    }
+
+    @Test
+    public void of_keepsFirstOccurrence() {
+        // Act
+        final ParsedHeaders parsed = ParsedHeaders.of(List.of(
+                header("Subject", TestConstants.SUBJECT_1),
+                header("subject", TestConstants.SUBJECT_2)));
+
+        // Assert
+        assertEquals(TestConstants.SUBJECT_1, parsed.get(Header.SUBJECT));
+    }
+
+    @Test
+    public void of_missingHeaders_returnsEmptyView() {
+        assertNull(ParsedHeaders.of(null).get(Header.FROM));
+        assertNull(ParsedHeaders.of(List.of()).get(Header.DATE));
+    }
+
+    @Test
+    public void lookup_rejectsUnknownNamesOfEveryLength() {
+        assertEquals(Header.CONTENT_DISPOSITION, ParsedHeaders.lookup("content-disposition"));
+        assertEquals(Header.CC, ParsedHeaders.lookup("cC"));
+        assertNull(ParsedHeaders.lookup("Xy"));
+        assertNull(ParsedHeaders.lookup("A"));
+        assertNull(ParsedHeaders.lookup("ARC-Message-Signature-Extended"));
+    }
+
+    private static MessagePartHeader header(final String name, final String value) {
+        return new MessagePartHeader().setName(name).setValue(value);
+    }
+}
@@ -0,0 +1,175 @@
+package com.projecthive.ingestion.pipeline;
+
+import com.projecthive.ingestion.models.PipelineResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StagedPipelineTest {
+
+    private static final long STAGE_DELAY_MILLIS = 20L;
+
+    @Test
+    public void drainTo_passesItemsThroughEveryStageInOrder() {
+        // Arrange
+        final List<String> sink = new ArrayList<>();
+
+        // Act
+        final PipelineResult result = StagedPipeline.from("source", List.of(1, 2, 3).iterator(), 1)
+                .then("double", value -> value * 2)
+                .then("format", value -> "#" + value)
+                .drainTo("sink", sink::add);
+
+        // Assert
+        assertFalse(result.isStoppedEarly());
+        assertEquals(List.of("#2", "#4", "#6"), sink);
+        assertEquals(3, result.getCompleted());
+        assertEquals(List.of("source", "double", "format", "sink"),
+                result.getStages().stream().map(stage -> stage.getStage()).toList());
+        result.getStages().forEach(stage -> assertEquals(3, stage.getProcessed()));
+    }
+
+    @Test
+    public void drainTo_dropsItemsMappedToNull() {
+        // Arrange
+        final List<Integer> sink = new ArrayList<>();
+
+        // Act
+        final PipelineResult result = StagedPipeline.from("source", List.of(1, 2, 3, 4).iterator(), 2)
+                .then("evens", value -> value % 2 == 0 ? value : null)
+                .drainTo("sink", sink::add);
+
+        // Assert
+        assertEquals(List.of(2, 4), sink);
+        assertEquals(2, result.getCompleted());
+    }
+
+    @Test
+    public void drainTo_emptySource_completesWithoutItems() {
+        // Act
+        final PipelineResult result = StagedPipeline.from("source", Collections.<Integer>emptyIterator(), 4)
+                .drainTo("sink", value -> { });
+
+        // Assert
+        assertEquals(0, result.getCompleted());
+    }
+
+    @Test
+    public void drainTo_overlapsStages() {
+        // Arrange
+        final int items = 10;
+        final List<Integer> sink = new CopyOnWriteArrayList<>();
+
+        // Act
+        final PipelineResult result = StagedPipeline
+                .from("source", IntStream.range(0, items).boxed().iterator(), 4)
+                .then("fetch", delayed(Function.identity()))
+                .then("parse", delayed(Function.identity()))
+                .drainTo("save", value -> {
+                    sleep(STAGE_DELAY_MILLIS);
+                    sink.add(value);
+                });
+
+        // Assert
+        final long sumOfStagesMillis = 3 * items * STAGE_DELAY_MILLIS;
+        assertEquals(items, sink.size());
+        assertTrue(result.getElapsedMillis() < sumOfStagesMillis * 3 / 4,
+                "Pipeline took " + result.getElapsedMillis() + " ms, sequential would take " + sumOfStagesMillis);
+    }
+
+    @Test
+    public void drainTo_stageFailure_stopsPipelineAndRethrows() {
+        // Arrange
+        final IllegalStateException failure = new IllegalStateException("boom");
+        final AtomicBoolean sinkSawFailedItem = new AtomicBoolean();
+
+        // Act & Assert
+        final IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> StagedPipeline
+                .from("source", IntStream.iterate(0, i -> i + 1).boxed().iterator(), 2)
+                .then("fail", value -> {
+                    if (value == 5) {
+                        throw failure;
+                    }
+                    return value;
+                })
+                .drainTo("sink", value -> sinkSawFailedItem.compareAndSet(false, value >= 5)));
+        assertSame(failure, thrown);
+        assertFalse(sinkSawFailedItem.get());
+    }
+
+    @Test
+    public void drainTo_sourceFailure_rethrows() {
+        // Arrange
+        final List<Integer> sink = new ArrayList<>();
+        final java.util.Iterator<Integer> failing = new java.util.Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalArgumentException("listing failed");
+            }
+        };
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> StagedPipeline.from("source", failing, 2).drainTo("sink", sink::add));
+        assertTrue(sink.isEmpty());
+    }
+
+    @Test
+    public void drainTo_stopCondition_drainsInFlightItemsAndReportsEarlyStop() {
+        // Arrange
+        final AtomicBoolean stop = new AtomicBoolean();
+        final List<Integer> sink = new CopyOnWriteArrayList<>();
+        final java.util.Iterator<Integer> source = IntStream.iterate(0, i -> i + 1).boxed()
+                .peek(value -> stop.set(value == 2))
+                .iterator();
+
+        // Act
+        final PipelineResult result = StagedPipeline.from("source", source, 2)
+                .stopWhen(stop::get)
+                .then("slow", delayed(Function.identity()))
+                .drainTo("sink", sink::add);
+
+        // Assert
+        assertTrue(result.isStoppedEarly());
+        assertEquals(List.of(0, 1, 2), sink);
+    }
+
+    @Test
+    public void from_rejectsNonPositiveQueueCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StagedPipeline.from("source", List.of(1).iterator(), 0));
+    }
+
+    private static <T> Function<T, T> delayed(final Function<T, T> function) {
+        return value -> {
+            sleep(STAGE_DELAY_MILLIS);
+            return function.apply(value);
+        };
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.projecthive.ingestion.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeadlineTest {
+
+    @Test
+    public void remainingMillis_decreasesWithTheClock() {
+        // Arrange
+        final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(5));
+        final Deadline deadline = Deadline.in(10_000L, clock::get);
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+
+        // Assert
+        assertEquals(6_000L, deadline.remainingMillis());
+        assertFalse(deadline.isWithin(5_000L));
+        assertTrue(deadline.isWithin(6_000L));
+    }
+
+    @Test
+    public void none_neverExpires() {
+        assertFalse(Deadline.none().isWithin(Long.MAX_VALUE / 2_000_000L));
+    }
+
+    @Test
+    public void in_usesSystemClock() {
+        assertTrue(Deadline.in(0L).isWithin(0L));
+    }
+}
@@ -0,0 +1,127 @@
+package com.projecthive.ingestion.utilities;
+
+import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.Message;
+import com.projecthive.ingestion.models.MessageBody;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageBodyConverterTest {
+
+    private static final String LONG_BODY = TestConstants.BODY_1.repeat(100);
+    // "Quarterly planning notes. " x 60 as this converter writes it: tag 1 followed by deflated UTF-8
+    private static final String DEFLATED_FIXTURE =
+            "AXgBCyxNLCpJLcqpVCjISczLy8xLV8jLL0kt1lMIHJUZDYPRdDCaF0bLgxFYJgIA2m9Ogw==";
+    private static final String DEFLATED_TEXT = "Quarterly planning notes. ".repeat(60);
+    private static final String IDENTITY_TEXT = "Short note \u2713";
+
+    private final MessageBodyConverter converter = new MessageBodyConverter();
+
+    @Test
+    public void transformFrom_keepsShortBodyAsString() {
+        // Act
+        final AttributeValue value = converter.transformFrom(MessageBody.of(TestConstants.BODY_1));
+
+        // Assert
+        assertEquals(TestConstants.BODY_1, value.s());
+        assertNull(value.b());
+    }
+
+    @Test
+    public void transformFrom_compressesLongBodyBehindCodecTag() {
+        // Act
+        final AttributeValue value = converter.transformFrom(MessageBody.of(LONG_BODY));
+
+        // Assert
+        assertNull(value.s());
+        final byte[] packed = value.b().asByteArray();
+        assertEquals(MessageBodyConverter.DEFLATE, packed[0]);
+        assertTrue(packed.length < LONG_BODY.length());
+        assertEquals(LONG_BODY, converter.transformTo(value).text());
+    }
+
+    @Test
+    public void transformTo_defersInflatingUntilTextIsRead() {
+        // Arrange
+        final AttributeValue corrupt = AttributeValue.builder()
+                .b(SdkBytes.fromByteArray(new byte[]{MessageBodyConverter.DEFLATE, 1, 2, 3}))
+                .build();
+
+        // Act
+        final MessageBody body = converter.transformTo(corrupt);
+
+        // Assert
+        assertThrows(UncheckedIOException.class, body::text);
+    }
+
+    @Test
+    public void transformTo_rejectsUnknownCodecTag() {
+        // Arrange
+        final AttributeValue value = AttributeValue.builder().b(SdkBytes.fromByteArray(new byte[]{42, 1})).build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> converter.transformTo(value));
+    }
+
+    @Test
+    public void transformTo_decodesPinnedFixturesSharedWithSummarization() {
+        // Arrange: the summarization service's converter test decodes these same bytes
+        final byte[] deflated = Base64.getDecoder().decode(DEFLATED_FIXTURE);
+        final byte[] utf8 = IDENTITY_TEXT.getBytes(StandardCharsets.UTF_8);
+        final byte[] identity = new byte[utf8.length + 1];
+        identity[0] = MessageBodyConverter.IDENTITY;
+        System.arraycopy(utf8, 0, identity, 1, utf8.length);
+
+        // Act & Assert
+        assertEquals(DEFLATED_TEXT, converter.transformTo(binary(deflated)).text());
+        assertEquals(IDENTITY_TEXT, converter.transformTo(binary(identity)).text());
+        assertEquals(DEFLATED_TEXT, converter.transformTo(converter.transformFrom(MessageBody.of(DEFLATED_TEXT))).text());
+    }
+
+    @Test
+    public void transformTo_readsStringAndNullBodies() {
+        // Act & Assert
+        assertEquals(TestConstants.BODY_1, converter.transformTo(AttributeValue.builder().s(TestConstants.BODY_1).build()).text());
+        assertNull(converter.transformTo(AttributeValue.builder().nul(true).build()));
+        assertThrows(IllegalArgumentException.class, () -> converter.transformTo(AttributeValue.builder().n("1").build()));
+    }
+
+    @Test
+    public void tableSchema_roundTripsCompressedBodyUnderBodyAttribute() {
+        // Arrange
+        final TableSchema<Message> schema = TableSchema.fromBean(Message.class);
+        final Message message = Message.builder()
+                .id(TestConstants.MSG_ID_1)
+                .username(TestConstants.USERNAME)
+                .platform(TestConstants.ID)
+                .platformMessageId(TestConstants.MSG_ID_1)
+                .recipient(TestConstants.RECEIVER_1)
+                .sender(TestConstants.SENDER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .body(LONG_BODY)
+                .build();
+
+        // Act
+        final Map<String, AttributeValue> item = schema.itemToMap(message, true);
+        final Message restored = schema.mapToItem(item);
+
+        // Assert
+        assertNotNull(item.get("body").b());
+        assertFalse(item.containsKey("storedBody"));
+        assertEquals(message, restored);
+        assertEquals(LONG_BODY, restored.getBody());
+    }
+
+    private static AttributeValue binary(final byte[] packed) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArray(packed)).build();
+    }
+}
@@ -1,12 +1,16 @@
 package com.projecthive.ingestion.utilities;
 
 import com.projecthive.ingestion.constants.TestConstants;
+import com.projecthive.ingestion.models.EmailAddress;
 import com.projecthive.ingestion.models.GmailMessage;
 import com.projecthive.ingestion.models.Message;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
+import static com.projecthive.ingestion.constants.CommonConstants.DEFAULT_USERNAME;
 import static com.projecthive.ingestion.constants.CommonConstants.GMAIL;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,6 +43,30 @@ public class MessageConverterTest {
         assertEquals(TestConstants.RECEIVED_AT_1, result.getReceivedAt());
     }
     
+    @Test
+    public void testFromGmail_flattensParsedAddresses() {
+        // Arrange
+        final GmailMessage gmailMessage = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_1)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .fromAddress(new EmailAddress("Sender", "sender@example.com"))
+                .toAddresses(List.of(new EmailAddress("", "a@example.com"), new EmailAddress("B", "b@example.com")))
+                .ccAddresses(List.of())
+                .build();
+
+        // Act
+        final Message result = MessageConverter.fromGmail(gmailMessage);
+
+        // Assert
+        assertEquals("sender@example.com", result.getSenderAddress());
+        assertEquals(List.of("a@example.com", "b@example.com"), result.getToAddresses());
+        assertNull(result.getCcAddresses());
+        assertNull(result.getReferences());
+        assertNull(result.getBccAddresses());
+    }
+
     @Test
     public void testFromGmail_withNullValues_convertsCorrectly() {
         // Arrange
@@ -66,7 +94,7 @@ public class MessageConverterTest {
     }
     
     @Test
-    public void testFromGmail_generatesUniqueIds() {
+    public void testFromGmail_derivesStableIdsFromMessageIdentity() {
         // Arrange
         final GmailMessage gmailMessage = GmailMessage.builder()
                 .id(TestConstants.MSG_ID_1)
@@ -76,12 +104,22 @@ public class MessageConverterTest {
                 .body(TestConstants.SNIPPET_1)
                 .receivedAt(TestConstants.RECEIVED_AT_1)
                 .build();
+        final GmailMessage otherMessage = GmailMessage.builder()
+                .id(TestConstants.MSG_ID_2)
+                .from(TestConstants.SENDER_1)
+                .to(TestConstants.RECEIVER_1)
+                .receivedAt(TestConstants.RECEIVED_AT_1)
+                .build();
 
         // Act
         final Message result1 = MessageConverter.fromGmail(gmailMessage);
         final Message result2 = MessageConverter.fromGmail(gmailMessage);
+        final Message other = MessageConverter.fromGmail(otherMessage);
 
         // Assert
-        assertNotEquals(result1.getId(), result2.getId(), "Generated IDs should be unique");
+        assertEquals(result1.getId(), result2.getId(), "Re-ingesting a message should yield the same ID");
+        assertNotEquals(result1.getId(), other.getId(), "Distinct messages should get distinct IDs");
+        assertEquals(MessageConverter.messageId(DEFAULT_USERNAME, GMAIL, TestConstants.MSG_ID_1), result1.getId());
+        assertNotEquals(result1.getId(), MessageConverter.messageId(TestConstants.USERNAME, GMAIL, TestConstants.MSG_ID_1));
     }
 }
@@ -0,0 +1,109 @@
+package com.projecthive.ingestion.utilities;
+
+import com.projecthive.ingestion.constants.TestConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeenMessageFilterTest {
+
+    @Test
+    public void contains_findsAddedIdsAndCountsHitsAndMisses() {
+        // Arrange
+        final SeenMessageFilter filter = new SeenMessageFilter(4);
+
+        // Act
+        filter.add(TestConstants.GMAIL_MSG_ID_1);
+        filter.add(TestConstants.GMAIL_MSG_ID_1);
+
+        // Assert
+        assertTrue(filter.contains(TestConstants.GMAIL_MSG_ID_1));
+        assertFalse(filter.contains(TestConstants.GMAIL_MSG_ID_2));
+        assertEquals(1, filter.size());
+        assertEquals(1L, filter.hits());
+        assertEquals(1L, filter.misses());
+    }
+
+    @Test
+    public void add_ignoresIdsThatAreNotGmailHex() {
+        // Arrange
+        final SeenMessageFilter filter = new SeenMessageFilter(4);
+
+        // Act
+        filter.add(TestConstants.MSG_ID_1);
+        filter.add("");
+        filter.add("18c2a1f0b3d4e5011"); // 17 digits
+
+        // Assert
+        assertEquals(0, filter.size());
+        assertFalse(filter.contains(TestConstants.MSG_ID_1));
+    }
+
+    @Test
+    public void add_evictsOldestIdsOnceFull() {
+        // Arrange
+        final SeenMessageFilter filter = new SeenMessageFilter(100);
+
+        // Act
+        for (long id = 1; id <= 1_000; id++) {
+            filter.add(Long.toHexString(id));
+        }
+
+        // Assert
+        assertEquals(100, filter.size());
+        for (long id = 1; id <= 1_000; id++) {
+            assertEquals(id > 900, filter.contains(Long.toHexString(id)), "id " + id);
+        }
+    }
+
+    @Test
+    public void restore_reloadsNewestIdsFromSnapshot() {
+        // Arrange
+        final SeenMessageFilter filter = new SeenMessageFilter(4);
+        filter.add(TestConstants.GMAIL_MSG_ID_1);
+        filter.add(TestConstants.GMAIL_MSG_ID_2);
+        final SeenMessageFilter restored = new SeenMessageFilter(4);
+
+        // Act
+        restored.restore(filter.snapshot(1));
+
+        // Assert
+        assertEquals(1, restored.size());
+        assertTrue(restored.contains(TestConstants.GMAIL_MSG_ID_2));
+        assertFalse(restored.contains(TestConstants.GMAIL_MSG_ID_1));
+    }
+
+    @Test
+    public void snapshot_isCappedToFitInACheckpointItem() {
+        // Arrange
+        final int held = SeenMessageFilter.MAX_SNAPSHOT_IDS + 10;
+        final SeenMessageFilter filter = new SeenMessageFilter(held);
+        for (long id = 1; id <= held; id++) {
+            filter.add(Long.toHexString(id));
+        }
+        final SeenMessageFilter restored = new SeenMessageFilter(held);
+
+        // Act
+        final byte[] snapshot = filter.snapshot(held);
+        restored.restore(snapshot);
+
+        // Assert
+        assertEquals(SeenMessageFilter.MAX_SNAPSHOT_IDS * Long.BYTES, snapshot.length);
+        assertTrue(snapshot.length < 400 * 1024);
+        assertFalse(restored.contains(Long.toHexString(10)));
+        assertTrue(restored.contains(Long.toHexString(11)));
+        assertTrue(restored.contains(Long.toHexString(held)));
+    }
+
+    @Test
+    public void zeroCapacity_holdsNothing() {
+        final SeenMessageFilter filter = new SeenMessageFilter(0);
+        filter.add(TestConstants.GMAIL_MSG_ID_1);
+
+        assertFalse(filter.contains(TestConstants.GMAIL_MSG_ID_1));
+        assertThrows(IllegalArgumentException.class, () -> new SeenMessageFilter(-1));
+    }
+}
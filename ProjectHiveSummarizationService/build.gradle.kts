@@ -26,6 +26,12 @@ dependencies {
     implementation(platform("software.amazon.awssdk:bom:2.25.0"))
     implementation("software.amazon.awssdk:dynamodb")
     implementation("software.amazon.awssdk:dynamodb-enhanced")
+    implementation("software.amazon.awssdk:apache-client") // Shared pooled transport for every SDK client
+    implementation("software.amazon.awssdk:aws-crt-client") // Alternative transport, selected by HTTP_CLIENT_TRANSPORT
+    implementation("software.amazon.awssdk.crt:aws-crt:0.29.9")
+
+    // === AWS S3 ===
+    implementation("software.amazon.awssdk:s3") // Offloaded message bodies
 
     // === AWS Bedrock ===
     implementation("software.amazon.awssdk:bedrockruntime")
@@ -6,13 +6,17 @@ import com.projecthive.summarization.controller.SummarizationController;
 import com.projecthive.summarization.guice.AwsClientModule;
 import com.projecthive.summarization.guice.BedrockModule;
 import com.projecthive.summarization.guice.DaoModule;
+import com.projecthive.summarization.guice.HttpClientModule;
 import com.projecthive.summarization.guice.SummarizationModule;
 import com.projecthive.summarization.models.Message;
 import com.projecthive.summarization.constants.DynamoDbConstants;
+import com.projecthive.summarization.utilities.HttpPoolMetrics;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nonnull;
 import java.util.List;
@@ -35,16 +39,21 @@ import static com.projecthive.summarization.utilities.StreamRecordConverter.conv
  */
 public class SummarizationHandler implements RequestHandler<DynamodbEvent, Void> {
 
+    private static final Logger logger = LogManager.getLogger(SummarizationHandler.class);
+
     private final SummarizationController controller;
+    private final HttpPoolMetrics httpPoolMetrics;
 
     public SummarizationHandler() {
         Injector injector = Guice.createInjector(
+                new HttpClientModule(),
                 new AwsClientModule(),
                 new DaoModule(),
                 new BedrockModule(),
                 new SummarizationModule()
         );
         this.controller = injector.getInstance(SummarizationController.class);
+        this.httpPoolMetrics = injector.getInstance(HttpPoolMetrics.class);
     }
 
     @Override
@@ -63,6 +72,7 @@ public class SummarizationHandler implements RequestHandler<DynamodbEvent, Void>
             }
         }
 
+        logger.info("SDK HTTP pool: {}", httpPoolMetrics.snapshotAndReset());
         return null;
     }
 
@@ -4,9 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
 import com.projecthive.summarization.models.BedrockPromptPayload;
 import lombok.NonNull;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
@@ -22,11 +20,8 @@ public class BedrockModelInvoker {
     private final ObjectMapper objectMapper;
 
     @Inject
-    public BedrockModelInvoker() {
-        this.client = BedrockRuntimeClient.builder()
-                .region(Region.US_EAST_1)
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
+    public BedrockModelInvoker(@NonNull final BedrockRuntimeClient client) {
+        this.client = client;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -0,0 +1,10 @@
+package com.projecthive.summarization.constants;
+
+public final class BlobStoreConstants {
+
+    private BlobStoreConstants() {} // Prevent instantiation
+
+    // Environment variable naming the bucket the ingestion service offloads large bodies to
+    public static final String MESSAGE_BLOB_BUCKET = "MESSAGE_BLOB_BUCKET";
+
+}
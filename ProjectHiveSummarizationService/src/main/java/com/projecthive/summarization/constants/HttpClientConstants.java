@@ -0,0 +1,26 @@
+package com.projecthive.summarization.constants;
+
+public final class HttpClientConstants {
+
+    private HttpClientConstants() {} // Prevent instantiation
+
+    // Environment variables tuning the HTTP client shared by every AWS SDK client
+    public static final String HTTP_CLIENT_TRANSPORT = "HTTP_CLIENT_TRANSPORT"; // See HttpTransport
+
+    public static final String HTTP_CLIENT_MAX_CONNECTIONS = "HTTP_CLIENT_MAX_CONNECTIONS";
+
+    public static final String HTTP_CLIENT_CONNECTION_TIMEOUT_MILLIS = "HTTP_CLIENT_CONNECTION_TIMEOUT_MILLIS";
+
+    public static final String HTTP_CLIENT_SOCKET_TIMEOUT_MILLIS = "HTTP_CLIENT_SOCKET_TIMEOUT_MILLIS"; // Apache only
+
+    public static final String HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS = "HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS"; // Apache only
+
+    public static final String HTTP_CLIENT_CONNECTION_TTL_MILLIS = "HTTP_CLIENT_CONNECTION_TTL_MILLIS"; // Apache only
+
+    public static final String HTTP_CLIENT_CONNECTION_MAX_IDLE_MILLIS = "HTTP_CLIENT_CONNECTION_MAX_IDLE_MILLIS";
+
+    public static final String HTTP_CLIENT_TCP_KEEP_ALIVE = "HTTP_CLIENT_TCP_KEEP_ALIVE";
+
+    public static final String HTTP_CLIENT_TCP_KEEP_ALIVE_INTERVAL_MILLIS = "HTTP_CLIENT_TCP_KEEP_ALIVE_INTERVAL_MILLIS"; // CRT only
+
+}
@@ -2,6 +2,7 @@ package com.projecthive.summarization.controller;
 
 import com.google.inject.Inject;
 import com.projecthive.summarization.bedrock.BedrockModelInvoker;
+import com.projecthive.summarization.dao.BlobStore;
 import com.projecthive.summarization.models.ClaudePromptPayload;
 import com.projecthive.summarization.models.Message;
 import com.projecthive.summarization.models.PromptMessage;
@@ -11,6 +12,7 @@ import lombok.NonNull;
 import com.projecthive.summarization.dao.SummaryDao;
 
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.UUID;
@@ -29,14 +31,17 @@ public class SummarizationController {
 
     private final SummaryDao summaryDao;
     private final BedrockModelInvoker modelInvoker;
+    private final BlobStore blobStore;
 
     @Inject
     public SummarizationController(
             @NonNull final SummaryDao summaryDao,
-            @NonNull final BedrockModelInvoker modelInvoker
+            @NonNull final BedrockModelInvoker modelInvoker,
+            @NonNull final BlobStore blobStore
     ) {
         this.summaryDao    = summaryDao;
         this.modelInvoker  = modelInvoker;
+        this.blobStore     = blobStore;
     }
 
     /**
@@ -61,7 +66,7 @@ public class SummarizationController {
      *     <li>{@code username} – owner of the message</li>
      *     <li>{@code platform} – e.g. "gmail", "discord"</li>
      *     <li>{@code platformMessageId} – original message ID</li>
-     *     <li>{@code body} – the full text to summarize</li>
+     *     <li>{@code body} – the full text to summarize, or {@code bodyRef} when it was offloaded to the blob store</li>
      *   </ul>
      */
     public void summarizeMessage(@NonNull final Message message) {
@@ -72,7 +77,7 @@ public class SummarizationController {
         final PromptMessage promptMessage = PromptMessage.builder()
                 .role(USER_ROLE)
                 .content("Summarize the following message in 2–3 bullet points:\n\n"
-                        + message.getBody())
+                        + resolveBody(message))
                 .build();
 
         final ClaudePromptPayload promptPayload = ClaudePromptPayload.builder()
@@ -102,5 +107,13 @@ public class SummarizationController {
 
         summaryDao.save(summary);
     }
+
+    // Offloaded bodies are only fetched here, when a summary actually needs the text
+    private String resolveBody(@NonNull final Message message) {
+        if (message.getBodyRef() == null) {
+            return message.getBody();
+        }
+        return new String(blobStore.get(message.getBodyRef()), StandardCharsets.UTF_8);
+    }
 }
 
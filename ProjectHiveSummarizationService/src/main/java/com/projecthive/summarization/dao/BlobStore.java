@@ -0,0 +1,17 @@
+package com.projecthive.summarization.dao;
+
+import lombok.NonNull;
+
+/**
+ * Read side of the object store the ingestion service offloads large message bodies to.
+ * Keys are the content-addressed pointers found in {@link com.projecthive.summarization.models.Message#getBodyRef()}.
+ */
+public interface BlobStore {
+
+    /**
+     * Returns the content stored under {@code key}.
+     *
+     * @throws com.projecthive.summarization.exceptions.DaoDataAccessException if it cannot be read
+     */
+    byte[] get(@NonNull final String key);
+}
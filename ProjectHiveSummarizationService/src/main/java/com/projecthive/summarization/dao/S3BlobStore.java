@@ -0,0 +1,31 @@
+package com.projecthive.summarization.dao;
+
+import com.projecthive.summarization.exceptions.DaoDataAccessException;
+import lombok.NonNull;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3BlobStore(@NonNull final S3Client s3Client, @NonNull final String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public byte[] get(@NonNull final String key) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .build())
+                    .asByteArray();
+        } catch (final SdkException e) {
+            throw new DaoDataAccessException("Failed to read blob " + key + " from S3", e);
+        }
+    }
+}
@@ -7,7 +7,6 @@ import lombok.Generated;
 import lombok.NonNull;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
@@ -19,11 +18,11 @@ public class SummaryDaoImpl implements SummaryDao {
     @Inject
     public SummaryDaoImpl(@NonNull final DynamoDbClient dynamoDbClient) {
         final DynamoDbEnhancedClient enhancedClient = buildEnhancedClient(dynamoDbClient);
-        this.summaryTable = enhancedClient.table(SUMMARY_TABLE_NAME, TableSchema.fromBean(Summary.class));
+        this.summaryTable = enhancedClient.table(SUMMARY_TABLE_NAME, TableSchemas.SUMMARY);
     }
 
     @Generated
-    protected DynamoDbEnhancedClient buildEnhancedClient(@NonNull final DynamoDbClient client) {
+    static DynamoDbEnhancedClient buildEnhancedClient(@NonNull final DynamoDbClient client) {
         return DynamoDbEnhancedClient.builder()
                 .dynamoDbClient(client)
                 .build();
@@ -0,0 +1,107 @@
+package com.projecthive.summarization.dao;
+
+import com.projecthive.summarization.models.Message;
+import com.projecthive.summarization.models.MessageBody;
+import com.projecthive.summarization.models.Summary;
+import com.projecthive.summarization.utilities.MessageBodyConverter;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import java.util.Map;
+
+import static com.projecthive.summarization.constants.DynamoDbConstants.GSI_TIMESTAMP;
+import static com.projecthive.summarization.constants.DynamoDbConstants.GSI_USERNAME;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+
+/**
+ * Hand-built table schemas, shared by every DAO and converter in this service.
+ * TableSchema.fromBean() introspects the Lombok beans and generates accessor lambdas the first time it runs,
+ * which happens during the Lambda cold start; these schemas use plain method references instead.
+ *
+ * The models keep their bean annotations so TableSchemasTest can check that both schemas map items identically.
+ * A field added to a model must be added here as well.
+ */
+public final class TableSchemas {
+
+    private TableSchemas() {} // Prevent instantiation
+
+    private static final EnhancedType<Map<String, String>> STRING_MAP = EnhancedType.mapOf(String.class, String.class);
+
+    public static final TableSchema<Message> MESSAGE = StaticTableSchema.builder(Message.class)
+            .newItemSupplier(Message::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(Message::getId)
+                    .setter(Message::setId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("username")
+                    .getter(Message::getUsername)
+                    .setter(Message::setUsername))
+            .addAttribute(String.class, a -> a.name("platform")
+                    .getter(Message::getPlatform)
+                    .setter(Message::setPlatform))
+            .addAttribute(String.class, a -> a.name("platformMessageId")
+                    .getter(Message::getPlatformMessageId)
+                    .setter(Message::setPlatformMessageId))
+            .addAttribute(String.class, a -> a.name("recipient")
+                    .getter(Message::getRecipient)
+                    .setter(Message::setRecipient))
+            .addAttribute(String.class, a -> a.name("sender")
+                    .getter(Message::getSender)
+                    .setter(Message::setSender))
+            .addAttribute(Long.class, a -> a.name("receivedAt")
+                    .getter(Message::getReceivedAt)
+                    .setter(Message::setReceivedAt))
+            .addAttribute(String.class, a -> a.name("subject")
+                    .getter(Message::getSubject)
+                    .setter(Message::setSubject))
+            .addAttribute(MessageBody.class, a -> a.name("body")
+                    .getter(Message::getStoredBody)
+                    .setter(Message::setStoredBody)
+                    .attributeConverter(new MessageBodyConverter()))
+            .addAttribute(String.class, a -> a.name("bodyRef")
+                    .getter(Message::getBodyRef)
+                    .setter(Message::setBodyRef))
+            .addAttribute(STRING_MAP, a -> a.name("metadata")
+                    .getter(Message::getMetadata)
+                    .setter(Message::setMetadata))
+            .addAttribute(String.class, a -> a.name("threadId")
+                    .getter(Message::getThreadId)
+                    .setter(Message::setThreadId))
+            .build();
+
+    public static final TableSchema<Summary> SUMMARY = StaticTableSchema.builder(Summary.class)
+            .newItemSupplier(Summary::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(Summary::getId)
+                    .setter(Summary::setId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("username")
+                    .getter(Summary::getUsername)
+                    .setter(Summary::setUsername)
+                    .tags(secondaryPartitionKey(GSI_USERNAME)))
+            .addAttribute(String.class, a -> a.name("timestamp")
+                    .getter(Summary::getTimestamp)
+                    .setter(Summary::setTimestamp)
+                    .tags(secondaryPartitionKey(GSI_TIMESTAMP)))
+            .addAttribute(String.class, a -> a.name("summaryText")
+                    .getter(Summary::getSummaryText)
+                    .setter(Summary::setSummaryText))
+            .addAttribute(String.class, a -> a.name("source")
+                    .getter(Summary::getSource)
+                    .setter(Summary::setSource))
+            .addAttribute(String.class, a -> a.name("messageId")
+                    .getter(Summary::getMessageId)
+                    .setter(Summary::setMessageId))
+            .addAttribute(String.class, a -> a.name("messageSender")
+                    .getter(Summary::getMessageSender)
+                    .setter(Summary::setMessageSender))
+            .addAttribute(Long.class, a -> a.name("messageReceivedAt")
+                    .getter(Summary::getMessageReceivedAt)
+                    .setter(Summary::setMessageReceivedAt))
+            .addAttribute(String.class, a -> a.name("messageSubject")
+                    .getter(Summary::getMessageSubject)
+                    .setter(Summary::setMessageSubject))
+            .build();
+}
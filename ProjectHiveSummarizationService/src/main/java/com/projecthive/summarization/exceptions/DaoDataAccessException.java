@@ -1,6 +1,9 @@
 package com.projecthive.summarization.exceptions;
 
 public class DaoDataAccessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
     public DaoDataAccessException(String message, Throwable cause) {
         super(message, cause);
     }
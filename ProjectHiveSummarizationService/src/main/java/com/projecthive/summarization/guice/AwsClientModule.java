@@ -3,25 +3,30 @@ package com.projecthive.summarization.guice;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
+import com.projecthive.summarization.utilities.HttpPoolMetrics;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.s3.S3Client;
 
 public class AwsClientModule extends AbstractModule {
 
     @Override
     protected void configure() {
-        // All AWS clients are provided via @Provides methods
+        // All AWS clients are provided via @Provides methods and share the HttpClientModule transport
     }
 
     @Provides
     @Singleton
-    public DynamoDbClient provideDynamoDbClient() {
+    public DynamoDbClient provideDynamoDbClient(final SdkHttpClient httpClient, final HttpPoolMetrics poolMetrics) {
         return DynamoDbClient.builder()
                 .region(Region.US_EAST_1)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(httpClient)
+                .overrideConfiguration(override -> override.addMetricPublisher(poolMetrics))
                 .build();
     }
 
@@ -35,10 +40,23 @@ public class AwsClientModule extends AbstractModule {
 
     @Provides
     @Singleton
-    public BedrockRuntimeClient provideBedrockRuntimeClient() {
+    public S3Client provideS3Client(final SdkHttpClient httpClient, final HttpPoolMetrics poolMetrics) {
+        return S3Client.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(httpClient)
+                .overrideConfiguration(override -> override.addMetricPublisher(poolMetrics))
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    public BedrockRuntimeClient provideBedrockRuntimeClient(final SdkHttpClient httpClient, final HttpPoolMetrics poolMetrics) {
         return BedrockRuntimeClient.builder()
                 .region(Region.US_EAST_1)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(httpClient)
+                .overrideConfiguration(override -> override.addMetricPublisher(poolMetrics))
                 .build();
     }
 }
@@ -1,9 +1,18 @@
 package com.projecthive.summarization.guice;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
+import com.google.inject.Provides;
 import com.google.inject.Scopes;
+import com.google.inject.Singleton;
+import com.projecthive.summarization.dao.BlobStore;
+import com.projecthive.summarization.dao.S3BlobStore;
 import com.projecthive.summarization.dao.SummaryDao;
 import com.projecthive.summarization.dao.SummaryDaoImpl;
+import com.projecthive.summarization.exceptions.DaoDataAccessException;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import static com.projecthive.summarization.constants.BlobStoreConstants.MESSAGE_BLOB_BUCKET;
 
 public class DaoModule extends AbstractModule {
 
@@ -13,4 +22,20 @@ public class DaoModule extends AbstractModule {
                 .to(SummaryDaoImpl.class)
                 .in(Scopes.SINGLETON);
     }
+
+    /**
+     * Without a configured bucket no bodies are offloaded, so a pointer is never expected; reading one fails
+     * rather than summarizing an empty body.
+     */
+    @Provides
+    @Singleton
+    public BlobStore provideBlobStore(final Provider<S3Client> s3Client) {
+        final String bucket = System.getenv(MESSAGE_BLOB_BUCKET);
+        if (bucket == null || bucket.isBlank()) {
+            return key -> {
+                throw new DaoDataAccessException("No " + MESSAGE_BLOB_BUCKET + " configured to resolve " + key);
+            };
+        }
+        return new S3BlobStore(s3Client.get(), bucket);
+    }
 }
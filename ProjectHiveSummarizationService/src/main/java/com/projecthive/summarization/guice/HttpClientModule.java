@@ -0,0 +1,91 @@
+package com.projecthive.summarization.guice;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.projecthive.summarization.config.HttpClientConfig;
+import com.projecthive.summarization.config.HttpTransport;
+import com.projecthive.summarization.utilities.HttpPoolMetrics;
+import lombok.NonNull;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+
+import java.time.Duration;
+
+import static com.projecthive.summarization.constants.HttpClientConstants.*;
+
+/**
+ * One pooled HTTP client shared by the DynamoDB, S3 and Bedrock clients, tuned through environment variables.
+ */
+public class HttpClientModule extends AbstractModule {
+
+    private final EnvironmentVariables env;
+
+    public HttpClientModule() {
+        this(EnvironmentVariables.system());
+    }
+
+    HttpClientModule(@NonNull final EnvironmentVariables env) {
+        this.env = env;
+    }
+
+    @Override
+    protected void configure() {
+        bind(HttpPoolMetrics.class).in(Singleton.class);
+    }
+
+    // Clients built with an explicit httpClient leave closing it to us; it lives as long as the container
+    @Provides
+    @Singleton
+    public SdkHttpClient provideSdkHttpClient(final HttpClientConfig config) {
+        if (config.getTransport() == HttpTransport.CRT) {
+            final AwsCrtHttpClient.Builder builder = AwsCrtHttpClient.builder()
+                    .maxConcurrency(config.getMaxConnections())
+                    .connectionTimeout(Duration.ofMillis(config.getConnectionTimeoutMillis()))
+                    .connectionMaxIdleTime(Duration.ofMillis(config.getConnectionMaxIdleMillis()));
+            if (config.isTcpKeepAlive()) {
+                final Duration interval = Duration.ofMillis(config.getTcpKeepAliveIntervalMillis());
+                builder.tcpKeepAliveConfiguration(keepAlive -> keepAlive
+                        .keepAliveInterval(interval)
+                        .keepAliveTimeout(interval));
+            }
+            return builder.build();
+        }
+        return ApacheHttpClient.builder()
+                .maxConnections(config.getMaxConnections())
+                .connectionTimeout(Duration.ofMillis(config.getConnectionTimeoutMillis()))
+                .socketTimeout(Duration.ofMillis(config.getSocketTimeoutMillis()))
+                .connectionAcquisitionTimeout(Duration.ofMillis(config.getConnectionAcquisitionTimeoutMillis()))
+                .connectionTimeToLive(Duration.ofMillis(config.getConnectionTtlMillis()))
+                .connectionMaxIdleTime(Duration.ofMillis(config.getConnectionMaxIdleMillis()))
+                .tcpKeepAlive(config.isTcpKeepAlive())
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    public HttpClientConfig provideHttpClientConfig() {
+        final HttpClientConfig defaults = HttpClientConfig.builder().build();
+
+        return HttpClientConfig.builder()
+                .transport(env.getEnum(HTTP_CLIENT_TRANSPORT, defaults.getTransport()))
+                .maxConnections(env.getInt(
+                        HTTP_CLIENT_MAX_CONNECTIONS, defaults.getMaxConnections(), 1, Integer.MAX_VALUE))
+                .connectionTimeoutMillis(env.getLong(
+                        HTTP_CLIENT_CONNECTION_TIMEOUT_MILLIS, defaults.getConnectionTimeoutMillis()))
+                .socketTimeoutMillis(env.getLong(
+                        HTTP_CLIENT_SOCKET_TIMEOUT_MILLIS, defaults.getSocketTimeoutMillis()))
+                .connectionAcquisitionTimeoutMillis(env.getLong(
+                        HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS,
+                        defaults.getConnectionAcquisitionTimeoutMillis()))
+                .connectionTtlMillis(env.getLong(
+                        HTTP_CLIENT_CONNECTION_TTL_MILLIS, defaults.getConnectionTtlMillis()))
+                .connectionMaxIdleMillis(env.getLong(
+                        HTTP_CLIENT_CONNECTION_MAX_IDLE_MILLIS, defaults.getConnectionMaxIdleMillis()))
+                .tcpKeepAlive(env.getBoolean(HTTP_CLIENT_TCP_KEEP_ALIVE, defaults.isTcpKeepAlive()))
+                .tcpKeepAliveIntervalMillis(env.getLong(
+                        HTTP_CLIENT_TCP_KEEP_ALIVE_INTERVAL_MILLIS, defaults.getTcpKeepAliveIntervalMillis()))
+                .build();
+    }
+}
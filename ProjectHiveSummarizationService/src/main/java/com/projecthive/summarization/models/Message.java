@@ -1,10 +1,14 @@
 package com.projecthive.summarization.models;
 
+import com.projecthive.summarization.utilities.MessageBodyConverter;
 import lombok.*;
 import java.util.Map;
 
 // AWS Enhanced DynamoDB Client annotations for automatic object mapping
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
 
 /**
@@ -52,8 +56,43 @@ public class Message {
 
     private String subject;
 
-    private String body;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private MessageBody body; // Large bodies arrive deflated and are inflated on first getBody()
+
+    private String bodyRef; // Blob store key of a body too large for the item; body is then absent
 
     private Map<String, String> metadata;
 
+    private String threadId; // Conversation id on the source platform; replies share it
+
+    @DynamoDbIgnore
+    public String getBody() {
+        return body == null ? null : body.text();
+    }
+
+    public void setBody(String body) {
+        this.body = MessageBody.of(body);
+    }
+
+    /**
+     * The body as it is stored in the "body" attribute: a string, or a codec-tagged binary value written by
+     * the ingestion service for large bodies. See {@link MessageBodyConverter}.
+     */
+    @DynamoDbAttribute("body")
+    @DynamoDbConvertedBy(MessageBodyConverter.class)
+    public MessageBody getStoredBody() {
+        return bodyRef == null ? body : null;
+    }
+
+    public void setStoredBody(MessageBody storedBody) {
+        this.body = storedBody;
+    }
+
+    public static class MessageBuilder {
+        public MessageBuilder body(String body) {
+            this.body = MessageBody.of(body);
+            return this;
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.projecthive.summarization.models;
+
+import lombok.NonNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Body text of a {@link Message}. A body read back in compressed form keeps its decoder and is only inflated the
+ * first time {@link #text()} is called, so items whose body is never looked at are never decompressed.
+ * The ingestion service has an identical copy.
+ */
+public final class MessageBody {
+
+    private Supplier<String> decoder; // Cleared once the text is known
+    private String text;
+
+    private MessageBody(final String text, final Supplier<String> decoder) {
+        this.text = text;
+        this.decoder = decoder;
+    }
+
+    public static MessageBody of(final String text) {
+        return text == null ? null : new MessageBody(text, null);
+    }
+
+    public static MessageBody lazy(@NonNull final Supplier<String> decoder) {
+        return new MessageBody(null, decoder);
+    }
+
+    public synchronized String text() {
+        if (decoder != null) {
+            text = decoder.get();
+            decoder = null;
+        }
+        return text;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof MessageBody body && Objects.equals(text(), body.text());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(text());
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
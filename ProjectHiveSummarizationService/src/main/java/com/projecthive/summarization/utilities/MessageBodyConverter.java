@@ -0,0 +1,108 @@
+package com.projecthive.summarization.utilities;
+
+import com.projecthive.summarization.models.MessageBody;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stores a {@link MessageBody} as a plain string attribute, or, once its UTF-8 form reaches
+ * {@link #COMPRESSION_THRESHOLD_BYTES}, as a binary attribute holding a one-byte codec tag followed by the
+ * compressed text. This is a copy of the ingestion service's converter, which writes these items; both forms are
+ * read back, so items written before compression was introduced still load.
+ *
+ * <p>The codec tags are a contract between the two copies: change them together, along with the pinned fixture
+ * both test suites decode.</p>
+ *
+ * <p>Binary bodies are not inflated here; the returned {@link MessageBody} decodes on first use.</p>
+ */
+public class MessageBodyConverter implements AttributeConverter<MessageBody> {
+
+    public static final int COMPRESSION_THRESHOLD_BYTES = 1024; // DynamoDB bills writes per 1 KB
+    public static final byte IDENTITY = 0; // UTF-8 text as is
+    public static final byte DEFLATE = 1;
+
+    @Override
+    public AttributeValue transformFrom(final MessageBody body) {
+        final String text = body.text();
+        final byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= COMPRESSION_THRESHOLD_BYTES) {
+            final byte[] packed = deflate(utf8);
+            if (packed.length < utf8.length) { // Already-compressed content can grow; keep it as text then
+                return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(packed)).build();
+            }
+        }
+        return AttributeValue.builder().s(text).build();
+    }
+
+    @Override
+    public MessageBody transformTo(final AttributeValue value) {
+        if (value.s() != null) {
+            return MessageBody.of(value.s());
+        }
+        if (value.b() != null) {
+            final byte[] packed = value.b().asByteArrayUnsafe();
+            if (packed.length > 0 && packed[0] == IDENTITY) {
+                return MessageBody.of(new String(packed, 1, packed.length - 1, StandardCharsets.UTF_8));
+            }
+            if (packed.length == 0 || packed[0] != DEFLATE) {
+                throw new IllegalArgumentException("Unknown body codec tag in " + packed.length + "-byte body");
+            }
+            return MessageBody.lazy(() -> inflate(packed));
+        }
+        if (Boolean.TRUE.equals(value.nul())) {
+            return null;
+        }
+        throw new IllegalArgumentException("Unsupported body attribute: " + value.type());
+    }
+
+    @Override
+    public EnhancedType<MessageBody> type() {
+        return EnhancedType.of(MessageBody.class);
+    }
+
+    @Override
+    public AttributeValueType attributeValueType() {
+        return AttributeValueType.B;
+    }
+
+    private static byte[] deflate(final byte[] utf8) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            // The output never needs to be larger than the input to be worth keeping
+            final byte[] buffer = new byte[utf8.length + 1];
+            buffer[0] = DEFLATE;
+            int length = 1;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return deflater.finished() ? Arrays.copyOf(buffer, length) : utf8;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(final byte[] packed) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(packed, 1, packed.length - 1))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(packed.length * 4);
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Corrupt compressed message body", e);
+        }
+    }
+}
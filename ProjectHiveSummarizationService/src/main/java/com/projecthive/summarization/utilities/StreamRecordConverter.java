@@ -1,6 +1,7 @@
 package com.projecthive.summarization.utilities;
 
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.projecthive.summarization.dao.TableSchemas;
 import com.projecthive.summarization.models.Message;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -15,12 +16,15 @@ import java.util.stream.Collectors;
  * 
  * Technical Context: DynamoDB Streams use Lambda Events AttributeValue format, while
  * Enhanced Client expects AWS SDK v2 AttributeValue format. This converter bridges that gap.
+ *
+ * Large message bodies arrive as a binary "body" attribute (a codec tag plus compressed text). They are
+ * passed through as binary and handed to {@link MessageBodyConverter} by the schema, which leaves the
+ * body compressed until {@link Message#getBody()} is first called.
  */
 public class StreamRecordConverter {
 
-    // Pre-built TableSchema for efficient Message object mapping
-    // TableSchema.fromBean() analyzes the @DynamoDbBean annotations at runtime
-    private static final TableSchema<Message> MESSAGE_SCHEMA = TableSchema.fromBean(Message.class);
+    // Shared static schema; avoids introspecting the Message bean on every cold start
+    private static final TableSchema<Message> MESSAGE_SCHEMA = TableSchemas.MESSAGE;
 
     // Private constructor to prevent instantiation of utility class
     private StreamRecordConverter() {}
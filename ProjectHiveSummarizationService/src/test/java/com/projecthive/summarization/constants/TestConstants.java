@@ -48,6 +48,7 @@ public final class TestConstants {
      */
     public static final class Messages {
         public static final String TEST_MESSAGE_ID = "test-message-id";
+        public static final String BODY_REF = "message-bodies/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
         public static final String TEST_MESSAGE_ID_2 = "msg-456";
         public static final String DIFFERENT_MESSAGE_ID = "different-id";
         
@@ -334,6 +335,7 @@ public final class TestConstants {
         public static final String SENDER_FIELD = "sender";
         public static final String SUBJECT_FIELD = "subject";
         public static final String BODY_FIELD = "body";
+        public static final String LONG_BODY = "Quarterly planning notes, section follows. ".repeat(100);
         public static final String RECEIVED_AT_FIELD = "receivedAt";
         public static final String METADATA_FIELD = "metadata";
         
@@ -9,6 +9,7 @@ import com.projecthive.summarization.constants.TestConstants.Prompts;
 import com.projecthive.summarization.constants.TestConstants.SpecialData;
 import com.projecthive.summarization.constants.TestConstants.Metadata;
 import com.projecthive.summarization.constants.TestConstants.TestData;
+import com.projecthive.summarization.dao.BlobStore;
 import com.projecthive.summarization.dao.SummaryDao;
 import com.projecthive.summarization.models.ClaudePromptPayload;
 import com.projecthive.summarization.models.Message;
@@ -20,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -42,11 +44,14 @@ class SummarizationControllerTest {
     @Mock
     private BedrockModelInvoker mockModelInvoker;
 
+    @Mock
+    private BlobStore mockBlobStore;
+
     private SummarizationController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new SummarizationController(mockSummaryDao, mockModelInvoker);
+        controller = new SummarizationController(mockSummaryDao, mockModelInvoker, mockBlobStore);
     }
 
     @Test
@@ -125,6 +130,38 @@ class SummarizationControllerTest {
         assertEquals(TestData.USER2, capturedSummary.getMessageSender()); // Discord sender is the user who sent the message
     }
 
+    @Test
+    void summarizeMessage_withOffloadedBody_shouldFetchBodyFromBlobStore() {
+        // Arrange
+        Message testMessage = createTestMessage();
+        testMessage.setBodyRef(Messages.BODY_REF);
+        when(mockBlobStore.get(Messages.BODY_REF))
+            .thenReturn(Messages.TEST_MESSAGE_BODY.getBytes(StandardCharsets.UTF_8));
+        when(mockModelInvoker.invokeModel(any(String.class), any(ClaudePromptPayload.class)))
+            .thenReturn(Summaries.EXPECTED_MODEL_OUTPUT);
+
+        // Act
+        controller.summarizeMessage(testMessage);
+
+        // Assert
+        ArgumentCaptor<ClaudePromptPayload> payloadCaptor = ArgumentCaptor.forClass(ClaudePromptPayload.class);
+        verify(mockModelInvoker).invokeModel(any(String.class), payloadCaptor.capture());
+        assertTrue(payloadCaptor.getValue().getPromptMessages().get(0).getContent().contains(Messages.TEST_MESSAGE_BODY));
+    }
+
+    @Test
+    void summarizeMessage_withInlineBody_shouldNotTouchBlobStore() {
+        // Arrange
+        when(mockModelInvoker.invokeModel(any(String.class), any(ClaudePromptPayload.class)))
+            .thenReturn(Summaries.EXPECTED_MODEL_OUTPUT);
+
+        // Act
+        controller.summarizeMessage(createTestMessage());
+
+        // Assert
+        verifyNoInteractions(mockBlobStore);
+    }
+
     @Test
     void summarizeMessage_withLongMessageBody_shouldIncludeFullBodyInPrompt() {
         // Arrange
@@ -0,0 +1,62 @@
+package com.projecthive.summarization.dao;
+
+import com.projecthive.summarization.constants.TestConstants.Messages;
+import com.projecthive.summarization.exceptions.DaoDataAccessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for S3BlobStore, which resolves offloaded message bodies.
+ */
+@ExtendWith(MockitoExtension.class)
+class S3BlobStoreTest {
+
+    private static final String BUCKET = "message-bodies";
+
+    @Mock
+    private S3Client mockS3Client;
+
+    @Test
+    void get_withExistingKey_shouldReturnObjectBytes() {
+        // Arrange
+        byte[] content = Messages.TEST_MESSAGE_BODY.getBytes(StandardCharsets.UTF_8);
+        when(mockS3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+            .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), content));
+        S3BlobStore blobStore = new S3BlobStore(mockS3Client, BUCKET);
+
+        // Act
+        byte[] result = blobStore.get(Messages.BODY_REF);
+
+        // Assert
+        assertArrayEquals(content, result);
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(mockS3Client).getObjectAsBytes(captor.capture());
+        assertEquals(BUCKET, captor.getValue().bucket());
+        assertEquals(Messages.BODY_REF, captor.getValue().key());
+    }
+
+    @Test
+    void get_whenS3Fails_shouldThrowDaoDataAccessException() {
+        // Arrange
+        when(mockS3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+        S3BlobStore blobStore = new S3BlobStore(mockS3Client, BUCKET);
+
+        // Act & Assert
+        assertThrows(DaoDataAccessException.class, () -> blobStore.get(Messages.BODY_REF));
+    }
+}
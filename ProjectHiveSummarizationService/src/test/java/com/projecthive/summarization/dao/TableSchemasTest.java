@@ -0,0 +1,86 @@
+package com.projecthive.summarization.dao;
+
+import com.projecthive.summarization.constants.TestConstants.Messages;
+import com.projecthive.summarization.constants.TestConstants.Metadata;
+import com.projecthive.summarization.constants.TestConstants.StreamConverter;
+import com.projecthive.summarization.constants.TestConstants.Summaries;
+import com.projecthive.summarization.models.Message;
+import com.projecthive.summarization.models.Summary;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashSet;
+import java.util.Map;
+
+import static com.projecthive.summarization.constants.DynamoDbConstants.GSI_TIMESTAMP;
+import static com.projecthive.summarization.constants.DynamoDbConstants.GSI_USERNAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guarantees the hand-built TableSchemas map items exactly like TableSchema.fromBean() on the annotated models.
+ */
+class TableSchemasTest {
+
+    @Test
+    void message_withAllFields_shouldMapLikeBeanSchema() {
+        // Arrange
+        Message inline = createMessage();
+        Message offloaded = createMessage();
+        offloaded.setBodyRef(Messages.BODY_REF);
+
+        // Act & Assert
+        assertParity(TableSchema.fromBean(Message.class), TableSchemas.MESSAGE, inline);
+        assertParity(TableSchema.fromBean(Message.class), TableSchemas.MESSAGE, offloaded);
+    }
+
+    @Test
+    void summary_withAllFields_shouldMapLikeBeanSchema() {
+        // Arrange
+        Summary summary = Summary.builder()
+                .id(Summaries.TEST_SUMMARY_ID)
+                .username(Messages.TEST_USERNAME)
+                .timestamp(Summaries.TEST_TIMESTAMP_ISO)
+                .summaryText(Summaries.TEST_SUMMARY_TEXT)
+                .source(Messages.GMAIL_PLATFORM)
+                .messageId(Messages.TEST_MESSAGE_ID)
+                .messageSender(Messages.SENDER_EMAIL)
+                .messageReceivedAt(Messages.TEST_TIMESTAMP)
+                .messageSubject(Messages.TEST_EMAIL_SUBJECT)
+                .build();
+        TableSchema<Summary> beanSchema = TableSchema.fromBean(Summary.class);
+
+        // Act & Assert
+        assertParity(beanSchema, TableSchemas.SUMMARY, summary);
+        for (String index : new String[] {GSI_USERNAME, GSI_TIMESTAMP}) {
+            assertEquals(beanSchema.tableMetadata().indexPartitionKey(index),
+                    TableSchemas.SUMMARY.tableMetadata().indexPartitionKey(index));
+        }
+    }
+
+    private static <T> void assertParity(TableSchema<T> beanSchema, TableSchema<T> staticSchema, T item) {
+        assertEquals(new HashSet<>(beanSchema.attributeNames()), new HashSet<>(staticSchema.attributeNames()));
+        assertEquals(beanSchema.tableMetadata().primaryPartitionKey(), staticSchema.tableMetadata().primaryPartitionKey());
+        assertEquals(beanSchema.itemToMap(item, false), staticSchema.itemToMap(item, false));
+
+        Map<String, AttributeValue> stored = beanSchema.itemToMap(item, true);
+        assertEquals(stored, staticSchema.itemToMap(item, true));
+        assertEquals(beanSchema.mapToItem(stored), staticSchema.mapToItem(stored));
+    }
+
+    private static Message createMessage() {
+        return Message.builder()
+                .id(Messages.TEST_MESSAGE_ID)
+                .username(Messages.TEST_USERNAME)
+                .platform(Messages.GMAIL_PLATFORM)
+                .platformMessageId(Messages.GMAIL_PLATFORM_ID)
+                .recipient(Messages.RECIPIENT_EMAIL)
+                .sender(Messages.SENDER_EMAIL)
+                .receivedAt(Messages.TEST_TIMESTAMP)
+                .subject(Messages.TEST_EMAIL_SUBJECT)
+                .body(StreamConverter.LONG_BODY) // Over the compression threshold, so stored as binary
+                .metadata(Map.of(Metadata.PRIORITY_KEY, Metadata.PRIORITY_HIGH))
+                .threadId(Messages.GMAIL_PLATFORM_ID)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.projecthive.summarization.guice;
+
+import com.projecthive.summarization.config.HttpClientConfig;
+import com.projecthive.summarization.config.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.projecthive.summarization.constants.HttpClientConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpClientModuleTest {
+
+    @Test
+    public void provideHttpClientConfig_unsetVariables_useDefaults() {
+        // Arrange
+        final HttpClientModule module = new HttpClientModule(new EnvironmentVariables(Map.<String, String>of()::get));
+
+        // Act
+        final HttpClientConfig config = module.provideHttpClientConfig();
+
+        // Assert
+        assertEquals(HttpClientConfig.builder().build(), config);
+        assertEquals(120_000L, config.getSocketTimeoutMillis());
+    }
+
+    @Test
+    public void provideHttpClientConfig_readsEveryVariable() {
+        // Arrange
+        final HttpClientModule module = new HttpClientModule(new EnvironmentVariables(Map.of(
+                HTTP_CLIENT_TRANSPORT, "crt",
+                HTTP_CLIENT_MAX_CONNECTIONS, "8",
+                HTTP_CLIENT_CONNECTION_TIMEOUT_MILLIS, "1000",
+                HTTP_CLIENT_SOCKET_TIMEOUT_MILLIS, "90000",
+                HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS, "3000",
+                HTTP_CLIENT_CONNECTION_TTL_MILLIS, "60000",
+                HTTP_CLIENT_CONNECTION_MAX_IDLE_MILLIS, "20000",
+                HTTP_CLIENT_TCP_KEEP_ALIVE, "false",
+                HTTP_CLIENT_TCP_KEEP_ALIVE_INTERVAL_MILLIS, "10000")::get));
+
+        // Act
+        final HttpClientConfig config = module.provideHttpClientConfig();
+
+        // Assert
+        assertEquals(HttpTransport.CRT, config.getTransport());
+        assertEquals(8, config.getMaxConnections());
+        assertEquals(1_000L, config.getConnectionTimeoutMillis());
+        assertEquals(90_000L, config.getSocketTimeoutMillis());
+        assertEquals(3_000L, config.getConnectionAcquisitionTimeoutMillis());
+        assertEquals(60_000L, config.getConnectionTtlMillis());
+        assertEquals(20_000L, config.getConnectionMaxIdleMillis());
+        assertFalse(config.isTcpKeepAlive());
+        assertEquals(10_000L, config.getTcpKeepAliveIntervalMillis());
+    }
+
+    @Test
+    public void provideHttpClientConfig_rejectsInvalidValuesNamingTheVariable() {
+        // Arrange
+        final HttpClientModule noConnections = new HttpClientModule(
+                new EnvironmentVariables(Map.of(HTTP_CLIENT_MAX_CONNECTIONS, "0")::get));
+        final HttpClientModule unknownTransport = new HttpClientModule(
+                new EnvironmentVariables(Map.of(HTTP_CLIENT_TRANSPORT, "netty")::get));
+
+        // Act & Assert
+        assertTrue(assertThrows(IllegalArgumentException.class, noConnections::provideHttpClientConfig)
+                .getMessage().contains(HTTP_CLIENT_MAX_CONNECTIONS));
+        assertTrue(assertThrows(IllegalArgumentException.class, unknownTransport::provideHttpClientConfig)
+                .getMessage().contains(HTTP_CLIENT_TRANSPORT));
+    }
+}
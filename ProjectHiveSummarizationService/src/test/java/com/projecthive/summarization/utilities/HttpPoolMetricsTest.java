@@ -0,0 +1,82 @@
+package com.projecthive.summarization.utilities;
+
+import com.projecthive.summarization.models.HttpPoolStats;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpPoolMetricsTest {
+
+    private static final int POOL_SIZE = 64;
+    private static final String API_CALL = "ApiCall";
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+
+    @Test
+    void publish_keepsPeaksAcrossAttemptsOfAllCalls() {
+        // Arrange
+        final HttpPoolMetrics metrics = new HttpPoolMetrics();
+
+        // Act
+        final MetricCollector retried = MetricCollector.create(API_CALL);
+        attempt(retried, 10, 0, 3);
+        attempt(retried, 20, 2, 40);
+        final MetricCollector single = MetricCollector.create(API_CALL);
+        attempt(single, 32, 0, 0);
+
+        metrics.publish(retried.collect());
+        metrics.publish(single.collect());
+        final HttpPoolStats stats = metrics.snapshotAndReset();
+
+        // Assert
+        assertEquals(3, stats.getRequests());
+        assertEquals(POOL_SIZE, stats.getMaxConcurrency());
+        assertEquals(32, stats.getPeakLeased());
+        assertEquals(2, stats.getPeakPending());
+        assertEquals(40, stats.getPeakAcquireMillis());
+        assertEquals(0.5d, stats.peakUtilization());
+    }
+
+    @Test
+    void snapshotAndReset_startsNextWindowEmpty() {
+        // Arrange
+        final HttpPoolMetrics metrics = new HttpPoolMetrics();
+        final MetricCollector call = MetricCollector.create(API_CALL);
+        attempt(call, 5, 1, 7);
+        metrics.publish(call.collect());
+        metrics.snapshotAndReset();
+
+        // Act
+        final HttpPoolStats stats = metrics.snapshotAndReset();
+
+        // Assert
+        assertEquals(new HttpPoolStats(0, 0, 0, 0, 0), stats);
+        assertEquals(0d, stats.peakUtilization());
+    }
+
+    @Test
+    void publish_ignoresCollectionsWithoutPoolMetrics() {
+        // Arrange
+        final HttpPoolMetrics metrics = new HttpPoolMetrics();
+        final MetricCollector collector = MetricCollector.create(API_CALL);
+        collector.createChild(API_CALL_ATTEMPT).reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+
+        // Act
+        metrics.publish(collector.collect());
+        metrics.close();
+
+        // Assert
+        assertEquals(0, metrics.snapshotAndReset().getRequests());
+    }
+
+    private static void attempt(final MetricCollector apiCall, final int leased, final int pending, final long acquireMillis) {
+        final MetricCollector attempt = apiCall.createChild(API_CALL_ATTEMPT);
+        attempt.reportMetric(HttpMetric.MAX_CONCURRENCY, POOL_SIZE);
+        attempt.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+        attempt.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+        attempt.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(acquireMillis));
+    }
+}
@@ -0,0 +1,74 @@
+package com.projecthive.summarization.utilities;
+
+import com.projecthive.summarization.models.MessageBody;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Decodes bodies in the form the ingestion service's converter writes them. The fixtures are pinned bytes, so a
+ * change on either side that breaks the shared codec format fails here rather than in production.
+ */
+class MessageBodyConverterTest {
+
+    // "Quarterly planning notes. " x 60, as written by the ingestion service: tag 1 followed by deflated UTF-8
+    private static final String DEFLATED_FIXTURE =
+            "AXgBCyxNLCpJLcqpVCjISczLy8xLV8jLL0kt1lMIHJUZDYPRdDCaF0bLgxFYJgIA2m9Ogw==";
+    private static final String DEFLATED_TEXT = "Quarterly planning notes. ".repeat(60);
+    private static final String IDENTITY_TEXT = "Short note \u2713";
+
+    private final MessageBodyConverter converter = new MessageBodyConverter();
+
+    @Test
+    void transformTo_decodesDeflatedBodyWrittenByIngestion() {
+        // Arrange
+        final byte[] packed = Base64.getDecoder().decode(DEFLATED_FIXTURE);
+
+        // Act
+        final MessageBody body = converter.transformTo(binary(packed));
+
+        // Assert
+        assertEquals(MessageBodyConverter.DEFLATE, packed[0]);
+        assertEquals(DEFLATED_TEXT, body.text());
+    }
+
+    @Test
+    void transformTo_decodesIdentityTaggedBody() {
+        // Arrange
+        final byte[] utf8 = IDENTITY_TEXT.getBytes(StandardCharsets.UTF_8);
+        final byte[] packed = new byte[utf8.length + 1];
+        packed[0] = MessageBodyConverter.IDENTITY;
+        System.arraycopy(utf8, 0, packed, 1, utf8.length);
+
+        // Act & Assert
+        assertEquals(IDENTITY_TEXT, converter.transformTo(binary(packed)).text());
+    }
+
+    @Test
+    void transformTo_readsStringAndNullBodiesAndRejectsUnknownTags() {
+        assertEquals(IDENTITY_TEXT, converter.transformTo(AttributeValue.builder().s(IDENTITY_TEXT).build()).text());
+        assertNull(converter.transformTo(AttributeValue.builder().nul(true).build()));
+        assertThrows(IllegalArgumentException.class, () -> converter.transformTo(binary(new byte[]{42, 1})));
+    }
+
+    @Test
+    void transformFrom_roundTripsThroughTheSameFormat() {
+        // Act
+        final AttributeValue value = converter.transformFrom(MessageBody.of(DEFLATED_TEXT));
+
+        // Assert
+        assertEquals(MessageBodyConverter.DEFLATE, value.b().asByteArray()[0]);
+        assertEquals(DEFLATED_TEXT, converter.transformTo(value).text());
+    }
+
+    private static AttributeValue binary(final byte[] packed) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArray(packed)).build();
+    }
+}
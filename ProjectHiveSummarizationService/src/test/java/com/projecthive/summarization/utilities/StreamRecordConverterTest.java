@@ -8,6 +8,7 @@ import com.projecthive.summarization.constants.TestConstants.Metadata;
 import com.projecthive.summarization.constants.TestConstants.Numbers;
 import com.projecthive.summarization.constants.TestConstants.TestData;
 import com.projecthive.summarization.models.Message;
+import com.projecthive.summarization.models.MessageBody;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -325,6 +326,50 @@ class StreamRecordConverterTest {
         assertNotNull(result);
     }
 
+    @Test
+    void convertToMessage_withCompressedBody_shouldInflateBody() {
+        // Arrange
+        Map<String, AttributeValue> attributeMap = new HashMap<>();
+
+        byte[] packed = new MessageBodyConverter()
+            .transformFrom(MessageBody.of(StreamConverter.LONG_BODY))
+            .b()
+            .asByteArray();
+        AttributeValue bodyValue = new AttributeValue();
+        bodyValue.setB(ByteBuffer.wrap(packed));
+        attributeMap.put(StreamConverter.BODY_FIELD, bodyValue);
+
+        // Add required fields
+        addRequiredFields(attributeMap);
+
+        DynamodbEvent.DynamodbStreamRecord record = createRecordWithAttributes(attributeMap);
+
+        // Act
+        Message result = StreamRecordConverter.convertToMessage(record);
+
+        // Assert
+        assertEquals(MessageBodyConverter.DEFLATE, packed[0]);
+        assertEquals(StreamConverter.LONG_BODY, result.getBody());
+    }
+
+    @Test
+    void convertToMessage_withUnknownBodyCodec_shouldThrowException() {
+        // Arrange
+        Map<String, AttributeValue> attributeMap = new HashMap<>();
+
+        AttributeValue bodyValue = new AttributeValue();
+        bodyValue.setB(ByteBuffer.wrap(StreamConverter.BINARY_CONTENT.getBytes()));
+        attributeMap.put(StreamConverter.BODY_FIELD, bodyValue);
+
+        // Add required fields
+        addRequiredFields(attributeMap);
+
+        DynamodbEvent.DynamodbStreamRecord record = createRecordWithAttributes(attributeMap);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> StreamRecordConverter.convertToMessage(record));
+    }
+
     @Test
     void convertToMessage_withBinarySet_shouldHandleBinarySets() {
         // Arrange